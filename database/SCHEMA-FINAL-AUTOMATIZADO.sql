@@ -327,6 +327,7 @@ CREATE TABLE `clan_logs` (
   KEY `idx_clan_logs_target_player_id` (`target_player_id`),
   KEY `idx_clan_logs_action_type` (`action_type`),
   KEY `idx_clan_logs_timestamp` (`timestamp`),
+  KEY `idx_clan_logs_clan_time` (`clan_id`, `timestamp`, `id`),
   CONSTRAINT `fk_clan_logs_clan` 
     FOREIGN KEY (`clan_id`) REFERENCES `clans` (`id`) ON DELETE CASCADE ON UPDATE CASCADE,
   CONSTRAINT `fk_clan_logs_actor_player` 
@@ -335,6 +336,14 @@ CREATE TABLE `clan_logs` (
     FOREIGN KEY (`target_player_id`) REFERENCES `player_data` (`player_id`) ON DELETE SET NULL ON UPDATE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Lotes do journal de KDR já aplicados (replay idempotente após queda)
+CREATE TABLE `clan_kdr_batches` (
+  `batch_key` CHAR(36) NOT NULL,
+  `applied_at` TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (`batch_key`),
+  KEY `idx_clan_kdr_batches_applied` (`applied_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- =====================================================
 -- TABELAS DE COMUNICAÇÃO
 -- =====================================================
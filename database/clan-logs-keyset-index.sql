@@ -0,0 +1,11 @@
+-- ========================================
+-- ÍNDICE DE PAGINAÇÃO DO HISTÓRICO DE CLÃS
+-- ========================================
+-- O /clan logs pagina por cursor (clan_id, timestamp, id) em vez de OFFSET.
+-- Bancos criados antes desta versão do SCHEMA-FINAL-AUTOMATIZADO.sql precisam do índice abaixo.
+
+ALTER TABLE `clan_logs`
+  ADD KEY `idx_clan_logs_clan_time` (`clan_id`, `timestamp`, `id`);
+
+-- Verificar se o índice foi criado corretamente
+SELECT 'Índice idx_clan_logs_clan_time criado com sucesso!' as status;
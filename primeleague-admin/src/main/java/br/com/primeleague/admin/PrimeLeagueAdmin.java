@@ -136,6 +136,12 @@ public class PrimeLeagueAdmin extends JavaPlugin {
         getCommand("unban").setExecutor(new UnbanCommand(this));
         getCommand("history").setExecutor(new HistoryCommand(this));
         
+        // Tab-completion de nomes (inclui jogadores offline via diretório de nomes do Core)
+        PlayerNameTabCompleter playerNameCompleter = new PlayerNameTabCompleter();
+        getCommand("ban").setTabCompleter(playerNameCompleter);
+        getCommand("inspect").setTabCompleter(playerNameCompleter);
+        getCommand("history").setTabCompleter(playerNameCompleter);
+        
         // Comando de whitelist
         getCommand("whitelist").setExecutor(new WhitelistCommand(this));
         
@@ -3,6 +3,7 @@ package br.com.primeleague.admin.commands;
 import br.com.primeleague.admin.managers.AdminManager;
 import br.com.primeleague.api.models.Punishment;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.models.PlayerIdentity;
 import br.com.primeleague.core.models.PlayerProfile;
 import br.com.primeleague.admin.PrimeLeagueAdmin;
 import org.bukkit.Bukkit;
@@ -79,6 +80,19 @@ public class BanCommand implements CommandExecutor {
             @Override
             public void run() {
                 try {
+                    // Alvo inexistente: responder com sugestões do diretório de nomes
+                    if (getTargetPlayerId(targetName) == null) {
+                        final String suggestion = PlayerNameTabCompleter.didYouMean(targetName);
+                        Bukkit.getScheduler().runTask(plugin, new Runnable() {
+                            @Override
+                            public void run() {
+                                PrimeLeagueAPI.sendError((Player) sender, 
+                                    "Jogador " + targetName + " não encontrado." + suggestion);
+                            }
+                        });
+                        return;
+                    }
+                    
                     // REFATORADO: Usar AdminManager para toda a lógica de negócio
                     final boolean success = executeBan(targetName, reason, authorUuid, sender);
                     
@@ -197,11 +211,11 @@ public class BanCommand implements CommandExecutor {
             return PrimeLeagueAPI.getIdentityManager().getPlayerId(targetPlayer);
         }
         
-        // Se não estiver online, usar IdentityManager para buscar por nome
+        // Se não estiver online, usar IdentityManager para buscar por nome (cache + banco, thread assíncrona)
         try {
-            Integer playerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByName(targetName);
-            if (playerId != null) {
-                return playerId;
+            PlayerIdentity identity = PrimeLeagueAPI.getIdentityManager().resolveByName(targetName);
+            if (identity != null) {
+                return identity.getPlayerId();
             }
         } catch (Exception e) {
             Bukkit.getLogger().warning("[BAN] Erro ao buscar player_id para " + targetName + ": " + e.getMessage());
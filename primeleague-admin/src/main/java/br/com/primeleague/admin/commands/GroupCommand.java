@@ -312,7 +312,7 @@ public class GroupCommand implements CommandExecutor {
                     // Disparar evento para atualização em tempo real
                     Bukkit.getScheduler().runTask(plugin, () -> {
                         Bukkit.getPluginManager().callEvent(
-                            new GroupPermissionsChangedEvent(groupId, groupName, "PERMISSION_ADDED", permissionNode));
+                            new GroupPermissionsChangedEvent(groupId, groupName, "PERMISSION_ADDED", permissionNode, isGranted));
                         
                         sender.sendMessage(ChatColor.GREEN + "✅ Permissão '" + permissionNode + "' " + 
                             (isGranted ? "concedida" : "negada") + " ao grupo '" + groupName + "'!");
@@ -104,11 +104,12 @@ public class HistoryCommand extends BasePunishmentCommand implements CommandExec
                     // Buscar UUID do jogador no banco
                     java.util.UUID targetUuid = findPlayerUUID(targetName);
                     if (targetUuid == null) {
+                        final String suggestion = PlayerNameTabCompleter.didYouMean(targetName);
                         Bukkit.getScheduler().runTask(plugin, new Runnable() {
                             @Override
                             public void run() {
                                 PrimeLeagueAPI.sendError(senderPlayer, 
-                                    "Jogador " + targetName + " não encontrado no banco de dados.");
+                                    "Jogador " + targetName + " não encontrado no banco de dados." + suggestion);
                             }
                         });
                         return;
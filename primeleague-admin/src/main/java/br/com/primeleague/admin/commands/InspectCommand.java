@@ -1,8 +1,11 @@
 package br.com.primeleague.admin.commands;
 
+import br.com.primeleague.admin.PrimeLeagueAdmin;
 import br.com.primeleague.admin.managers.AdminManager;
 import br.com.primeleague.api.models.Punishment;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.models.PlayerIdentity;
 import br.com.primeleague.core.models.PlayerProfile;
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -46,15 +49,45 @@ public class InspectCommand implements CommandExecutor {
         Player target = Bukkit.getPlayer(targetName);
         if (target != null) {
             targetUuid = target.getUniqueId();
+        } else if (PrimeLeagueAPI.getNameDirectory().isLoaded() && !PrimeLeagueAPI.getNameDirectory().contains(targetName)) {
+            // Fora do diretório em memória: confirmar no banco antes de recusar (nome novo de outro servidor)
+            resolveAndInspect(sender, targetName);
+            return true;
         } else {
             // Tentar obter UUID offline (implementação básica)
             targetUuid = UUID.nameUUIDFromBytes(("OfflinePlayer:" + targetName).getBytes());
         }
 
+        inspect(sender, targetName, targetUuid, target);
+        return true;
+    }
+
+    /**
+     * Resolve no banco um nome ausente do NameDirectory (fora da thread principal)
+     * e, se existir, registra o nome no diretório e exibe o dossiê.
+     */
+    private void resolveAndInspect(final CommandSender sender, final String targetName) {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "admin.inspect.resolve", () -> {
+            final PlayerIdentity identity = PrimeLeagueAPI.getIdentityManager().resolveByName(targetName);
+            PrimeLeagueAPI.getMainThreadDispatcher().dispatch(PrimeLeagueAdmin.getInstance(), () -> {
+                if (identity == null) {
+                    sender.sendMessage(ChatColor.RED + "Jogador " + targetName + " não encontrado." + PlayerNameTabCompleter.didYouMean(targetName));
+                    return;
+                }
+                PrimeLeagueAPI.getNameDirectory().add(identity.getName());
+                inspect(sender, identity.getName(), identity.getUuid(), Bukkit.getPlayer(identity.getName()));
+            });
+        });
+    }
+
+    /**
+     * Exibe o dossiê do jogador resolvido e registra a ação.
+     */
+    private void inspect(CommandSender sender, String targetName, UUID targetUuid, Player target) {
         // Verificar se não está inspecionando a si mesmo
         if (sender instanceof Player && target != null && target.equals(sender)) {
             sender.sendMessage(ChatColor.RED + "Você não pode inspecionar a si mesmo!");
-            return true;
+            return;
         }
 
         // Exibir dossiê completo
@@ -64,8 +97,6 @@ public class InspectCommand implements CommandExecutor {
         if (sender instanceof Player) {
             logAction((Player) sender, targetName, "INSPECT");
         }
-
-        return true;
     }
 
     /**
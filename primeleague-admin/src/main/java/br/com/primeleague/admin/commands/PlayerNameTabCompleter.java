@@ -0,0 +1,50 @@
+package br.com.primeleague.admin.commands;
+
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tab-completion do nome do jogador alvo (primeiro argumento) em comandos administrativos.
+ * Usa o diretório de nomes do Core: inclui jogadores offline, sem consulta ao banco.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public class PlayerNameTabCompleter implements TabCompleter {
+
+    private static final int MAX_COMPLETIONS = 20;
+
+    /**
+     * Sufixo de mensagem "Você quis dizer: ...?" para um nome não encontrado.
+     *
+     * @param targetName Nome digitado
+     * @return Texto a anexar à mensagem de erro (vazio se não houver sugestões)
+     */
+    public static String didYouMean(String targetName) {
+        List<String> suggestions = PrimeLeagueAPI.suggestPlayerNames(targetName, 3);
+        if (suggestions.isEmpty()) {
+            return "";
+        }
+        StringBuilder message = new StringBuilder(" Você quis dizer: ");
+        for (int i = 0; i < suggestions.size(); i++) {
+            if (i > 0) {
+                message.append(", ");
+            }
+            message.append(suggestions.get(i));
+        }
+        return message.append("?").toString();
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        if (args.length != 1) {
+            return Collections.emptyList();
+        }
+        return PrimeLeagueAPI.completePlayerNames(args[0], MAX_COMPLETIONS);
+    }
+}
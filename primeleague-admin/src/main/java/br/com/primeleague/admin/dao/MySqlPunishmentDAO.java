@@ -4,7 +4,7 @@ import br.com.primeleague.admin.PrimeLeagueAdmin;
 import br.com.primeleague.api.dao.PunishmentDAO;
 import br.com.primeleague.api.models.Punishment;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
-import org.bukkit.Bukkit;
+import br.com.primeleague.core.database.DbExecutor;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -30,7 +30,7 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
 
     @Override
     public void applyPunishmentAsync(Punishment punishment, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.applyPunishment", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "INSERT INTO admin_punishments (player_id, staff_id, punishment_type, reason, " +
                            "duration_seconds, applied_at, expires_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
@@ -56,18 +56,18 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                         }
                     }
                     
-                    Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success));
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success));
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao aplicar punição: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
 
     @Override
     public void removePunishmentAsync(int punishmentId, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.removePunishment", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "UPDATE admin_punishments SET is_active = false, removed_at = NOW() WHERE punishment_id = ?";
                 
@@ -76,18 +76,18 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                     int affectedRows = stmt.executeUpdate();
                     boolean success = affectedRows > 0;
                     
-                    Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success));
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success));
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao remover punição: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
 
     @Override
     public void getActivePunishmentsAsync(int playerId, Consumer<List<Punishment>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "punishment.getActivePunishments", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_punishments WHERE player_id = ? AND is_active = true " +
                            "AND (expires_at IS NULL OR expires_at > NOW())";
@@ -101,19 +101,19 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                             punishments.add(mapResultSetToPunishment(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(punishments));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(punishments));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar punições ativas: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getPunishmentHistoryAsync(int playerId, Consumer<List<Punishment>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.getPunishmentHistory", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_punishments WHERE player_id = ? ORDER BY applied_at DESC";
                 
@@ -126,19 +126,19 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                             punishments.add(mapResultSetToPunishment(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(punishments));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(punishments));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar histórico de punições: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getPunishmentsByTypeAsync(String punishmentType, Consumer<List<Punishment>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.getPunishmentsByType", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_punishments WHERE punishment_type = ? ORDER BY applied_at DESC";
                 
@@ -151,19 +151,19 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                             punishments.add(mapResultSetToPunishment(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(punishments));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(punishments));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar punições por tipo: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getActivePunishmentByTypeAsync(int playerId, String punishmentType, Consumer<Punishment> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "punishment.getActivePunishmentByType", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_punishments WHERE player_id = ? AND punishment_type = ? " +
                            "AND is_active = true AND (expires_at IS NULL OR expires_at > NOW()) " +
@@ -176,19 +176,19 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                     try (ResultSet rs = stmt.executeQuery()) {
                         final Punishment punishment = rs.next() ? mapResultSetToPunishment(rs) : null;
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(punishment));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(punishment));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar punição ativa por tipo: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
 
     @Override
     public void getPunishmentsByStaffAsync(int staffPlayerId, Consumer<List<Punishment>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.getPunishmentsByStaff", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_punishments WHERE staff_id = ? ORDER BY applied_at DESC";
                 
@@ -201,19 +201,19 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                             punishments.add(mapResultSetToPunishment(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(punishments));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(punishments));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar punições por staff: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void updatePunishmentAsync(Punishment punishment, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.updatePunishment", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "UPDATE admin_punishments SET reason = ?, duration_seconds = ?, " +
                            "expires_at = ?, is_active = ? WHERE punishment_id = ?";
@@ -228,18 +228,18 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                     int affectedRows = stmt.executeUpdate();
                     boolean success = affectedRows > 0;
                     
-                    Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success));
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success));
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao atualizar punição: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
 
     @Override
     public void getPunishmentByIdAsync(int punishmentId, Consumer<Punishment> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "punishment.getPunishmentById", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_punishments WHERE punishment_id = ?";
                 
@@ -249,12 +249,12 @@ public class MySqlPunishmentDAO implements PunishmentDAO {
                     try (ResultSet rs = stmt.executeQuery()) {
                         final Punishment punishment = rs.next() ? mapResultSetToPunishment(rs) : null;
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(punishment));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(punishment));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar punição por ID: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
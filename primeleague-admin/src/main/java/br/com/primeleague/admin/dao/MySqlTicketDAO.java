@@ -4,7 +4,7 @@ import br.com.primeleague.admin.PrimeLeagueAdmin;
 import br.com.primeleague.api.dao.TicketDAO;
 import br.com.primeleague.api.models.Ticket;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
-import org.bukkit.Bukkit;
+import br.com.primeleague.core.database.DbExecutor;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -30,7 +30,7 @@ public class MySqlTicketDAO implements TicketDAO {
 
     @Override
     public void createTicketAsync(Ticket ticket, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.createTicket", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "INSERT INTO admin_tickets (player_id, title, description, priority, " +
                            "status, assigned_staff_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
@@ -56,18 +56,18 @@ public class MySqlTicketDAO implements TicketDAO {
                         }
                     }
                     
-                    Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success));
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success));
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao criar ticket: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
 
     @Override
     public void updateTicketAsync(Ticket ticket, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.updateTicket", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "UPDATE admin_tickets SET title = ?, description = ?, priority = ?, " +
                            "status = ?, assigned_staff_id = ?, updated_at = ? WHERE ticket_id = ?";
@@ -84,18 +84,18 @@ public class MySqlTicketDAO implements TicketDAO {
                     int affectedRows = stmt.executeUpdate();
                     boolean success = affectedRows > 0;
                     
-                    Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success));
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success));
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao atualizar ticket: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
 
     @Override
     public void getTicketByIdAsync(int ticketId, Consumer<Ticket> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getTicketById", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_tickets WHERE ticket_id = ?";
                 
@@ -105,19 +105,19 @@ public class MySqlTicketDAO implements TicketDAO {
                     try (ResultSet rs = stmt.executeQuery()) {
                         final Ticket ticket = rs.next() ? mapResultSetToTicket(rs) : null;
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(ticket));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(ticket));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar ticket por ID: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
 
     @Override
     public void getTicketsByPlayerAsync(int playerId, Consumer<List<Ticket>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getTicketsByPlayer", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_tickets WHERE player_id = ? ORDER BY created_at DESC";
                 
@@ -130,19 +130,19 @@ public class MySqlTicketDAO implements TicketDAO {
                             tickets.add(mapResultSetToTicket(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(tickets));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(tickets));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar tickets por jogador: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getTicketsByStatusAsync(String status, Consumer<List<Ticket>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getTicketsByStatus", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_tickets WHERE status = ? ORDER BY created_at DESC";
                 
@@ -155,19 +155,19 @@ public class MySqlTicketDAO implements TicketDAO {
                             tickets.add(mapResultSetToTicket(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(tickets));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(tickets));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar tickets por status: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getTicketsByStaffAsync(int staffPlayerId, Consumer<List<Ticket>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getTicketsByStaff", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_tickets WHERE assigned_staff_id = ? ORDER BY created_at DESC";
                 
@@ -180,19 +180,19 @@ public class MySqlTicketDAO implements TicketDAO {
                             tickets.add(mapResultSetToTicket(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(tickets));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(tickets));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar tickets por staff: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getOpenTicketsAsync(Consumer<List<Ticket>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getOpenTickets", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_tickets WHERE status IN ('OPEN', 'IN_PROGRESS') ORDER BY priority DESC, created_at ASC";
                 
@@ -203,19 +203,19 @@ public class MySqlTicketDAO implements TicketDAO {
                             tickets.add(mapResultSetToTicket(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(tickets));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(tickets));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar tickets abertos: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void getTicketsByPriorityAsync(String priority, Consumer<List<Ticket>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getTicketsByPriority", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "SELECT * FROM admin_tickets WHERE priority = ? ORDER BY created_at DESC";
                 
@@ -228,19 +228,19 @@ public class MySqlTicketDAO implements TicketDAO {
                             tickets.add(mapResultSetToTicket(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(tickets));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(tickets));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar tickets por prioridade: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
 
     @Override
     public void deleteTicketAsync(int ticketId, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.deleteTicket", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 String sql = "DELETE FROM admin_tickets WHERE ticket_id = ?";
                 
@@ -249,18 +249,18 @@ public class MySqlTicketDAO implements TicketDAO {
                     int affectedRows = stmt.executeUpdate();
                     boolean success = affectedRows > 0;
                     
-                    Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success));
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success));
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao deletar ticket: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
 
     @Override
     public void getTicketsWithFiltersAsync(String status, String priority, Integer staffPlayerId, Consumer<List<Ticket>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "ticket.getTicketsWithFilters", () -> {
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
                 StringBuilder sql = new StringBuilder("SELECT * FROM admin_tickets WHERE 1=1");
                 List<Object> parameters = new ArrayList<>();
@@ -293,12 +293,12 @@ public class MySqlTicketDAO implements TicketDAO {
                             tickets.add(mapResultSetToTicket(rs));
                         }
                         
-                        Bukkit.getScheduler().runTask(plugin, () -> callback.accept(tickets));
+                        PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(tickets));
                     }
                 }
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar tickets com filtros: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
@@ -2,6 +2,8 @@ package br.com.primeleague.admin.listeners;
 
 import br.com.primeleague.admin.managers.AdminManager;
 import br.com.primeleague.api.models.Punishment;
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.models.LoginContext;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -20,6 +22,21 @@ public class LoginListener implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH)
     public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        // Login já recusado (ex.: controle de admissão do Core): nada a verificar
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+
+        // Ban ativo já carregado na hidratação do contexto de login do Core
+        LoginContext context = PrimeLeagueAPI.getLoginContext(event.getName());
+        if (context != null) {
+            Punishment ban = context.getActiveBan();
+            if (ban != null && ban.isCurrentlyActive()) {
+                denyBanned(event, ban, ban.getAuthorName() != null ? ban.getAuthorName() : "Sistema");
+            }
+            return;
+        }
+
         // Verificar se o jogador está banido
         // Em Bukkit 1.5.2, não há getUniqueId(), usar getName() para gerar UUID offline
         java.util.UUID playerUuid;
@@ -34,32 +51,39 @@ public class LoginListener implements Listener {
 
         Punishment ban = adminManager.getActivePunishment(playerUuid, Punishment.Type.BAN);
         if (ban != null && ban.isCurrentlyActive()) {
-            // Negar login com mensagem customizada bonita
-            String kickMessage = "§c§l✘ ACESSO NEGADO ✘\n\n" +
-                                "§7Você está §cBANIDO §7deste servidor!\n\n" +
-                                "§7Motivo: §f" + ban.getReason() + "\n" +
-                                "§7Staff: §f" + getAuthorName(ban.getAuthorUuid()) + "\n" +
-                                "§7Código: §f#" + ban.getId() + "\n\n";
-
-            if (ban.isPermanent()) {
-                kickMessage += "§7Tipo: §cBANIMENTO PERMANENTE\n\n";
-            } else {
-                long remainingTime = ban.getExpiresAt().getTime() - System.currentTimeMillis();
-                long days = remainingTime / (1000 * 60 * 60 * 24);
-                long hours = (remainingTime % (1000 * 60 * 60 * 24)) / (1000 * 60 * 60);
-                long minutes = (remainingTime % (1000 * 60 * 60)) / (1000 * 60);
-
-                kickMessage += "§7Tipo: §eBAN TEMPORÁRIO\n";
-                kickMessage += "§7Expira em: §e" + days + "d " + hours + "h " + minutes + "m\n\n";
-            }
+            denyBanned(event, ban, getAuthorName(ban.getAuthorUuid()));
+        }
+    }
 
-            kickMessage += "§7Para recurso, acesse nosso Discord.";
+    /**
+     * Nega o login de um jogador banido.
+     */
+    private void denyBanned(AsyncPlayerPreLoginEvent event, Punishment ban, String authorName) {
+        // Negar login com mensagem customizada bonita
+        String kickMessage = "§c§l✘ ACESSO NEGADO ✘\n\n" +
+                            "§7Você está §cBANIDO §7deste servidor!\n\n" +
+                            "§7Motivo: §f" + ban.getReason() + "\n" +
+                            "§7Staff: §f" + authorName + "\n" +
+                            "§7Código: §f#" + ban.getId() + "\n\n";
+
+        if (ban.isPermanent()) {
+            kickMessage += "§7Tipo: §cBANIMENTO PERMANENTE\n\n";
+        } else {
+            long remainingTime = ban.getExpiresAt().getTime() - System.currentTimeMillis();
+            long days = remainingTime / (1000 * 60 * 60 * 24);
+            long hours = (remainingTime % (1000 * 60 * 60 * 24)) / (1000 * 60 * 60);
+            long minutes = (remainingTime % (1000 * 60 * 60)) / (1000 * 60);
+
+            kickMessage += "§7Tipo: §eBAN TEMPORÁRIO\n";
+            kickMessage += "§7Expira em: §e" + days + "d " + hours + "h " + minutes + "m\n\n";
+        }
 
-            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_BANNED, kickMessage);
+        kickMessage += "§7Para recurso, acesse nosso Discord.";
 
-            // Log da tentativa de login negada
-            org.bukkit.Bukkit.getLogger().info("[ADMIN] Login negado para " + event.getName() + " - Ban ativo #" + ban.getId());
-        }
+        event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_BANNED, kickMessage);
+
+        // Log da tentativa de login negada
+        org.bukkit.Bukkit.getLogger().info("[ADMIN] Login negado para " + event.getName() + " - Ban ativo #" + ban.getId());
     }
 
     /**
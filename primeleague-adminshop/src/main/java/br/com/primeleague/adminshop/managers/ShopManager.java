@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import org.bukkit.ChatColor;
 
@@ -99,9 +100,13 @@ public class ShopManager {
     /**
      * Processa uma compra de item.
      * 
+     * Tier de doador, saldo e débito são encadeados fora da thread principal
+     * (futures do Core); a volta à thread principal acontece uma única vez, no
+     * fim, para entregar o item e enviar as mensagens.
+     * 
      * @param player jogador que está comprando
      * @param item item a ser comprado
-     * @return true se a compra foi bem-sucedida
+     * @return true se a compra foi iniciada
      */
     public boolean handlePurchase(Player player, ShopItem item) {
         try {
@@ -121,71 +126,31 @@ public class ShopManager {
                 return false;
             }
             
-            // 3. Calcular desconto baseado no donor_tier (usando DonorManager como fonte única)
-            DonorManager donorManager = PrimeLeagueAPI.getDonorManager();
+            player.sendMessage(ChatColor.YELLOW + "⏳ Processando compra...");
             
-            // REFATORADO: Usar método assíncrono para verificar tier de doador
-            player.sendMessage(ChatColor.YELLOW + "⏳ Verificando desconto de doador...");
+            DonorManager donorManager = PrimeLeagueAPI.getDonorManager();
+            EconomyManager economyManager = PrimeLeagueAPI.getEconomyManager();
+            String reason = "Compra na loja: " + item.getName();
             
-            PrimeLeagueAPI.getDataManager().getDonorTierAsync(profile.getUuid(), (donorTier) -> {
-                double discount = donorManager.getDiscountForTier(donorTier != null ? donorTier : 0);
-                double finalPrice = item.getPrice() * (1.0 - discount);
-                
-                // REFATORADO: Usar método assíncrono para evitar bloqueio da thread principal
-                player.sendMessage(ChatColor.YELLOW + "⏳ Verificando saldo...");
-                
-                EconomyManager economyManager = PrimeLeagueAPI.getEconomyManager();
-                economyManager.getBalanceAsync(playerId, (currentBalance) -> {
-                    if (currentBalance == null) {
-                        player.sendMessage(configManager.getSettings().getPurchaseFailed()
-                            .replace("{reason}", "Erro ao verificar saldo"));
-                        return;
-                    }
-                    
-                    if (currentBalance.compareTo(BigDecimal.valueOf(finalPrice)) < 0) {
-                        String message = configManager.getSettings().getInsufficientFunds()
-                            .replace("{balance}", String.format("$%.2f", currentBalance.doubleValue()));
-                        player.sendMessage(message);
-                        return;
-                    }
-                    
-                    // 5. Processar transação de forma assíncrona
-                    player.sendMessage(ChatColor.YELLOW + "⏳ Processando transação...");
-                    
-                    economyManager.debitBalanceAsync(playerId, finalPrice, 
-                        "Compra na loja: " + item.getName(), (transactionResponse) -> {
-                        
-                        if (!transactionResponse.isSuccess()) {
-                            player.sendMessage(configManager.getSettings().getPurchaseFailed()
-                                .replace("{reason}", "Falha na transação: " + transactionResponse.getErrorMessage()));
-                            return;
+            // 3-5. Desconto do doador → saldo → débito, tudo na thread do executor de banco
+            PrimeLeagueAPI.getDataManager().getDonorTierAsync(profile.getUuid())
+                .thenCompose(donorTier -> {
+                    PurchaseResult result = new PurchaseResult();
+                    result.discount = donorManager.getDiscountForTier(donorTier != null ? donorTier : 0);
+                    result.finalPrice = item.getPrice() * (1.0 - result.discount);
+                    return economyManager.getBalanceAsync(playerId).thenCompose(balance -> {
+                        result.balance = balance;
+                        if (balance == null || balance.compareTo(BigDecimal.valueOf(result.finalPrice)) < 0) {
+                            return CompletableFuture.completedFuture(result);
                         }
-                        
-                        // 6. Entregar item/comando/kit
-                        boolean deliverySuccess = deliverItem(player, item);
-                        
-                        if (!deliverySuccess) {
-                            // Reembolsar se a entrega falhou de forma assíncrona
-                            economyManager.creditBalanceAsync(playerId, finalPrice, 
-                                "Reembolso - Falha na entrega: " + item.getName(), (refundResponse) -> {
-                                if (refundResponse.isSuccess()) {
-                                    player.sendMessage(ChatColor.GREEN + "💰 Reembolso processado devido à falha na entrega.");
-                                }
-                            });
-                            player.sendMessage(configManager.getSettings().getPurchaseFailed()
-                                .replace("{reason}", "Falha na entrega do item"));
-                            return;
-                        }
-                        
-                        // 7. Mensagem de sucesso
-                        String successMessage = configManager.getSettings().getPurchaseSuccess();
-                        if (discount > 0) {
-                            successMessage += " §e(Desconto: " + String.format("%.1f%%", discount * 100) + ")";
-                        }
-                        player.sendMessage(successMessage);
+                        return economyManager.debitBalanceAsync(playerId, result.finalPrice, reason).thenApply(response -> {
+                            result.debit = response;
+                            return result;
+                        });
                     });
-                });
-            });
+                })
+                .whenCompleteAsync((result, error) -> finishPurchase(player, item, playerId, result, error),
+                    PrimeLeagueAPI.getDbExecutor().mainThread());
             
             // Retornar true imediatamente - o processamento continua de forma assíncrona
             return true;
@@ -198,6 +163,68 @@ public class ShopManager {
         }
     }
 
+    /**
+     * Estado de uma compra ao longo do fluxo assíncrono.
+     */
+    private static final class PurchaseResult {
+        double discount;
+        double finalPrice;
+        BigDecimal balance;
+        EconomyResponse debit;
+    }
+
+    /**
+     * Conclui a compra na thread principal: entrega, reembolso e mensagens.
+     */
+    private void finishPurchase(Player player, ShopItem item, int playerId, PurchaseResult result, Throwable error) {
+        if (error != null) {
+            logger.severe("❌ Erro ao processar compra para " + player.getName() + ": " + error.getMessage());
+            player.sendMessage(configManager.getSettings().getPurchaseFailed()
+                .replace("{reason}", "Erro interno"));
+            return;
+        }
+        
+        if (result.balance == null) {
+            player.sendMessage(configManager.getSettings().getPurchaseFailed()
+                .replace("{reason}", "Erro ao verificar saldo"));
+            return;
+        }
+        
+        if (result.debit == null) {
+            String message = configManager.getSettings().getInsufficientFunds()
+                .replace("{balance}", String.format("$%.2f", result.balance.doubleValue()));
+            player.sendMessage(message);
+            return;
+        }
+        
+        if (!result.debit.isSuccess()) {
+            player.sendMessage(configManager.getSettings().getPurchaseFailed()
+                .replace("{reason}", "Falha na transação: " + result.debit.getErrorMessage()));
+            return;
+        }
+        
+        // 6. Entregar item/comando/kit
+        if (!player.isOnline() || !deliverItem(player, item)) {
+            // Reembolsar se a entrega falhou
+            PrimeLeagueAPI.getEconomyManager().creditBalanceAsync(playerId, result.finalPrice,
+                "Reembolso - Falha na entrega: " + item.getName(), (refundResponse) -> {
+                if (refundResponse.isSuccess() && player.isOnline()) {
+                    player.sendMessage(ChatColor.GREEN + "💰 Reembolso processado devido à falha na entrega.");
+                }
+            });
+            player.sendMessage(configManager.getSettings().getPurchaseFailed()
+                .replace("{reason}", "Falha na entrega do item"));
+            return;
+        }
+        
+        // 7. Mensagem de sucesso
+        String successMessage = configManager.getSettings().getPurchaseSuccess();
+        if (result.discount > 0) {
+            successMessage += " §e(Desconto: " + String.format("%.1f%%", result.discount * 100) + ")";
+        }
+        player.sendMessage(successMessage);
+    }
+
     /**
      * Cria o template do menu principal da loja.
      * 
@@ -4,6 +4,7 @@ import br.com.primeleague.api.dto.ClanDTO;
 import org.bukkit.entity.Player;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface para serviços de clã.
@@ -73,6 +74,28 @@ public interface ClanService {
      */
     ClanDTO getClanByName(String clanName);
     
+    /**
+     * Versão com future de {@link #getPlayerClan(UUID)}, para compor com as
+     * variantes assíncronas dos outros serviços. Os clãs ficam em memória,
+     * então o future já vem concluído.
+     * 
+     * @param playerUUID UUID do jogador
+     * @return Future com o ClanDTO do jogador ou null
+     */
+    default CompletableFuture<ClanDTO> getPlayerClanAsync(UUID playerUUID) {
+        return CompletableFuture.completedFuture(getPlayerClan(playerUUID));
+    }
+    
+    /**
+     * Versão com future de {@link #getClanById(int)} (já concluído).
+     * 
+     * @param clanId ID do clã
+     * @return Future com o ClanDTO ou null
+     */
+    default CompletableFuture<ClanDTO> getClanByIdAsync(int clanId) {
+        return CompletableFuture.completedFuture(getClanById(clanId));
+    }
+    
     /**
      * Obtém a moral de um clã.
      * 
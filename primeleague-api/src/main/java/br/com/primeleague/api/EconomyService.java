@@ -1,22 +1,90 @@
 package br.com.primeleague.api;
 
+import br.com.primeleague.api.models.Money;
+
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface para serviços de economia.
  * 
+ * Os valores são trafegados como Money (centavos em ponto fixo). Os métodos
+ * com double são mantidos como fachada de compatibilidade para módulos antigos.
+ * 
+ * As variantes *Async concluem fora da thread principal, para que fluxos
+ * encadeados (thenCompose) não voltem a ela a cada etapa: só o último estágio,
+ * com os efeitos no Bukkit, deve ser agendado na thread principal.
+ * 
  * @author PrimeLeague Team
- * @version 1.0
+ * @version 1.1
  */
 public interface EconomyService {
     
+    /**
+     * Obtém o saldo de um jogador via UUID.
+     * 
+     * @param playerUUID UUID do jogador
+     * @return Saldo do jogador (Money.ZERO se não encontrado)
+     */
+    Money getBalance(UUID playerUUID);
+    
+    /**
+     * Retira dinheiro da conta de um jogador.
+     * 
+     * @param playerUUID UUID do jogador
+     * @param amount Quantia a ser retirada
+     * @param reason Motivo da transação
+     * @return true se a operação foi bem-sucedida, false caso contrário
+     */
+    boolean withdraw(UUID playerUUID, Money amount, String reason);
+    
+    /**
+     * Deposita dinheiro na conta de um jogador.
+     * 
+     * @param playerUUID UUID do jogador
+     * @param amount Quantia a ser depositada
+     * @param reason Motivo da transação
+     * @return true se a operação foi bem-sucedida, false caso contrário
+     */
+    boolean deposit(UUID playerUUID, Money amount, String reason);
+    
+    /**
+     * Versão assíncrona de {@link #getBalance(UUID)}.
+     * 
+     * @param playerUUID UUID do jogador
+     * @return Future com o saldo (Money.ZERO se não encontrado)
+     */
+    CompletableFuture<Money> getBalanceAsync(UUID playerUUID);
+    
+    /**
+     * Versão assíncrona de {@link #withdraw(UUID, Money, String)}.
+     * 
+     * @param playerUUID UUID do jogador
+     * @param amount Quantia a ser retirada
+     * @param reason Motivo da transação
+     * @return Future com true se a operação foi bem-sucedida
+     */
+    CompletableFuture<Boolean> withdrawAsync(UUID playerUUID, Money amount, String reason);
+    
+    /**
+     * Versão assíncrona de {@link #deposit(UUID, Money, String)}.
+     * 
+     * @param playerUUID UUID do jogador
+     * @param amount Quantia a ser depositada
+     * @param reason Motivo da transação
+     * @return Future com true se a operação foi bem-sucedida
+     */
+    CompletableFuture<Boolean> depositAsync(UUID playerUUID, Money amount, String reason);
+    
     /**
      * Obtém o saldo de um jogador via UUID.
      * 
      * @param playerUUID UUID do jogador
      * @return Saldo do jogador
      */
-    double getPlayerBalance(UUID playerUUID);
+    default double getPlayerBalance(UUID playerUUID) {
+        return getBalance(playerUUID).toDouble();
+    }
     
     /**
      * Retira dinheiro da conta de um jogador.
@@ -26,7 +94,9 @@ public interface EconomyService {
      * @param reason Motivo da transação
      * @return true se a operação foi bem-sucedida, false caso contrário
      */
-    boolean withdrawPlayerMoney(UUID playerUUID, double amount, String reason);
+    default boolean withdrawPlayerMoney(UUID playerUUID, double amount, String reason) {
+        return withdraw(playerUUID, Money.of(amount), reason);
+    }
     
     /**
      * Deposita dinheiro na conta de um jogador.
@@ -36,5 +106,7 @@ public interface EconomyService {
      * @param reason Motivo da transação
      * @return true se a operação foi bem-sucedida, false caso contrário
      */
-    boolean depositPlayerMoney(UUID playerUUID, double amount, String reason);
+    default boolean depositPlayerMoney(UUID playerUUID, double amount, String reason) {
+        return deposit(playerUUID, Money.of(amount), reason);
+    }
 }
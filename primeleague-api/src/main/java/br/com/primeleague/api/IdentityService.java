@@ -2,6 +2,8 @@ package br.com.primeleague.api;
 
 import org.bukkit.entity.Player;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Interface para serviços de identidade.
  * 
@@ -17,4 +19,13 @@ public interface IdentityService {
      * @return ID do jogador ou -1 se não encontrado
      */
     int getPlayerId(Player player);
+    
+    /**
+     * Obtém o ID do jogador sem exigir a identidade em cache.
+     * Já concluído se estiver em cache; senão conclui fora da thread principal.
+     * 
+     * @param player Jogador
+     * @return Future com o ID do jogador ou null se não encontrado
+     */
+    CompletableFuture<Integer> getPlayerIdAsync(Player player);
 }
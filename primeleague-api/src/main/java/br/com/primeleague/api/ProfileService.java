@@ -1,6 +1,7 @@
 package br.com.primeleague.api;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface para serviço de perfis de jogadores.
@@ -23,4 +24,12 @@ public interface ProfileService {
      * @return Nome do jogador (normalizado) ou null se não encontrado
      */
     String getPlayerName(String name);
+    
+    /**
+     * Versão assíncrona de {@link #getPlayerName(UUID)}, concluída fora da thread principal.
+     * 
+     * @param uuid UUID do jogador
+     * @return Future com o nome do jogador ou null se não encontrado
+     */
+    CompletableFuture<String> getPlayerNameAsync(UUID uuid);
 }
@@ -12,6 +12,7 @@ import br.com.primeleague.api.enums.LogActionType;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Interface para acesso a dados de clãs.
@@ -69,6 +70,15 @@ public interface ClanDAO {
      */
     void saveOrUpdateClanPlayerAsync(ClanPlayerDTO clanPlayerDTO, java.util.function.Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #saveOrUpdateClanPlayerAsync(ClanPlayerDTO, java.util.function.Consumer)}.
+     */
+    default CompletableFuture<Boolean> saveOrUpdateClanPlayerAsync(ClanPlayerDTO clanPlayerDTO) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        saveOrUpdateClanPlayerAsync(clanPlayerDTO, future::complete);
+        return future;
+    }
+    
     /**
      * Atualiza as configurações de um clã no banco de dados.
      * 
@@ -121,6 +131,15 @@ public interface ClanDAO {
      */
     void setFounderAsync(ClanDTO clanDTO, int newFounderPlayerId, String newFounderName, int oldFounderPlayerId, java.util.function.Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #setFounderAsync(ClanDTO, int, String, int, java.util.function.Consumer)}.
+     */
+    default CompletableFuture<Boolean> setFounderAsync(ClanDTO clanDTO, int newFounderPlayerId, String newFounderName, int oldFounderPlayerId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        setFounderAsync(clanDTO, newFounderPlayerId, newFounderName, oldFounderPlayerId, future::complete);
+        return future;
+    }
+    
     /**
      * Registra uma ação no log de auditoria do clã.
      * 
@@ -150,6 +169,15 @@ public interface ClanDAO {
     void logActionAsync(int clanId, int actorPlayerId, String actorName, LogActionType action, 
                        int targetPlayerId, String targetName, String details, java.util.function.Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #logActionAsync(int, int, String, LogActionType, int, String, String, java.util.function.Consumer)}.
+     */
+    default CompletableFuture<Boolean> logActionAsync(int clanId, int actorPlayerId, String actorName, LogActionType action, int targetPlayerId, String targetName, String details) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        logActionAsync(clanId, actorPlayerId, actorName, action, targetPlayerId, targetName, details, future::complete);
+        return future;
+    }
+    
     /**
      * Carrega os logs de um clã com paginação.
      * 
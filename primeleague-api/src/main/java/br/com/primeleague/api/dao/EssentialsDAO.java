@@ -4,6 +4,7 @@ import br.com.primeleague.api.models.Home;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -23,6 +24,15 @@ public interface EssentialsDAO {
      */
     void loadPlayerHomesAsync(UUID playerUuid, Consumer<List<Home>> callback);
     
+    /**
+     * Versão com future de {@link #loadPlayerHomesAsync(UUID, Consumer)}.
+     */
+    default CompletableFuture<List<Home>> loadPlayerHomesAsync(UUID playerUuid) {
+        CompletableFuture<List<Home>> future = new CompletableFuture<List<Home>>();
+        loadPlayerHomesAsync(playerUuid, future::complete);
+        return future;
+    }
+    
     /**
      * Cria uma nova home de forma assíncrona.
      * 
@@ -31,6 +41,15 @@ public interface EssentialsDAO {
      */
     void createHomeAsync(Home home, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #createHomeAsync(Home, Consumer)}.
+     */
+    default CompletableFuture<Boolean> createHomeAsync(Home home) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        createHomeAsync(home, future::complete);
+        return future;
+    }
+    
     /**
      * Remove uma home de forma assíncrona.
      * 
@@ -39,6 +58,15 @@ public interface EssentialsDAO {
      */
     void deleteHomeAsync(int homeId, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #deleteHomeAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Boolean> deleteHomeAsync(int homeId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        deleteHomeAsync(homeId, future::complete);
+        return future;
+    }
+    
     /**
      * Atualiza o timestamp de último uso de uma home de forma assíncrona.
      * 
@@ -47,6 +75,15 @@ public interface EssentialsDAO {
      */
     void updateHomeLastUsedAsync(int homeId, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #updateHomeLastUsedAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Boolean> updateHomeLastUsedAsync(int homeId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        updateHomeLastUsedAsync(homeId, future::complete);
+        return future;
+    }
+    
     /**
      * Verifica se uma home com o nome especificado já existe para o jogador.
      * 
@@ -56,6 +93,15 @@ public interface EssentialsDAO {
      */
     void homeExistsAsync(UUID playerUuid, String homeName, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #homeExistsAsync(UUID, String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> homeExistsAsync(UUID playerUuid, String homeName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        homeExistsAsync(playerUuid, homeName, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém o número de homes de um jogador de forma assíncrona.
      * 
@@ -64,6 +110,15 @@ public interface EssentialsDAO {
      */
     void getPlayerHomeCountAsync(UUID playerUuid, Consumer<Integer> callback);
     
+    /**
+     * Versão com future de {@link #getPlayerHomeCountAsync(UUID, Consumer)}.
+     */
+    default CompletableFuture<Integer> getPlayerHomeCountAsync(UUID playerUuid) {
+        CompletableFuture<Integer> future = new CompletableFuture<Integer>();
+        getPlayerHomeCountAsync(playerUuid, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém uma home específica de um jogador de forma assíncrona.
      * 
@@ -73,6 +128,15 @@ public interface EssentialsDAO {
      */
     void getHomeAsync(UUID playerUuid, String homeName, Consumer<Home> callback);
     
+    /**
+     * Versão com future de {@link #getHomeAsync(UUID, String, Consumer)}.
+     */
+    default CompletableFuture<Home> getHomeAsync(UUID playerUuid, String homeName) {
+        CompletableFuture<Home> future = new CompletableFuture<Home>();
+        getHomeAsync(playerUuid, homeName, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém o ID do jogador no banco de dados de forma assíncrona.
      * 
@@ -80,4 +144,13 @@ public interface EssentialsDAO {
      * @param callback Callback executado quando a busca for concluída
      */
     void getPlayerIdAsync(UUID playerUuid, Consumer<Integer> callback);
+    
+    /**
+     * Versão com future de {@link #getPlayerIdAsync(UUID, Consumer)}.
+     */
+    default CompletableFuture<Integer> getPlayerIdAsync(UUID playerUuid) {
+        CompletableFuture<Integer> future = new CompletableFuture<Integer>();
+        getPlayerIdAsync(playerUuid, future::complete);
+        return future;
+    }
 }
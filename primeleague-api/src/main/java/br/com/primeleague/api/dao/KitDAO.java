@@ -3,6 +3,7 @@ package br.com.primeleague.api.dao;
 import br.com.primeleague.api.models.KitCooldown;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -22,6 +23,15 @@ public interface KitDAO {
      */
     void loadPlayerKitCooldownsAsync(int playerId, Consumer<List<KitCooldown>> callback);
     
+    /**
+     * Versão com future de {@link #loadPlayerKitCooldownsAsync(int, Consumer)}.
+     */
+    default CompletableFuture<List<KitCooldown>> loadPlayerKitCooldownsAsync(int playerId) {
+        CompletableFuture<List<KitCooldown>> future = new CompletableFuture<List<KitCooldown>>();
+        loadPlayerKitCooldownsAsync(playerId, future::complete);
+        return future;
+    }
+    
     /**
      * Salva ou atualiza um cooldown de kit de forma assíncrona.
      * 
@@ -30,6 +40,15 @@ public interface KitDAO {
      */
     void saveKitCooldownAsync(KitCooldown cooldown, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #saveKitCooldownAsync(KitCooldown, Consumer)}.
+     */
+    default CompletableFuture<Boolean> saveKitCooldownAsync(KitCooldown cooldown) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        saveKitCooldownAsync(cooldown, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém um cooldown específico de forma assíncrona.
      * 
@@ -39,6 +58,15 @@ public interface KitDAO {
      */
     void getKitCooldownAsync(int playerId, String kitName, Consumer<KitCooldown> callback);
     
+    /**
+     * Versão com future de {@link #getKitCooldownAsync(int, String, Consumer)}.
+     */
+    default CompletableFuture<KitCooldown> getKitCooldownAsync(int playerId, String kitName) {
+        CompletableFuture<KitCooldown> future = new CompletableFuture<KitCooldown>();
+        getKitCooldownAsync(playerId, kitName, future::complete);
+        return future;
+    }
+    
     /**
      * Remove um cooldown de kit de forma assíncrona.
      * 
@@ -48,6 +76,15 @@ public interface KitDAO {
      */
     void removeKitCooldownAsync(int playerId, String kitName, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #removeKitCooldownAsync(int, String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> removeKitCooldownAsync(int playerId, String kitName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        removeKitCooldownAsync(playerId, kitName, future::complete);
+        return future;
+    }
+    
     /**
      * Limpa todos os cooldowns expirados de forma assíncrona.
      * 
@@ -55,6 +92,15 @@ public interface KitDAO {
      */
     void cleanExpiredCooldownsAsync(Consumer<Integer> callback);
     
+    /**
+     * Versão com future de {@link #cleanExpiredCooldownsAsync(Consumer)}.
+     */
+    default CompletableFuture<Integer> cleanExpiredCooldownsAsync() {
+        CompletableFuture<Integer> future = new CompletableFuture<Integer>();
+        cleanExpiredCooldownsAsync(future::complete);
+        return future;
+    }
+    
     /**
      * Obtém o ID do jogador pelo UUID de forma assíncrona.
      * 
@@ -63,6 +109,15 @@ public interface KitDAO {
      */
     void getPlayerIdAsync(String playerUuid, Consumer<Integer> callback);
     
+    /**
+     * Versão com future de {@link #getPlayerIdAsync(String, Consumer)}.
+     */
+    default CompletableFuture<Integer> getPlayerIdAsync(String playerUuid) {
+        CompletableFuture<Integer> future = new CompletableFuture<Integer>();
+        getPlayerIdAsync(playerUuid, future::complete);
+        return future;
+    }
+    
     /**
      * Verifica se um cooldown existe de forma assíncrona.
      * 
@@ -72,6 +127,15 @@ public interface KitDAO {
      */
     void cooldownExistsAsync(int playerId, String kitName, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #cooldownExistsAsync(int, String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> cooldownExistsAsync(int playerId, String kitName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        cooldownExistsAsync(playerId, kitName, future::complete);
+        return future;
+    }
+    
     /**
      * Atualiza o timestamp de uso de um kit de forma assíncrona.
      * 
@@ -81,6 +145,15 @@ public interface KitDAO {
      */
     void updateKitLastUsedAsync(int playerId, String kitName, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #updateKitLastUsedAsync(int, String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> updateKitLastUsedAsync(int playerId, String kitName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        updateKitLastUsedAsync(playerId, kitName, future::complete);
+        return future;
+    }
+    
     /**
      * Incrementa o contador de usos de um kit de forma assíncrona.
      * 
@@ -89,4 +162,13 @@ public interface KitDAO {
      * @param callback Callback executado quando a operação for concluída
      */
     void incrementKitUsesAsync(int playerId, String kitName, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #incrementKitUsesAsync(int, String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> incrementKitUsesAsync(int playerId, String kitName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        incrementKitUsesAsync(playerId, kitName, future::complete);
+        return future;
+    }
 }
@@ -3,6 +3,7 @@ package br.com.primeleague.api.dao;
 import br.com.primeleague.api.models.Punishment;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -21,6 +22,15 @@ public interface PunishmentDAO {
      * @param callback Callback com resultado da operação (true = sucesso, false = falha)
      */
     void applyPunishmentAsync(Punishment punishment, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #applyPunishmentAsync(Punishment, Consumer)}.
+     */
+    default CompletableFuture<Boolean> applyPunishmentAsync(Punishment punishment) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        applyPunishmentAsync(punishment, future::complete);
+        return future;
+    }
 
     /**
      * Remove uma punição do banco de dados.
@@ -29,6 +39,15 @@ public interface PunishmentDAO {
      * @param callback Callback com resultado da operação (true = sucesso, false = falha)
      */
     void removePunishmentAsync(int punishmentId, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #removePunishmentAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Boolean> removePunishmentAsync(int punishmentId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        removePunishmentAsync(punishmentId, future::complete);
+        return future;
+    }
 
     /**
      * Busca punições ativas de um jogador.
@@ -37,6 +56,15 @@ public interface PunishmentDAO {
      * @param callback Callback com lista de punições ativas
      */
     void getActivePunishmentsAsync(int playerId, Consumer<List<Punishment>> callback);
+    
+    /**
+     * Versão com future de {@link #getActivePunishmentsAsync(int, Consumer)}.
+     */
+    default CompletableFuture<List<Punishment>> getActivePunishmentsAsync(int playerId) {
+        CompletableFuture<List<Punishment>> future = new CompletableFuture<List<Punishment>>();
+        getActivePunishmentsAsync(playerId, future::complete);
+        return future;
+    }
 
     /**
      * Busca histórico de punições de um jogador.
@@ -45,6 +73,15 @@ public interface PunishmentDAO {
      * @param callback Callback com lista de punições (histórico completo)
      */
     void getPunishmentHistoryAsync(int playerId, Consumer<List<Punishment>> callback);
+    
+    /**
+     * Versão com future de {@link #getPunishmentHistoryAsync(int, Consumer)}.
+     */
+    default CompletableFuture<List<Punishment>> getPunishmentHistoryAsync(int playerId) {
+        CompletableFuture<List<Punishment>> future = new CompletableFuture<List<Punishment>>();
+        getPunishmentHistoryAsync(playerId, future::complete);
+        return future;
+    }
 
     /**
      * Busca punições por tipo.
@@ -53,6 +90,15 @@ public interface PunishmentDAO {
      * @param callback Callback com lista de punições do tipo especificado
      */
     void getPunishmentsByTypeAsync(String punishmentType, Consumer<List<Punishment>> callback);
+    
+    /**
+     * Versão com future de {@link #getPunishmentsByTypeAsync(String, Consumer)}.
+     */
+    default CompletableFuture<List<Punishment>> getPunishmentsByTypeAsync(String punishmentType) {
+        CompletableFuture<List<Punishment>> future = new CompletableFuture<List<Punishment>>();
+        getPunishmentsByTypeAsync(punishmentType, future::complete);
+        return future;
+    }
 
     /**
      * Verifica se um jogador tem punição ativa de um tipo específico.
@@ -62,6 +108,15 @@ public interface PunishmentDAO {
      * @param callback Callback com punição ativa (null se não houver)
      */
     void getActivePunishmentByTypeAsync(int playerId, String punishmentType, Consumer<Punishment> callback);
+    
+    /**
+     * Versão com future de {@link #getActivePunishmentByTypeAsync(int, String, Consumer)}.
+     */
+    default CompletableFuture<Punishment> getActivePunishmentByTypeAsync(int playerId, String punishmentType) {
+        CompletableFuture<Punishment> future = new CompletableFuture<Punishment>();
+        getActivePunishmentByTypeAsync(playerId, punishmentType, future::complete);
+        return future;
+    }
 
     /**
      * Busca punições aplicadas por um staff.
@@ -70,6 +125,15 @@ public interface PunishmentDAO {
      * @param callback Callback com lista de punições aplicadas pelo staff
      */
     void getPunishmentsByStaffAsync(int staffPlayerId, Consumer<List<Punishment>> callback);
+    
+    /**
+     * Versão com future de {@link #getPunishmentsByStaffAsync(int, Consumer)}.
+     */
+    default CompletableFuture<List<Punishment>> getPunishmentsByStaffAsync(int staffPlayerId) {
+        CompletableFuture<List<Punishment>> future = new CompletableFuture<List<Punishment>>();
+        getPunishmentsByStaffAsync(staffPlayerId, future::complete);
+        return future;
+    }
 
     /**
      * Atualiza uma punição existente.
@@ -78,6 +142,15 @@ public interface PunishmentDAO {
      * @param callback Callback com resultado da operação (true = sucesso, false = falha)
      */
     void updatePunishmentAsync(Punishment punishment, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #updatePunishmentAsync(Punishment, Consumer)}.
+     */
+    default CompletableFuture<Boolean> updatePunishmentAsync(Punishment punishment) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        updatePunishmentAsync(punishment, future::complete);
+        return future;
+    }
 
     /**
      * Busca uma punição por ID.
@@ -86,4 +159,13 @@ public interface PunishmentDAO {
      * @param callback Callback com a punição encontrada (null se não existir)
      */
     void getPunishmentByIdAsync(int punishmentId, Consumer<Punishment> callback);
+    
+    /**
+     * Versão com future de {@link #getPunishmentByIdAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Punishment> getPunishmentByIdAsync(int punishmentId) {
+        CompletableFuture<Punishment> future = new CompletableFuture<Punishment>();
+        getPunishmentByIdAsync(punishmentId, future::complete);
+        return future;
+    }
 }
@@ -3,6 +3,7 @@ package br.com.primeleague.api.dao;
 import br.com.primeleague.api.models.Ticket;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -21,6 +22,15 @@ public interface TicketDAO {
      * @param callback Callback com resultado da operação (true = sucesso, false = falha)
      */
     void createTicketAsync(Ticket ticket, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #createTicketAsync(Ticket, Consumer)}.
+     */
+    default CompletableFuture<Boolean> createTicketAsync(Ticket ticket) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        createTicketAsync(ticket, future::complete);
+        return future;
+    }
 
     /**
      * Atualiza um ticket existente.
@@ -29,6 +39,15 @@ public interface TicketDAO {
      * @param callback Callback com resultado da operação (true = sucesso, false = falha)
      */
     void updateTicketAsync(Ticket ticket, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #updateTicketAsync(Ticket, Consumer)}.
+     */
+    default CompletableFuture<Boolean> updateTicketAsync(Ticket ticket) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        updateTicketAsync(ticket, future::complete);
+        return future;
+    }
 
     /**
      * Busca um ticket por ID.
@@ -37,6 +56,15 @@ public interface TicketDAO {
      * @param callback Callback com o ticket encontrado (null se não existir)
      */
     void getTicketByIdAsync(int ticketId, Consumer<Ticket> callback);
+    
+    /**
+     * Versão com future de {@link #getTicketByIdAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Ticket> getTicketByIdAsync(int ticketId) {
+        CompletableFuture<Ticket> future = new CompletableFuture<Ticket>();
+        getTicketByIdAsync(ticketId, future::complete);
+        return future;
+    }
 
     /**
      * Busca tickets de um jogador.
@@ -45,6 +73,15 @@ public interface TicketDAO {
      * @param callback Callback com lista de tickets do jogador
      */
     void getTicketsByPlayerAsync(int playerId, Consumer<List<Ticket>> callback);
+    
+    /**
+     * Versão com future de {@link #getTicketsByPlayerAsync(int, Consumer)}.
+     */
+    default CompletableFuture<List<Ticket>> getTicketsByPlayerAsync(int playerId) {
+        CompletableFuture<List<Ticket>> future = new CompletableFuture<List<Ticket>>();
+        getTicketsByPlayerAsync(playerId, future::complete);
+        return future;
+    }
 
     /**
      * Busca tickets por status.
@@ -53,6 +90,15 @@ public interface TicketDAO {
      * @param callback Callback com lista de tickets do status especificado
      */
     void getTicketsByStatusAsync(String status, Consumer<List<Ticket>> callback);
+    
+    /**
+     * Versão com future de {@link #getTicketsByStatusAsync(String, Consumer)}.
+     */
+    default CompletableFuture<List<Ticket>> getTicketsByStatusAsync(String status) {
+        CompletableFuture<List<Ticket>> future = new CompletableFuture<List<Ticket>>();
+        getTicketsByStatusAsync(status, future::complete);
+        return future;
+    }
 
     /**
      * Busca tickets atribuídos a um staff.
@@ -61,6 +107,15 @@ public interface TicketDAO {
      * @param callback Callback com lista de tickets atribuídos ao staff
      */
     void getTicketsByStaffAsync(int staffPlayerId, Consumer<List<Ticket>> callback);
+    
+    /**
+     * Versão com future de {@link #getTicketsByStaffAsync(int, Consumer)}.
+     */
+    default CompletableFuture<List<Ticket>> getTicketsByStaffAsync(int staffPlayerId) {
+        CompletableFuture<List<Ticket>> future = new CompletableFuture<List<Ticket>>();
+        getTicketsByStaffAsync(staffPlayerId, future::complete);
+        return future;
+    }
 
     /**
      * Busca todos os tickets abertos.
@@ -68,6 +123,15 @@ public interface TicketDAO {
      * @param callback Callback com lista de tickets abertos
      */
     void getOpenTicketsAsync(Consumer<List<Ticket>> callback);
+    
+    /**
+     * Versão com future de {@link #getOpenTicketsAsync(Consumer)}.
+     */
+    default CompletableFuture<List<Ticket>> getOpenTicketsAsync() {
+        CompletableFuture<List<Ticket>> future = new CompletableFuture<List<Ticket>>();
+        getOpenTicketsAsync(future::complete);
+        return future;
+    }
 
     /**
      * Busca tickets por prioridade.
@@ -76,6 +140,15 @@ public interface TicketDAO {
      * @param callback Callback com lista de tickets da prioridade especificada
      */
     void getTicketsByPriorityAsync(String priority, Consumer<List<Ticket>> callback);
+    
+    /**
+     * Versão com future de {@link #getTicketsByPriorityAsync(String, Consumer)}.
+     */
+    default CompletableFuture<List<Ticket>> getTicketsByPriorityAsync(String priority) {
+        CompletableFuture<List<Ticket>> future = new CompletableFuture<List<Ticket>>();
+        getTicketsByPriorityAsync(priority, future::complete);
+        return future;
+    }
 
     /**
      * Remove um ticket do banco de dados.
@@ -84,6 +157,15 @@ public interface TicketDAO {
      * @param callback Callback com resultado da operação (true = sucesso, false = falha)
      */
     void deleteTicketAsync(int ticketId, Consumer<Boolean> callback);
+    
+    /**
+     * Versão com future de {@link #deleteTicketAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Boolean> deleteTicketAsync(int ticketId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        deleteTicketAsync(ticketId, future::complete);
+        return future;
+    }
 
     /**
      * Busca tickets com filtros combinados.
@@ -94,4 +176,13 @@ public interface TicketDAO {
      * @param callback Callback com lista de tickets filtrados
      */
     void getTicketsWithFiltersAsync(String status, String priority, Integer staffPlayerId, Consumer<List<Ticket>> callback);
+    
+    /**
+     * Versão com future de {@link #getTicketsWithFiltersAsync(String, String, Integer, Consumer)}.
+     */
+    default CompletableFuture<List<Ticket>> getTicketsWithFiltersAsync(String status, String priority, Integer staffPlayerId) {
+        CompletableFuture<List<Ticket>> future = new CompletableFuture<List<Ticket>>();
+        getTicketsWithFiltersAsync(status, priority, staffPlayerId, future::complete);
+        return future;
+    }
 }
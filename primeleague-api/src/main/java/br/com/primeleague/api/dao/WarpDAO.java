@@ -3,6 +3,7 @@ package br.com.primeleague.api.dao;
 import br.com.primeleague.api.models.Warp;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 /**
@@ -22,6 +23,15 @@ public interface WarpDAO {
      */
     void createWarpAsync(Warp warp, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #createWarpAsync(Warp, Consumer)}.
+     */
+    default CompletableFuture<Boolean> createWarpAsync(Warp warp) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        createWarpAsync(warp, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém um warp pelo nome de forma assíncrona.
      * 
@@ -30,6 +40,15 @@ public interface WarpDAO {
      */
     void getWarpAsync(String warpName, Consumer<Warp> callback);
     
+    /**
+     * Versão com future de {@link #getWarpAsync(String, Consumer)}.
+     */
+    default CompletableFuture<Warp> getWarpAsync(String warpName) {
+        CompletableFuture<Warp> future = new CompletableFuture<Warp>();
+        getWarpAsync(warpName, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém todos os warps de forma assíncrona.
      * 
@@ -37,6 +56,15 @@ public interface WarpDAO {
      */
     void getAllWarpsAsync(Consumer<List<Warp>> callback);
     
+    /**
+     * Versão com future de {@link #getAllWarpsAsync(Consumer)}.
+     */
+    default CompletableFuture<List<Warp>> getAllWarpsAsync() {
+        CompletableFuture<List<Warp>> future = new CompletableFuture<List<Warp>>();
+        getAllWarpsAsync(future::complete);
+        return future;
+    }
+    
     /**
      * Obtém warps que o jogador pode usar (baseado em permissões) de forma assíncrona.
      * 
@@ -45,6 +73,15 @@ public interface WarpDAO {
      */
     void getAvailableWarpsAsync(String playerName, Consumer<List<Warp>> callback);
     
+    /**
+     * Versão com future de {@link #getAvailableWarpsAsync(String, Consumer)}.
+     */
+    default CompletableFuture<List<Warp>> getAvailableWarpsAsync(String playerName) {
+        CompletableFuture<List<Warp>> future = new CompletableFuture<List<Warp>>();
+        getAvailableWarpsAsync(playerName, future::complete);
+        return future;
+    }
+    
     /**
      * Atualiza um warp existente de forma assíncrona.
      * 
@@ -53,6 +90,15 @@ public interface WarpDAO {
      */
     void updateWarpAsync(Warp warp, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #updateWarpAsync(Warp, Consumer)}.
+     */
+    default CompletableFuture<Boolean> updateWarpAsync(Warp warp) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        updateWarpAsync(warp, future::complete);
+        return future;
+    }
+    
     /**
      * Remove um warp de forma assíncrona.
      * 
@@ -61,6 +107,15 @@ public interface WarpDAO {
      */
     void deleteWarpAsync(String warpName, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #deleteWarpAsync(String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> deleteWarpAsync(String warpName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        deleteWarpAsync(warpName, future::complete);
+        return future;
+    }
+    
     /**
      * Verifica se um warp existe de forma assíncrona.
      * 
@@ -69,6 +124,15 @@ public interface WarpDAO {
      */
     void warpExistsAsync(String warpName, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #warpExistsAsync(String, Consumer)}.
+     */
+    default CompletableFuture<Boolean> warpExistsAsync(String warpName) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        warpExistsAsync(warpName, future::complete);
+        return future;
+    }
+    
     /**
      * Atualiza as estatísticas de uso de um warp de forma assíncrona.
      * 
@@ -77,6 +141,15 @@ public interface WarpDAO {
      */
     void updateWarpUsageAsync(int warpId, Consumer<Boolean> callback);
     
+    /**
+     * Versão com future de {@link #updateWarpUsageAsync(int, Consumer)}.
+     */
+    default CompletableFuture<Boolean> updateWarpUsageAsync(int warpId) {
+        CompletableFuture<Boolean> future = new CompletableFuture<Boolean>();
+        updateWarpUsageAsync(warpId, future::complete);
+        return future;
+    }
+    
     /**
      * Obtém estatísticas de uso de um warp de forma assíncrona.
      * 
@@ -84,4 +157,13 @@ public interface WarpDAO {
      * @param callback Callback executado quando a busca for concluída
      */
     void getWarpStatsAsync(String warpName, Consumer<Warp> callback);
+    
+    /**
+     * Versão com future de {@link #getWarpStatsAsync(String, Consumer)}.
+     */
+    default CompletableFuture<Warp> getWarpStatsAsync(String warpName) {
+        CompletableFuture<Warp> future = new CompletableFuture<Warp>();
+        getWarpStatsAsync(warpName, future::complete);
+        return future;
+    }
 }
@@ -0,0 +1,202 @@
+package br.com.primeleague.api.models;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Valor monetário em ponto fixo (centavos em um long).
+ *
+ * Substitui BigDecimal/double na aritmética de saldos: soma, subtração e
+ * comparação operam direto no long, sem arredondamento de ponto flutuante.
+ * Os métodos estáticos sobre centavos permitem o caminho quente sem alocar
+ * nenhum objeto; a instância é usada nas APIs públicas.
+ *
+ * Conversões de/para double e BigDecimal existem apenas como fachada de
+ * compatibilidade para módulos que ainda usam esses tipos.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class Money implements Comparable<Money> {
+
+    /** Casas decimais representadas (centavos). */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    // ==================== FÁBRICAS ====================
+
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Converte um double (arredondado ao centavo mais próximo).
+     */
+    public static Money of(double amount) {
+        return ofCents(toCents(amount));
+    }
+
+    /**
+     * Converte um BigDecimal (arredondamento HALF_UP nos centavos).
+     */
+    public static Money of(BigDecimal amount) {
+        return amount == null ? ZERO : ofCents(toCents(amount));
+    }
+
+    /**
+     * Converte uma string ("10", "10.5", "10,50") de forma segura.
+     *
+     * @return Money ou null se inválido
+     */
+    public static Money parse(String amount) {
+        if (amount == null) {
+            return null;
+        }
+        try {
+            return of(new BigDecimal(amount.trim().replace(',', '.')));
+        } catch (NumberFormatException | ArithmeticException e) {
+            return null;
+        }
+    }
+
+    // ==================== OPERAÇÕES SOBRE CENTAVOS (SEM ALOCAÇÃO) ====================
+
+    public static long toCents(double amount) {
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            throw new ArithmeticException("Valor monetário inválido: " + amount);
+        }
+        // Math.round sobre o valor escalado; o limite protege contra overflow silencioso
+        double scaled = amount * 100.0;
+        if (Math.abs(scaled) >= 9.0E18) {
+            throw new ArithmeticException("Valor monetário fora do limite: " + amount);
+        }
+        return Math.round(scaled);
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    public static double toDouble(long cents) {
+        return cents / 100.0;
+    }
+
+    public static BigDecimal toBigDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * Soma com detecção de overflow.
+     */
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Subtração com detecção de overflow.
+     */
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Aplica uma taxa (ex.: 0.05) sobre um valor, arredondando ao centavo mais próximo.
+     */
+    public static long multiply(long cents, double rate) {
+        return Math.round(cents * rate);
+    }
+
+    /**
+     * Formata centavos como "1234.56" (sem separador de milhar).
+     */
+    public static String toPlainString(long cents) {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        StringBuilder sb = new StringBuilder(24);
+        if (cents < 0) {
+            sb.append('-');
+        }
+        sb.append(abs / 100).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).toString();
+    }
+
+    // ==================== OPERAÇÕES DA INSTÂNCIA ====================
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(add(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(subtract(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    public Money abs() {
+        return cents < 0 ? negate() : this;
+    }
+
+    public boolean isZero() {
+        return cents == 0L;
+    }
+
+    public boolean isNegative() {
+        return cents < 0L;
+    }
+
+    public boolean isPositive() {
+        return cents > 0L;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public boolean isLessThan(Money other) {
+        return cents < other.cents;
+    }
+
+    public double toDouble() {
+        return toDouble(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return toBigDecimal(cents);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || (obj instanceof Money && ((Money) obj).cents == cents);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (cents ^ (cents >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return toPlainString(cents);
+    }
+}
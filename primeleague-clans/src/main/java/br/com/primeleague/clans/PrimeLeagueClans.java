@@ -44,9 +44,25 @@ public class PrimeLeagueClans extends JavaPlugin {
         // Registrar ClanService na API
         ClanServiceRegistry.register(new ClanServiceImpl(clanManager));
         
+        // Reaplicar kills/mortes que ficaram no journal de KDR (antes do load, para carregar os totais corretos)
+        clanManager.getKdrAccumulator().recover();
+        
         // Carregar dados do banco
         clanManager.load();
         
+        // Logs de clã gravados em lote por uma thread própria, e arquivamento opcional dos antigos
+        clanManager.startLogWriter(
+            getConfig().getInt("clan_logs.queue_capacity", 10000),
+            getConfig().getInt("clan_logs.batch_size", 200),
+            getConfig().getLong("clan_logs.flush_interval_ms", 500L));
+        clanManager.getEventLog().startArchiver(getConfig().getConfigurationSection("clan_logs.archive"));
+        
+        // Gravação periódica em lote das kills/mortes acumuladas
+        clanManager.getKdrAccumulator().start(getConfig().getLong("kdr.flush_interval_seconds", 10L) * 20L);
+        
+        // Recarregar o cache quando outro servidor alterar clãs no banco compartilhado
+        clanManager.subscribeInvalidations();
+        
         // Registrar comandos
         registerCommands();
         
@@ -75,6 +91,13 @@ public class PrimeLeagueClans extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        // Gravar kills/mortes pendentes (o que falhar fica no journal para o próximo start) e os logs enfileirados
+        if (clanManager != null) {
+            clanManager.getKdrAccumulator().shutdown();
+            clanManager.getEventLog().stopArchiver();
+            clanManager.shutdownLogWriter();
+        }
+        
         getLogger().info("[Clans] PrimeLeague Clans desabilitado");
         
         // Salvar dados (quando integração com Core estiver pronta)
@@ -1096,41 +1096,49 @@ public class ClanCommand implements CommandExecutor {
             }
         }
 
-        // Buscar logs do clã
-        List<ClanLogDTO> logs = clanManager.getClanLogs(clan.getId(), page, 10); // 10 logs por página
-        
-        if (logs.isEmpty()) {
-            player.sendMessage(ChatColor.YELLOW + "Nenhum registro encontrado para a página " + page + ".");
-            return;
-        }
+        // Buscar logs do clã fora da thread principal (cursor por jogador: a próxima página não relê as anteriores)
+        final int requestedPage = page;
+        final String clanTag = clan.getTag();
+        clanManager.getEventLog().getClanPageAsync(clanPlayer.getPlayerId(), clan.getId(), page, 10, result -> { // 10 logs por página
+            if (!player.isOnline()) {
+                return;
+            }
+            List<ClanLogDTO> logs = result.getLogs();
+            if (logs.isEmpty()) {
+                player.sendMessage(ChatColor.YELLOW + "Nenhum registro encontrado para a página " + requestedPage + ".");
+                return;
+            }
 
-        // Exibir cabeçalho
-        player.sendMessage(ChatColor.GOLD + "=== Histórico do Clã " + clan.getTag() + " (Página " + page + ") ===");
-        
-        // Exibir logs
-        for (ClanLogDTO log : logs) {
-            String timestamp = new java.text.SimpleDateFormat("dd/MM/yyyy HH:mm:ss")
-                .format(new java.util.Date(log.getTimestamp()));
+            // Exibir cabeçalho
+            player.sendMessage(ChatColor.GOLD + "=== Histórico do Clã " + clanTag + " (Página " + requestedPage + ") ===");
             
-            String actionText = getActionText(log.getActionType());
-            String details = log.getDetails() != null ? log.getDetails() : "";
-            
-            String message = ChatColor.GRAY + "[" + timestamp + "] " + 
-                           ChatColor.WHITE + log.getActorName() + " " + 
-                           ChatColor.YELLOW + actionText;
-            
-            if (log.getTargetName() != null) {
-                message += ChatColor.WHITE + " " + log.getTargetName();
+            // Exibir logs
+            java.text.SimpleDateFormat dateFormat = new java.text.SimpleDateFormat("dd/MM/yyyy HH:mm:ss");
+            for (ClanLogDTO log : logs) {
+                String timestamp = dateFormat.format(new java.util.Date(log.getTimestamp()));
+                
+                String actionText = getActionText(log.getActionType());
+                String details = log.getDetails() != null ? log.getDetails() : "";
+                
+                String message = ChatColor.GRAY + "[" + timestamp + "] " + 
+                               ChatColor.WHITE + log.getActorName() + " " + 
+                               ChatColor.YELLOW + actionText;
+                
+                if (log.getTargetName() != null) {
+                    message += ChatColor.WHITE + " " + log.getTargetName();
+                }
+                
+                if (!details.isEmpty()) {
+                    message += ChatColor.GRAY + " (" + details + ")";
+                }
+                
+                player.sendMessage(message);
             }
             
-            if (!details.isEmpty()) {
-                message += ChatColor.GRAY + " (" + details + ")";
+            if (result.hasMore()) {
+                player.sendMessage(ChatColor.GRAY + "Use /clan logs " + (requestedPage + 1) + " para ver mais registros.");
             }
-            
-            player.sendMessage(message);
-        }
-        
-        player.sendMessage(ChatColor.GRAY + "Use /clan logs <página> para ver mais registros.");
+        });
     }
 
     /**
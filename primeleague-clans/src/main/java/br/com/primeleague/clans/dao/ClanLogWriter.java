@@ -0,0 +1,247 @@
+package br.com.primeleague.clans.dao;
+
+import br.com.primeleague.api.dto.ClanLogDTO;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Gravação em lote dos logs de clã (clan_logs).
+ *
+ * O logAction só enfileira o evento com o timestamp do momento da ação; uma
+ * thread dedicada junta os eventos e grava cada lote com um INSERT multi-linha
+ * em uma única transação, em vez de um round-trip por ação na thread de quem
+ * chamou.
+ *
+ * Com a fila cheia (ou antes do start/depois do shutdown) o evento vai para a
+ * faixa BACKGROUND do DbExecutor; se ela também estiver cheia, o evento é
+ * descartado e contado. Nunca há INSERT na thread de quem chamou (em geral a
+ * principal); a gravação direta fica só para o shutdown. Um lote recusado por
+ * constraint (ex.: clã apagado antes do flush) é regravado linha a linha para
+ * que só a linha inválida se perca; falhas de conexão mantêm o lote e tentam
+ * de novo no próximo intervalo.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class ClanLogWriter {
+
+    // Intervalo mínimo entre avisos de descarte
+    private static final long DROP_LOG_INTERVAL_MS = 5000L;
+
+    private final MySqlClanDAO clanDAO;
+    private final DbExecutor dbExecutor;
+    private final Logger logger;
+    private final BlockingQueue<ClanLogDTO> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final LongAdder written;
+    private final LongAdder overflowWrites;
+    private final LongAdder droppedRows;
+    private final LongAdder failedBatches;
+    private final AtomicLong lastDropLog = new AtomicLong();
+
+    // Lote em gravação pela thread; o shutdown só o grava se a thread já tiver terminado
+    private final List<ClanLogDTO> inFlight;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public ClanLogWriter(MySqlClanDAO clanDAO, DbExecutor dbExecutor, Logger logger, MetricsRegistry metrics,
+                         int queueCapacity, int batchSize, long flushIntervalMs) {
+        this.clanDAO = clanDAO;
+        this.dbExecutor = dbExecutor;
+        this.logger = logger;
+        this.queue = new ArrayBlockingQueue<ClanLogDTO>(Math.max(16, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(10L, flushIntervalMs);
+        this.inFlight = new ArrayList<ClanLogDTO>(this.batchSize);
+        this.written = metrics.counter("clan_logs.written");
+        this.overflowWrites = metrics.counter("clan_logs.overflow_writes");
+        this.droppedRows = metrics.counter("clan_logs.dropped");
+        this.failedBatches = metrics.counter("clan_logs.failed_batches");
+    }
+
+    /**
+     * Inicia a thread de gravação.
+     */
+    public void start() {
+        running = true;
+        worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runLoop();
+            }
+        }, "PrimeLeague-ClanLog");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("✅ [CLAN-LOG] Gravação em lote iniciada (lote: " + batchSize + ", intervalo: " + flushIntervalMs + "ms)");
+    }
+
+    /**
+     * Enfileira um evento. Com a fila cheia ou o writer parado, entrega a
+     * gravação ao DbExecutor; sem vaga lá também, descarta e conta.
+     */
+    public void submit(final ClanLogDTO log) {
+        if (running && queue.offer(log)) {
+            return;
+        }
+        boolean accepted = dbExecutor.tryExecute(DbExecutor.Priority.BACKGROUND, "clan.logs.overflow",
+            () -> writeRows(Collections.singletonList(log)));
+        if (accepted) {
+            overflowWrites.increment();
+            return;
+        }
+        droppedRows.increment();
+        long now = System.currentTimeMillis();
+        long last = lastDropLog.get();
+        if (now - last >= DROP_LOG_INTERVAL_MS && lastDropLog.compareAndSet(last, now)) {
+            logger.warning("⚠️ [CLAN-LOG] Fila de logs e executor de banco cheios, logs de clã descartados (total: "
+                + droppedRows.sum() + ")");
+        }
+    }
+
+    /**
+     * Para a thread e grava o que restou na fila (onDisable).
+     */
+    public void shutdown() {
+        running = false;
+        boolean workerStopped = true;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            workerStopped = !worker.isAlive();
+            worker = null;
+        }
+        List<ClanLogDTO> remaining = new ArrayList<ClanLogDTO>();
+        if (workerStopped) {
+            remaining.addAll(inFlight);
+            inFlight.clear();
+        } else {
+            // A thread ainda está no INSERT do lote: gravá-lo aqui também duplicaria os logs
+            logger.warning("⚠️ [CLAN-LOG] Thread de gravação não terminou em 5s; o lote em andamento fica com ela");
+        }
+        queue.drainTo(remaining);
+        int lost = 0;
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            List<ClanLogDTO> batch = remaining.subList(i, Math.min(remaining.size(), i + batchSize));
+            if (!writeBatch(batch)) {
+                lost += batch.size();
+            }
+        }
+        if (lost > 0) {
+            droppedRows.add(lost);
+            logger.severe("🚨 [CLAN-LOG] " + lost + " logs de clã não gravados no desligamento (banco indisponível)");
+        }
+        logger.info("✅ [CLAN-LOG] Fila de logs drenada no desligamento: " + remaining.size() + " registros");
+    }
+
+    /**
+     * @return Eventos aguardando gravação
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private void runLoop() {
+        List<ClanLogDTO> batch = inFlight;
+        while (running) {
+            try {
+                if (batch.isEmpty()) {
+                    // Aguarda o primeiro evento e completa o lote até o prazo do intervalo
+                    ClanLogDTO first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                    while (batch.size() < batchSize) {
+                        if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                            continue;
+                        }
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0L) {
+                            break;
+                        }
+                        ClanLogDTO next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+                if (writeBatch(batch)) {
+                    batch.clear();
+                } else {
+                    // Banco indisponível: mantém o lote e tenta de novo depois do intervalo
+                    Thread.sleep(flushIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    break;
+                }
+            } catch (Throwable t) {
+                logger.severe("🚨 [CLAN-LOG] Erro inesperado na gravação de logs: " + t.getMessage());
+                droppedRows.add(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Grava um lote inteiro; se uma linha violar constraint, regrava linha a linha.
+     *
+     * @return false se o banco falhou e o lote deve ser tentado de novo
+     */
+    private boolean writeBatch(List<ClanLogDTO> batch) {
+        try {
+            clanDAO.insertLogBatch(batch);
+            written.add(batch.size());
+            return true;
+        } catch (SQLException e) {
+            failedBatches.increment();
+            if (!isConstraintViolation(e)) {
+                logger.warning("⚠️ [CLAN-LOG] Falha ao gravar lote de " + batch.size() + " logs, nova tentativa em "
+                    + flushIntervalMs + "ms: " + e.getMessage());
+                return false;
+            }
+        }
+        writeRows(batch);
+        return true;
+    }
+
+    /**
+     * Grava linha a linha, descartando (com aviso) as que o banco recusar.
+     */
+    private void writeRows(List<ClanLogDTO> rows) {
+        for (ClanLogDTO log : rows) {
+            try {
+                clanDAO.insertLogBatch(Collections.singletonList(log));
+                written.increment();
+            } catch (SQLException e) {
+                droppedRows.increment();
+                logger.severe("Erro ao registrar log de ação do clã: " + e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isConstraintViolation(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && state.startsWith("23");
+    }
+}
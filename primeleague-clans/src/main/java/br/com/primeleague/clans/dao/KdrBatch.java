@@ -0,0 +1,73 @@
+package br.com.primeleague.clans.dao;
+
+import br.com.primeleague.api.dto.ClanLogDTO;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mortes de um arquivo do journal de KDR, gravadas no banco como uma unidade.
+ *
+ * A chave é registrada em clan_kdr_batches na mesma transação dos deltas:
+ * um lote cuja chave já está lá foi aplicado antes e é ignorado, então
+ * reaplicar o journal depois de uma queda não conta as mortes duas vezes.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class KdrBatch {
+
+    private final String key;
+    private final Map<Integer, int[]> deltas = new HashMap<>();
+    private final List<ClanLogDTO> logs = new ArrayList<>();
+
+    /**
+     * @param key Chave única do lote, ou null (journal antigo, sem cabeçalho)
+     */
+    public KdrBatch(String key) {
+        this.key = key;
+    }
+
+    /**
+     * Soma uma morte (KDR_UPDATE) ao lote.
+     */
+    public void add(ClanLogDTO log) {
+        addDelta(deltas, log.getActorPlayerId(), 1, 0);
+        addDelta(deltas, log.getTargetPlayerId(), 0, 1);
+        logs.add(log);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return player_id -> {kills, mortes} do lote
+     */
+    public Map<Integer, int[]> getDeltas() {
+        return deltas;
+    }
+
+    public List<ClanLogDTO> getLogs() {
+        return logs;
+    }
+
+    public boolean isEmpty() {
+        return logs.isEmpty();
+    }
+
+    /**
+     * Soma {kills, mortes} ao jogador no mapa de deltas.
+     */
+    public static void addDelta(Map<Integer, int[]> deltas, int playerId, int kills, int deaths) {
+        int[] delta = deltas.get(playerId);
+        if (delta == null) {
+            delta = new int[2];
+            deltas.put(playerId, delta);
+        }
+        delta[0] += kills;
+        delta[1] += deaths;
+    }
+}
@@ -11,6 +11,8 @@ import br.com.primeleague.api.dto.ClanRankingInfoDTO;
 import br.com.primeleague.api.enums.LogActionType;
 import br.com.primeleague.api.enums.ClanRole;
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.cluster.InvalidationEvent;
 import br.com.primeleague.core.managers.DataManager;
 
 import java.sql.Connection;
@@ -19,8 +21,10 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.*;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Implementação MySQL do ClanDAO para o Prime League Clans.
@@ -35,11 +39,68 @@ public class MySqlClanDAO implements ClanDAO {
 
     private final PrimeLeagueCore core;
     private final DataManager dataManager;
+    
+    // Linhas por INSERT multi-linha (lote de KDR e ClanLogWriter)
+    private static final int LOG_INSERT_CHUNK = 200;
+    
+    private static final String LOG_INSERT_PREFIX =
+        "INSERT INTO clan_logs (clan_id, actor_player_id, actor_name, action_type, target_player_id, target_name, details, timestamp) VALUES ";
+    
+    // Lotes de KDR já aplicados (a chave entra na mesma transação dos deltas)
+    private static final String CREATE_KDR_BATCHES_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS clan_kdr_batches (" +
+        "batch_key CHAR(36) NOT NULL PRIMARY KEY," +
+        "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP," +
+        "KEY idx_clan_kdr_batches_applied (applied_at)" +
+        ")";
+    private volatile boolean kdrBatchTableReady;
+    
+    // Gravação em lote do logAction (null até startLogWriter: grava na hora)
+    private volatile ClanLogWriter logWriter;
+    
+    // Escritas confirmadas por este servidor (o ClanManager descarta recargas que cruzaram uma escrita local)
+    private final AtomicLong writeSequence = new AtomicLong();
 
     public MySqlClanDAO(PrimeLeagueCore core) {
         this.core = core;
         this.dataManager = core.getDataManager();
     }
+    
+    /**
+     * Passa o logAction a enfileirar os eventos em vez de gravar um por vez.
+     */
+    public void startLogWriter(int queueCapacity, int batchSize, long flushIntervalMs) {
+        ClanLogWriter writer = new ClanLogWriter(this, core.getDbExecutor(), core.getLogger(), core.getMetricsRegistry(),
+            queueCapacity, batchSize, flushIntervalMs);
+        writer.start();
+        this.logWriter = writer;
+    }
+    
+    /**
+     * Grava os eventos pendentes e volta à gravação direta (onDisable).
+     */
+    public void shutdownLogWriter() {
+        ClanLogWriter writer = this.logWriter;
+        if (writer != null) {
+            this.logWriter = null;
+            writer.shutdown();
+        }
+    }
+    
+    /**
+     * Número de escritas confirmadas por este servidor desde o início.
+     */
+    public long getWriteSequence() {
+        return writeSequence.get();
+    }
+    
+    /**
+     * Registra uma escrita confirmada e avisa os outros servidores pelo barramento de invalidação.
+     */
+    private void markChanged(int clanId) {
+        writeSequence.incrementAndGet();
+        core.getInvalidationBus().publish(InvalidationEvent.Type.CLAN_CHANGED, clanId);
+    }
 
     @Override
     public Map<Integer, ClanDTO> loadAllClans() {
@@ -233,6 +294,7 @@ public class MySqlClanDAO implements ClanDAO {
             }
             
             conn.commit(); // Confirmar todas as operações
+            markChanged(clanDTO.getId());
             core.getLogger().info("Clã criado com sucesso: " + clanDTO.getTag() + " (" + clanDTO.getName() + ")");
             return clanDTO;
             
@@ -265,11 +327,11 @@ public class MySqlClanDAO implements ClanDAO {
      * @param callback Callback para receber o resultado
      */
     public void createClanAsync(ClanDTO clanDTO, java.util.function.Consumer<ClanDTO> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "clan.createClan", () -> {
             ClanDTO result = createClan(clanDTO);
             
             // Retornar para a thread principal
-            core.getServer().getScheduler().runTask(core, () -> {
+            core.getMainThreadDispatcher().dispatch(core, () -> {
                 callback.accept(result);
             });
         });
@@ -283,6 +345,7 @@ public class MySqlClanDAO implements ClanDAO {
             stmt.setInt(1, clanDTO.getId());
             
             int affectedRows = stmt.executeUpdate();
+            markChanged(clanDTO.getId());
             core.getLogger().info("Clã deletado do banco: " + clanDTO.getTag() + " (linhas afetadas: " + affectedRows + ")");
             
         } catch (SQLException e) {
@@ -314,9 +377,7 @@ public class MySqlClanDAO implements ClanDAO {
                  "VALUES (?, ?, ?, ?, ?) " +
                  "ON DUPLICATE KEY UPDATE " +
                  "clan_id = VALUES(clan_id), " +
-                 "role = VALUES(role), " +
-                 "kills = VALUES(kills), " +
-                 "deaths = VALUES(deaths)")) {
+                 "role = VALUES(role)")) {
             
             stmt.setInt(1, clanPlayerDTO.getPlayerId());
             stmt.setInt(2, clanPlayerDTO.getClanId());
@@ -325,6 +386,7 @@ public class MySqlClanDAO implements ClanDAO {
             stmt.setInt(5, clanPlayerDTO.getDeaths());
             
             int affectedRows = stmt.executeUpdate();
+            markChanged(clanPlayerDTO.getClanId());
             core.getLogger().info("Jogador de clã salvo no banco: " + clanPlayerDTO.getPlayerName());
             
         } catch (SQLException e) {
@@ -339,7 +401,7 @@ public class MySqlClanDAO implements ClanDAO {
      * @param callback Callback para receber o resultado
      */
     public void saveOrUpdateClanPlayerAsync(ClanPlayerDTO clanPlayerDTO, java.util.function.Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "clan.saveOrUpdateClanPlayer", () -> {
             try {
                 // Verificar se o jogador existe na tabela player_data
                 try (Connection conn = dataManager.getConnection();
@@ -350,7 +412,7 @@ public class MySqlClanDAO implements ClanDAO {
                         if (!rs.next()) {
                             core.getLogger().severe("ERRO: Jogador NÃO encontrado em player_data: " + clanPlayerDTO.getPlayerId());
                             // Retornar para a thread principal
-                            core.getServer().getScheduler().runTask(core, () -> {
+                            core.getMainThreadDispatcher().dispatch(core, () -> {
                                 callback.accept(false);
                             });
                             return;
@@ -365,9 +427,7 @@ public class MySqlClanDAO implements ClanDAO {
                          "VALUES (?, ?, ?, ?, ?) " +
                          "ON DUPLICATE KEY UPDATE " +
                          "clan_id = VALUES(clan_id), " +
-                         "role = VALUES(role), " +
-                         "kills = VALUES(kills), " +
-                         "deaths = VALUES(deaths)")) {
+                         "role = VALUES(role)")) {
                     
                     stmt.setInt(1, clanPlayerDTO.getPlayerId());
                     stmt.setInt(2, clanPlayerDTO.getClanId());
@@ -376,17 +436,18 @@ public class MySqlClanDAO implements ClanDAO {
                     stmt.setInt(5, clanPlayerDTO.getDeaths());
                     
                     int affectedRows = stmt.executeUpdate();
+                    markChanged(clanPlayerDTO.getClanId());
                     core.getLogger().info("Jogador de clã salvo no banco: " + clanPlayerDTO.getPlayerName());
                     
                     // Retornar para a thread principal
-                    core.getServer().getScheduler().runTask(core, () -> {
+                    core.getMainThreadDispatcher().dispatch(core, () -> {
                         callback.accept(true);
                     });
                     
                 } catch (SQLException e) {
                     core.getLogger().severe("Erro ao salvar jogador de clã: " + e.getMessage());
                     // Retornar para a thread principal
-                    core.getServer().getScheduler().runTask(core, () -> {
+                    core.getMainThreadDispatcher().dispatch(core, () -> {
                         callback.accept(false);
                     });
                 }
@@ -394,7 +455,7 @@ public class MySqlClanDAO implements ClanDAO {
             } catch (SQLException e) {
                 core.getLogger().severe("Erro ao verificar jogador em player_data: " + e.getMessage());
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(false);
                 });
             }
@@ -413,6 +474,7 @@ public class MySqlClanDAO implements ClanDAO {
             stmt.setInt(4, clanDTO.getId());
             
             stmt.executeUpdate();
+            markChanged(clanDTO.getId());
             core.getLogger().info("Configurações do clã atualizadas: " + clanDTO.getTag());
             
         } catch (SQLException e) {
@@ -458,6 +520,7 @@ public class MySqlClanDAO implements ClanDAO {
             stmt.setInt(3, relationDTO.getStatus());
             
             stmt.executeUpdate();
+            markChanged(relationDTO.getClanId1());
             core.getLogger().info("Relação de clã salva no banco: " + relationDTO.getClanId1() + " <-> " + relationDTO.getClanId2());
             
         } catch (SQLException e) {
@@ -475,6 +538,7 @@ public class MySqlClanDAO implements ClanDAO {
             stmt.setInt(2, relationDTO.getClanId2());
             
             stmt.executeUpdate();
+            markChanged(relationDTO.getClanId1());
             core.getLogger().info("Relação de clã removida do banco: " + relationDTO.getClanId1() + " <-> " + relationDTO.getClanId2());
             
         } catch (SQLException e) {
@@ -489,12 +553,12 @@ public class MySqlClanDAO implements ClanDAO {
      * @param callback Callback para receber o resultado
      */
     public void saveClanRelationAsync(ClanRelationDTO relationDTO, java.util.function.Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "clan.saveClanRelation", () -> {
             try {
                 saveClanRelation(relationDTO);
                 
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(true);
                 });
                 
@@ -502,7 +566,7 @@ public class MySqlClanDAO implements ClanDAO {
                 core.getLogger().severe("Erro ao salvar relação de clã de forma assíncrona: " + e.getMessage());
                 
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(false);
                 });
             }
@@ -516,12 +580,12 @@ public class MySqlClanDAO implements ClanDAO {
      * @param callback Callback para receber o resultado
      */
     public void deleteClanRelationAsync(ClanRelationDTO relationDTO, java.util.function.Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "clan.deleteClanRelation", () -> {
             try {
                 deleteClanRelation(relationDTO);
                 
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(true);
                 });
                 
@@ -529,7 +593,7 @@ public class MySqlClanDAO implements ClanDAO {
                 core.getLogger().severe("Erro ao deletar relação de clã de forma assíncrona: " + e.getMessage());
                 
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(false);
                 });
             }
@@ -587,6 +651,7 @@ public class MySqlClanDAO implements ClanDAO {
             }
             
             conn.commit(); // Confirmar todas as operações
+            markChanged(clanDTO.getId());
             core.getLogger().info("Fundador do clã alterado: " + clanDTO.getTag());
             return true;
             
@@ -622,11 +687,11 @@ public class MySqlClanDAO implements ClanDAO {
      * @param callback Callback para receber o resultado
      */
     public void setFounderAsync(ClanDTO clanDTO, int newFounderPlayerId, String newFounderName, int oldFounderPlayerId, java.util.function.Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "clan.setFounder", () -> {
             boolean result = setFounder(clanDTO, newFounderPlayerId, newFounderName, oldFounderPlayerId);
             
             // Retornar para a thread principal
-            core.getServer().getScheduler().runTask(core, () -> {
+            core.getMainThreadDispatcher().dispatch(core, () -> {
                 callback.accept(result);
             });
         });
@@ -634,25 +699,73 @@ public class MySqlClanDAO implements ClanDAO {
     
     @Override
     public void logAction(int clanId, int actorPlayerId, String actorName, LogActionType actionType, int targetPlayerId, String targetName, String details) {
-        try (Connection conn = dataManager.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                 "INSERT INTO clan_logs (clan_id, actor_player_id, actor_name, action_type, target_player_id, target_name, details, timestamp) " +
-                 "VALUES (?, ?, ?, ?, ?, ?, ?, NOW())")) {
-            
-            stmt.setInt(1, clanId);
-            stmt.setInt(2, actorPlayerId);
-            stmt.setString(3, actorName);
-            stmt.setInt(4, actionType.getId());
-            stmt.setInt(5, targetPlayerId);
-            stmt.setString(6, targetName);
-            stmt.setString(7, details);
-            
-            stmt.executeUpdate();
-            
+        ClanLogDTO log = new ClanLogDTO(clanId, actorPlayerId, actorName, actionType, targetPlayerId, targetName, details);
+        log.setTimestamp(System.currentTimeMillis());
+        
+        ClanLogWriter writer = this.logWriter;
+        if (writer != null) {
+            writer.submit(log);
+            return;
+        }
+        try {
+            insertLogBatch(Collections.singletonList(log));
         } catch (SQLException e) {
             core.getLogger().severe("Erro ao registrar log de ação do clã: " + e.getMessage());
         }
     }
+    
+    /**
+     * Grava logs de clã em uma transação (INSERT multi-linha em blocos).
+     * O timestamp de cada linha é o do momento da ação, não o da gravação.
+     */
+    void insertLogBatch(List<ClanLogDTO> logs) throws SQLException {
+        if (logs.isEmpty()) {
+            return;
+        }
+        try (Connection conn = dataManager.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                insertLogRows(conn, logs);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+    
+    /**
+     * INSERT multi-linha em blocos (um round-trip por bloco em vez de um por linha).
+     */
+    private void insertLogRows(Connection conn, List<ClanLogDTO> logs) throws SQLException {
+        for (int from = 0; from < logs.size(); from += LOG_INSERT_CHUNK) {
+            List<ClanLogDTO> chunk = logs.subList(from, Math.min(logs.size(), from + LOG_INSERT_CHUNK));
+            StringBuilder sql = new StringBuilder(LOG_INSERT_PREFIX);
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?, ?, ?)");
+            }
+            try (PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+                int index = 1;
+                for (ClanLogDTO log : chunk) {
+                    stmt.setInt(index++, log.getClanId());
+                    stmt.setInt(index++, log.getActorPlayerId());
+                    stmt.setString(index++, log.getActorName());
+                    stmt.setInt(index++, log.getActionType().getId());
+                    if (log.getTargetPlayerId() > 0) {
+                        stmt.setInt(index++, log.getTargetPlayerId());
+                    } else {
+                        stmt.setNull(index++, Types.INTEGER); // Ação sem alvo (coluna anulável com FK)
+                    }
+                    stmt.setString(index++, log.getTargetName());
+                    stmt.setString(index++, log.getDetails());
+                    stmt.setTimestamp(index++, new Timestamp(log.getTimestamp()));
+                }
+                stmt.executeUpdate();
+            }
+        }
+    }
 
     /**
      * Registra uma ação de clã de forma ASSÍNCRONA.
@@ -667,12 +780,12 @@ public class MySqlClanDAO implements ClanDAO {
      * @param callback Callback para receber o resultado
      */
     public void logActionAsync(int clanId, int actorPlayerId, String actorName, LogActionType actionType, int targetPlayerId, String targetName, String details, java.util.function.Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "clan.logAction", () -> {
             try {
                 logAction(clanId, actorPlayerId, actorName, actionType, targetPlayerId, targetName, details);
                 
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(true);
                 });
                 
@@ -680,7 +793,7 @@ public class MySqlClanDAO implements ClanDAO {
                 core.getLogger().severe("Erro ao logar ação de clã de forma assíncrona: " + e.getMessage());
                 
                 // Retornar para a thread principal
-                core.getServer().getScheduler().runTask(core, () -> {
+                core.getMainThreadDispatcher().dispatch(core, () -> {
                     callback.accept(false);
                 });
             }
@@ -690,7 +803,7 @@ public class MySqlClanDAO implements ClanDAO {
     public List<ClanLogDTO> getClanLogs(int clanId, int limit) {
         List<ClanLogDTO> logs = new ArrayList<>();
         
-        String sql = "SELECT * FROM clan_logs WHERE clan_id = ? ORDER BY timestamp DESC LIMIT ?";
+        String sql = "SELECT * FROM clan_logs WHERE clan_id = ? ORDER BY timestamp DESC, id DESC LIMIT ?";
         
         try (Connection conn = dataManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -806,6 +919,7 @@ public class MySqlClanDAO implements ClanDAO {
             
             // Commit da transação
             conn.commit();
+            markChanged(clanId);
             return true;
             
         } catch (SQLException e) {
@@ -880,6 +994,7 @@ public class MySqlClanDAO implements ClanDAO {
             
             // Commit da transação
             conn.commit();
+            markChanged(clanId);
             return true;
             
         } catch (SQLException e) {
@@ -955,6 +1070,7 @@ public class MySqlClanDAO implements ClanDAO {
             }
             
             conn.commit(); // Confirmar todas as operações
+            markChanged(clanId);
             return true;
             
         } catch (SQLException e) {
@@ -979,6 +1095,126 @@ public class MySqlClanDAO implements ClanDAO {
         }
     }
     
+    /**
+     * Cria a tabela de lotes de KDR aplicados, se ainda não existir.
+     *
+     * @return false se o banco recusou (o próximo applyKdrBatches tenta de novo)
+     */
+    public boolean createKdrBatchTable() {
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(CREATE_KDR_BATCHES_TABLE_SQL)) {
+            stmt.execute();
+            kdrBatchTableReady = true;
+            return true;
+        } catch (SQLException e) {
+            core.getLogger().severe("Erro ao criar a tabela clan_kdr_batches: " + e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Remove os registros de lotes de KDR aplicados há mais de {@code days} dias.
+     */
+    public void purgeKdrBatches(int days) {
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                 "DELETE FROM clan_kdr_batches WHERE applied_at < DATE_SUB(NOW(), INTERVAL ? DAY)")) {
+            stmt.setInt(1, days);
+            stmt.executeUpdate();
+        } catch (SQLException e) {
+            core.getLogger().warning("Erro ao limpar clan_kdr_batches: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Aplica em uma transação os lotes de KDR acumulados e os logs KDR_UPDATE correspondentes.
+     * Deltas relativos (kills = kills + ?) em um único batch: não sobrescrevem valores
+     * gravados por outro servidor. A chave de cada lote é registrada em clan_kdr_batches
+     * na mesma transação; lotes cuja chave já existe foram aplicados antes e são ignorados.
+     *
+     * @param batches Lotes do journal (logs com timestamp = momento da morte)
+     * @return true se tudo foi confirmado
+     */
+    public boolean applyKdrBatches(List<KdrBatch> batches) {
+        if (batches.isEmpty()) {
+            return true;
+        }
+        if (!kdrBatchTableReady && !createKdrBatchTable()) {
+            return false;
+        }
+        Map<Integer, int[]> deltas = new HashMap<>();
+        List<ClanLogDTO> logs = new ArrayList<>();
+        int skipped = 0;
+        Connection conn = null;
+        try {
+            conn = dataManager.getConnection();
+            conn.setAutoCommit(false);
+            
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "INSERT IGNORE INTO clan_kdr_batches (batch_key) VALUES (?)")) {
+                for (KdrBatch batch : batches) {
+                    if (batch.getKey() != null) {
+                        stmt.setString(1, batch.getKey());
+                        if (stmt.executeUpdate() == 0) {
+                            skipped++;
+                            continue;
+                        }
+                    }
+                    for (Map.Entry<Integer, int[]> entry : batch.getDeltas().entrySet()) {
+                        KdrBatch.addDelta(deltas, entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+                    }
+                    logs.addAll(batch.getLogs());
+                }
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement(
+                    "UPDATE clan_players SET kills = kills + ?, deaths = deaths + ? WHERE player_id = ?")) {
+                for (Map.Entry<Integer, int[]> entry : deltas.entrySet()) {
+                    stmt.setInt(1, entry.getValue()[0]);
+                    stmt.setInt(2, entry.getValue()[1]);
+                    stmt.setInt(3, entry.getKey());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+            }
+            
+            insertLogRows(conn, logs);
+            
+            conn.commit();
+            if (skipped > 0) {
+                core.getLogger().warning("⚠️ [KDR] " + skipped + " lote(s) do journal já estavam aplicados e foram ignorados");
+            }
+            Set<Integer> clanIds = new HashSet<>();
+            for (ClanLogDTO log : logs) {
+                clanIds.add(log.getClanId());
+            }
+            for (int clanId : clanIds) {
+                markChanged(clanId);
+            }
+            return true;
+            
+        } catch (SQLException e) {
+            try {
+                if (conn != null) {
+                    conn.rollback();
+                }
+            } catch (SQLException rollbackEx) {
+                core.getLogger().severe("Erro ao fazer rollback do lote de KDR: " + rollbackEx.getMessage());
+            }
+            core.getLogger().severe("Erro ao gravar lote de KDR (" + batches.size() + " lotes): " + e.getMessage());
+            return false;
+        } finally {
+            try {
+                if (conn != null) {
+                    conn.setAutoCommit(true);
+                    conn.close();
+                }
+            } catch (SQLException e) {
+                core.getLogger().severe("Erro ao fechar conexão: " + e.getMessage());
+            }
+        }
+    }
+    
     @Override
     public List<InactiveMemberInfo> findInactiveMembers(int inactiveDays, int limit) {
         List<InactiveMemberInfo> inactiveMembers = new ArrayList<>();
@@ -1066,6 +1302,7 @@ public class MySqlClanDAO implements ClanDAO {
             }
             
             conn.commit(); // Confirmar todas as operações
+            markChanged(clanId);
             core.getLogger().info("Membro inativo removido do clã: player_id=" + playerId + ", clan_id=" + clanId);
             return true;
             
@@ -1197,9 +1434,53 @@ public class MySqlClanDAO implements ClanDAO {
     
     @Override
     public Map<Integer, Map<String, Integer>> getEventWinsForClans(List<Integer> clanIds) {
-        // Implementação para estatísticas de eventos (se necessário)
-        // Por enquanto, retorna mapa vazio
-        return new HashMap<>();
+        Map<Integer, Map<String, Integer>> result = new HashMap<>();
+        Map<Integer, ClanRankingInfoDTO> summaries = loadEventWinSummaries();
+        for (Integer clanId : clanIds) {
+            ClanRankingInfoDTO summary = summaries.get(clanId);
+            if (summary != null) {
+                result.put(clanId, summary.getWins());
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Vitórias em eventos de todos os clãs, para a carga do ranking em memória.
+     *
+     * @return clan_id -> DTO só com wins, totalWins e lastWinDate preenchidos
+     */
+    public Map<Integer, ClanRankingInfoDTO> loadEventWinSummaries() {
+        Map<Integer, ClanRankingInfoDTO> summaries = new HashMap<>();
+        String sql = "SELECT clan_id, event_name, COUNT(*) AS wins, MAX(win_date) AS last_win " +
+                     "FROM clan_event_wins GROUP BY clan_id, event_name";
+        
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            while (rs.next()) {
+                int clanId = rs.getInt("clan_id");
+                ClanRankingInfoDTO summary = summaries.get(clanId);
+                if (summary == null) {
+                    summary = new ClanRankingInfoDTO();
+                    summary.setWins(new LinkedHashMap<String, Integer>());
+                    summaries.put(clanId, summary);
+                }
+                int wins = rs.getInt("wins");
+                summary.getWins().put(rs.getString("event_name"), wins);
+                summary.setTotalWins(summary.getTotalWins() + wins);
+                Timestamp lastWin = rs.getTimestamp("last_win");
+                if (lastWin != null && (summary.getLastWinDate() == null || lastWin.after(summary.getLastWinDate()))) {
+                    summary.setLastWinDate(new Date(lastWin.getTime()));
+                }
+            }
+            
+        } catch (SQLException e) {
+            core.getLogger().severe("Erro ao carregar vitórias em eventos dos clãs: " + e.getMessage());
+        }
+        
+        return summaries;
     }
     
     @Override
@@ -1233,6 +1514,7 @@ public class MySqlClanDAO implements ClanDAO {
             }
             
             conn.commit();
+            markChanged(clanId);
             return true;
             
         } catch (SQLException e) {
@@ -1277,34 +1559,51 @@ public class MySqlClanDAO implements ClanDAO {
         }
     }
     
+    /**
+     * Página de logs do clã (mais recentes primeiro).
+     * Sem OFFSET sobre as linhas: o início da página é localizado só no índice
+     * (clan_id, timestamp, id) e a página é lida por cursor.
+     */
     @Override
     public List<ClanLogDTO> getClanLogs(int clanId, int page, int pageSize) {
+        if (page <= 1) {
+            return getClanLogsBefore(clanId, 0L, 0, pageSize);
+        }
+        long[] cursor = seekClanLogs(clanId, 0L, 0, (page - 1) * pageSize);
+        if (cursor == null) {
+            return new ArrayList<>();
+        }
+        return getClanLogsBefore(clanId, cursor[0], (int) cursor[1], pageSize);
+    }
+    
+    /**
+     * Logs do clã anteriores ao cursor (timestamp, id), mais recentes primeiro.
+     *
+     * @param beforeId ID do último log já exibido (0 = começar do mais recente)
+     */
+    public List<ClanLogDTO> getClanLogsBefore(int clanId, long beforeTimestamp, int beforeId, int limit) {
         List<ClanLogDTO> logs = new ArrayList<>();
-        int offset = (page - 1) * pageSize;
-        
-        String sql = "SELECT * FROM clan_logs WHERE clan_id = ? ORDER BY timestamp DESC LIMIT ? OFFSET ?";
+        String sql = beforeId > 0
+            ? "SELECT * FROM clan_logs WHERE clan_id = ? AND (timestamp < ? OR (timestamp = ? AND id < ?)) " +
+              "ORDER BY timestamp DESC, id DESC LIMIT ?"
+            : "SELECT * FROM clan_logs WHERE clan_id = ? ORDER BY timestamp DESC, id DESC LIMIT ?";
         
         try (Connection conn = dataManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setInt(1, clanId);
-            stmt.setInt(2, pageSize);
-            stmt.setInt(3, offset);
+            int index = 1;
+            stmt.setInt(index++, clanId);
+            if (beforeId > 0) {
+                Timestamp before = new Timestamp(beforeTimestamp);
+                stmt.setTimestamp(index++, before);
+                stmt.setTimestamp(index++, before);
+                stmt.setInt(index++, beforeId);
+            }
+            stmt.setInt(index, limit);
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    ClanLogDTO log = new ClanLogDTO(
-                        rs.getInt("clan_id"),
-                        rs.getInt("actor_player_id"),
-                        rs.getString("actor_name"),
-                        LogActionType.fromId(rs.getInt("action_type")),
-                        rs.getInt("target_player_id"),
-                        rs.getString("target_name"),
-                        rs.getString("details")
-                    );
-                    log.setId(rs.getInt("id"));
-                    log.setTimestamp(rs.getTimestamp("timestamp").getTime());
-                    logs.add(log);
+                    logs.add(mapLog(rs));
                 }
             }
             
@@ -1315,4 +1614,149 @@ public class MySqlClanDAO implements ClanDAO {
         return logs;
     }
     
+    /**
+     * Pula {@code skip} logs a partir do cursor lendo só o índice (clan_id, timestamp, id).
+     *
+     * @return {timestamp, id} do último log pulado, ou null se não houver tantos
+     */
+    public long[] seekClanLogs(int clanId, long beforeTimestamp, int beforeId, int skip) {
+        if (skip <= 0) {
+            return beforeId > 0 ? new long[] { beforeTimestamp, beforeId } : null;
+        }
+        String sql = beforeId > 0
+            ? "SELECT timestamp, id FROM clan_logs WHERE clan_id = ? AND (timestamp < ? OR (timestamp = ? AND id < ?)) " +
+              "ORDER BY timestamp DESC, id DESC LIMIT 1 OFFSET ?"
+            : "SELECT timestamp, id FROM clan_logs WHERE clan_id = ? ORDER BY timestamp DESC, id DESC LIMIT 1 OFFSET ?";
+        
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            stmt.setInt(index++, clanId);
+            if (beforeId > 0) {
+                Timestamp before = new Timestamp(beforeTimestamp);
+                stmt.setTimestamp(index++, before);
+                stmt.setTimestamp(index++, before);
+                stmt.setInt(index++, beforeId);
+            }
+            stmt.setInt(index, skip - 1);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return new long[] { rs.getTimestamp("timestamp").getTime(), rs.getInt("id") };
+                }
+            }
+            
+        } catch (SQLException e) {
+            core.getLogger().severe("Erro ao posicionar cursor de logs do clã: " + e.getMessage());
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Logs do clã posteriores ao cursor (timestamp, id), em ordem cronológica (replay).
+     *
+     * @param afterId ID do último log processado (0 = desde o início)
+     */
+    public List<ClanLogDTO> getClanLogsAfter(int clanId, long afterTimestamp, int afterId, int limit) {
+        List<ClanLogDTO> logs = new ArrayList<>();
+        String sql = afterId > 0
+            ? "SELECT * FROM clan_logs WHERE clan_id = ? AND (timestamp > ? OR (timestamp = ? AND id > ?)) " +
+              "ORDER BY timestamp ASC, id ASC LIMIT ?"
+            : "SELECT * FROM clan_logs WHERE clan_id = ? ORDER BY timestamp ASC, id ASC LIMIT ?";
+        
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            int index = 1;
+            stmt.setInt(index++, clanId);
+            if (afterId > 0) {
+                Timestamp after = new Timestamp(afterTimestamp);
+                stmt.setTimestamp(index++, after);
+                stmt.setTimestamp(index++, after);
+                stmt.setInt(index++, afterId);
+            }
+            stmt.setInt(index, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    logs.add(mapLog(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            core.getLogger().severe("Erro ao buscar logs do clã para replay: " + e.getMessage());
+        }
+        
+        return logs;
+    }
+    
+    /**
+     * Logs de todos os clãs anteriores ao corte, em ordem de ID (arquivamento).
+     *
+     * @param afterId Último ID já lido nesta passada
+     */
+    public List<ClanLogDTO> getLogsOlderThan(long cutoffTimestamp, int afterId, int limit) throws SQLException {
+        List<ClanLogDTO> logs = new ArrayList<>();
+        String sql = "SELECT * FROM clan_logs WHERE timestamp < ? AND id > ? ORDER BY id ASC LIMIT ?";
+        
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setTimestamp(1, new Timestamp(cutoffTimestamp));
+            stmt.setInt(2, afterId);
+            stmt.setInt(3, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    logs.add(mapLog(rs));
+                }
+            }
+        }
+        
+        return logs;
+    }
+    
+    /**
+     * Remove logs já arquivados.
+     *
+     * @return Linhas removidas
+     */
+    public int deleteLogs(List<ClanLogDTO> logs) throws SQLException {
+        if (logs.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("DELETE FROM clan_logs WHERE id IN (");
+        for (int i = 0; i < logs.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        
+        try (Connection conn = dataManager.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            
+            int index = 1;
+            for (ClanLogDTO log : logs) {
+                stmt.setInt(index++, log.getId());
+            }
+            return stmt.executeUpdate();
+        }
+    }
+    
+    private static ClanLogDTO mapLog(ResultSet rs) throws SQLException {
+        ClanLogDTO log = new ClanLogDTO(
+            rs.getInt("clan_id"),
+            rs.getInt("actor_player_id"),
+            rs.getString("actor_name"),
+            LogActionType.fromId(rs.getInt("action_type")),
+            rs.getInt("target_player_id"),
+            rs.getString("target_name"),
+            rs.getString("details")
+        );
+        log.setId(rs.getInt("id"));
+        log.setTimestamp(rs.getTimestamp("timestamp").getTime());
+        return log;
+    }
+    
 }
@@ -66,6 +66,7 @@ public class PlayerConnectionListener implements Listener {
         int playerId = br.com.primeleague.core.api.PrimeLeagueAPI.getIdentityManager().getPlayerId(player);
         if (playerId != -1) {
             clanManager.setPlayerOffline(playerId);
+            clanManager.getEventLog().forgetViewer(playerId);
         } else {
             // Fallback para UUID se player_id não estiver disponível
             UUID playerUUID = java.util.UUID.nameUUIDFromBytes(("OfflinePlayer:" + player.getName()).getBytes(java.nio.charset.StandardCharsets.UTF_8));
@@ -78,5 +79,8 @@ public class PlayerConnectionListener implements Listener {
             // Notifica o clã sobre o jogador que saiu
             clanManager.notifyClanMembers(clan, message);
         }
+        
+        // Gravar as kills/mortes pendentes de quem saiu sem esperar o próximo ciclo
+        clanManager.getKdrAccumulator().requestFlush();
     }
 }
@@ -47,17 +47,7 @@ public class PlayerStatsListener implements Listener {
             return;
         }
 
-        try {
-            // Atualizar KDR de forma transacional (killer + vítima + log em uma operação)
-            boolean success = clanManager.updateKDRTransactionally(killerClanPlayer, victimClanPlayer);
-            
-            if (!success) {
-                plugin.getLogger().warning("Falha ao atualizar KDR transacionalmente para " + killer.getName() + " vs " + victim.getName());
-            }
-
-        } catch (Exception e) {
-            plugin.getLogger().severe("Erro ao atualizar estatísticas de KDR: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // Acumula em memória; o banco recebe os deltas em lote fora da thread principal
+        clanManager.recordKill(killerClanPlayer, victimClanPlayer);
     }
 }
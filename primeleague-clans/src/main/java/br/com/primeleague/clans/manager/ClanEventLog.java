@@ -0,0 +1,480 @@
+package br.com.primeleague.clans.manager;
+
+import br.com.primeleague.api.dto.ClanLogDTO;
+import br.com.primeleague.api.enums.LogActionType;
+import br.com.primeleague.clans.dao.MySqlClanDAO;
+import br.com.primeleague.clans.model.ClanAuditState;
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.database.DbExecutor;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Leitura do histórico de clãs (clan_logs): paginação por cursor, arquivamento
+ * de linhas antigas e replay para auditoria.
+ *
+ * Paginação: cada página é lida a partir do cursor (timestamp, id) do fim da
+ * página anterior. Os cursores das páginas já vistas ficam por jogador, então
+ * "próxima página" nunca relê as anteriores; um salto para uma página nova
+ * parte do cursor conhecido mais próximo e pula o resto só no índice.
+ *
+ * Arquivamento (opcional): linhas mais antigas que a retenção são anexadas a
+ * arquivos gzip mensais (log-archive/clan_logs-AAAA-MM.tsv.gz, um membro gzip
+ * por passada) e só então apagadas do banco. Uma queda entre o append e o
+ * DELETE duplica linhas no arquivo; o replay descarta IDs repetidos.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class ClanEventLog {
+
+    private static final int MAX_SESSIONS = 256;
+    private static final int MAX_CURSORS_PER_SESSION = 64;
+    private static final int REPLAY_PAGE_SIZE = 500;
+    private static final String ARCHIVE_PREFIX = "clan_logs-";
+    private static final String ARCHIVE_SUFFIX = ".tsv.gz";
+
+    /**
+     * Página do histórico.
+     */
+    public static final class Page {
+        private final List<ClanLogDTO> logs;
+        private final int number;
+        private final boolean hasMore;
+
+        Page(List<ClanLogDTO> logs, int number, boolean hasMore) {
+            this.logs = logs;
+            this.number = number;
+            this.hasMore = hasMore;
+        }
+
+        public List<ClanLogDTO> getLogs() {
+            return logs;
+        }
+
+        public int getNumber() {
+            return number;
+        }
+
+        public boolean hasMore() {
+            return hasMore;
+        }
+    }
+
+    /**
+     * Cursores das páginas já vistas por um jogador (página -> {timestamp, id} da última linha).
+     */
+    private static final class Session {
+        final int clanId;
+        final int pageSize;
+        final TreeMap<Integer, long[]> pageEnds = new TreeMap<>();
+
+        Session(int clanId, int pageSize) {
+            this.clanId = clanId;
+            this.pageSize = pageSize;
+        }
+    }
+
+    private final Plugin plugin;
+    private final MySqlClanDAO clanDAO;
+    private final Logger logger;
+    private final File archiveDirectory;
+
+    private final Map<Integer, Session> sessions = new LinkedHashMap<Integer, Session>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Session> eldest) {
+            return size() > MAX_SESSIONS;
+        }
+    };
+
+    // Serializa append e leitura dos arquivos (um membro gzip pela metade não é legível)
+    private final Object archiveLock = new Object();
+    private final AtomicBoolean archiveQueued = new AtomicBoolean(false);
+    private int archiveTaskId = -1;
+    private long retentionMs;
+    private int archiveBatchSize;
+
+    public ClanEventLog(Plugin plugin, MySqlClanDAO clanDAO) {
+        this.plugin = plugin;
+        this.clanDAO = clanDAO;
+        this.logger = plugin.getLogger();
+        this.archiveDirectory = new File(plugin.getDataFolder(), "log-archive");
+    }
+
+    // ===== PAGINAÇÃO =====
+
+    /**
+     * Busca uma página do histórico do clã (bloqueante, fora da thread principal).
+     *
+     * @param viewerId player_id de quem está vendo (dono dos cursores)
+     * @param page Página (começa em 1; a página 1 reinicia os cursores)
+     */
+    public Page getClanPage(int viewerId, int clanId, int page, int pageSize) {
+        int number = Math.max(1, page);
+        long[] start;
+        int skip;
+        synchronized (sessions) {
+            Session session = sessions.get(viewerId);
+            if (session == null || number == 1 || session.clanId != clanId || session.pageSize != pageSize) {
+                session = new Session(clanId, pageSize);
+                sessions.put(viewerId, session);
+            }
+            Map.Entry<Integer, long[]> known = session.pageEnds.floorEntry(number - 1);
+            start = known != null ? known.getValue() : null;
+            skip = (number - 1 - (known != null ? known.getKey() : 0)) * pageSize;
+        }
+
+        if (skip > 0) {
+            start = clanDAO.seekClanLogs(clanId, start != null ? start[0] : 0L, start != null ? (int) start[1] : 0, skip);
+            if (start == null) {
+                return new Page(Collections.<ClanLogDTO>emptyList(), number, false);
+            }
+        }
+
+        // Uma linha a mais só para saber se existe próxima página
+        List<ClanLogDTO> logs = clanDAO.getClanLogsBefore(clanId, start != null ? start[0] : 0L,
+            start != null ? (int) start[1] : 0, pageSize + 1);
+        boolean hasMore = logs.size() > pageSize;
+        if (hasMore) {
+            logs = new ArrayList<>(logs.subList(0, pageSize));
+        }
+
+        if (!logs.isEmpty()) {
+            ClanLogDTO last = logs.get(logs.size() - 1);
+            synchronized (sessions) {
+                Session session = sessions.get(viewerId);
+                if (session != null && session.clanId == clanId && session.pageSize == pageSize) {
+                    session.pageEnds.put(number, new long[] { last.getTimestamp(), last.getId() });
+                    if (session.pageEnds.size() > MAX_CURSORS_PER_SESSION) {
+                        session.pageEnds.pollFirstEntry();
+                    }
+                }
+            }
+        }
+        return new Page(logs, number, hasMore);
+    }
+
+    /**
+     * Versão assíncrona de {@link #getClanPage}: consulta no executor de banco,
+     * resultado entregue na thread principal.
+     */
+    public void getClanPageAsync(int viewerId, int clanId, int page, int pageSize, Consumer<Page> callback) {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "clan.logs.page", () -> {
+            Page result = getClanPage(viewerId, clanId, page, pageSize);
+            PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(result));
+        });
+    }
+
+    /**
+     * Descarta os cursores de um jogador (saída do servidor).
+     */
+    public void forgetViewer(int viewerId) {
+        synchronized (sessions) {
+            sessions.remove(viewerId);
+        }
+    }
+
+    // ===== ARQUIVAMENTO =====
+
+    /**
+     * Agenda o arquivamento periódico, se habilitado em clan_logs.archive.
+     */
+    public void startArchiver(ConfigurationSection config) {
+        if (config == null || !config.getBoolean("enabled", false)) {
+            return;
+        }
+        this.retentionMs = TimeUnit.DAYS.toMillis(Math.max(1, config.getInt("retention_days", 90)));
+        this.archiveBatchSize = Math.max(100, config.getInt("batch_size", 1000));
+        long intervalTicks = Math.max(1L, config.getLong("interval_minutes", 360L)) * 60L * 20L;
+        archiveTaskId = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, this::requestArchive, 1200L, intervalTicks);
+        logger.info("✅ [CLAN-LOG] Arquivamento habilitado (retenção: " + config.getInt("retention_days", 90) + " dias)");
+    }
+
+    /**
+     * Cancela o arquivamento periódico (onDisable).
+     */
+    public void stopArchiver() {
+        if (archiveTaskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(archiveTaskId);
+            archiveTaskId = -1;
+        }
+    }
+
+    /**
+     * Agenda uma passada de arquivamento no executor de banco (no máximo uma na fila).
+     */
+    public void requestArchive() {
+        if (!archiveQueued.compareAndSet(false, true)) {
+            return;
+        }
+        boolean accepted = PrimeLeagueAPI.getDbExecutor().tryExecute(DbExecutor.Priority.BACKGROUND, "clan.logs.archive", () -> {
+            try {
+                int archived = archiveOnce(System.currentTimeMillis() - retentionMs);
+                if (archived > 0) {
+                    logger.info("✅ [CLAN-LOG] " + archived + " logs de clã arquivados");
+                }
+            } finally {
+                archiveQueued.set(false);
+            }
+        });
+        if (!accepted) {
+            archiveQueued.set(false);
+        }
+    }
+
+    /**
+     * Move para os arquivos mensais os logs anteriores ao corte (bloqueante).
+     *
+     * @return Linhas arquivadas e removidas do banco
+     */
+    public int archiveOnce(long cutoffTimestamp) {
+        if (!archiveDirectory.exists() && !archiveDirectory.mkdirs()) {
+            logger.severe("🚨 [CLAN-LOG] Não foi possível criar " + archiveDirectory);
+            return 0;
+        }
+        int total = 0;
+        int afterId = 0;
+        try {
+            while (true) {
+                List<ClanLogDTO> rows = clanDAO.getLogsOlderThan(cutoffTimestamp, afterId, archiveBatchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                appendToArchive(rows);
+                total += clanDAO.deleteLogs(rows);
+                afterId = rows.get(rows.size() - 1).getId();
+                if (rows.size() < archiveBatchSize) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("🚨 [CLAN-LOG] Falha ao gravar o arquivo de logs, linhas mantidas no banco: " + e.getMessage());
+        } catch (SQLException e) {
+            logger.severe("🚨 [CLAN-LOG] Erro ao arquivar logs de clã: " + e.getMessage());
+        }
+        return total;
+    }
+
+    /**
+     * Anexa as linhas aos arquivos dos seus meses (um membro gzip por arquivo) e faz fsync.
+     */
+    private void appendToArchive(List<ClanLogDTO> rows) throws IOException {
+        SimpleDateFormat month = new SimpleDateFormat("yyyy-MM");
+        Map<String, List<ClanLogDTO>> byMonth = new TreeMap<>();
+        for (ClanLogDTO row : rows) {
+            String key = month.format(new Date(row.getTimestamp()));
+            List<ClanLogDTO> monthRows = byMonth.get(key);
+            if (monthRows == null) {
+                monthRows = new ArrayList<>();
+                byMonth.put(key, monthRows);
+            }
+            monthRows.add(row);
+        }
+
+        synchronized (archiveLock) {
+            for (Map.Entry<String, List<ClanLogDTO>> entry : byMonth.entrySet()) {
+                File file = new File(archiveDirectory, ARCHIVE_PREFIX + entry.getKey() + ARCHIVE_SUFFIX);
+                try (FileOutputStream out = new FileOutputStream(file, true)) {
+                    GZIPOutputStream gzip = new GZIPOutputStream(out);
+                    Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8);
+                    for (ClanLogDTO row : entry.getValue()) {
+                        writer.write(toLine(row));
+                        writer.write('\n');
+                    }
+                    writer.flush();
+                    gzip.finish();
+                    out.getFD().sync();
+                }
+            }
+        }
+    }
+
+    // ===== REPLAY =====
+
+    /**
+     * Entrega o histórico completo do clã em ordem cronológica: primeiro o
+     * arquivado, depois o que está no banco (bloqueante, fora da thread principal).
+     */
+    public void replay(int clanId, Consumer<ClanLogDTO> consumer) {
+        Set<Integer> seen = new HashSet<>();
+        List<ClanLogDTO> archived = readArchive(clanId, seen);
+        Collections.sort(archived, (a, b) -> a.getTimestamp() != b.getTimestamp()
+            ? Long.compare(a.getTimestamp(), b.getTimestamp())
+            : Integer.compare(a.getId(), b.getId()));
+        for (ClanLogDTO log : archived) {
+            consumer.accept(log);
+        }
+
+        long afterTimestamp = 0L;
+        int afterId = 0;
+        while (true) {
+            List<ClanLogDTO> page = clanDAO.getClanLogsAfter(clanId, afterTimestamp, afterId, REPLAY_PAGE_SIZE);
+            for (ClanLogDTO log : page) {
+                if (!seen.contains(log.getId())) {
+                    consumer.accept(log);
+                }
+            }
+            if (page.size() < REPLAY_PAGE_SIZE) {
+                break;
+            }
+            ClanLogDTO last = page.get(page.size() - 1);
+            afterTimestamp = last.getTimestamp();
+            afterId = last.getId();
+        }
+    }
+
+    /**
+     * Reconstrói o estado do clã a partir do histórico (bloqueante).
+     */
+    public ClanAuditState rebuild(int clanId) {
+        ClanAuditState state = new ClanAuditState(clanId);
+        replay(clanId, state::apply);
+        return state;
+    }
+
+    /**
+     * Versão assíncrona de {@link #rebuild}: replay no executor de banco,
+     * resultado entregue na thread principal.
+     */
+    public void rebuildAsync(int clanId, Consumer<ClanAuditState> callback) {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "clan.logs.replay", () -> {
+            ClanAuditState state = rebuild(clanId);
+            PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(state));
+        });
+    }
+
+    /**
+     * Lê dos arquivos mensais os logs do clã, sem repetir IDs.
+     */
+    private List<ClanLogDTO> readArchive(int clanId, Set<Integer> seen) {
+        List<ClanLogDTO> logs = new ArrayList<>();
+        synchronized (archiveLock) {
+            File[] files = archiveDirectory.listFiles((dir, name) -> name.startsWith(ARCHIVE_PREFIX) && name.endsWith(ARCHIVE_SUFFIX));
+            if (files == null) {
+                return logs;
+            }
+            Arrays.sort(files);
+            String clanPrefix = "\t" + clanId + "\t";
+            for (File file : files) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                        new GZIPInputStream(new FileInputStream(file)), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        int firstTab = line.indexOf('\t');
+                        if (firstTab < 0 || !line.startsWith(clanPrefix, firstTab)) {
+                            continue;
+                        }
+                        ClanLogDTO log = fromLine(line);
+                        if (log != null && seen.add(log.getId())) {
+                            logs.add(log);
+                        }
+                    }
+                } catch (EOFException e) {
+                    logger.warning("⚠️ [CLAN-LOG] " + file.getName() + " termina num membro incompleto; linhas seguintes ignoradas");
+                } catch (IOException e) {
+                    logger.severe("🚨 [CLAN-LOG] Falha ao ler " + file.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+        return logs;
+    }
+
+    // ===== FORMATO DO ARQUIVO =====
+    // id, clan_id, timestamp, action_type, actor_player_id, actor_name, target_player_id, target_name, details
+
+    private static String toLine(ClanLogDTO log) {
+        return log.getId() + "\t" + log.getClanId() + "\t" + log.getTimestamp() + "\t" + log.getActionType().getId()
+            + "\t" + log.getActorPlayerId() + "\t" + escape(log.getActorName())
+            + "\t" + log.getTargetPlayerId() + "\t" + escape(log.getTargetName())
+            + "\t" + escape(log.getDetails());
+    }
+
+    private static ClanLogDTO fromLine(String line) {
+        String[] parts = line.split("\t", -1);
+        if (parts.length != 9) {
+            return null;
+        }
+        try {
+            ClanLogDTO log = new ClanLogDTO();
+            log.setId(Integer.parseInt(parts[0]));
+            log.setClanId(Integer.parseInt(parts[1]));
+            log.setTimestamp(Long.parseLong(parts[2]));
+            log.setActionType(LogActionType.fromId(Integer.parseInt(parts[3])));
+            log.setActorPlayerId(Integer.parseInt(parts[4]));
+            log.setActorName(unescape(parts[5]));
+            log.setTargetPlayerId(Integer.parseInt(parts[6]));
+            log.setTargetName(unescape(parts[7]));
+            log.setDetails(unescape(parts[8]));
+            return log;
+        } catch (IllegalArgumentException e) {
+            return null; // Inclui NumberFormatException e tipo de ação desconhecido
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "\\N";
+        }
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': out.append("\\\\"); break;
+                case '\t': out.append("\\t"); break;
+                case '\n': out.append("\\n"); break;
+                case '\r': out.append("\\r"); break;
+                default: out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static String unescape(String value) {
+        if ("\\N".equals(value)) {
+            return null;
+        }
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                out.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,302 @@
+package br.com.primeleague.clans.manager;
+
+import br.com.primeleague.api.dto.ClanRankingInfoDTO;
+import br.com.primeleague.clans.model.Clan;
+import br.com.primeleague.clans.model.ClanPlayer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranking de clãs mantido em memória.
+ *
+ * Uma árvore de estatística de ordem por critério (pontos, membros, KDR,
+ * kills e vitórias) responde "top N" e "posição do clã X" em O(log n), sem
+ * consulta ao banco. As árvores são montadas no carregamento (e em cada
+ * recarga vinda de outro servidor) e depois atualizadas só para o clã que
+ * mudou: pontos de ranking, vitórias em evento, kills/mortes e membros.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class ClanLeaderboard {
+
+    /**
+     * Critérios do /clan list (a chave é a aceita pelo comando).
+     */
+    public enum Criterion {
+        RANKING_POINTS("ranking_points"),
+        MEMBER_COUNT("member_count"),
+        KDR("kdr"),
+        TOTAL_KILLS("total_kills"),
+        TOTAL_WINS("total_wins");
+
+        private final String key;
+
+        Criterion(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return O critério da chave, ou RANKING_POINTS se desconhecida
+         */
+        public static Criterion fromKey(String key) {
+            for (Criterion criterion : values()) {
+                if (criterion.key.equalsIgnoreCase(key)) {
+                    return criterion;
+                }
+            }
+            return RANKING_POINTS;
+        }
+    }
+
+    /**
+     * Dados de um clã no ranking e as pontuações com que está indexado.
+     */
+    private static final class Entry {
+        final int clanId;
+        String tag;
+        String name;
+        String founderName;
+        int rankingPoints;
+        int memberCount;
+        int kills;
+        int deaths;
+        int totalWins;
+        long lastWinDate;
+        final Map<String, Integer> wins = new LinkedHashMap<>();
+        final double[] scores = new double[Criterion.values().length];
+        boolean indexed;
+
+        Entry(int clanId) {
+            this.clanId = clanId;
+        }
+
+        double kdr() {
+            if (deaths == 0) {
+                return kills > 0 ? kills : 0.0;
+            }
+            return (double) kills / deaths;
+        }
+
+        double score(Criterion criterion) {
+            switch (criterion) {
+                case MEMBER_COUNT:
+                    return memberCount;
+                case KDR:
+                    return kdr();
+                case TOTAL_KILLS:
+                    return kills;
+                case TOTAL_WINS:
+                    return totalWins;
+                default:
+                    return rankingPoints;
+            }
+        }
+    }
+
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final ClanRankTree[] trees = new ClanRankTree[Criterion.values().length];
+
+    public ClanLeaderboard() {
+        for (int i = 0; i < trees.length; i++) {
+            trees[i] = new ClanRankTree();
+        }
+    }
+
+    /**
+     * Monta o ranking do zero a partir dos caches (carga inicial e recargas).
+     *
+     * @param eventWins Vitórias por clã (wins, totalWins e lastWinDate preenchidos)
+     */
+    public synchronized void rebuild(Collection<Clan> clans, Collection<ClanPlayer> players,
+                                     Map<Integer, ClanRankingInfoDTO> eventWins) {
+        entries.clear();
+        for (ClanRankTree tree : trees) {
+            tree.clear();
+        }
+        for (Clan clan : clans) {
+            Entry entry = new Entry(clan.getId());
+            copyClan(entry, clan);
+            ClanRankingInfoDTO wins = eventWins.get(clan.getId());
+            if (wins != null) {
+                if (wins.getWins() != null) {
+                    entry.wins.putAll(wins.getWins());
+                }
+                entry.totalWins = wins.getTotalWins();
+                entry.lastWinDate = wins.getLastWinDate() != null ? wins.getLastWinDate().getTime() : 0L;
+            }
+            entries.put(clan.getId(), entry);
+        }
+        for (ClanPlayer player : players) {
+            Entry entry = player.getClan() != null ? entries.get(player.getClan().getId()) : null;
+            if (entry != null) {
+                entry.memberCount++;
+                entry.kills += player.getKills();
+                entry.deaths += player.getDeaths();
+            }
+        }
+        for (Entry entry : entries.values()) {
+            reindex(entry);
+        }
+    }
+
+    /**
+     * Adiciona o clã ou atualiza tag, nome, fundador e pontos de ranking.
+     */
+    public synchronized void updateClan(Clan clan) {
+        Entry entry = entries.get(clan.getId());
+        if (entry == null) {
+            entry = new Entry(clan.getId());
+            entries.put(clan.getId(), entry);
+        }
+        copyClan(entry, clan);
+        reindex(entry);
+    }
+
+    /**
+     * Remove o clã (dissolução).
+     */
+    public synchronized void removeClan(int clanId) {
+        Entry entry = entries.remove(clanId);
+        if (entry != null && entry.indexed) {
+            for (Criterion criterion : Criterion.values()) {
+                trees[criterion.ordinal()].remove(entry.scores[criterion.ordinal()], clanId);
+            }
+        }
+    }
+
+    /**
+     * Substitui os totais de membros do clã (entrada, saída e expulsão).
+     */
+    public synchronized void setMemberStats(int clanId, int memberCount, int kills, int deaths) {
+        Entry entry = entries.get(clanId);
+        if (entry != null) {
+            entry.memberCount = memberCount;
+            entry.kills = kills;
+            entry.deaths = deaths;
+            reindex(entry);
+        }
+    }
+
+    /**
+     * Soma kills/mortes ao clã.
+     */
+    public synchronized void addKdr(int clanId, int kills, int deaths) {
+        Entry entry = entries.get(clanId);
+        if (entry != null) {
+            entry.kills += kills;
+            entry.deaths += deaths;
+            reindex(entry);
+        }
+    }
+
+    /**
+     * Registra uma vitória em evento.
+     */
+    public synchronized void addWin(int clanId, String eventName, long winDate) {
+        Entry entry = entries.get(clanId);
+        if (entry != null) {
+            Integer count = entry.wins.get(eventName);
+            entry.wins.put(eventName, count == null ? 1 : count + 1);
+            entry.totalWins++;
+            entry.lastWinDate = Math.max(entry.lastWinDate, winDate);
+            reindex(entry);
+        }
+    }
+
+    /**
+     * Clãs nas posições [offset, offset + limit) do critério, com a posição preenchida.
+     */
+    public synchronized List<ClanRankingInfoDTO> getTop(Criterion criterion, int offset, int limit) {
+        ClanRankTree tree = trees[criterion.ordinal()];
+        int from = Math.max(0, offset);
+        int[] ids = new int[Math.max(0, Math.min(limit, tree.size() - from))];
+        int count = tree.range(from, ids);
+        List<ClanRankingInfoDTO> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(toDTO(entries.get(ids[i]), from + i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * @return Posição do clã no critério (começa em 1), ou 0 se o clã não existe
+     */
+    public synchronized int getRank(Criterion criterion, int clanId) {
+        Entry entry = entries.get(clanId);
+        if (entry == null || !entry.indexed) {
+            return 0;
+        }
+        return trees[criterion.ordinal()].rankOf(entry.scores[criterion.ordinal()], clanId);
+    }
+
+    /**
+     * @return Dados de ranking do clã com a posição no critério, ou null se não existe
+     */
+    public synchronized ClanRankingInfoDTO getInfo(Criterion criterion, int clanId) {
+        Entry entry = entries.get(clanId);
+        if (entry == null || !entry.indexed) {
+            return null;
+        }
+        return toDTO(entry, trees[criterion.ordinal()].rankOf(entry.scores[criterion.ordinal()], clanId));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static void copyClan(Entry entry, Clan clan) {
+        entry.tag = clan.getTag();
+        entry.name = clan.getName();
+        entry.founderName = clan.getFounderName();
+        entry.rankingPoints = clan.getRankingPoints();
+    }
+
+    /**
+     * Reposiciona o clã nas árvores cuja pontuação mudou.
+     */
+    private void reindex(Entry entry) {
+        for (Criterion criterion : Criterion.values()) {
+            int index = criterion.ordinal();
+            double score = entry.score(criterion);
+            if (entry.indexed) {
+                if (Double.compare(entry.scores[index], score) == 0) {
+                    continue;
+                }
+                trees[index].remove(entry.scores[index], entry.clanId);
+            }
+            entry.scores[index] = score;
+            trees[index].insert(score, entry.clanId);
+        }
+        entry.indexed = true;
+    }
+
+    private static ClanRankingInfoDTO toDTO(Entry entry, int rank) {
+        ClanRankingInfoDTO dto = new ClanRankingInfoDTO();
+        dto.setRank(rank);
+        dto.setTag(entry.tag);
+        dto.setName(entry.name);
+        dto.setRankingPoints(entry.rankingPoints);
+        dto.setFounderName(entry.founderName);
+        dto.setMemberCount(entry.memberCount);
+        dto.setTotalKills(entry.kills);
+        dto.setTotalDeaths(entry.deaths);
+        dto.setClanKdr(Math.round(entry.kdr() * 100.0) / 100.0);
+        dto.setActiveSanctionTier(0);
+        dto.setSanctionExpiresAt(null);
+        dto.setTotalWins(entry.totalWins);
+        dto.setLastWinDate(entry.lastWinDate > 0 ? new Date(entry.lastWinDate) : null);
+        dto.setWins(new LinkedHashMap<>(entry.wins));
+        return dto;
+    }
+}
@@ -18,6 +18,7 @@ import br.com.primeleague.clans.model.ClanInvitation;
 import br.com.primeleague.clans.model.ClanPlayer;
 import br.com.primeleague.clans.model.ClanRelation;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.cluster.InvalidationEvent;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
@@ -25,8 +26,8 @@ import org.bukkit.entity.Player;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.UUID;
-import java.util.Arrays;
 
 /**
  * Gerenciador principal do sistema de clãs.
@@ -38,16 +39,29 @@ import java.util.Arrays;
 public class ClanManager {
 
     private final PrimeLeagueClans plugin;
-    private final ClanDAO clanDAO;
+    private final MySqlClanDAO clanDAO;
+    private final KdrAccumulator kdrAccumulator;
+    private final ClanEventLog eventLog;
     
     // Cache em memória para performance
     private final Map<Integer, Clan> clans;
     private final Map<Integer, ClanPlayer> clanPlayers; // REFATORADO: player_id como chave
     private final Map<Integer, ClanInvitation> pendingInvites; // REFATORADO: player_id como chave
-    private final Map<String, ClanRelation> clanRelations;
+    private final ClanRelationTable clanRelations; // Par de IDs empacotado: consulta sem alocação no PvP
+    private final ClanLeaderboard leaderboard = new ClanLeaderboard(); // Ranking em memória, atualizado por clã
+    
+    // Índices secundários em minúsculas (comandos, chat e territórios buscam por tag/nome a cada uso).
+    // Só mudam junto com clans/clanPlayers, via indexClan/unindexClan/indexClanPlayer/unindexClanPlayer.
+    private final Map<String, Clan> clansByTag = new ConcurrentHashMap<>();
+    private final Map<String, Clan> clansByName = new ConcurrentHashMap<>();
+    private final Map<String, Integer> playerIdsByName = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
     
     // REFATORADO: Set para rastrear membros online de forma proativa
     private final Map<Integer, Player> onlinePlayers = new ConcurrentHashMap<>(); // REFATORADO: player_id como chave
+    
+    // Recarga coalescida após mudanças feitas em outros servidores (barramento de invalidação)
+    private final AtomicBoolean reloadScheduled = new AtomicBoolean(false);
 
     public ClanManager(PrimeLeagueClans plugin) {
         this.plugin = plugin;
@@ -56,7 +70,9 @@ public class ClanManager {
         this.clans = new ConcurrentHashMap<>();
         this.clanPlayers = new ConcurrentHashMap<>();
         this.pendingInvites = new ConcurrentHashMap<>();
-        this.clanRelations = new ConcurrentHashMap<>();
+        this.clanRelations = new ClanRelationTable();
+        this.kdrAccumulator = new KdrAccumulator(plugin, clanDAO);
+        this.eventLog = new ClanEventLog(plugin, clanDAO);
     }
 
     /**
@@ -75,6 +91,7 @@ public class ClanManager {
         Map<Integer, ClanDTO> clanDTOs = clanDAO.loadAllClans();
         Map<Integer, ClanPlayerDTO> playerDTOs = clanDAO.loadAllClanPlayers(clanDTOs);
         List<ClanRelationDTO> relationDTOs = clanDAO.loadAllClanRelations();
+        Map<Integer, ClanRankingInfoDTO> eventWins = clanDAO.loadEventWinSummaries();
         
         plugin.getLogger().info("DTOs carregados: " + clanDTOs.size() + " clãs, " + playerDTOs.size() + " jogadores, " + relationDTOs.size() + " relações");
         
@@ -82,29 +99,93 @@ public class ClanManager {
         // SEGUNDA PASSAGEM: Criar objetos do modelo
         // ========================================
         plugin.getLogger().info("Passagem 2: Criando objetos do modelo...");
+        applySnapshot(clanDTOs, playerDTOs, relationDTOs, eventWins);
         
-        // Primeiro, criar todos os clãs (sem dependências)
-        for (Map.Entry<Integer, ClanDTO> entry : clanDTOs.entrySet()) {
-            Clan clan = createClanFromDTO(entry.getValue());
-            clans.put(entry.getKey(), clan);
+        plugin.getLogger().info("Carregamento concluído: " + clans.size() + " clãs, " + clanPlayers.size() + " jogadores e " + clanRelations.size() + " relações carregados.");
+    }
+
+    /**
+     * Assina as mudanças de clãs feitas em outros servidores que compartilham o banco.
+     */
+    public void subscribeInvalidations() {
+        PrimeLeagueAPI.getInvalidationBus().subscribe(InvalidationEvent.Type.CLAN_CHANGED, event -> scheduleReload());
+    }
+
+    /**
+     * Agenda uma recarga do banco; eventos recebidos até ela rodar são coalescidos.
+     * Os modelos em memória se referenciam (jogador -> clã), então a recarga
+     * é completa em vez de por clã.
+     */
+    private void scheduleReload() {
+        if (!reloadScheduled.compareAndSet(false, true)) {
+            return;
         }
-        
-        // Depois, criar todos os jogadores (agora com clãs disponíveis)
-        for (Map.Entry<Integer, ClanPlayerDTO> entry : playerDTOs.entrySet()) {
-            ClanPlayer player = createClanPlayerFromDTO(entry.getValue());
-            // REFATORADO: Usar player_id diretamente como chave
-            int playerId = entry.getKey();
-            clanPlayers.put(playerId, player);
+        long delayTicks = plugin.getConfig().getLong("cluster.reload_delay_ticks", 40L);
+        Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> {
+            reloadScheduled.set(false);
+            long writesBefore = clanDAO.getWriteSequence();
+            Map<Integer, ClanDTO> clanDTOs = clanDAO.loadAllClans();
+            Map<Integer, ClanPlayerDTO> playerDTOs = clanDAO.loadAllClanPlayers(clanDTOs);
+            List<ClanRelationDTO> relationDTOs = clanDAO.loadAllClanRelations();
+            Map<Integer, ClanRankingInfoDTO> eventWins = clanDAO.loadEventWinSummaries();
+            PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
+                if (clanDAO.getWriteSequence() != writesBefore) {
+                    // Escrita local durante a leitura: o snapshot pode não conter a mudança
+                    scheduleReload();
+                    return;
+                }
+                applySnapshot(clanDTOs, playerDTOs, relationDTOs, eventWins);
+                plugin.getLogger().info("Clãs recarregados após mudança em outro servidor: " + clans.size() + " clãs, " + clanPlayers.size() + " jogadores.");
+            });
+        }, delayTicks);
+    }
+
+    /**
+     * Substitui o conteúdo dos caches pelos DTOs carregados (thread principal).
+     */
+    private void applySnapshot(Map<Integer, ClanDTO> clanDTOs, Map<Integer, ClanPlayerDTO> playerDTOs,
+                               List<ClanRelationDTO> relationDTOs, Map<Integer, ClanRankingInfoDTO> eventWins) {
+        synchronized (indexLock) {
+            clans.keySet().retainAll(clanDTOs.keySet());
+            clanPlayers.keySet().retainAll(playerDTOs.keySet());
+            // Todas as entradas restantes são substituídas abaixo: os índices são refeitos do zero
+            clansByTag.clear();
+            clansByName.clear();
+            playerIdsByName.clear();
+            
+            // Primeiro, criar todos os clãs (sem dependências)
+            for (ClanDTO dto : clanDTOs.values()) {
+                indexClan(createClanFromDTO(dto));
+            }
+            
+            // Depois, criar todos os jogadores (agora com clãs disponíveis)
+            for (Map.Entry<Integer, ClanPlayerDTO> entry : playerDTOs.entrySet()) {
+                // REFATORADO: Usar player_id diretamente como chave
+                indexClanPlayer(entry.getKey(), createClanPlayerFromDTO(entry.getValue()));
+            }
+
+            // O banco ainda não tem as mortes pendentes do acumulador: somar por cima do snapshot
+            for (Map.Entry<Integer, int[]> entry : kdrAccumulator.getUnflushedDeltas().entrySet()) {
+                ClanPlayer player = clanPlayers.get(entry.getKey());
+                if (player != null) {
+                    player.setKills(player.getKills() + entry.getValue()[0]);
+                    player.setDeaths(player.getDeaths() + entry.getValue()[1]);
+                }
+            }
+
+            // Único ponto em que o ranking é montado do zero (no resto, só o clã que mudou)
+            leaderboard.rebuild(clans.values(), clanPlayers.values(), eventWins);
         }
         
         // Finalmente, criar as relações (com clãs e jogadores disponíveis)
+        List<ClanRelation> relations = new ArrayList<>(relationDTOs.size());
         for (ClanRelationDTO relationDTO : relationDTOs) {
-            ClanRelation relation = createClanRelationFromDTO(relationDTO);
-            String key = relation.getClanId1() + "_" + relation.getClanId2();
-            clanRelations.put(key, relation);
+            relations.add(createClanRelationFromDTO(relationDTO));
         }
+        clanRelations.replaceAll(relations);
         
-        plugin.getLogger().info("Carregamento concluído: " + clans.size() + " clãs, " + clanPlayers.size() + " jogadores e " + clanRelations.size() + " relações carregados.");
+        // Convites de clãs que deixaram de existir
+        pendingInvites.values().removeIf(invite -> !clans.containsKey(invite.getClan().getId()));
     }
 
     // ===== MÉTODOS DE CONVERSÃO ENTRE MODELOS E DTOs =====
@@ -313,7 +394,7 @@ public class ClanManager {
 
         // 4. Se a persistência foi bem-sucedida, crie os objetos de negócio
         Clan clan = fromDTO(savedClanDTO);
-        clans.put(clan.getId(), clan);
+        indexClan(clan);
         
         plugin.getLogger().info("🔧 [CLAN-MANAGER-DEBUG] Objeto Clan criado e adicionado ao cache");
 
@@ -321,7 +402,7 @@ public class ClanManager {
         ClanPlayer founderPlayer = getClanPlayer(leader);
         if (founderPlayer == null) {
             founderPlayer = new ClanPlayer(leader); // Cria um novo se não existir
-            clanPlayers.put(leaderPlayerId, founderPlayer); // REFATORADO: Usar player_id
+            indexClanPlayer(leaderPlayerId, founderPlayer); // REFATORADO: Usar player_id
             plugin.getLogger().info("🔧 [CLAN-MANAGER-DEBUG] Novo ClanPlayer criado para o fundador");
         } else {
             plugin.getLogger().info("🔧 [CLAN-MANAGER-DEBUG] ClanPlayer existente encontrado para o fundador");
@@ -330,6 +411,7 @@ public class ClanManager {
         founderPlayer.setClan(clan);
         founderPlayer.setRole(ClanPlayer.ClanRole.FUNDADOR);
         founderPlayer.setJoinDate(System.currentTimeMillis());
+        refreshLeaderboardMembers(clan);
         
         plugin.getLogger().info("🔧 [CLAN-MANAGER-DEBUG] ClanPlayer configurado: clan=" + clan.getTag() + ", role=FUNDADOR");
 
@@ -417,7 +499,7 @@ public class ClanManager {
                     plugin.getLogger().severe("🔧 [CLAN-MANAGER-DEBUG] FALHA CRÍTICA: O DAO retornou nulo ao tentar criar o clã " + tag);
                     
                     // Retornar para a thread principal
-                    plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                         callback.accept(null);
                     });
                     return;
@@ -446,15 +528,16 @@ public class ClanManager {
                 plugin.getLogger().info("🔧 [CLAN-MANAGER-DEBUG] Log registrado");
                 
                 // Retornar para a thread principal para atualizar o cache
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     try {
                         // DIRETRIZ DE CONSISTÊNCIA DO CACHE: Atualizar o cache em memória
                         Clan clan = fromDTO(savedClanDTO);
-                        clans.put(clan.getId(), clan);
+                        indexClan(clan);
                         
                         // Atualizar o cache de jogadores
                         founderPlayer.setClan(clan);
-                        clanPlayers.put(leaderPlayerId, founderPlayer);
+                        indexClanPlayer(leaderPlayerId, founderPlayer);
+                        refreshLeaderboardMembers(clan);
                         
                         plugin.getLogger().info("🔧 [CLAN-MANAGER-DEBUG] ✅ Cache atualizado para o clã " + tag);
                         
@@ -472,7 +555,7 @@ public class ClanManager {
                 e.printStackTrace();
                 
                 // Retornar para a thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     callback.accept(null);
                 });
             }
@@ -523,7 +606,7 @@ public class ClanManager {
             clanDAO.deleteClan(toDTO(clan));
 
             // Remover das coleções em memória
-            clans.remove(clan.getId());
+            unindexClan(clan.getId());
 
             plugin.getLogger().info("Clã dissolvido: " + clan.getTag() + " (" + clan.getName() + ")");
             return true;
@@ -597,9 +680,9 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK FINAL (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     // ATUALIZAR ESTADO EM MEMÓRIA (Consistência do Cache Pós-Callback)
-                    clans.remove(finalClan.getId());
+                    unindexClan(finalClan.getId());
                     
                     finalPlugin.getLogger().info("Clã dissolvido: " + finalClan.getTag() + " (" + finalClan.getName() + ")");
                     finalCallback.accept(true);
@@ -612,7 +695,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK DE ERRO (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalCallback.accept(false);
                 });
             }
@@ -631,12 +714,7 @@ public class ClanManager {
         if (tag == null) {
             return null;
         }
-        for (Clan clan : clans.values()) {
-            if (clan.getTag().equalsIgnoreCase(tag)) {
-                return clan;
-            }
-        }
-        return null;
+        return clansByTag.get(indexKey(tag));
     }
 
     /**
@@ -662,12 +740,7 @@ public class ClanManager {
         if (name == null) {
             return null;
         }
-        for (Clan clan : clans.values()) {
-            if (clan.getName().equalsIgnoreCase(name)) {
-                return clan;
-            }
-        }
-        return null;
+        return clansByName.get(indexKey(name));
     }
 
     /**
@@ -724,16 +797,8 @@ public class ClanManager {
      * @return O clã do jogador ou null
      */
     public Clan getClanByPlayerName(String playerName) {
-        if (playerName == null) {
-            return null;
-        }
-        
-        for (ClanPlayer player : clanPlayers.values()) {
-            if (player.getPlayerName().equalsIgnoreCase(playerName)) {
-                return player.getClan();
-            }
-        }
-        return null;
+        ClanPlayer player = getClanPlayerByName(playerName);
+        return player != null ? player.getClan() : null;
     }
 
     /**
@@ -790,12 +855,146 @@ public class ClanManager {
         if (playerName == null) {
             return null;
         }
-        for (ClanPlayer player : clanPlayers.values()) {
-            if (player.getPlayerName().equalsIgnoreCase(playerName)) {
-                return player;
+        Integer playerId = playerIdsByName.get(indexKey(playerName));
+        return playerId != null ? clanPlayers.get(playerId) : null;
+    }
+
+    /**
+     * Obtém o ClanPlayer de um membro do clã informado pelo nome.
+     *
+     * @return O ClanPlayer, ou null se o jogador não existir ou for de outro clã
+     */
+    private ClanPlayer getClanMemberByName(Clan clan, String playerName) {
+        ClanPlayer clanPlayer = getClanPlayerByName(playerName);
+        return clanPlayer != null && clanPlayer.getClan() != null && clanPlayer.getClan().equals(clan) ? clanPlayer : null;
+    }
+
+    // --- Manutenção dos índices ---
+
+    private static String indexKey(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Adiciona (ou substitui) um clã no cache e nos índices de tag e nome.
+     */
+    private void indexClan(Clan clan) {
+        synchronized (indexLock) {
+            Clan previous = clans.put(clan.getId(), clan);
+            if (previous != null) {
+                clansByTag.remove(indexKey(previous.getTag()), previous);
+                clansByName.remove(indexKey(previous.getName()), previous);
             }
+            clansByTag.put(indexKey(clan.getTag()), clan);
+            clansByName.put(indexKey(clan.getName()), clan);
+            leaderboard.updateClan(clan);
         }
-        return null;
+    }
+
+    /**
+     * Remove um clã do cache e dos índices.
+     */
+    private void unindexClan(int clanId) {
+        synchronized (indexLock) {
+            Clan removed = clans.remove(clanId);
+            if (removed != null) {
+                clansByTag.remove(indexKey(removed.getTag()), removed);
+                clansByName.remove(indexKey(removed.getName()), removed);
+            }
+            leaderboard.removeClan(clanId);
+        }
+    }
+
+    /**
+     * Adiciona (ou substitui) um jogador no cache e no índice de nomes.
+     */
+    private void indexClanPlayer(int playerId, ClanPlayer clanPlayer) {
+        synchronized (indexLock) {
+            ClanPlayer previous = clanPlayers.put(playerId, clanPlayer);
+            if (previous != null) {
+                playerIdsByName.remove(indexKey(previous.getPlayerName()), playerId);
+            }
+            playerIdsByName.put(indexKey(clanPlayer.getPlayerName()), playerId);
+        }
+    }
+
+    /**
+     * Remove um jogador do cache e do índice de nomes.
+     */
+    private void unindexClanPlayer(int playerId) {
+        synchronized (indexLock) {
+            ClanPlayer removed = clanPlayers.remove(playerId);
+            if (removed != null) {
+                playerIdsByName.remove(indexKey(removed.getPlayerName()), playerId);
+            }
+        }
+    }
+
+    /**
+     * Recalcula membros e kills/mortes do clã no ranking depois de uma entrada ou saída.
+     * Percorre os jogadores em cache (mudanças de membros são raras perto das consultas).
+     */
+    private void refreshLeaderboardMembers(Clan clan) {
+        if (clan == null) {
+            return;
+        }
+        int members = 0;
+        int kills = 0;
+        int deaths = 0;
+        for (ClanPlayer clanPlayer : clanPlayers.values()) {
+            if (clanPlayer.getClan() != null && clanPlayer.getClan().getId() == clan.getId()) {
+                members++;
+                kills += clanPlayer.getKills();
+                deaths += clanPlayer.getDeaths();
+            }
+        }
+        leaderboard.setMemberStats(clan.getId(), members, kills, deaths);
+    }
+
+    /**
+     * Confere os índices de tag, nome e membro contra os caches principais.
+     * Para testes e diagnóstico: percorre tudo sob o lock dos índices.
+     *
+     * @return Inconsistências encontradas (vazia se os índices estão corretos)
+     */
+    public List<String> verifyIndexes() {
+        List<String> problems = new ArrayList<>();
+        synchronized (indexLock) {
+            for (Clan clan : clans.values()) {
+                if (clansByTag.get(indexKey(clan.getTag())) != clan) {
+                    problems.add("Tag sem índice: " + clan.getTag() + " (clã " + clan.getId() + ")");
+                }
+                if (clansByName.get(indexKey(clan.getName())) != clan) {
+                    problems.add("Nome sem índice: " + clan.getName() + " (clã " + clan.getId() + ")");
+                }
+            }
+            for (Map.Entry<String, Clan> entry : clansByTag.entrySet()) {
+                if (clans.get(entry.getValue().getId()) != entry.getValue() || !entry.getKey().equals(indexKey(entry.getValue().getTag()))) {
+                    problems.add("Índice de tag obsoleto: " + entry.getKey());
+                }
+            }
+            for (Map.Entry<String, Clan> entry : clansByName.entrySet()) {
+                if (clans.get(entry.getValue().getId()) != entry.getValue() || !entry.getKey().equals(indexKey(entry.getValue().getName()))) {
+                    problems.add("Índice de nome obsoleto: " + entry.getKey());
+                }
+            }
+            for (Map.Entry<Integer, ClanPlayer> entry : clanPlayers.entrySet()) {
+                String key = indexKey(entry.getValue().getPlayerName());
+                Integer indexedId = playerIdsByName.get(key);
+                ClanPlayer indexed = indexedId != null ? clanPlayers.get(indexedId) : null;
+                // Nomes repetidos (jogadores diferentes) apontam para um só: basta o índice resolver o nome
+                if (indexed == null || !key.equals(indexKey(indexed.getPlayerName()))) {
+                    problems.add("Membro sem índice: " + entry.getValue().getPlayerName() + " (player_id " + entry.getKey() + ")");
+                }
+            }
+            for (Map.Entry<String, Integer> entry : playerIdsByName.entrySet()) {
+                ClanPlayer indexed = clanPlayers.get(entry.getValue());
+                if (indexed == null || !entry.getKey().equals(indexKey(indexed.getPlayerName()))) {
+                    problems.add("Índice de membro obsoleto: " + entry.getKey());
+                }
+            }
+        }
+        return problems;
     }
 
     // --- Métodos de Gerenciamento de Membros ---
@@ -843,7 +1042,8 @@ public class ClanManager {
             clanDAO.saveOrUpdateClanPlayer(toDTO(clanPlayer));
             
             // Adicionar às coleções em memória
-            clanPlayers.put(playerId, clanPlayer); // REFATORADO: Usar player_id
+            indexClanPlayer(playerId, clanPlayer); // REFATORADO: Usar player_id
+            refreshLeaderboardMembers(clan);
 
             plugin.getLogger().info("Jogador " + playerName + " adicionado ao clã " + clan.getTag() + " como " + role.getDisplayName());
             return true;
@@ -872,13 +1072,7 @@ public class ClanManager {
         }
 
         // Buscar o jogador no cache
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         
         if (clanPlayer == null) {
             callback.accept(false);
@@ -898,7 +1092,6 @@ public class ClanManager {
         final ClanPlayer finalClanPlayer = clanPlayer;
         final String finalPlayerName = playerName;
         final Clan finalClan = clan;
-        final Map<Integer, ClanPlayer> finalClanPlayers = clanPlayers;
         final org.bukkit.plugin.Plugin finalPlugin = plugin;
         final java.util.function.Consumer<Boolean> finalCallback = callback;
         
@@ -914,8 +1107,9 @@ public class ClanManager {
                 // Converter UUID para player_id para remoção do cache
                 int playerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByUuid(finalClanPlayer.getPlayerUUID());
                 if (playerId != -1) {
-                    finalClanPlayers.remove(playerId);
+                    unindexClanPlayer(playerId);
                 }
+                refreshLeaderboardMembers(finalClan);
 
                 finalPlugin.getLogger().info("Jogador " + finalPlayerName + " removido do clã " + finalClan.getTag());
                 finalCallback.accept(true);
@@ -945,13 +1139,7 @@ public class ClanManager {
             return KickResult.CANNOT_KICK_SELF;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             return KickResult.PLAYER_NOT_FOUND;
         }
@@ -975,7 +1163,8 @@ public class ClanManager {
             clanDAO.saveOrUpdateClanPlayer(toDTO(clanPlayer));
 
             // REFATORADO: Remover do cache principal para evitar memory leak
-            clanPlayers.remove(clanPlayer.getPlayerUUID());
+            unindexClanPlayer(clanPlayer.getPlayerId());
+            refreshLeaderboardMembers(clan);
 
             // Registrar log da expulsão
             clanDAO.logAction(
@@ -1021,13 +1210,7 @@ public class ClanManager {
             return;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             callback.accept(KickResult.PLAYER_NOT_FOUND);
             return;
@@ -1070,8 +1253,9 @@ public class ClanManager {
                 // REFATORADO: Remover do cache principal para evitar memory leak
                 int playerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByName(finalPlayerName);
                 if (playerId != -1) {
-                    clanPlayers.remove(playerId);
+                    unindexClanPlayer(playerId);
                 }
+                refreshLeaderboardMembers(finalClan);
 
                 // Registrar log da expulsão
                 clanDAO.logAction(
@@ -1087,7 +1271,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK FINAL (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalPlugin.getLogger().info("Jogador " + finalPlayerName + " expulso do clã " + finalClan.getTag() + " por " + finalKickerName);
                     finalCallback.accept(KickResult.SUCCESS);
                 });
@@ -1099,7 +1283,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK DE ERRO (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalCallback.accept(KickResult.PLAYER_NOT_FOUND); // Fallback para erro de banco
                 });
             }
@@ -1119,13 +1303,7 @@ public class ClanManager {
             return PromoteResult.PLAYER_NOT_FOUND;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             return PromoteResult.PLAYER_NOT_FOUND;
         }
@@ -1189,13 +1367,7 @@ public class ClanManager {
             return;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             callback.accept(PromoteResult.PLAYER_NOT_FOUND);
             return;
@@ -1253,7 +1425,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK FINAL (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalPlugin.getLogger().info("Jogador " + finalPlayerName + " promovido a líder no clã " + finalClan.getTag());
                     finalCallback.accept(PromoteResult.SUCCESS);
                 });
@@ -1265,7 +1437,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK DE ERRO (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalCallback.accept(PromoteResult.PLAYER_NOT_FOUND); // Fallback para erro de banco
                 });
             }
@@ -1285,13 +1457,7 @@ public class ClanManager {
             return DemoteResult.PLAYER_NOT_FOUND;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             return DemoteResult.PLAYER_NOT_FOUND;
         }
@@ -1355,13 +1521,7 @@ public class ClanManager {
             return;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             callback.accept(DemoteResult.PLAYER_NOT_FOUND);
             return;
@@ -1419,7 +1579,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK FINAL (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalPlugin.getLogger().info("Jogador " + finalPlayerName + " rebaixado a membro no clã " + finalClan.getTag());
                     finalCallback.accept(DemoteResult.SUCCESS);
                 });
@@ -1431,7 +1591,7 @@ public class ClanManager {
                 // ========================================
                 // CALLBACK DE ERRO (Thread Principal)
                 // ========================================
-                Bukkit.getScheduler().runTask(plugin, () -> {
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                     finalCallback.accept(DemoteResult.PLAYER_NOT_FOUND); // Fallback para erro de banco
                 });
             }
@@ -1453,13 +1613,7 @@ public class ClanManager {
         }
 
         // Buscar o jogador que se tornará fundador
-        ClanPlayer newFounder = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                newFounder = p;
-                break;
-            }
-        }
+        ClanPlayer newFounder = getClanMemberByName(clan, playerName);
         if (newFounder == null) {
             return SetFounderResult.PLAYER_NOT_FOUND;
         }
@@ -1479,13 +1633,7 @@ public class ClanManager {
         }
 
         // Buscar o fundador atual
-        ClanPlayer oldFounder = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(oldFounderName) && p.getClan() != null && p.getClan().equals(clan)) {
-                oldFounder = p;
-                break;
-            }
-        }
+        ClanPlayer oldFounder = getClanMemberByName(clan, oldFounderName);
         if (oldFounder == null || !oldFounder.isFounder()) {
             return SetFounderResult.PLAYER_NOT_FOUND;
         }
@@ -1835,15 +1983,7 @@ public class ClanManager {
             return false;
         }
         
-        String key1 = clan1.getId() + "_" + clan2.getId();
-        String key2 = clan2.getId() + "_" + clan1.getId();
-        
-        ClanRelation relation = clanRelations.get(key1);
-        if (relation == null) {
-            relation = clanRelations.get(key2);
-        }
-        
-        return relation != null && relation.getType() == ClanRelation.RelationType.ALLY;
+        return clanRelations.hasRelation(clan1.getId(), clan2.getId(), ClanRelation.RelationType.ALLY);
     }
 
     /**
@@ -1871,15 +2011,7 @@ public class ClanManager {
             return false;
         }
         
-        String key1 = clan1.getId() + "_" + clan2.getId();
-        String key2 = clan2.getId() + "_" + clan1.getId();
-        
-        ClanRelation relation = clanRelations.get(key1);
-        if (relation == null) {
-            relation = clanRelations.get(key2);
-        }
-        
-        return relation != null && relation.getType() == ClanRelation.RelationType.RIVAL;
+        return clanRelations.hasRelation(clan1.getId(), clan2.getId(), ClanRelation.RelationType.RIVAL);
     }
 
     /**
@@ -1898,8 +2030,7 @@ public class ClanManager {
             ClanRelation relation = new ClanRelation(clan1.getId(), clan2.getId(), ClanRelation.RelationType.ALLY);
             clanDAO.saveClanRelation(toDTO(relation));
             
-            String key = relation.getClanId1() + ":" + relation.getClanId2();
-            clanRelations.put(key, relation);
+            clanRelations.put(relation);
             
             plugin.getLogger().info("Aliança criada entre " + clan1.getTag() + " e " + clan2.getTag());
             return true;
@@ -1923,18 +2054,10 @@ public class ClanManager {
         }
 
         try {
-            String key1 = clan1.getId() + ":" + clan2.getId();
-            String key2 = clan2.getId() + ":" + clan1.getId();
-            
-            ClanRelation relation = clanRelations.get(key1);
-            if (relation == null) {
-                relation = clanRelations.get(key2);
-            }
-            
+            ClanRelation relation = clanRelations.get(clan1.getId(), clan2.getId());
             if (relation != null && relation.getType() == ClanRelation.RelationType.ALLY) {
                 clanDAO.deleteClanRelation(toDTO(relation));
-                clanRelations.remove(key1);
-                clanRelations.remove(key2);
+                clanRelations.remove(clan1.getId(), clan2.getId());
                 
                 plugin.getLogger().info("Aliança removida entre " + clan1.getTag() + " e " + clan2.getTag());
                 return true;
@@ -1964,8 +2087,7 @@ public class ClanManager {
             ClanRelation relation = new ClanRelation(clan1.getId(), clan2.getId(), ClanRelation.RelationType.RIVAL);
             clanDAO.saveClanRelation(toDTO(relation));
             
-            String key = relation.getClanId1() + ":" + relation.getClanId2();
-            clanRelations.put(key, relation);
+            clanRelations.put(relation);
             
             plugin.getLogger().info("Rivalidade declarada entre " + clan1.getTag() + " e " + clan2.getTag());
             return true;
@@ -1991,11 +2113,9 @@ public class ClanManager {
         }
         
         // Primeiro, tentar buscar no cache de ClanPlayer
-        for (Map.Entry<Integer, ClanPlayer> entry : clanPlayers.entrySet()) {
-            ClanPlayer clanPlayer = entry.getValue();
-            if (clanPlayer.getPlayerName().equalsIgnoreCase(playerName)) {
-                return entry.getKey(); // Retorna o player_id
-            }
+        Integer cachedId = playerIdsByName.get(indexKey(playerName));
+        if (cachedId != null) {
+            return cachedId;
         }
         
         // Se não encontrou no cache, tentar buscar via Bukkit
@@ -2028,7 +2148,8 @@ public class ClanManager {
     }
 
     /**
-     * Busca os logs de um clã com paginação.
+     * Busca os logs de um clã com paginação (sem cursores por jogador; para o
+     * /clan logs use {@link ClanEventLog#getClanPageAsync}).
      * 
      * @param clanId ID do clã
      * @param page Número da página (começa em 1)
@@ -2507,62 +2628,61 @@ public class ClanManager {
     }
     
     /**
-     * Atualiza estatísticas de KDR de dois jogadores de forma transacional.
-     * REFATORADO: Usa player_id como identificador principal
-     * Garante que tanto as estatísticas quanto o log sejam salvos juntos.
-     * 
-     * @param killer ClanPlayer do jogador que matou
-     * @param victim ClanPlayer do jogador que morreu
-     * @return true se a operação foi bem-sucedida
+     * Registra uma morte entre membros de clãs (thread principal).
+     * Os contadores em memória mudam na hora; o banco recebe os deltas no
+     * próximo flush do {@link KdrAccumulator}, em lote.
+     *
+     * @param killer ClanPlayer do assassino
+     * @param victim ClanPlayer da vítima
+     * @return false se algum dos jogadores não tem clã ou player_id
      */
-    public boolean updateKDRTransactionally(ClanPlayer killer, ClanPlayer victim) {
-        try {
-            // Verificar se ambos os jogadores têm clãs
-            if (!killer.hasClan() || !victim.hasClan()) {
-                plugin.getLogger().warning("Tentativa de atualizar KDR para jogadores sem clã");
-                return false;
-            }
-            
-            // Incrementar estatísticas em memória
-            killer.addKill();
-            victim.addDeath();
-            
-            // REFATORADO: Obter player_ids através do IdentityManager
-            int killerPlayerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByUuid(killer.getPlayerUUID());
-            int victimPlayerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByUuid(victim.getPlayerUUID());
-            
-            if (killerPlayerId == -1 || victimPlayerId == -1) {
-                plugin.getLogger().severe("Não foi possível obter player_id para atualização de KDR");
-                return false;
-            }
-            
-            // Executar atualização transacional no banco
-            boolean success = clanDAO.updateKDRAndLog(
-                killerPlayerId, killer.getPlayerName(), 
-                killer.getKills(), killer.getDeaths(),
-                victimPlayerId, victim.getPlayerName(), 
-                victim.getKills(), victim.getDeaths(),
-                killer.getClan().getId() // Usar o clã do killer para o log
-            );
-            
-            if (success) {
-                plugin.getLogger().info("KDR atualizado transacionalmente - " + killer.getPlayerName() + 
-                                      " matou " + victim.getPlayerName() + 
-                                      " (KDR: " + String.format("%.2f", killer.getKDR()) + ")");
-                return true;
-            } else {
-                // Reverter mudanças em memória se a transação falhou
-                killer.addKill(-1); // Reverter o incremento
-                victim.addDeath(-1); // Reverter o incremento
-                plugin.getLogger().severe("Falha na transação de KDR - mudanças revertidas em memória");
-                return false;
-            }
-            
-        } catch (Exception e) {
-            plugin.getLogger().severe("Erro ao atualizar KDR transacionalmente: " + e.getMessage());
-            e.printStackTrace();
+    public boolean recordKill(ClanPlayer killer, ClanPlayer victim) {
+        // Verificar se ambos os jogadores têm clãs
+        if (!killer.hasClan() || !victim.hasClan()) {
+            return false;
+        }
+        if (killer.getPlayerId() <= 0 || victim.getPlayerId() <= 0) {
+            plugin.getLogger().severe("Não foi possível obter player_id para atualização de KDR");
             return false;
         }
+        
+        // Incrementar estatísticas em memória
+        killer.addKill();
+        victim.addDeath();
+        
+        kdrAccumulator.record(killer.getClan().getId(), // Usar o clã do killer para o log
+            killer.getPlayerId(), killer.getPlayerName(), victim.getPlayerId(), victim.getPlayerName());
+        leaderboard.addKdr(killer.getClan().getId(), 1, 0);
+        leaderboard.addKdr(victim.getClan().getId(), 0, 1);
+        return true;
+    }
+
+    /**
+     * Acumulador de kills/mortes (flush periódico, na saída de jogadores e no desligamento).
+     */
+    public KdrAccumulator getKdrAccumulator() {
+        return kdrAccumulator;
+    }
+
+    /**
+     * Histórico de clãs: páginas por cursor, arquivamento e replay para auditoria.
+     */
+    public ClanEventLog getEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * Passa o registro de ações (clan_logs) para gravação em lote.
+     */
+    public void startLogWriter(int queueCapacity, int batchSize, long flushIntervalMs) {
+        clanDAO.startLogWriter(queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * Grava as ações pendentes e volta à gravação direta (onDisable).
+     */
+    public void shutdownLogWriter() {
+        clanDAO.shutdownLogWriter();
     }
     
     /**
@@ -2619,6 +2739,7 @@ public class ClanManager {
                     if (clanPlayer != null) {
                         clanPlayer.setClan(null); // Desassociar do clã
                     }
+                    refreshLeaderboardMembers(clans.get(member.getClanId()));
                     
                     // Agrupar para notificação
                     if (!removalsByClan.containsKey(member.getClanId())) {
@@ -2700,44 +2821,17 @@ public class ClanManager {
      * @return Lista de informações de ranking dos clãs
      */
     public List<ClanRankingInfoDTO> getClanRankings(String criteria, int page, int pageSize) {
-        int offset = (page - 1) * pageSize;
-        
-        // Buscar ranking do DAO
-        List<ClanRankingInfoDTO> rankings = clanDAO.getClanRankings(criteria, pageSize, offset);
-        
-        if (rankings.isEmpty()) {
-            return rankings;
-        }
-        
-        // Buscar vitórias de eventos para os clãs da página atual
-        List<Integer> clanIds = new ArrayList<>();
-        for (ClanRankingInfoDTO ranking : rankings) {
-            // Extrair ID do clã do cache
-            for (Map.Entry<Integer, Clan> entry : clans.entrySet()) {
-                if (entry.getValue().getTag().equals(ranking.getTag())) {
-                    clanIds.add(entry.getKey());
-                    break;
-                }
-            }
-        }
-        
-        Map<Integer, Map<String, Integer>> eventWins = clanDAO.getEventWinsForClans(clanIds);
-        
-        // Associar vitórias aos rankings
-        for (ClanRankingInfoDTO ranking : rankings) {
-            for (Map.Entry<Integer, Clan> entry : clans.entrySet()) {
-                if (entry.getValue().getTag().equals(ranking.getTag())) {
-                    int clanId = entry.getKey();
-                    Map<String, Integer> wins = eventWins.get(clanId);
-                    if (wins != null) {
-                        ranking.setWins(wins);
-                    }
-                    break;
-                }
-            }
-        }
-        
-        return rankings;
+        return leaderboard.getTop(ClanLeaderboard.Criterion.fromKey(criteria), (Math.max(1, page) - 1) * pageSize, pageSize);
+    }
+    
+    /**
+     * Posição de um clã no ranking.
+     * @param clanId ID do clã
+     * @param criteria Critério de ordenação (mesmos de {@link #getClanRankings})
+     * @return Posição (começa em 1) ou 0 se o clã não existe
+     */
+    public int getClanRank(int clanId, String criteria) {
+        return leaderboard.getRank(ClanLeaderboard.Criterion.fromKey(criteria), clanId);
     }
     
     /**
@@ -2752,10 +2846,11 @@ public class ClanManager {
         boolean success = clanDAO.updateRankingPointsAndLog(clanId, points, reason);
         
         if (success) {
-            // Atualizar cache em memória
+            // Atualizar cache em memória e a posição no ranking
             Clan clan = clans.get(clanId);
             if (clan != null) {
-                // Atualizar pontos no cache (será recarregado na próxima inicialização)
+                clan.setRankingPoints(clan.getRankingPoints() + points);
+                leaderboard.updateClan(clan);
                 plugin.getLogger().info("Pontos de ranking atualizados para clã " + clan.getTag() + 
                                       ": " + (points > 0 ? "+" : "") + points + " (" + reason + ")");
             }
@@ -2773,7 +2868,8 @@ public class ClanManager {
     public void registerWin(int clanId, String eventName) {
         clanDAO.registerEventWin(clanId, eventName);
         
-        // Atualizar cache em memória se necessário
+        // Atualizar o ranking em memória
+        leaderboard.addWin(clanId, eventName, System.currentTimeMillis());
         Clan clan = clans.get(clanId);
         if (clan != null) {
             plugin.getLogger().info("Vitória registrada para clã " + clan.getTag() + " no evento: " + eventName);
@@ -2794,29 +2890,7 @@ public class ClanManager {
      * @return Informações de ranking ou null se não encontrado
      */
     public ClanRankingInfoDTO getClanRankingInfo(int clanId) {
-        Clan clan = clans.get(clanId);
-        if (clan == null) {
-            return null;
-        }
-        
-        // Buscar ranking específico
-        List<ClanRankingInfoDTO> rankings = clanDAO.getClanRankings("ranking_points", 1, 0);
-        
-        // Encontrar o clã específico
-        for (ClanRankingInfoDTO ranking : rankings) {
-            if (ranking.getTag().equals(clan.getTag())) {
-                // Buscar vitórias específicas
-                List<Integer> clanIds = Arrays.asList(clanId);
-                Map<Integer, Map<String, Integer>> eventWins = clanDAO.getEventWinsForClans(clanIds);
-                Map<String, Integer> wins = eventWins.get(clanId);
-                if (wins != null) {
-                    ranking.setWins(wins);
-                }
-                return ranking;
-            }
-        }
-        
-        return null;
+        return leaderboard.getInfo(ClanLeaderboard.Criterion.RANKING_POINTS, clanId);
     }
     
     // ===== MÉTODOS DE GERENCIAMENTO DE STATUS ONLINE/OFFLINE =====
@@ -2989,7 +3063,8 @@ public class ClanManager {
             if (success) {
                 // ATUALIZAR ESTADO EM MEMÓRIA (Consistência do Cache Pós-Callback)
                 clan.addMember(playerName);
-                clanPlayers.put(playerId, clanPlayer); // REFATORADO: Usar player_id
+                indexClanPlayer(playerId, clanPlayer); // REFATORADO: Usar player_id
+                refreshLeaderboardMembers(clan);
                 
                 plugin.getLogger().info("Jogador " + playerName + " adicionado ao clã " + clan.getTag() + " como " + role.getDisplayName());
                 callback.accept(true);
@@ -3013,13 +3088,7 @@ public class ClanManager {
         }
 
         // Buscar o novo fundador
-        ClanPlayer newFounder = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(newFounderName) && p.getClan() != null && p.getClan().equals(clan)) {
-                newFounder = p;
-                break;
-            }
-        }
+        ClanPlayer newFounder = getClanMemberByName(clan, newFounderName);
         if (newFounder == null) {
             callback.accept(SetFounderResult.PLAYER_NOT_FOUND);
             return;
@@ -3038,13 +3107,7 @@ public class ClanManager {
         }
 
         // Buscar o fundador atual
-        ClanPlayer oldFounder = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(clan.getFounderName()) && p.getClan() != null && p.getClan().equals(clan)) {
-                oldFounder = p;
-                break;
-            }
-        }
+        ClanPlayer oldFounder = getClanMemberByName(clan, clan.getFounderName());
         if (oldFounder == null || !oldFounder.isFounder()) {
             callback.accept(SetFounderResult.PLAYER_NOT_FOUND);
             return;
@@ -3338,7 +3401,7 @@ public class ClanManager {
         // Para este caso simples, não há I/O necessário no banco, mas mantemos o padrão para consistência
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             // Simular operação assíncrona para manter o padrão
-            Bukkit.getScheduler().runTask(plugin, () -> {
+            PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> {
                 // ========================================
                 // CALLBACK FINAL (Thread Principal)
                 // ========================================
@@ -3374,13 +3437,7 @@ public class ClanManager {
             return false;
         }
 
-        ClanPlayer clanPlayer = null;
-        for (ClanPlayer p : clanPlayers.values()) {
-            if (p.getPlayerName().equalsIgnoreCase(playerName) && p.getClan() != null && p.getClan().equals(clan)) {
-                clanPlayer = p;
-                break;
-            }
-        }
+        ClanPlayer clanPlayer = getClanMemberByName(clan, playerName);
         if (clanPlayer == null) {
             return false;
         }
@@ -3394,10 +3451,9 @@ public class ClanManager {
 
         // Atualizar estado em memória
         clan.removeMember(playerName);
-        int playerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByUuid(clanPlayer.getPlayerUUID());
-        if (playerId != -1) {
-            clanPlayers.remove(playerId);
-        }
+        // getPlayerUUID() é um UUID aleatório: a chave do cache é o player_id do próprio ClanPlayer
+        unindexClanPlayer(clanPlayer.getPlayerId());
+        refreshLeaderboardMembers(clan);
 
         plugin.getLogger().info("Jogador " + playerName + " removido do clã " + clan.getTag());
         return true;
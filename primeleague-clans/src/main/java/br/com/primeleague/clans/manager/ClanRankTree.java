@@ -0,0 +1,199 @@
+package br.com.primeleague.clans.manager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Árvore de estatística de ordem (treap com tamanho de subárvore) para o ranking de clãs.
+ *
+ * Ordena por pontuação decrescente e, no empate, por ID de clã crescente.
+ * Inserção, remoção, posição de um clã e o clã da posição k custam O(log n)
+ * esperado. Não é thread-safe: o {@link ClanLeaderboard} serializa o acesso.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+final class ClanRankTree {
+
+    private static final class Node {
+        final double score;
+        final int clanId;
+        final int priority = ThreadLocalRandom.current().nextInt();
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(double score, int clanId) {
+            this.score = score;
+            this.clanId = clanId;
+        }
+    }
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void clear() {
+        root = null;
+    }
+
+    void insert(double score, int clanId) {
+        root = insert(root, new Node(score, clanId));
+    }
+
+    void remove(double score, int clanId) {
+        root = remove(root, score, clanId);
+    }
+
+    /**
+     * @return Posição (começa em 1) da entrada, ou 0 se ela não está na árvore
+     */
+    int rankOf(double score, int clanId) {
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, clanId, node);
+            if (cmp == 0) {
+                return before + size(node.left) + 1;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param index Posição a partir de 0
+     * @return ID do clã na posição, ou -1 fora do intervalo
+     */
+    int clanAt(int index) {
+        if (index < 0 || index >= size(root)) {
+            return -1;
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.clanId;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Copia para {@code out} os IDs das posições [from, from + out.length) em ordem.
+     *
+     * @return Quantidade copiada
+     */
+    int range(int from, int[] out) {
+        int[] count = new int[1];
+        collect(root, from, out, count, 0);
+        return count[0];
+    }
+
+    private static void collect(Node node, int from, int[] out, int[] count, int offset) {
+        if (node == null || count[0] >= out.length) {
+            return;
+        }
+        int nodeIndex = offset + size(node.left);
+        if (from < nodeIndex) {
+            collect(node.left, from, out, count, offset);
+        }
+        if (nodeIndex >= from && count[0] < out.length) {
+            out[count[0]++] = node.clanId;
+        }
+        if (count[0] < out.length) {
+            collect(node.right, from, out, count, nodeIndex + 1);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (compare(added.score, added.clanId, node) < 0) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node remove(Node node, double score, int clanId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, clanId, node);
+        if (cmp < 0) {
+            node.left = remove(node.left, score, clanId);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, score, clanId);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, score, clanId);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, score, clanId);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    /**
+     * Negativo se (score, clanId) vem antes do nó no ranking.
+     */
+    private static int compare(double score, int clanId, Node node) {
+        int cmp = Double.compare(node.score, score);
+        return cmp != 0 ? cmp : Integer.compare(clanId, node.clanId);
+    }
+}
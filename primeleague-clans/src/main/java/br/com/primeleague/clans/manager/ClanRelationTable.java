@@ -0,0 +1,162 @@
+package br.com.primeleague.clans.manager;
+
+import br.com.primeleague.clans.model.ClanRelation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tabela de relações entre clãs indexada pelo par de IDs.
+ *
+ * O par (menor, maior) é empacotado em um único long e a tabela usa
+ * endereçamento aberto sobre arrays primitivos: {@link #get} não aloca nada,
+ * o que importa porque o DamageListener consulta aliança/rivalidade a cada
+ * hit de PvP.
+ *
+ * Escritas (aliança, rivalidade, recarga) são raras: cada uma monta um novo
+ * snapshot e o publica num campo volatile. Leituras não travam e sempre veem
+ * um snapshot completo.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class ClanRelationTable {
+
+    /** Chave vazia: IDs de clã são sempre positivos, então nenhum par empacota em 0. */
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * Conteúdo imutável da tabela.
+     */
+    private static final class Snapshot {
+        final long[] keys;
+        final ClanRelation[] values;
+        final int mask;
+        int size; // Só muda antes da publicação no campo volatile
+
+        Snapshot(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new ClanRelation[capacity];
+            this.mask = capacity - 1;
+        }
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(MIN_CAPACITY);
+
+    /**
+     * Empacota o par de IDs, independente da ordem.
+     */
+    public static long pack(int clanId1, int clanId2) {
+        int low = Math.min(clanId1, clanId2);
+        int high = Math.max(clanId1, clanId2);
+        return ((long) low << 32) | (high & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Busca a relação entre dois clãs (ordem indiferente). Não aloca.
+     *
+     * @return A relação ou null se não houver
+     */
+    public ClanRelation get(int clanId1, int clanId2) {
+        if (clanId1 <= 0 || clanId2 <= 0 || clanId1 == clanId2) {
+            return null;
+        }
+        long key = pack(clanId1, clanId2);
+        Snapshot current = snapshot;
+        int index = slot(key, current.mask);
+        while (true) {
+            long candidate = current.keys[index];
+            if (candidate == key) {
+                return current.values[index];
+            }
+            if (candidate == EMPTY) {
+                return null;
+            }
+            index = (index + 1) & current.mask;
+        }
+    }
+
+    /**
+     * Verifica se dois clãs têm a relação informada. Não aloca.
+     */
+    public boolean hasRelation(int clanId1, int clanId2, ClanRelation.RelationType type) {
+        ClanRelation relation = get(clanId1, clanId2);
+        return relation != null && relation.getType() == type;
+    }
+
+    /**
+     * Adiciona ou substitui a relação do par (uma aliança vira rivalidade e vice-versa).
+     */
+    public synchronized void put(ClanRelation relation) {
+        long key = pack(relation.getClanId1(), relation.getClanId2());
+        List<ClanRelation> relations = entries(key);
+        relations.add(relation);
+        snapshot = build(relations);
+    }
+
+    /**
+     * Remove a relação do par, se houver.
+     *
+     * @return A relação removida ou null
+     */
+    public synchronized ClanRelation remove(int clanId1, int clanId2) {
+        ClanRelation removed = get(clanId1, clanId2);
+        if (removed != null) {
+            snapshot = build(entries(pack(clanId1, clanId2)));
+        }
+        return removed;
+    }
+
+    /**
+     * Substitui todo o conteúdo (carga inicial e recarga do banco).
+     */
+    public synchronized void replaceAll(Collection<ClanRelation> relations) {
+        snapshot = build(new ArrayList<ClanRelation>(relations));
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    /**
+     * Relações atuais, exceto a do par informado.
+     */
+    private List<ClanRelation> entries(long excludedKey) {
+        Snapshot current = snapshot;
+        List<ClanRelation> relations = new ArrayList<ClanRelation>(current.size + 1);
+        for (int i = 0; i < current.keys.length; i++) {
+            if (current.keys[i] != EMPTY && current.keys[i] != excludedKey) {
+                relations.add(current.values[i]);
+            }
+        }
+        return relations;
+    }
+
+    private static Snapshot build(List<ClanRelation> relations) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < relations.size() * 2) {
+            capacity <<= 1;
+        }
+        Snapshot built = new Snapshot(capacity);
+        for (ClanRelation relation : relations) {
+            long key = pack(relation.getClanId1(), relation.getClanId2());
+            int index = slot(key, built.mask);
+            while (built.keys[index] != EMPTY && built.keys[index] != key) {
+                index = (index + 1) & built.mask;
+            }
+            if (built.keys[index] == EMPTY) {
+                built.size++;
+            }
+            built.keys[index] = key;
+            built.values[index] = relation;
+        }
+        return built;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,404 @@
+package br.com.primeleague.clans.manager;
+
+import br.com.primeleague.api.dto.ClanLogDTO;
+import br.com.primeleague.api.enums.LogActionType;
+import br.com.primeleague.clans.dao.KdrBatch;
+import br.com.primeleague.clans.dao.MySqlClanDAO;
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.database.DbExecutor;
+import org.bukkit.plugin.Plugin;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * Acumulador de kills/mortes com gravação periódica em lote.
+ *
+ * Cada morte só incrementa contadores por jogador em memória e anexa uma linha
+ * ao journal local; o flush (timer, saída de jogador e desligamento) grava os
+ * deltas somados com "kills = kills + ?" em um batch e os logs KDR_UPDATE em
+ * INSERT multi-linha, tudo numa transação fora da thread principal.
+ *
+ * Journal: as mortes vão para active.journal; cada flush o renomeia para
+ * batch-N.journal e só apaga os batches depois do commit. Numa queda, os
+ * arquivos que sobraram são reaplicados no próximo start, antes do load.
+ * Cada arquivo começa com uma chave única ("#chave") que é gravada em
+ * clan_kdr_batches na transação do lote: um arquivo que sobrou de uma queda
+ * entre o commit e a remoção é reconhecido e não conta as mortes de novo.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class KdrAccumulator {
+
+    private static final String ACTIVE_FILE = "active.journal";
+    private static final String BATCH_PREFIX = "batch-";
+    private static final String BATCH_SUFFIX = ".journal";
+    private static final String KEY_PREFIX = "#";
+    private static final int APPLIED_KEYS_RETENTION_DAYS = 30;
+
+    private final Plugin plugin;
+    private final MySqlClanDAO clanDAO;
+    private final Logger logger;
+    private final File directory;
+
+    // Protege os pendentes e o journal ativo; flushLock serializa os flushes
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    // Um lote por arquivo do journal; o último é o do active.journal
+    private List<KdrBatch> pending = new ArrayList<>();
+    // Lotes do flush em andamento (ainda não confirmados no banco)
+    private List<KdrBatch> inFlight = Collections.emptyList();
+    private KdrBatch current;
+    private BufferedWriter journal;
+    private long batchSequence;
+
+    private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+    private int taskId = -1;
+
+    public KdrAccumulator(Plugin plugin, MySqlClanDAO clanDAO) {
+        this.plugin = plugin;
+        this.clanDAO = clanDAO;
+        this.logger = plugin.getLogger();
+        this.directory = new File(plugin.getDataFolder(), "kdr-journal");
+        this.current = new KdrBatch(UUID.randomUUID().toString());
+        this.pending.add(current);
+    }
+
+    /**
+     * Reaplica no banco as mortes que ficaram no journal da execução anterior
+     * e abre um journal novo. Deve rodar antes do carregamento dos clãs.
+     */
+    public void recover() {
+        boolean idempotent = clanDAO.createKdrBatchTable();
+        if (!directory.exists() && !directory.mkdirs()) {
+            logger.severe("🚨 [KDR] Não foi possível criar " + directory + ": mortes ficarão só em memória até o flush");
+        }
+        File[] batches = directory.listFiles((dir, name) -> name.startsWith(BATCH_PREFIX) && name.endsWith(BATCH_SUFFIX));
+        if (batches == null) {
+            batches = new File[0];
+        }
+        Arrays.sort(batches, (a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+        for (File batch : batches) {
+            batchSequence = Math.max(batchSequence, sequenceOf(batch));
+        }
+
+        List<File> leftovers = new ArrayList<>(Arrays.asList(batches));
+        File active = new File(directory, ACTIVE_FILE);
+        if (active.exists()) {
+            File renamed = new File(directory, BATCH_PREFIX + (++batchSequence) + BATCH_SUFFIX);
+            if (active.renameTo(renamed)) {
+                leftovers.add(renamed);
+            } else {
+                logger.severe("🚨 [KDR] Não foi possível renomear " + active.getName() + ", mortes pendentes não serão reaplicadas");
+            }
+        }
+
+        int recovered = 0;
+        synchronized (lock) {
+            for (File file : leftovers) {
+                recovered += replay(file);
+            }
+            openJournal();
+        }
+        if (recovered > 0) {
+            logger.warning("⚠️ [KDR] Reaplicando " + recovered + " mortes do journal da execução anterior");
+            if (!flush()) {
+                logger.severe("🚨 [KDR] Falha ao reaplicar o journal; nova tentativa no próximo flush");
+            }
+        } else if (!leftovers.isEmpty()) {
+            deleteBatches(batchSequence);
+        }
+        if (idempotent) {
+            clanDAO.purgeKdrBatches(APPLIED_KEYS_RETENTION_DAYS);
+        }
+    }
+
+    /**
+     * Agenda o flush periódico.
+     *
+     * @param intervalTicks Intervalo entre flushes
+     */
+    public void start(long intervalTicks) {
+        long interval = Math.max(20L, intervalTicks);
+        taskId = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, this::requestFlush, interval, interval);
+    }
+
+    /**
+     * Registra uma morte (thread principal). Só memória e journal local.
+     */
+    public void record(int clanId, int killerId, String killerName, int victimId, String victimName) {
+        long now = System.currentTimeMillis();
+        ClanLogDTO log = new ClanLogDTO();
+        log.setClanId(clanId);
+        log.setActorPlayerId(killerId);
+        log.setActorName(killerName);
+        log.setActionType(LogActionType.KDR_UPDATE);
+        log.setTargetPlayerId(victimId);
+        log.setTargetName(victimName);
+        log.setDetails("KDR atualizado: " + killerName + " matou " + victimName);
+        log.setTimestamp(now);
+
+        synchronized (lock) {
+            if (journal != null) {
+                try {
+                    journal.write(now + "\t" + clanId + "\t" + killerId + "\t" + killerName + "\t" + victimId + "\t" + victimName);
+                    journal.newLine();
+                    journal.flush();
+                } catch (IOException e) {
+                    logger.severe("🚨 [KDR] Falha ao gravar no journal, morte só em memória até o flush: " + e.getMessage());
+                }
+            }
+            current.add(log);
+        }
+    }
+
+    /**
+     * Agenda um flush no executor de banco (coalescido: no máximo um na fila).
+     */
+    public void requestFlush() {
+        if (!hasPending() || !flushQueued.compareAndSet(false, true)) {
+            return;
+        }
+        boolean accepted = PrimeLeagueAPI.getDbExecutor().tryExecute(DbExecutor.Priority.BACKGROUND, "clan.kdr.flush", () -> {
+            flushQueued.set(false);
+            flush();
+        });
+        if (!accepted) {
+            flushQueued.set(false);
+        }
+    }
+
+    /**
+     * Grava os pendentes no banco (bloqueante). Em caso de falha eles voltam
+     * para o acumulador e os arquivos de batch continuam no disco.
+     *
+     * @return true se não havia nada pendente ou o lote foi confirmado
+     */
+    public boolean flush() {
+        synchronized (flushLock) {
+            List<KdrBatch> batches;
+            long sequence;
+            synchronized (lock) {
+                if (!hasPendingLocked()) {
+                    return true;
+                }
+                batches = new ArrayList<>(pending.size());
+                for (KdrBatch batch : pending) {
+                    if (!batch.isEmpty()) {
+                        batches.add(batch);
+                    }
+                }
+                inFlight = batches;
+                sequence = rotateJournal();
+            }
+
+            boolean applied = clanDAO.applyKdrBatches(batches);
+            synchronized (lock) {
+                inFlight = Collections.emptyList();
+                if (!applied) {
+                    // Os lotes voltam antes do atual, com as mesmas chaves
+                    batches.addAll(pending);
+                    pending = batches;
+                }
+            }
+            if (applied) {
+                deleteBatches(sequence);
+            }
+            return applied;
+        }
+    }
+
+    /**
+     * Cancela o timer, grava os pendentes e fecha o journal (onDisable).
+     */
+    public void shutdown() {
+        if (taskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+        if (!flush()) {
+            logger.severe("🚨 [KDR] Mortes pendentes não gravadas no desligamento; serão reaplicadas do journal no próximo start");
+        }
+        synchronized (lock) {
+            closeJournal();
+        }
+    }
+
+    /**
+     * @return Mortes aguardando o próximo flush
+     */
+    public int getPendingCount() {
+        synchronized (lock) {
+            int count = 0;
+            for (KdrBatch batch : pending) {
+                count += batch.getLogs().size();
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Kills/mortes ainda não confirmados no banco (pendentes e flush em andamento),
+     * para somar aos valores de um snapshot lido do banco.
+     *
+     * @return player_id -> {kills, mortes}
+     */
+    public Map<Integer, int[]> getUnflushedDeltas() {
+        Map<Integer, int[]> totals = new HashMap<>();
+        synchronized (lock) {
+            for (List<KdrBatch> batches : Arrays.asList(inFlight, pending)) {
+                for (KdrBatch batch : batches) {
+                    for (Map.Entry<Integer, int[]> entry : batch.getDeltas().entrySet()) {
+                        KdrBatch.addDelta(totals, entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+                    }
+                }
+            }
+        }
+        return totals;
+    }
+
+    private boolean hasPending() {
+        synchronized (lock) {
+            return hasPendingLocked();
+        }
+    }
+
+    private boolean hasPendingLocked() {
+        for (KdrBatch batch : pending) {
+            if (!batch.isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fecha o journal ativo como batch-N e abre um novo (com um lote novo).
+     *
+     * @return N (batches até ele entram no lote que está sendo gravado)
+     */
+    private long rotateJournal() {
+        closeJournal();
+        long sequence = ++batchSequence;
+        File active = new File(directory, ACTIVE_FILE);
+        if (active.exists() && !active.renameTo(new File(directory, BATCH_PREFIX + sequence + BATCH_SUFFIX))) {
+            logger.severe("🚨 [KDR] Não foi possível rotacionar o journal de KDR; o lote atual fica só em memória até o commit");
+        }
+        pending = new ArrayList<>();
+        openJournal();
+        return sequence;
+    }
+
+    /**
+     * Abre um active.journal novo, com a chave de um lote novo no cabeçalho.
+     */
+    private void openJournal() {
+        current = new KdrBatch(UUID.randomUUID().toString());
+        pending.add(current);
+        try {
+            journal = new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(new File(directory, ACTIVE_FILE), false), StandardCharsets.UTF_8));
+            journal.write(KEY_PREFIX + current.getKey());
+            journal.newLine();
+            journal.flush();
+        } catch (IOException e) {
+            closeJournal();
+            logger.severe("🚨 [KDR] Não foi possível abrir o journal de KDR: " + e.getMessage());
+        }
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                logger.warning("⚠️ [KDR] Erro ao fechar o journal: " + e.getMessage());
+            }
+            journal = null;
+        }
+    }
+
+    private void deleteBatches(long upToSequence) {
+        File[] batches = directory.listFiles((dir, name) -> name.startsWith(BATCH_PREFIX) && name.endsWith(BATCH_SUFFIX));
+        if (batches == null) {
+            return;
+        }
+        for (File batch : batches) {
+            if (sequenceOf(batch) <= upToSequence && !batch.delete()) {
+                logger.warning("⚠️ [KDR] Não foi possível remover " + batch.getName() + " (será reaplicado no próximo start)");
+            }
+        }
+    }
+
+    /**
+     * Carrega as mortes de um arquivo do journal como um lote pendente (sem regravar no journal).
+     *
+     * @return Mortes lidas
+     */
+    private int replay(File file) {
+        KdrBatch batch = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (batch == null) {
+                    // Journal sem cabeçalho (versão anterior): lote sem chave, aplicado sem checagem
+                    batch = new KdrBatch(line.startsWith(KEY_PREFIX) ? line.substring(KEY_PREFIX.length()) : null);
+                    if (batch.getKey() != null) {
+                        continue;
+                    }
+                }
+                String[] parts = line.split("\t");
+                if (parts.length != 6) {
+                    continue; // Linha incompleta (queda durante a gravação)
+                }
+                try {
+                    ClanLogDTO log = new ClanLogDTO();
+                    log.setTimestamp(Long.parseLong(parts[0]));
+                    log.setClanId(Integer.parseInt(parts[1]));
+                    log.setActorPlayerId(Integer.parseInt(parts[2]));
+                    log.setActorName(parts[3]);
+                    log.setActionType(LogActionType.KDR_UPDATE);
+                    log.setTargetPlayerId(Integer.parseInt(parts[4]));
+                    log.setTargetName(parts[5]);
+                    log.setDetails("KDR atualizado: " + parts[3] + " matou " + parts[5]);
+                    batch.add(log);
+                } catch (NumberFormatException e) {
+                    logger.warning("⚠️ [KDR] Linha inválida ignorada em " + file.getName());
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("🚨 [KDR] Falha ao ler " + file.getName() + ": " + e.getMessage());
+        }
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+        pending.add(batch);
+        return batch.getLogs().size();
+    }
+
+    private static long sequenceOf(File batch) {
+        String name = batch.getName();
+        try {
+            return Long.parseLong(name.substring(BATCH_PREFIX.length(), name.length() - BATCH_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.primeleague.clans.model;
+
+import br.com.primeleague.api.dto.ClanLogDTO;
+import br.com.primeleague.api.enums.LogActionType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estado de um clã reconstruído a partir do histórico de logs (auditoria).
+ *
+ * Os eventos devem ser aplicados em ordem cronológica. O resultado reflete só
+ * o que foi registrado em clan_logs: serve para conferir o estado atual com o
+ * histórico, não para substituir as tabelas do clã.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public class ClanAuditState {
+
+    private final int clanId;
+    private final Map<Integer, String> members = new LinkedHashMap<>();
+    private final Map<Integer, int[]> kdr = new HashMap<>();
+    private final Map<LogActionType, Integer> actionCounts = new EnumMap<>(LogActionType.class);
+    private int founderPlayerId;
+    private boolean disbanded;
+    private long eventCount;
+    private long firstTimestamp;
+    private long lastTimestamp;
+
+    public ClanAuditState(int clanId) {
+        this.clanId = clanId;
+    }
+
+    /**
+     * Aplica um evento do histórico.
+     */
+    public void apply(ClanLogDTO log) {
+        LogActionType type = log.getActionType();
+        switch (type) {
+            case CLAN_CREATE:
+                disbanded = false;
+                founderPlayerId = log.getActorPlayerId();
+                members.put(log.getActorPlayerId(), log.getActorName());
+                break;
+            case CLAN_DISBAND:
+                disbanded = true;
+                members.clear();
+                break;
+            case PLAYER_JOIN:
+                members.put(log.getActorPlayerId(), log.getActorName());
+                break;
+            case PLAYER_LEAVE:
+                members.remove(log.getActorPlayerId());
+                break;
+            case PLAYER_KICK:
+                members.remove(log.getTargetPlayerId());
+                break;
+            case FOUNDER_CHANGE:
+                founderPlayerId = log.getTargetPlayerId();
+                members.put(log.getTargetPlayerId(), log.getTargetName());
+                break;
+            case KDR_UPDATE:
+                kdrOf(log.getActorPlayerId())[0]++;
+                kdrOf(log.getTargetPlayerId())[1]++;
+                break;
+            default:
+                break;
+        }
+
+        Integer count = actionCounts.get(type);
+        actionCounts.put(type, count == null ? 1 : count + 1);
+        if (eventCount == 0) {
+            firstTimestamp = log.getTimestamp();
+        }
+        lastTimestamp = log.getTimestamp();
+        eventCount++;
+    }
+
+    private int[] kdrOf(int playerId) {
+        int[] totals = kdr.get(playerId);
+        if (totals == null) {
+            totals = new int[2];
+            kdr.put(playerId, totals);
+        }
+        return totals;
+    }
+
+    public int getClanId() {
+        return clanId;
+    }
+
+    /**
+     * @return player_id -> nome dos membros segundo o histórico
+     */
+    public Map<Integer, String> getMembers() {
+        return Collections.unmodifiableMap(members);
+    }
+
+    public int getFounderPlayerId() {
+        return founderPlayerId;
+    }
+
+    public boolean isDisbanded() {
+        return disbanded;
+    }
+
+    /**
+     * @return Kills registradas no histórico para o jogador
+     */
+    public int getKills(int playerId) {
+        int[] totals = kdr.get(playerId);
+        return totals != null ? totals[0] : 0;
+    }
+
+    /**
+     * @return Mortes registradas no histórico para o jogador
+     */
+    public int getDeaths(int playerId) {
+        int[] totals = kdr.get(playerId);
+        return totals != null ? totals[1] : 0;
+    }
+
+    public int getActionCount(LogActionType type) {
+        Integer count = actionCounts.get(type);
+        return count != null ? count : 0;
+    }
+
+    public long getEventCount() {
+        return eventCount;
+    }
+
+    public long getFirstTimestamp() {
+        return firstTimestamp;
+    }
+
+    public long getLastTimestamp() {
+        return lastTimestamp;
+    }
+}
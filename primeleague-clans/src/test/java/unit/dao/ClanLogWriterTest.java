@@ -0,0 +1,81 @@
+package unit.dao;
+
+import br.com.primeleague.api.dto.ClanLogDTO;
+import br.com.primeleague.api.enums.LogActionType;
+import br.com.primeleague.clans.dao.ClanLogWriter;
+import br.com.primeleague.clans.dao.MySqlClanDAO;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - ClanLogWriter")
+class ClanLogWriterTest {
+
+    private MySqlClanDAO clanDAO;
+    private DbExecutor dbExecutor;
+    private MetricsRegistry metrics;
+    private ClanLogWriter writer;
+
+    // Tarefas aceitas pelo DbExecutor, executadas à mão pelo teste
+    private final List<Runnable> dbTasks = new ArrayList<>();
+    private boolean executorFull;
+
+    @BeforeEach
+    void setUp() {
+        clanDAO = mock(MySqlClanDAO.class);
+        dbExecutor = mock(DbExecutor.class);
+        when(dbExecutor.tryExecute(any(), anyString(), any())).thenAnswer(invocation -> {
+            if (executorFull) {
+                return false;
+            }
+            dbTasks.add(invocation.getArgument(2));
+            return true;
+        });
+        metrics = new MetricsRegistry();
+        // Sem start: toda submissão cai no caminho de fila indisponível
+        writer = new ClanLogWriter(clanDAO, dbExecutor, Logger.getLogger("ClanLogWriterTest"), metrics, 16, 10, 1000L);
+    }
+
+    private static ClanLogDTO log() {
+        return new ClanLogDTO(1, 10, "Steve", LogActionType.CLAN_CREATE, 0, null, "teste");
+    }
+
+    @Test
+    @DisplayName("Writer parado deve entregar o log ao DbExecutor sem gravar na thread de quem chamou")
+    void testStoppedWriterHandsOffToExecutor() {
+        writer.submit(log());
+
+        verify(dbExecutor).tryExecute(eq(DbExecutor.Priority.BACKGROUND), anyString(), any());
+        verifyNoInteractions(clanDAO);
+        assertEquals(1L, metrics.counter("clan_logs.overflow_writes").sum());
+
+        dbTasks.get(0).run();
+
+        assertEquals(1L, metrics.counter("clan_logs.written").sum());
+        assertEquals(0L, metrics.counter("clan_logs.dropped").sum());
+    }
+
+    @Test
+    @DisplayName("Executor cheio deve descartar e contar o log sem acessar o banco")
+    void testDropsWhenExecutorFull() {
+        executorFull = true;
+
+        writer.submit(log());
+        writer.submit(log());
+
+        verifyNoInteractions(clanDAO);
+        assertTrue(dbTasks.isEmpty());
+        assertEquals(2L, metrics.counter("clan_logs.dropped").sum());
+        assertEquals(0L, metrics.counter("clan_logs.written").sum());
+    }
+}
@@ -0,0 +1,187 @@
+package unit.manager;
+
+import br.com.primeleague.api.dto.ClanRankingInfoDTO;
+import br.com.primeleague.clans.manager.ClanLeaderboard;
+import br.com.primeleague.clans.manager.ClanLeaderboard.Criterion;
+import br.com.primeleague.clans.model.Clan;
+import br.com.primeleague.clans.model.ClanPlayer;
+import br.com.primeleague.clans.model.ClanPlayer.ClanRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ClanLeaderboard")
+class ClanLeaderboardTest {
+
+    private ClanLeaderboard leaderboard;
+    private Clan alpha;
+    private Clan bravo;
+    private Clan charlie;
+
+    @BeforeEach
+    void setUp() {
+        alpha = new Clan(1, "ALP", "Alpha", "Fundador1", 100);
+        bravo = new Clan(2, "BRV", "Bravo", "Fundador2", 300);
+        charlie = new Clan(3, "CHL", "Charlie", "Fundador3", 100);
+
+        List<ClanPlayer> players = Arrays.asList(
+            player("a1", 11, alpha, 10, 2),
+            player("a2", 12, alpha, 4, 4),
+            player("b1", 21, bravo, 1, 5),
+            player("c1", 31, charlie, 3, 0),
+            player("semclan", 41, null, 50, 0));
+
+        ClanRankingInfoDTO charlieWins = new ClanRankingInfoDTO();
+        Map<String, Integer> wins = new HashMap<>();
+        wins.put("Torneio", 2);
+        charlieWins.setWins(wins);
+        charlieWins.setTotalWins(2);
+
+        Map<Integer, ClanRankingInfoDTO> eventWins = new HashMap<>();
+        eventWins.put(charlie.getId(), charlieWins);
+
+        leaderboard = new ClanLeaderboard();
+        leaderboard.rebuild(Arrays.asList(alpha, bravo, charlie), players, eventWins);
+    }
+
+    private static ClanPlayer player(String name, int playerId, Clan clan, int kills, int deaths) {
+        ClanPlayer player = new ClanPlayer(name, playerId, clan, ClanRole.MEMBRO, 0L);
+        player.setKills(kills);
+        player.setDeaths(deaths);
+        return player;
+    }
+
+    private List<String> topTags(Criterion criterion) {
+        List<String> tags = new ArrayList<>();
+        for (ClanRankingInfoDTO info : leaderboard.getTop(criterion, 0, 10)) {
+            tags.add(info.getTag());
+        }
+        return tags;
+    }
+
+    @Test
+    @DisplayName("Deve ordenar por critério com desempate pelo menor ID")
+    void testRebuildOrder() {
+        assertEquals(Arrays.asList("BRV", "ALP", "CHL"), topTags(Criterion.RANKING_POINTS));
+        assertEquals(Arrays.asList("ALP", "BRV", "CHL"), topTags(Criterion.MEMBER_COUNT));
+        assertEquals(Arrays.asList("ALP", "CHL", "BRV"), topTags(Criterion.TOTAL_KILLS));
+        assertEquals(Arrays.asList("CHL", "ALP", "BRV"), topTags(Criterion.KDR));
+        assertEquals(Arrays.asList("CHL", "ALP", "BRV"), topTags(Criterion.TOTAL_WINS));
+        assertEquals(3, leaderboard.size());
+    }
+
+    @Test
+    @DisplayName("Deve preencher posição e totais do clã")
+    void testInfo() {
+        ClanRankingInfoDTO info = leaderboard.getInfo(Criterion.TOTAL_KILLS, alpha.getId());
+
+        assertEquals(1, info.getRank());
+        assertEquals(2, info.getMemberCount());
+        assertEquals(14, info.getTotalKills());
+        assertEquals(6, info.getTotalDeaths());
+        assertEquals(2.33, info.getClanKdr(), 0.001);
+        assertNull(leaderboard.getInfo(Criterion.TOTAL_KILLS, 99));
+        assertEquals(0, leaderboard.getRank(Criterion.TOTAL_KILLS, 99));
+    }
+
+    @Test
+    @DisplayName("Deve paginar pelo offset, com a posição absoluta")
+    void testPagination() {
+        List<ClanRankingInfoDTO> page = leaderboard.getTop(Criterion.RANKING_POINTS, 1, 5);
+
+        assertEquals(2, page.size());
+        assertEquals("ALP", page.get(0).getTag());
+        assertEquals(2, page.get(0).getRank());
+        assertEquals(3, page.get(1).getRank());
+        assertTrue(leaderboard.getTop(Criterion.RANKING_POINTS, 3, 5).isEmpty());
+        assertTrue(leaderboard.getTop(Criterion.RANKING_POINTS, 0, 0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Atualizações devem reposicionar só o clã alterado")
+    void testUpdates() {
+        charlie.setRankingPoints(500);
+        leaderboard.updateClan(charlie);
+        assertEquals(1, leaderboard.getRank(Criterion.RANKING_POINTS, charlie.getId()));
+        assertEquals(2, leaderboard.getRank(Criterion.RANKING_POINTS, bravo.getId()));
+
+        leaderboard.addKdr(bravo.getId(), 20, 0);
+        assertEquals(1, leaderboard.getRank(Criterion.TOTAL_KILLS, bravo.getId()));
+        assertEquals(21, leaderboard.getInfo(Criterion.TOTAL_KILLS, bravo.getId()).getTotalKills());
+
+        leaderboard.addWin(alpha.getId(), "Torneio", 1000L);
+        leaderboard.addWin(alpha.getId(), "Torneio", 500L);
+        leaderboard.addWin(alpha.getId(), "Arena", 2000L);
+        ClanRankingInfoDTO alphaWins = leaderboard.getInfo(Criterion.TOTAL_WINS, alpha.getId());
+        assertEquals(1, alphaWins.getRank());
+        assertEquals(3, alphaWins.getTotalWins());
+        assertEquals(Integer.valueOf(2), alphaWins.getWins().get("Torneio"));
+        assertEquals(2000L, alphaWins.getLastWinDate().getTime());
+
+        leaderboard.setMemberStats(alpha.getId(), 0, 0, 0);
+        assertEquals(3, leaderboard.getRank(Criterion.MEMBER_COUNT, alpha.getId()));
+    }
+
+    @Test
+    @DisplayName("Clã novo e clã removido devem entrar e sair de todos os critérios")
+    void testAddAndRemoveClan() {
+        Clan delta = new Clan(4, "DLT", "Delta", "Fundador4", 1000);
+        leaderboard.updateClan(delta);
+        assertEquals(1, leaderboard.getRank(Criterion.RANKING_POINTS, delta.getId()));
+        assertEquals(4, leaderboard.getRank(Criterion.MEMBER_COUNT, delta.getId()));
+
+        leaderboard.removeClan(bravo.getId());
+        assertEquals(0, leaderboard.getRank(Criterion.RANKING_POINTS, bravo.getId()));
+        assertEquals(Arrays.asList("DLT", "ALP", "CHL"), topTags(Criterion.RANKING_POINTS));
+        for (Criterion criterion : Criterion.values()) {
+            assertEquals(3, leaderboard.getTop(criterion, 0, 10).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Posição e seleção devem bater com uma ordenação completa após muitas atualizações")
+    void testRankAndSelectMatchFullSort() {
+        Random random = new Random(42L);
+        int clanCount = 300;
+        List<Clan> clans = new ArrayList<>();
+        for (int id = 1; id <= clanCount; id++) {
+            clans.add(new Clan(id, "T" + id, "Clan" + id, "F" + id, random.nextInt(50)));
+        }
+        leaderboard.rebuild(clans, Collections.<ClanPlayer>emptyList(), Collections.<Integer, ClanRankingInfoDTO>emptyMap());
+
+        for (int i = 0; i < 3000; i++) {
+            Clan clan = clans.get(random.nextInt(clanCount));
+            clan.setRankingPoints(random.nextInt(50));
+            leaderboard.updateClan(clan);
+        }
+
+        List<Clan> expected = new ArrayList<>(clans);
+        expected.sort((a, b) -> a.getRankingPoints() != b.getRankingPoints()
+            ? Integer.compare(b.getRankingPoints(), a.getRankingPoints())
+            : Integer.compare(a.getId(), b.getId()));
+
+        List<ClanRankingInfoDTO> top = leaderboard.getTop(Criterion.RANKING_POINTS, 0, clanCount);
+        assertEquals(clanCount, top.size());
+        for (int i = 0; i < clanCount; i++) {
+            Clan clan = expected.get(i);
+            assertEquals(clan.getTag(), top.get(i).getTag());
+            assertEquals(i + 1, leaderboard.getRank(Criterion.RANKING_POINTS, clan.getId()));
+        }
+
+        List<ClanRankingInfoDTO> page = leaderboard.getTop(Criterion.RANKING_POINTS, 137, 20);
+        for (int i = 0; i < page.size(); i++) {
+            assertEquals(expected.get(137 + i).getTag(), page.get(i).getTag());
+            assertEquals(138 + i, page.get(i).getRank());
+        }
+    }
+}
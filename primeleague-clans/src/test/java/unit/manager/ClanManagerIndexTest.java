@@ -0,0 +1,213 @@
+package unit.manager;
+
+import br.com.primeleague.api.dto.ClanDTO;
+import br.com.primeleague.api.dto.ClanPlayerDTO;
+import br.com.primeleague.api.dto.ClanRankingInfoDTO;
+import br.com.primeleague.api.dto.ClanRelationDTO;
+import br.com.primeleague.clans.PrimeLeagueClans;
+import br.com.primeleague.clans.dao.MySqlClanDAO;
+import br.com.primeleague.clans.manager.ClanManager;
+import br.com.primeleague.clans.manager.KickResult;
+import br.com.primeleague.clans.model.Clan;
+import br.com.primeleague.clans.model.ClanPlayer;
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.managers.IdentityManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - Índices do ClanManager")
+class ClanManagerIndexTest {
+
+    @TempDir
+    File dataFolder;
+
+    // Snapshot devolvido pelo DAO no próximo load()
+    private final Map<Integer, ClanDTO> clanDTOs = new HashMap<>();
+    private final Map<Integer, ClanPlayerDTO> playerDTOs = new HashMap<>();
+    // Nome (minúsculo) -> player_id conhecido pelo IdentityManager
+    private final Map<String, Integer> playerIds = new HashMap<>();
+
+    private MockedConstruction<MySqlClanDAO> mockedDAO;
+    private MockedStatic<PrimeLeagueAPI> mockedAPI;
+    private IdentityManager identityManager;
+    private ClanManager clanManager;
+
+    @BeforeEach
+    void setUp() {
+        if (Bukkit.getServer() == null) {
+            Server bukkitServer = mock(Server.class);
+            when(bukkitServer.getLogger()).thenReturn(Logger.getLogger("ClanManagerIndexTest"));
+            Bukkit.setServer(bukkitServer);
+        }
+
+        PrimeLeagueClans plugin = mock(PrimeLeagueClans.class);
+        Server server = mock(Server.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("ClanManagerIndexTest"));
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        FileConfiguration config = mock(FileConfiguration.class);
+        when(config.getInt(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(plugin.getConfig()).thenReturn(config);
+
+        identityManager = mock(IdentityManager.class);
+        when(identityManager.getPlayerIdByName(anyString())).thenAnswer(invocation -> playerIds.get(invocation.<String>getArgument(0).toLowerCase()));
+        mockedAPI = mockStatic(PrimeLeagueAPI.class);
+        mockedAPI.when(PrimeLeagueAPI::getIdentityManager).thenReturn(identityManager);
+
+        // O ClanManager cria o próprio DAO: a construção é interceptada para responder com os mapas acima
+        mockedDAO = mockConstruction(MySqlClanDAO.class, (dao, context) -> {
+            when(dao.loadAllClans()).thenAnswer(invocation -> new HashMap<>(clanDTOs));
+            when(dao.loadAllClanPlayers(anyMap())).thenAnswer(invocation -> new HashMap<>(playerDTOs));
+            when(dao.loadAllClanRelations()).thenReturn(Collections.<ClanRelationDTO>emptyList());
+            when(dao.loadEventWinSummaries()).thenReturn(Collections.<Integer, ClanRankingInfoDTO>emptyMap());
+            when(dao.createClan(any(ClanDTO.class))).thenAnswer(invocation -> {
+                ClanDTO created = invocation.getArgument(0);
+                created.setId(100 + clanDTOs.size());
+                return created;
+            });
+        });
+        clanManager = new ClanManager(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mockedDAO.close();
+        mockedAPI.close();
+    }
+
+    private void putClan(int id, String tag, String name) {
+        clanDTOs.put(id, new ClanDTO(id, tag, name, 0, "Fundador", new Date(), false, 0, 1000));
+    }
+
+    private void putPlayer(int playerId, String name, int clanId) {
+        playerDTOs.put(playerId, new ClanPlayerDTO(playerId, name, clanId, 1, new Date(), 0, 0));
+        playerIds.put(name.toLowerCase(), playerId);
+    }
+
+    private Player onlinePlayer(int playerId, String name) {
+        Player player = mock(Player.class);
+        when(player.getName()).thenReturn(name);
+        when(identityManager.getPlayerId(player)).thenReturn(playerId);
+        playerIds.put(name.toLowerCase(), playerId);
+        return player;
+    }
+
+    private void assertIndexesConsistent() {
+        assertEquals(Collections.emptyList(), clanManager.verifyIndexes());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar clãs por tag e nome e membros por nome, ignorando caixa")
+    void testLookupsIgnoreCase() {
+        putClan(1, "ALP", "Alpha");
+        putClan(2, "Brv", "Bravo");
+        putPlayer(11, "Steve", 1);
+        putPlayer(21, "Alex", 2);
+        clanManager.load();
+        assertIndexesConsistent();
+
+        Clan alpha = clanManager.getClanById(1);
+        assertSame(alpha, clanManager.getClanByTag("alp"));
+        assertSame(alpha, clanManager.getClanByTag("ALP"));
+        assertSame(alpha, clanManager.getClanByName("ALPHA"));
+        assertSame(clanManager.getClanById(2), clanManager.getClanByTag("BRV"));
+
+        ClanPlayer steve = clanManager.getClanPlayerByName("STEVE");
+        assertEquals(11, steve.getPlayerId());
+        assertSame(steve, clanManager.getClanPlayer(11));
+        assertEquals("Brv", clanManager.getClanByPlayerName("alex").getTag());
+
+        assertNull(clanManager.getClanByTag("XYZ"));
+        assertNull(clanManager.getClanByName(null));
+        assertNull(clanManager.getClanPlayerByName("Notch"));
+    }
+
+    @Test
+    @DisplayName("Criação, entrada, expulsão, saída e dissolução devem manter os índices consistentes")
+    void testMutationsKeepIndexesConsistent() {
+        putClan(1, "ALP", "Alpha");
+        putPlayer(11, "Steve", 1);
+        clanManager.load();
+
+        Player alex = onlinePlayer(21, "Alex");
+        Clan created = clanManager.createClan("NEW", "Novo Clã", alex);
+        assertNotNull(created);
+        assertIndexesConsistent();
+        assertSame(created, clanManager.getClanByTag("new"));
+        assertSame(created, clanManager.getClanByName("NOVO CLÃ"));
+        assertSame(created, clanManager.getClanByPlayerName("alex"));
+        assertNull(clanManager.createClan("new", "Outro", onlinePlayer(22, "Herobrine")));
+
+        Player notch = onlinePlayer(31, "Notch");
+        assertTrue(clanManager.addPlayerToClan(created, notch, ClanPlayer.ClanRole.MEMBRO));
+        assertIndexesConsistent();
+        assertSame(created, clanManager.getClanByPlayerName("NOTCH"));
+
+        assertEquals(KickResult.SUCCESS, clanManager.kickPlayerFromClan(created, "notch", "Alex"));
+        assertIndexesConsistent();
+        assertNull(clanManager.getClanPlayerByName("Notch"));
+
+        assertTrue(clanManager.addPlayerToClan(created, notch, ClanPlayer.ClanRole.MEMBRO));
+        assertTrue(clanManager.removePlayerFromClan(created, "Notch"));
+        assertIndexesConsistent();
+        assertNull(clanManager.getClanPlayerByName("notch"));
+        assertNull(clanManager.getClanPlayer(31));
+
+        assertTrue(clanManager.disbandClan(created));
+        assertIndexesConsistent();
+        assertNull(clanManager.getClanByTag("NEW"));
+        assertNull(clanManager.getClanByName("Novo Clã"));
+        assertSame(clanManager.getClanById(1), clanManager.getClanByTag("alp"));
+    }
+
+    @Test
+    @DisplayName("Recarga deve remover entradas de clãs e membros que mudaram ou saíram")
+    void testReloadDropsStaleEntries() {
+        putClan(1, "ALP", "Alpha");
+        putClan(2, "BRV", "Bravo");
+        putPlayer(11, "Steve", 1);
+        putPlayer(21, "Alex", 2);
+        clanManager.load();
+
+        clanDTOs.remove(2);
+        putClan(1, "NEW", "Alpha Renomeado");
+        playerDTOs.remove(21);
+        putPlayer(11, "Steve2", 1);
+        clanManager.load();
+        assertIndexesConsistent();
+
+        assertNull(clanManager.getClanByTag("ALP"));
+        assertNull(clanManager.getClanByName("Alpha"));
+        assertNull(clanManager.getClanByTag("BRV"));
+        assertNull(clanManager.getClanByName("Bravo"));
+        assertSame(clanManager.getClanById(1), clanManager.getClanByTag("new"));
+        assertSame(clanManager.getClanById(1), clanManager.getClanByName("alpha renomeado"));
+
+        assertNull(clanManager.getClanPlayerByName("Steve"));
+        assertNull(clanManager.getClanPlayerByName("Alex"));
+        assertEquals(11, clanManager.getClanPlayerByName("STEVE2").getPlayerId());
+        assertSame(clanManager.getClanById(1), clanManager.getClanByPlayerName("steve2"));
+    }
+}
@@ -0,0 +1,120 @@
+package unit.manager;
+
+import br.com.primeleague.clans.manager.ClanRelationTable;
+import br.com.primeleague.clans.model.ClanRelation;
+import br.com.primeleague.clans.model.ClanRelation.RelationType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - ClanRelationTable")
+class ClanRelationTableTest {
+
+    private ClanRelationTable table;
+
+    @BeforeEach
+    void setUp() {
+        table = new ClanRelationTable();
+    }
+
+    @Test
+    @DisplayName("Deve empacotar o par independente da ordem e sem colisão entre pares")
+    void testPack() {
+        assertEquals(ClanRelationTable.pack(3, 7), ClanRelationTable.pack(7, 3));
+        assertEquals((3L << 32) | 7L, ClanRelationTable.pack(7, 3));
+        assertNotEquals(ClanRelationTable.pack(1, 2), ClanRelationTable.pack(2, 3));
+        assertNotEquals(ClanRelationTable.pack(1, 3), ClanRelationTable.pack(3, 3));
+        assertEquals(0x7FFFFFFE7FFFFFFFL, ClanRelationTable.pack(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+        assertNotEquals(0L, ClanRelationTable.pack(1, 1), "Nenhum par válido empacota na chave vazia");
+    }
+
+    @Test
+    @DisplayName("Deve encontrar a relação nos dois sentidos")
+    void testGetBothDirections() {
+        ClanRelation alliance = new ClanRelation(5, 9, RelationType.ALLY);
+        table.put(alliance);
+
+        assertSame(alliance, table.get(5, 9));
+        assertSame(alliance, table.get(9, 5));
+        assertTrue(table.hasRelation(9, 5, RelationType.ALLY));
+        assertFalse(table.hasRelation(9, 5, RelationType.RIVAL));
+        assertNull(table.get(5, 10));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar IDs inválidos e o próprio clã")
+    void testInvalidIds() {
+        table.put(new ClanRelation(1, 2, RelationType.RIVAL));
+
+        assertNull(table.get(0, 2));
+        assertNull(table.get(-1, 2));
+        assertNull(table.get(2, 2));
+    }
+
+    @Test
+    @DisplayName("Nova relação do par deve substituir a anterior")
+    void testPutReplaces() {
+        table.put(new ClanRelation(1, 2, RelationType.ALLY));
+        table.put(new ClanRelation(2, 1, RelationType.RIVAL));
+
+        assertEquals(1, table.size());
+        assertTrue(table.hasRelation(1, 2, RelationType.RIVAL));
+    }
+
+    @Test
+    @DisplayName("Remover deve devolver a relação e manter as demais acessíveis")
+    void testRemove() {
+        List<ClanRelation> relations = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            relations.add(new ClanRelation(i, i + 1, i % 2 == 0 ? RelationType.ALLY : RelationType.RIVAL));
+        }
+        table.replaceAll(relations);
+
+        ClanRelation removed = table.remove(11, 10);
+        assertNotNull(removed);
+        assertEquals(10, removed.getClanId1());
+        assertNull(table.remove(10, 11));
+        assertNull(table.get(10, 11));
+        assertEquals(39, table.size());
+        for (ClanRelation relation : relations) {
+            if (relation != removed) {
+                assertSame(relation, table.get(relation.getClanId2(), relation.getClanId1()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve crescer além da capacidade inicial e aceitar IDs altos")
+    void testGrowthAndLargeIds() {
+        List<ClanRelation> relations = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            relations.add(new ClanRelation(i, 1000000 + i * 7919, RelationType.ALLY));
+        }
+        relations.add(new ClanRelation(Integer.MAX_VALUE - 1, Integer.MAX_VALUE, RelationType.RIVAL));
+        table.replaceAll(relations);
+
+        assertEquals(501, table.size());
+        for (ClanRelation relation : relations) {
+            assertSame(relation, table.get(relation.getClanId1(), relation.getClanId2()));
+        }
+        assertNull(table.get(1, 1000000 + 2 * 7919));
+    }
+
+    @Test
+    @DisplayName("Recarga deve descartar o conteúdo anterior")
+    void testReplaceAll() {
+        table.put(new ClanRelation(1, 2, RelationType.ALLY));
+        table.replaceAll(Arrays.asList(new ClanRelation(3, 4, RelationType.RIVAL)));
+
+        assertNull(table.get(1, 2));
+        assertTrue(table.hasRelation(4, 3, RelationType.RIVAL));
+        assertEquals(1, table.size());
+    }
+}
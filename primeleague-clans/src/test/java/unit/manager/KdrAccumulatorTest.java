@@ -0,0 +1,195 @@
+package unit.manager;
+
+import br.com.primeleague.clans.dao.KdrBatch;
+import br.com.primeleague.clans.dao.MySqlClanDAO;
+import br.com.primeleague.clans.manager.KdrAccumulator;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes Unitários - KdrAccumulator")
+class KdrAccumulatorTest {
+
+    @Mock private Plugin mockPlugin;
+    @Mock private MySqlClanDAO mockDAO;
+
+    @TempDir
+    File dataFolder;
+
+    // Lotes recebidos pelo DAO, na ordem das chamadas
+    private final List<List<KdrBatch>> applied = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(mockPlugin.getLogger()).thenReturn(Logger.getLogger("KdrAccumulatorTest"));
+        when(mockPlugin.getDataFolder()).thenReturn(dataFolder);
+    }
+
+    private void applyResults(Boolean... results) {
+        List<Boolean> queue = new ArrayList<>(Arrays.asList(results));
+        when(mockDAO.applyKdrBatches(anyList())).thenAnswer(invocation -> {
+            applied.add(new ArrayList<>(invocation.<List<KdrBatch>>getArgument(0)));
+            return queue.size() > 1 ? queue.remove(0) : queue.get(0);
+        });
+    }
+
+    private KdrAccumulator start() {
+        KdrAccumulator accumulator = new KdrAccumulator(mockPlugin, mockDAO);
+        accumulator.recover();
+        return accumulator;
+    }
+
+    private File journalDir() {
+        return new File(dataFolder, "kdr-journal");
+    }
+
+    private static int[] deltas(List<KdrBatch> batches, int playerId) {
+        int[] total = new int[2];
+        for (KdrBatch batch : batches) {
+            int[] delta = batch.getDeltas().get(playerId);
+            if (delta != null) {
+                total[0] += delta[0];
+                total[1] += delta[1];
+            }
+        }
+        return total;
+    }
+
+    @Test
+    @DisplayName("Flush deve gravar os deltas somados e os logs num único lote")
+    void testFlushAppliesSummedDeltas() {
+        when(mockDAO.createKdrBatchTable()).thenReturn(true);
+        applyResults(true);
+        KdrAccumulator accumulator = start();
+
+        accumulator.record(1, 10, "killer", 20, "victim");
+        accumulator.record(1, 10, "killer", 21, "other");
+        accumulator.record(2, 20, "victim", 10, "killer");
+        assertEquals(3, accumulator.getPendingCount());
+
+        assertTrue(accumulator.flush());
+
+        assertEquals(1, applied.size());
+        List<KdrBatch> batches = applied.get(0);
+        assertEquals(1, batches.size());
+        assertNotNull(batches.get(0).getKey());
+        assertEquals(3, batches.get(0).getLogs().size());
+        assertArrayEquals(new int[] {2, 1}, deltas(batches, 10));
+        assertArrayEquals(new int[] {1, 1}, deltas(batches, 20));
+        assertArrayEquals(new int[] {0, 1}, deltas(batches, 21));
+        assertEquals(0, accumulator.getPendingCount());
+        assertTrue(accumulator.getUnflushedDeltas().isEmpty());
+        assertArrayEquals(new String[] {"active.journal"}, journalDir().list());
+        verify(mockDAO).purgeKdrBatches(30);
+    }
+
+    @Test
+    @DisplayName("Flush sem pendências não deve acessar o banco")
+    void testFlushWithoutPending() {
+        when(mockDAO.createKdrBatchTable()).thenReturn(false);
+        KdrAccumulator accumulator = start();
+
+        assertTrue(accumulator.flush());
+        verify(mockDAO, never()).applyKdrBatches(anyList());
+        verify(mockDAO, never()).purgeKdrBatches(anyInt());
+    }
+
+    @Test
+    @DisplayName("Flush que falha deve manter o lote com a mesma chave para a próxima tentativa")
+    void testFailedFlushKeepsBatchKey() {
+        when(mockDAO.createKdrBatchTable()).thenReturn(true);
+        applyResults(false, true);
+        KdrAccumulator accumulator = start();
+
+        accumulator.record(1, 10, "killer", 20, "victim");
+        assertFalse(accumulator.flush());
+        String key = applied.get(0).get(0).getKey();
+
+        accumulator.record(1, 10, "killer", 21, "other");
+        Map<Integer, int[]> unflushed = accumulator.getUnflushedDeltas();
+        assertArrayEquals(new int[] {2, 0}, unflushed.get(10));
+        assertEquals(2, accumulator.getPendingCount());
+
+        assertTrue(accumulator.flush());
+        List<KdrBatch> retry = applied.get(1);
+        assertEquals(2, retry.size());
+        assertEquals(key, retry.get(0).getKey(), "O lote que falhou volta com a mesma chave");
+        assertNotEquals(key, retry.get(1).getKey());
+        assertArrayEquals(new int[] {2, 0}, deltas(retry, 10));
+        assertEquals(0, accumulator.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Mortes do journal devem ser reaplicadas no start com a chave original")
+    void testRecoverReplaysJournalWithOriginalKey() {
+        when(mockDAO.createKdrBatchTable()).thenReturn(true);
+        applyResults(false, true);
+
+        // Primeira execução: um flush falha (batch-N fica no disco) e outra morte fica só no active.journal
+        KdrAccumulator crashed = start();
+        crashed.record(1, 10, "killer", 20, "victim");
+        assertFalse(crashed.flush());
+        String failedKey = applied.get(0).get(0).getKey();
+        crashed.record(1, 10, "killer", 21, "other");
+        crashed.record(2, 20, "victim", 10, "killer");
+
+        // Segunda execução (sem shutdown): os dois arquivos voltam como dois lotes
+        start();
+
+        assertEquals(2, applied.size());
+        List<KdrBatch> replayed = applied.get(1);
+        assertEquals(2, replayed.size());
+        assertEquals(failedKey, replayed.get(0).getKey());
+        assertNotNull(replayed.get(1).getKey());
+        assertNotEquals(failedKey, replayed.get(1).getKey());
+        assertEquals(1, replayed.get(0).getLogs().size());
+        assertEquals(2, replayed.get(1).getLogs().size());
+        assertArrayEquals(new int[] {2, 1}, deltas(replayed, 10));
+        assertEquals("other", replayed.get(1).getLogs().get(0).getTargetName());
+        assertArrayEquals(new String[] {"active.journal"}, journalDir().list());
+    }
+
+    @Test
+    @DisplayName("Journal antigo sem cabeçalho deve ser reaplicado sem chave e ignorar linhas incompletas")
+    void testRecoverLegacyJournal() throws IOException {
+        when(mockDAO.createKdrBatchTable()).thenReturn(false);
+        applyResults(true);
+        File dir = journalDir();
+        assertTrue(dir.mkdirs());
+        Files.write(new File(dir, "batch-3.journal").toPath(), Arrays.asList(
+            "1000\t1\t10\tkiller\t20\tvictim",
+            "1001\t1\t10\tkiller\tx\tvictim",
+            "1002\t1\t10\tkil"), StandardCharsets.UTF_8);
+
+        start();
+
+        assertEquals(1, applied.size());
+        KdrBatch batch = applied.get(0).get(0);
+        assertNull(batch.getKey());
+        assertEquals(1, batch.getLogs().size());
+        assertEquals(1000L, batch.getLogs().get(0).getTimestamp());
+        assertArrayEquals(new int[] {1, 0}, batch.getDeltas().get(10));
+        assertFalse(new File(dir, "batch-3.journal").exists());
+        verify(mockDAO, never()).purgeKdrBatches(anyInt());
+    }
+}
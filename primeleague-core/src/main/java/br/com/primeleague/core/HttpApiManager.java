@@ -3,6 +3,11 @@ package br.com.primeleague.core;
 import br.com.primeleague.core.managers.DataManager;
 import br.com.primeleague.core.models.PlayerProfile;
 import br.com.primeleague.core.managers.DonorManager;
+import br.com.primeleague.core.managers.LoginAdmissionController;
+import br.com.primeleague.core.economy.EconomyAuditWriter;
+import br.com.primeleague.core.http.ApiRequestPipeline;
+import br.com.primeleague.core.http.JsonReader;
+import br.com.primeleague.core.http.JsonWriter;
 import br.com.primeleague.core.models.DonorLevel;
 import com.sun.net.httpserver.HttpServer;
 import com.sun.net.httpserver.HttpHandler;
@@ -14,7 +19,6 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.Executors;
 import java.util.logging.Logger;
 
 /**
@@ -30,6 +34,7 @@ public class HttpApiManager {
     private final DataManager dataManager;
     private final DonorManager donorManager;
     private HttpServer server;
+    private ApiRequestPipeline pipeline;
     private int port;
     private final String bearerToken;
     
@@ -49,27 +54,32 @@ public class HttpApiManager {
         try {
             server = HttpServer.create(new InetSocketAddress(port), 0);
             
+            // Pipeline assíncrono: o loop NIO do servidor só faz admissão; JDBC roda no executor de banco
+            pipeline = new ApiRequestPipeline(logger, plugin.getMetricsRegistry(),
+                plugin.getConfig().getInt("api.pipeline.db_threads", 8),
+                plugin.getConfig().getInt("api.pipeline.queue_capacity", 64));
+            
             // Registrar endpoints
-            server.createContext("/api/donor-info", new DonorInfoHandler());
-            server.createContext("/api/health", new HealthHandler());
-            server.createContext("/api/player-created", new PlayerCreatedHandler());
-            server.createContext("/api/v1/ip-authorize", new IpAuthorizeHandler());
+            register("/api/donor-info", "donor-info", new DonorInfoHandler());
+            register("/api/health", "health", new HealthHandler());
+            register("/api/player-created", "player-created", new PlayerCreatedHandler());
+            register("/api/v1/ip-authorize", "ip-authorize", new IpAuthorizeHandler());
             
             // Endpoints de recuperação de conta P2P
-            server.createContext("/api/v1/recovery/backup/generate", new RecoveryBackupGenerateHandler());
-            server.createContext("/api/v1/recovery/verify", new RecoveryVerifyHandler());
-            server.createContext("/api/v1/recovery/status", new RecoveryStatusHandler());
-            server.createContext("/api/v1/recovery/audit", new RecoveryAuditHandler());
+            register("/api/v1/recovery/backup/generate", "recovery-generate", new RecoveryBackupGenerateHandler());
+            register("/api/v1/recovery/verify", "recovery-verify", new RecoveryVerifyHandler());
+            register("/api/v1/recovery/status", "recovery-status", new RecoveryStatusHandler());
+            register("/api/v1/recovery/audit", "recovery-audit", new RecoveryAuditHandler());
             
             // Endpoints de transferência de assinaturas (FASE 2)
-            server.createContext("/api/v1/discord/transfer", new DiscordTransferHandler());
+            register("/api/v1/discord/transfer", "discord-transfer", new DiscordTransferHandler());
             
             // Endpoints de desvinculação e re-vinculação (FASE 2)
-            server.createContext("/api/v1/account/unlink", new AccountUnlinkHandler());
-            server.createContext("/api/v1/recovery/complete-relink", new CompleteRelinkHandler());
+            register("/api/v1/account/unlink", "account-unlink", new AccountUnlinkHandler());
+            register("/api/v1/recovery/complete-relink", "complete-relink", new CompleteRelinkHandler());
             
-            // Configurar executor
-            server.setExecutor(Executors.newFixedThreadPool(10));
+            // Sem executor próprio: handlers envolvidos rodam no dispatcher NIO e retornam imediatamente
+            server.setExecutor(null);
             
             // Iniciar servidor
             server.start();
@@ -89,6 +99,21 @@ public class HttpApiManager {
             server.stop(0);
             logger.info("[Core] API HTTP parada");
         }
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+    
+    /**
+     * Registra um endpoint no pipeline com os limites de api.pipeline.endpoints.&lt;nome&gt;
+     */
+    private void register(String path, String name, HttpHandler handler) {
+        String section = "api.pipeline.endpoints." + name + ".";
+        int maxConcurrent = plugin.getConfig().getInt(section + "max_concurrent",
+            plugin.getConfig().getInt("api.pipeline.default_max_concurrent", 4));
+        long timeoutMs = plugin.getConfig().getLong(section + "timeout_ms",
+            plugin.getConfig().getLong("api.pipeline.default_timeout_ms", 5000L));
+        server.createContext(path, pipeline.wrap(name, handler, maxConcurrent, timeoutMs));
     }
     
     /**
@@ -128,7 +153,7 @@ public class HttpApiManager {
             
             // Responder a requisições OPTIONS (CORS preflight)
             if (exchange.getRequestMethod().equalsIgnoreCase("OPTIONS")) {
-                exchange.sendResponseHeaders(200, -1);
+                sendEmptyResponse(exchange, 200);
                 return;
             }
             
@@ -156,16 +181,11 @@ public class HttpApiManager {
                 
                 String discordId = pathParts[3];
                 
-                // Executar lógica de negócio de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        DonorInfoResponse response = getDonorInfo(discordId);
-                        sendJsonResponse(exchange, 200, response.toJson());
-                    } catch (Exception e) {
-                        logger.severe("Erro ao processar requisição de doador: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno do servidor");
-                    }
-                });
+                // Já estamos no executor de banco do pipeline: consulta direta
+                DonorInfoResponse response = getDonorInfo(discordId);
+                JsonWriter json = JsonWriter.acquire();
+                response.writeJson(json);
+                sendJsonResponse(exchange, 200, json);
                 
             } catch (Exception e) {
                 logger.severe("Erro no handler de doador: " + e.getMessage());
@@ -221,7 +241,7 @@ public class HttpApiManager {
             exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type, Authorization");
             
             if (exchange.getRequestMethod().equalsIgnoreCase("OPTIONS")) {
-                exchange.sendResponseHeaders(200, -1);
+                sendEmptyResponse(exchange, 200);
                 return;
             }
             
@@ -237,32 +257,18 @@ public class HttpApiManager {
             }
             
             try {
-                // Ler dados do request (compatível com Java 7)
-                java.io.InputStream inputStream = exchange.getRequestBody();
-                java.io.ByteArrayOutputStream result = new java.io.ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    result.write(buffer, 0, length);
-                }
-                String requestBody = result.toString("UTF-8");
-                
-                // Executar limpeza de cache de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        // Limpar cache do DataManager
-                        dataManager.clearCache();
-                        logger.info("Cache limpo automaticamente após criação de player via Discord");
-                        
-                        // Enviar resposta de sucesso
-                        String response = "{\"success\":true,\"message\":\"Cache limpo com sucesso\"}";
-                        sendJsonResponse(exchange, 200, response);
-                        
-                    } catch (Exception e) {
-                        logger.severe("Erro ao limpar cache: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno do servidor");
-                    }
-                });
+                // Corpo não é usado: apenas descartar o stream
+                exchange.getRequestBody().close();
+                
+                // Limpar cache do DataManager
+                dataManager.clearCache();
+                logger.info("Cache limpo automaticamente após criação de player via Discord");
+                
+                // Enviar resposta de sucesso
+                sendJsonResponse(exchange, 200, JsonWriter.acquire().beginObject()
+                    .name("success").value(true)
+                    .name("message").value("Cache limpo com sucesso")
+                    .endObject());
                 
             } catch (Exception e) {
                 logger.severe("Erro no handler de player criado: " + e.getMessage());
@@ -285,7 +291,7 @@ public class HttpApiManager {
             exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type, Authorization");
             
             if (exchange.getRequestMethod().equalsIgnoreCase("OPTIONS")) {
-                exchange.sendResponseHeaders(200, -1);
+                sendEmptyResponse(exchange, 200);
                 return;
             }
             
@@ -300,22 +306,76 @@ public class HttpApiManager {
                 return;
             }
             
-            String response = "{\"status\":\"ok\",\"service\":\"PrimeLeague Core API v2.0\",\"timestamp\":\"" + System.currentTimeMillis() + "\"}";
-            sendJsonResponse(exchange, 200, response);
+            JsonWriter json = JsonWriter.acquire().beginObject()
+                    .name("status").value("ok")
+                    .name("service").value("PrimeLeague Core API v2.0")
+                    .name("timestamp").value(String.valueOf(System.currentTimeMillis()))
+                    .name("login_admission").rawValue(buildLoginAdmissionJson())
+                    .name("economy_audit").rawValue(buildEconomyAuditJson())
+                    .name("api_pipeline").rawValue(pipeline != null ? pipeline.toJson() : null)
+                    .name("metrics").rawValue(plugin.getMetricsRegistry() != null ? plugin.getMetricsRegistry().toJson() : null)
+                    .name("latency").rawValue(plugin.getMetricsRegistry() != null ? plugin.getMetricsRegistry().histogramsToJson() : null)
+                    .name("db_executor").rawValue(plugin.getDbExecutor() != null ? plugin.getDbExecutor().toJson() : null)
+                    .name("main_thread").rawValue(plugin.getMainThreadDispatcher() != null ? plugin.getMainThreadDispatcher().toJson() : null)
+                    .endObject();
+            sendJsonResponse(exchange, 200, json);
+        }
+    }
+    
+    /**
+     * Métricas do controle de admissão de logins (fila e tempo de espera)
+     */
+    private String buildLoginAdmissionJson() {
+        LoginAdmissionController admission = plugin.getLoginAdmissionController();
+        if (admission == null) {
+            return "null";
+        }
+        return "{\"limit\":" + admission.getCurrentLimit() +
+               ",\"in_flight\":" + admission.getInFlight() +
+               ",\"queue_depth\":" + admission.getQueueDepth() +
+               ",\"peak_queue_depth\":" + admission.getPeakQueueDepth() +
+               ",\"admitted\":" + admission.getAdmittedCount() +
+               ",\"rejected\":" + admission.getRejectedCount() +
+               ",\"timed_out\":" + admission.getTimedOutCount() +
+               ",\"avg_wait_ms\":" + admission.getAverageWaitMs() +
+               ",\"max_wait_ms\":" + admission.getMaxWaitMs() +
+               ",\"latency_ewma_ms\":" + admission.getLatencyEwmaMs() + "}";
+    }
+    
+    /**
+     * Métricas da fila de auditoria econômica (backpressure e spill)
+     */
+    private String buildEconomyAuditJson() {
+        EconomyAuditWriter audit = plugin.getEconomyManager() != null ? plugin.getEconomyManager().getAuditWriter() : null;
+        if (audit == null) {
+            return "null";
         }
+        return "{\"queue_depth\":" + audit.getQueueDepth() +
+               ",\"queue_capacity\":" + audit.getQueueCapacity() +
+               ",\"peak_queue_depth\":" + audit.getPeakQueueDepth() +
+               ",\"submitted\":" + audit.getSubmittedCount() +
+               ",\"written\":" + audit.getWrittenCount() +
+               ",\"batches\":" + audit.getBatchCount() +
+               ",\"failed_batches\":" + audit.getFailedBatchCount() +
+               ",\"spilled\":" + audit.getSpilledCount() +
+               ",\"replayed\":" + audit.getReplayedCount() +
+               ",\"dead_lettered\":" + audit.getDeadLetteredCount() +
+               ",\"pending_spill\":" + audit.hasPendingSpill() + "}";
     }
     
     /**
-     * Envia resposta JSON
+     * Envia resposta JSON direto do buffer do writer (sem String intermediária)
      */
-    private void sendJsonResponse(HttpExchange exchange, int statusCode, String json) {
+    private void sendJsonResponse(HttpExchange exchange, int statusCode, JsonWriter json) {
+        if (!claimResponse(exchange)) {
+            return; // Requisição já respondida pelo pipeline (timeout)
+        }
         try {
             exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
-            byte[] responseBytes = json.getBytes(StandardCharsets.UTF_8);
-            exchange.sendResponseHeaders(statusCode, responseBytes.length);
+            exchange.sendResponseHeaders(statusCode, json.size());
             
             try (OutputStream os = exchange.getResponseBody()) {
-                os.write(responseBytes);
+                json.writeTo(os);
             }
         } catch (IOException e) {
             logger.severe("Erro ao enviar resposta JSON: " + e.getMessage());
@@ -327,17 +387,32 @@ public class HttpApiManager {
      */
     private void sendErrorResponse(HttpExchange exchange, int statusCode, String message) {
         try {
-            String errorJson = "{\"error\":\"" + message + "\",\"status\":" + statusCode + "}";
-            sendJsonResponse(exchange, statusCode, errorJson);
+            sendJsonResponse(exchange, statusCode, JsonWriter.acquire().beginObject()
+                .name("error").value(message)
+                .name("status").value(statusCode)
+                .endObject());
         } catch (Exception e) {
             logger.severe("Erro ao enviar resposta de erro: " + e.getMessage());
         }
     }
     
+    /**
+     * Resposta de sucesso padrão: {"success":true,"message":...}
+     */
+    private void sendSuccessResponse(HttpExchange exchange, String message) {
+        sendJsonResponse(exchange, 200, JsonWriter.acquire().beginObject()
+            .name("success").value(true)
+            .name("message").value(message)
+            .endObject());
+    }
+    
     /**
      * Envia resposta simples
      */
     private void sendResponse(HttpExchange exchange, int statusCode, String response) {
+        if (!claimResponse(exchange)) {
+            return;
+        }
         try {
             byte[] responseBytes = response.getBytes(StandardCharsets.UTF_8);
             exchange.sendResponseHeaders(statusCode, responseBytes.length);
@@ -350,6 +425,23 @@ public class HttpApiManager {
         }
     }
     
+    /**
+     * Reserva a resposta da exchange (o pipeline pode já ter respondido por timeout)
+     */
+    private boolean claimResponse(HttpExchange exchange) {
+        return pipeline == null || pipeline.claimResponse(exchange);
+    }
+    
+    /**
+     * Envia resposta sem corpo (preflight OPTIONS)
+     */
+    private void sendEmptyResponse(HttpExchange exchange, int statusCode) throws IOException {
+        if (claimResponse(exchange)) {
+            exchange.sendResponseHeaders(statusCode, -1);
+            exchange.close();
+        }
+    }
+    
     /**
      * Configura headers CORS
      */
@@ -360,20 +452,21 @@ public class HttpApiManager {
     }
     
     /**
-     * Lê o corpo da requisição HTTP (compatível com Java 7)
+     * Parser de DTO a partir do corpo JSON da requisição
      */
-    private String readRequestBody(HttpExchange exchange) {
-        try {
-            java.io.InputStream inputStream = exchange.getRequestBody();
-            java.io.ByteArrayOutputStream result = new java.io.ByteArrayOutputStream();
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = inputStream.read(buffer)) != -1) {
-                result.write(buffer, 0, length);
-            }
-            return result.toString("UTF-8");
+    private interface JsonBodyParser<T> {
+        T parse(JsonReader reader) throws IOException;
+    }
+    
+    /**
+     * Faz o parse do corpo direto do InputStream da requisição.
+     * Retorna null se o JSON for inválido ou faltar campo obrigatório.
+     */
+    private <T> T readJsonBody(HttpExchange exchange, JsonBodyParser<T> parser) {
+        try (JsonReader reader = new JsonReader(exchange.getRequestBody())) {
+            return parser.parse(reader);
         } catch (IOException e) {
-            logger.severe("Erro ao ler corpo da requisição: " + e.getMessage());
+            logger.warning("[API] Corpo inválido em " + exchange.getRequestURI().getPath() + ": " + e.getMessage());
             return null;
         }
     }
@@ -395,34 +488,6 @@ public class HttpApiManager {
         return exchange.getRemoteAddress().getAddress().getHostAddress();
     }
     
-    /**
-     * Extrai valor de campo JSON simples
-     */
-    private String extractJsonValue(String json, String field) {
-        try {
-            String pattern = "\"" + field + "\"\\s*:\\s*\"([^\"]+)\"";
-            java.util.regex.Pattern p = java.util.regex.Pattern.compile(pattern);
-            java.util.regex.Matcher m = p.matcher(json);
-            
-            if (m.find()) {
-                return m.group(1);
-            }
-            
-            // Tentar extrair boolean
-            pattern = "\"" + field + "\"\\s*:\\s*(true|false)";
-            p = java.util.regex.Pattern.compile(pattern);
-            m = p.matcher(json);
-            
-            if (m.find()) {
-                return m.group(1);
-            }
-            
-            return null;
-        } catch (Exception e) {
-            return null;
-        }
-    }
-    
     /**
      * Handler para autorização de IP via Discord
      * POST /api/v1/ip-authorize
@@ -437,7 +502,7 @@ public class HttpApiManager {
             exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type, Authorization");
             
             if (exchange.getRequestMethod().equalsIgnoreCase("OPTIONS")) {
-                exchange.sendResponseHeaders(200, -1);
+                sendEmptyResponse(exchange, 200);
                 return;
             }
             
@@ -454,48 +519,29 @@ public class HttpApiManager {
             }
             
             try {
-                // Ler dados do request (compatível com Java 7)
-                java.io.InputStream inputStream = exchange.getRequestBody();
-                java.io.ByteArrayOutputStream result = new java.io.ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    result.write(buffer, 0, length);
+                // Parse em streaming direto do corpo da requisição
+                IpAuthorizeRequest request = readJsonBody(exchange, IpAuthorizeRequest::fromJson);
+                
+                if (request == null) {
+                    sendErrorResponse(exchange, 400, "Payload inválido");
+                    return;
                 }
-                String requestBody = result.toString("UTF-8");
                 
-                // Executar autorização de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        IpAuthorizeRequest request = parseIpAuthorizeRequest(requestBody);
-                        
-                        if (request == null) {
-                            sendErrorResponse(exchange, 400, "Payload inválido");
-                            return;
-                        }
-                        
-                        // Processar autorização
-                        boolean success = processIpAuthorization(request);
-                        
-                        // ==========================================================
-                        //  CORREÇÃO OBRIGATÓRIA: Verificar retorno do processamento
-                        // ==========================================================
-                        if (success) {
-                            String response = "{\"success\":true,\"message\":\"IP autorizado com sucesso\"}";
-                            sendJsonResponse(exchange, 200, response);
-                        } else {
-                            // Se processIpAuthorization retornou false, envie um erro 500
-                            sendErrorResponse(exchange, 500, "Erro interno ao processar a autorização no servidor.");
-                        }
-                        // ==========================================================
-                        //  FIM DA CORREÇÃO OBRIGATÓRIA
-                        // ==========================================================
-                        
-                    } catch (Exception e) {
-                        logger.severe("Erro ao processar autorização de IP: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno do servidor");
-                    }
-                });
+                // Processar autorização
+                boolean success = processIpAuthorization(request);
+                
+                // ==========================================================
+                //  CORREÇÃO OBRIGATÓRIA: Verificar retorno do processamento
+                // ==========================================================
+                if (success) {
+                    sendSuccessResponse(exchange, "IP autorizado com sucesso");
+                } else {
+                    // Se processIpAuthorization retornou false, envie um erro 500
+                    sendErrorResponse(exchange, 500, "Erro interno ao processar a autorização no servidor.");
+                }
+                // ==========================================================
+                //  FIM DA CORREÇÃO OBRIGATÓRIA
+                // ==========================================================
                 
             } catch (Exception e) {
                 logger.severe("Erro no handler de autorização de IP: " + e.getMessage());
@@ -565,38 +611,6 @@ public class HttpApiManager {
                 logger.severe("[IP-AUTH] ❌ Erro ao atualizar cache P2P: " + e.getMessage());
             }
         }
-        
-        /**
-         * Parse do JSON de autorização de IP
-         */
-        private IpAuthorizeRequest parseIpAuthorizeRequest(String json) {
-            try {
-                // Parse simples do JSON (sem dependências externas)
-                if (!json.contains("\"playerName\"") || !json.contains("\"ipAddress\"") || 
-                    !json.contains("\"authorized\"") || !json.contains("\"discordId\"")) {
-                    return null;
-                }
-                
-                // Extrair valores usando regex simples
-                String playerName = extractJsonValue(json, "playerName");
-                String ipAddress = extractJsonValue(json, "ipAddress");
-                String authorizedStr = extractJsonValue(json, "authorized");
-                String discordId = extractJsonValue(json, "discordId");
-                
-                if (playerName == null || ipAddress == null || authorizedStr == null || discordId == null) {
-                    return null;
-                }
-                
-                boolean authorized = Boolean.parseBoolean(authorizedStr);
-                
-                return new IpAuthorizeRequest(playerName, ipAddress, authorized, discordId);
-                
-            } catch (Exception e) {
-                logger.severe("Erro ao fazer parse do JSON de autorização: " + e.getMessage());
-                return null;
-            }
-        }
-        
     }
     
     /**
@@ -615,6 +629,32 @@ public class HttpApiManager {
             this.discordId = discordId;
         }
         
+        /**
+         * Parse do JSON de autorização de IP (todos os campos obrigatórios)
+         */
+        public static IpAuthorizeRequest fromJson(JsonReader reader) throws IOException {
+            String playerName = null;
+            String ipAddress = null;
+            Boolean authorized = null;
+            String discordId = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "playerName": playerName = reader.nextString(); break;
+                    case "ipAddress": ipAddress = reader.nextString(); break;
+                    case "authorized": authorized = reader.nextBoolean(); break;
+                    case "discordId": discordId = reader.nextString(); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            
+            if (playerName == null || ipAddress == null || authorized == null || discordId == null) {
+                return null;
+            }
+            return new IpAuthorizeRequest(playerName, ipAddress, authorized, discordId);
+        }
+        
         // Getters
         public String getPlayerName() { return playerName; }
         public String getIpAddress() { return ipAddress; }
@@ -638,11 +678,13 @@ public class HttpApiManager {
             this.currentAccounts = currentAccounts;
         }
         
-        public String toJson() {
-            return String.format(
-                "{\"donorTier\":%d,\"donorName\":\"%s\",\"maxAltAccounts\":%d,\"currentAccounts\":%d}",
-                donorTier, donorName, maxAltAccounts, currentAccounts
-            );
+        public void writeJson(JsonWriter json) {
+            json.beginObject()
+                .name("donorTier").value(donorTier)
+                .name("donorName").value(donorName)
+                .name("maxAltAccounts").value(maxAltAccounts)
+                .name("currentAccounts").value(currentAccounts)
+                .endObject();
         }
         
         // Getters
@@ -683,50 +725,36 @@ public class HttpApiManager {
             }
             
             try {
-                // Ler dados do request (compatível com Java 7)
-                java.io.InputStream inputStream = exchange.getRequestBody();
-                java.io.ByteArrayOutputStream result = new java.io.ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    result.write(buffer, 0, length);
+                RecoveryBackupGenerateRequest request = readJsonBody(exchange, RecoveryBackupGenerateRequest::fromJson);
+                if (request == null) {
+                    sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
+                    return;
                 }
-                String requestBody = result.toString("UTF-8");
-                
-                // Executar geração de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        RecoveryBackupGenerateRequest request = parseRecoveryBackupGenerateRequest(requestBody);
-                        if (request == null) {
-                            sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
-                            return;
-                        }
-                        
-                        // Processar geração de códigos
-                        RecoveryBackupGenerateResult generateResult = processRecoveryBackupGeneration(request);
-                        
-                        if (generateResult.isSuccess()) {
-                            String response = "{\"success\":true,\"message\":\"Códigos de backup gerados com sucesso\",\"backupCodes\":" + 
-                                            java.util.Arrays.toString(generateResult.getBackupCodes().toArray()) + "}";
-                            sendJsonResponse(exchange, 200, response);
-                        } else {
-                            // Verificar se é erro de Discord ID não encontrado
-                            Integer playerId = dataManager.getPlayerIdByDiscordId(request.getDiscordId());
-                            if (playerId == null) {
-                                sendErrorResponse(exchange, 404, "Discord ID não encontrado");
-                            } else {
-                                sendErrorResponse(exchange, 500, "Erro interno ao gerar códigos de backup");
-                            }
-                        }
-                        
-                    } catch (Exception e) {
-                        logger.severe("[RECOVERY] Erro ao processar geração de códigos: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno ao processar a requisição");
+                
+                // Processar geração de códigos
+                RecoveryBackupGenerateResult generateResult = processRecoveryBackupGeneration(request);
+                
+                if (generateResult.isSuccess()) {
+                    JsonWriter json = JsonWriter.acquire().beginObject()
+                        .name("success").value(true)
+                        .name("message").value("Códigos de backup gerados com sucesso")
+                        .name("backupCodes").beginArray();
+                    for (String code : generateResult.getBackupCodes()) {
+                        json.value(code);
+                    }
+                    sendJsonResponse(exchange, 200, json.endArray().endObject());
+                } else {
+                    // Verificar se é erro de Discord ID não encontrado
+                    Integer playerId = dataManager.getPlayerIdByDiscordId(request.getDiscordId());
+                    if (playerId == null) {
+                        sendErrorResponse(exchange, 404, "Discord ID não encontrado");
+                    } else {
+                        sendErrorResponse(exchange, 500, "Erro interno ao gerar códigos de backup");
                     }
-                });
+                }
                 
             } catch (Exception e) {
-                logger.severe("[RECOVERY] Erro ao ler requisição: " + e.getMessage());
+                logger.severe("[RECOVERY] Erro ao processar geração de códigos: " + e.getMessage());
                 sendErrorResponse(exchange, 500, "Erro interno ao ler a requisição");
             }
         }
@@ -755,26 +783,6 @@ public class HttpApiManager {
                 return new RecoveryBackupGenerateResult(false, null);
             }
         }
-        
-        /**
-         * Faz parse da requisição de geração de códigos
-         */
-        private RecoveryBackupGenerateRequest parseRecoveryBackupGenerateRequest(String json) {
-            try {
-                String discordId = extractJsonValue(json, "discordId");
-                String ipAddress = extractJsonValue(json, "ipAddress");
-                
-                if (discordId == null || ipAddress == null) {
-                    return null;
-                }
-                
-                return new RecoveryBackupGenerateRequest(discordId, ipAddress);
-                
-            } catch (Exception e) {
-                logger.severe("Erro ao fazer parse do JSON de geração: " + e.getMessage());
-                return null;
-            }
-        }
     }
     
     /**
@@ -804,46 +812,27 @@ public class HttpApiManager {
             }
             
             try {
-                // Ler dados do request (compatível com Java 7)
-                java.io.InputStream inputStream = exchange.getRequestBody();
-                java.io.ByteArrayOutputStream byteStream = new java.io.ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    byteStream.write(buffer, 0, length);
+                RecoveryVerifyRequest request = readJsonBody(exchange, RecoveryVerifyRequest::fromJson);
+                if (request == null) {
+                    sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
+                    return;
+                }
+                
+                // Processar verificação de código
+                RecoveryVerificationResult result = processRecoveryVerification(request);
+                
+                if (result.isSuccess()) {
+                    sendJsonResponse(exchange, 200, JsonWriter.acquire().beginObject()
+                        .name("success").value(true)
+                        .name("message").value("Código validado com sucesso. A conta está pronta para ser revinculada.")
+                        .name("relinkCode").value(result.getRelinkCode())
+                        .endObject());
+                } else {
+                    sendErrorResponse(exchange, 400, "Código inválido, expirado ou já utilizado");
                 }
-                String requestBody = byteStream.toString("UTF-8");
-                
-                // Executar verificação de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        RecoveryVerifyRequest request = parseRecoveryVerifyRequest(requestBody);
-                        if (request == null) {
-                            sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
-                            return;
-                        }
-                        
-                        // Processar verificação de código
-                        RecoveryVerificationResult result = processRecoveryVerification(request);
-                        
-                        if (result.isSuccess()) {
-                            String response = String.format(
-                                "{\"success\":true,\"message\":\"Código validado com sucesso. A conta está pronta para ser revinculada.\",\"relinkCode\":\"%s\"}",
-                                result.getRelinkCode()
-                            );
-                            sendJsonResponse(exchange, 200, response);
-                        } else {
-                            sendErrorResponse(exchange, 400, "Código inválido, expirado ou já utilizado");
-                        }
-                        
-                    } catch (Exception e) {
-                        logger.severe("[RECOVERY] Erro ao processar verificação: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno ao processar a requisição");
-                    }
-                });
                 
             } catch (Exception e) {
-                logger.severe("[RECOVERY] Erro ao ler requisição: " + e.getMessage());
+                logger.severe("[RECOVERY] Erro ao processar verificação: " + e.getMessage());
                 sendErrorResponse(exchange, 500, "Erro interno ao ler a requisição");
             }
         }
@@ -880,27 +869,6 @@ public class HttpApiManager {
                 return new RecoveryVerificationResult(false, null);
             }
         }
-        
-        /**
-         * Faz parse da requisição de verificação
-         */
-        private RecoveryVerifyRequest parseRecoveryVerifyRequest(String json) {
-            try {
-                String playerName = extractJsonValue(json, "playerName");
-                String backupCode = extractJsonValue(json, "backupCode");
-                String ipAddress = extractJsonValue(json, "ipAddress");
-                
-                if (playerName == null || backupCode == null || ipAddress == null) {
-                    return null;
-                }
-                
-                return new RecoveryVerifyRequest(playerName, backupCode, ipAddress);
-                
-            } catch (Exception e) {
-                logger.severe("Erro ao fazer parse do JSON de verificação: " + e.getMessage());
-                return null;
-            }
-        }
     }
     
     /**
@@ -939,26 +907,18 @@ public class HttpApiManager {
                     return;
                 }
                 
-                // Executar consulta de status de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        RecoveryStatusResponse status = getRecoveryStatus(discordId);
-                        
-                        if (status != null) {
-                            String response = String.format(
-                                "{\"success\":true,\"hasActiveBackupCodes\":%s,\"codesGeneratedAt\":\"%s\",\"activeCodeCount\":%d}",
-                                status.hasActiveBackupCodes(), status.getCodesGeneratedAt(), status.getActiveCodeCount()
-                            );
-                            sendJsonResponse(exchange, 200, response);
-                        } else {
-                            sendErrorResponse(exchange, 404, "Discord ID não encontrado");
-                        }
-                        
-                    } catch (Exception e) {
-                        logger.severe("[RECOVERY] Erro ao consultar status: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno ao consultar status");
-                    }
-                });
+                RecoveryStatusResponse status = getRecoveryStatus(discordId);
+                
+                if (status != null) {
+                    sendJsonResponse(exchange, 200, JsonWriter.acquire().beginObject()
+                        .name("success").value(true)
+                        .name("hasActiveBackupCodes").value(status.hasActiveBackupCodes())
+                        .name("codesGeneratedAt").value(String.valueOf(status.getCodesGeneratedAt()))
+                        .name("activeCodeCount").value(status.getActiveCodeCount())
+                        .endObject());
+                } else {
+                    sendErrorResponse(exchange, 404, "Discord ID não encontrado");
+                }
                 
             } catch (Exception e) {
                 logger.severe("[RECOVERY] Erro ao processar requisição: " + e.getMessage());
@@ -1045,22 +1005,13 @@ public class HttpApiManager {
                     return;
                 }
                 
-                // Executar consulta de auditoria de forma assíncrona
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        String auditData = getRecoveryAudit(discordId);
-                        
-                        if (auditData != null) {
-                            sendJsonResponse(exchange, 200, auditData);
-                        } else {
-                            sendErrorResponse(exchange, 404, "Discord ID não encontrado");
-                        }
-                        
-                    } catch (Exception e) {
-                        logger.severe("[RECOVERY] Erro ao consultar auditoria: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno ao consultar auditoria");
-                    }
-                });
+                JsonWriter auditData = getRecoveryAudit(discordId);
+                
+                if (auditData != null) {
+                    sendJsonResponse(exchange, 200, auditData);
+                } else {
+                    sendErrorResponse(exchange, 404, "Discord ID não encontrado");
+                }
                 
             } catch (Exception e) {
                 logger.severe("[RECOVERY] Erro ao processar requisição: " + e.getMessage());
@@ -1071,7 +1022,7 @@ public class HttpApiManager {
         /**
          * Obtém dados de auditoria
          */
-        private String getRecoveryAudit(String discordId) {
+        private JsonWriter getRecoveryAudit(String discordId) {
             try {
                 // Buscar player_id pelo discord_id
                 Integer playerId = dataManager.getPlayerIdByDiscordId(discordId);
@@ -1091,29 +1042,25 @@ public class HttpApiManager {
                     
                     stmt.setInt(1, playerId);
                     
-                    StringBuilder json = new StringBuilder();
-                    json.append("{\"success\":true,\"recentAttempts\":[");
+                    JsonWriter json = JsonWriter.acquire().beginObject()
+                        .name("success").value(true)
+                        .name("recentAttempts").beginArray();
                     
-                    boolean first = true;
                     try (java.sql.ResultSet rs = stmt.executeQuery()) {
                         while (rs.next()) {
-                            if (!first) json.append(",");
-                            first = false;
-                            
-                            json.append("{");
-                            json.append("\"id\":").append(rs.getLong("id")).append(",");
-                            json.append("\"codeType\":\"").append(rs.getString("code_type")).append("\",");
-                            json.append("\"status\":\"").append(rs.getString("status")).append("\",");
-                            json.append("\"createdAt\":\"").append(rs.getTimestamp("created_at")).append("\",");
-                            json.append("\"usedAt\":\"").append(rs.getTimestamp("used_at")).append("\",");
-                            json.append("\"attempts\":").append(rs.getInt("attempts")).append(",");
-                            json.append("\"ipAddress\":\"").append(rs.getString("ip_address")).append("\"");
-                            json.append("}");
+                            json.beginObject()
+                                .name("id").value(rs.getLong("id"))
+                                .name("codeType").value(rs.getString("code_type"))
+                                .name("status").value(rs.getString("status"))
+                                .name("createdAt").value(String.valueOf(rs.getTimestamp("created_at")))
+                                .name("usedAt").value(String.valueOf(rs.getTimestamp("used_at")))
+                                .name("attempts").value(rs.getInt("attempts"))
+                                .name("ipAddress").value(rs.getString("ip_address"))
+                                .endObject();
                         }
                     }
                     
-                    json.append("]}");
-                    return json.toString();
+                    return json.endArray().endObject();
                     
                 }
                 
@@ -1140,6 +1087,28 @@ public class HttpApiManager {
             this.ipAddress = ipAddress;
         }
         
+        /**
+         * Parse em streaming do corpo JSON (todos os campos obrigatórios)
+         */
+        public static RecoveryBackupGenerateRequest fromJson(JsonReader reader) throws IOException {
+            String discordId = null;
+            String ipAddress = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "discordId": discordId = reader.nextString(); break;
+                    case "ipAddress": ipAddress = reader.nextString(); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            
+            if (discordId == null || ipAddress == null) {
+                return null;
+            }
+            return new RecoveryBackupGenerateRequest(discordId, ipAddress);
+        }
+        
         // Getters
         public String getDiscordId() { return discordId; }
         public String getIpAddress() { return ipAddress; }
@@ -1159,6 +1128,30 @@ public class HttpApiManager {
             this.ipAddress = ipAddress;
         }
         
+        /**
+         * Parse em streaming do corpo JSON (todos os campos obrigatórios)
+         */
+        public static RecoveryVerifyRequest fromJson(JsonReader reader) throws IOException {
+            String playerName = null;
+            String backupCode = null;
+            String ipAddress = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "playerName": playerName = reader.nextString(); break;
+                    case "backupCode": backupCode = reader.nextString(); break;
+                    case "ipAddress": ipAddress = reader.nextString(); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            
+            if (playerName == null || backupCode == null || ipAddress == null) {
+                return null;
+            }
+            return new RecoveryVerifyRequest(playerName, backupCode, ipAddress);
+        }
+        
         // Getters
         public String getPlayerName() { return playerName; }
         public String getBackupCode() { return backupCode; }
@@ -1215,43 +1208,26 @@ public class HttpApiManager {
             }
             
             try {
-                java.io.InputStream inputStream = exchange.getRequestBody();
-                java.io.ByteArrayOutputStream byteStream = new java.io.ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    byteStream.write(buffer, 0, length);
+                AccountUnlinkRequest request = readJsonBody(exchange, AccountUnlinkRequest::fromJson);
+                if (request == null) {
+                    sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
+                    return;
+                }
+                
+                AccountUnlinkResult result = processAccountUnlink(request);
+                
+                if (result.isSuccess()) {
+                    sendJsonResponse(exchange, 200, JsonWriter.acquire().beginObject()
+                        .name("success").value(true)
+                        .name("message").value("Conta desvinculada com sucesso. Use o código para re-vincular.")
+                        .name("relinkCode").value(result.getRelinkCode())
+                        .endObject());
+                } else {
+                    sendErrorResponse(exchange, 400, result.getMessage());
                 }
-                String requestBody = byteStream.toString("UTF-8");
-                
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        AccountUnlinkRequest request = parseAccountUnlinkRequest(requestBody);
-                        if (request == null) {
-                            sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
-                            return;
-                        }
-                        
-                        AccountUnlinkResult result = processAccountUnlink(request);
-                        
-                        if (result.isSuccess()) {
-                            String response = String.format(
-                                "{\"success\":true,\"message\":\"Conta desvinculada com sucesso. Use o código para re-vincular.\",\"relinkCode\":\"%s\"}",
-                                result.getRelinkCode()
-                            );
-                            sendJsonResponse(exchange, 200, response);
-                        } else {
-                            sendErrorResponse(exchange, 400, result.getMessage());
-                        }
-                        
-                    } catch (Exception e) {
-                        logger.severe("[UNLINK] Erro ao processar desvinculação: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno ao processar a requisição");
-                    }
-                });
                 
             } catch (Exception e) {
-                logger.severe("[UNLINK] Erro ao ler requisição: " + e.getMessage());
+                logger.severe("[UNLINK] Erro ao processar desvinculação: " + e.getMessage());
                 sendErrorResponse(exchange, 500, "Erro interno ao ler a requisição");
             }
         }
@@ -1282,26 +1258,6 @@ public class HttpApiManager {
                 return new AccountUnlinkResult(false, "Erro interno ao processar desvinculação", null);
             }
         }
-        
-        /**
-         * Parse da requisição de desvinculação
-         */
-        private AccountUnlinkRequest parseAccountUnlinkRequest(String json) {
-            try {
-                String playerName = extractJsonValue(json, "playerName");
-                String ipAddress = extractJsonValue(json, "ipAddress");
-                
-                if (playerName == null || ipAddress == null) {
-                    return null;
-                }
-                
-                return new AccountUnlinkRequest(playerName, ipAddress);
-                
-            } catch (Exception e) {
-                logger.severe("[UNLINK] Erro ao fazer parse da requisição: " + e.getMessage());
-                return null;
-            }
-        }
     }
     
     // =====================================================
@@ -1334,40 +1290,22 @@ public class HttpApiManager {
             }
             
             try {
-                java.io.InputStream inputStream = exchange.getRequestBody();
-                java.io.ByteArrayOutputStream byteStream = new java.io.ByteArrayOutputStream();
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) != -1) {
-                    byteStream.write(buffer, 0, length);
+                CompleteRelinkRequest request = readJsonBody(exchange, CompleteRelinkRequest::fromJson);
+                if (request == null) {
+                    sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
+                    return;
+                }
+                
+                CompleteRelinkResult result = processCompleteRelink(request);
+                
+                if (result.isSuccess()) {
+                    sendSuccessResponse(exchange, result.getMessage());
+                } else {
+                    sendErrorResponse(exchange, 400, result.getMessage());
                 }
-                String requestBody = byteStream.toString("UTF-8");
-                
-                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                    try {
-                        CompleteRelinkRequest request = parseCompleteRelinkRequest(requestBody);
-                        if (request == null) {
-                            sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
-                            return;
-                        }
-                        
-                        CompleteRelinkResult result = processCompleteRelink(request);
-                        
-                        if (result.isSuccess()) {
-                            String response = "{\"success\":true,\"message\":\"" + result.getMessage() + "\"}";
-                            sendJsonResponse(exchange, 200, response);
-                        } else {
-                            sendErrorResponse(exchange, 400, result.getMessage());
-                        }
-                        
-                    } catch (Exception e) {
-                        logger.severe("[COMPLETE-RELINK] Erro ao processar re-vinculação: " + e.getMessage());
-                        sendErrorResponse(exchange, 500, "Erro interno ao processar a requisição");
-                    }
-                });
                 
             } catch (Exception e) {
-                logger.severe("[COMPLETE-RELINK] Erro ao ler requisição: " + e.getMessage());
+                logger.severe("[COMPLETE-RELINK] Erro ao processar re-vinculação: " + e.getMessage());
                 sendErrorResponse(exchange, 500, "Erro interno ao ler a requisição");
             }
         }
@@ -1410,28 +1348,6 @@ public class HttpApiManager {
                 return new CompleteRelinkResult(false, "Erro interno ao processar re-vinculação");
             }
         }
-        
-        /**
-         * Parse da requisição de re-vinculação
-         */
-        private CompleteRelinkRequest parseCompleteRelinkRequest(String json) {
-            try {
-                String playerName = extractJsonValue(json, "playerName");
-                String relinkCode = extractJsonValue(json, "relinkCode");
-                String newDiscordId = extractJsonValue(json, "newDiscordId");
-                String ipAddress = extractJsonValue(json, "ipAddress");
-                
-                if (playerName == null || relinkCode == null || newDiscordId == null || ipAddress == null) {
-                    return null;
-                }
-                
-                return new CompleteRelinkRequest(playerName, relinkCode, newDiscordId, ipAddress);
-                
-            } catch (Exception e) {
-                logger.severe("[COMPLETE-RELINK] Erro ao fazer parse da requisição: " + e.getMessage());
-                return null;
-            }
-        }
     }
     
     // =====================================================
@@ -1463,44 +1379,33 @@ public class HttpApiManager {
                 return;
             }
             
-            // Ler corpo da requisição
-            String requestBody = readRequestBody(exchange);
-            if (requestBody == null) {
-                sendErrorResponse(exchange, 400, "Corpo da requisição inválido");
-                return;
-            }
-            
-            // Processar em thread assíncrona
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                try {
-                    DiscordTransferRequest request = parseDiscordTransferRequest(requestBody);
-                    if (request == null) {
-                        sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
-                        return;
-                    }
-                    
-                    // Obter IP de origem
-                    String ipAddress = getClientIpAddress(exchange);
-                    
-                    // Executar transferência
-                    DataManager.TransferResult result = dataManager.transferSubscription(
-                        request.getPlayerName(), 
-                        request.getNewDiscordId(), 
-                        ipAddress
-                    );
-                    
-                    if (result.isSuccess()) {
-                        String response = "{\"success\":true,\"message\":\"" + result.getMessage() + "\"}";
-                        sendJsonResponse(exchange, 200, response);
-                    } else {
-                        sendErrorResponse(exchange, 400, result.getMessage());
-                    }
-                    
-                } catch (Exception e) {
-                    logger.severe("[TRANSFER] Erro ao processar transferência: " + e.getMessage());
-                    sendErrorResponse(exchange, 500, "Erro interno ao processar a requisição");
+            try {
+                DiscordTransferRequest request = readJsonBody(exchange, DiscordTransferRequest::fromJson);
+                if (request == null) {
+                    sendErrorResponse(exchange, 400, "Dados de requisição inválidos");
+                    return;
                 }
-            });
+                
+                // Obter IP de origem
+                String ipAddress = getClientIpAddress(exchange);
+                
+                // Executar transferência
+                DataManager.TransferResult result = dataManager.transferSubscription(
+                    request.getPlayerName(), 
+                    request.getNewDiscordId(), 
+                    ipAddress
+                );
+                
+                if (result.isSuccess()) {
+                    sendSuccessResponse(exchange, result.getMessage());
+                } else {
+                    sendErrorResponse(exchange, 400, result.getMessage());
+                }
+                
+            } catch (Exception e) {
+                logger.severe("[TRANSFER] Erro ao processar transferência: " + e.getMessage());
+                sendErrorResponse(exchange, 500, "Erro interno ao processar a requisição");
+            }
         }
         
         /**
@@ -1524,26 +1429,6 @@ public class HttpApiManager {
                 return false;
             }
         }
-        
-        /**
-         * Parse da requisição de transferência
-         */
-        private DiscordTransferRequest parseDiscordTransferRequest(String requestBody) {
-            try {
-                String playerName = extractJsonValue(requestBody, "playerName");
-                String newDiscordId = extractJsonValue(requestBody, "newDiscordId");
-                
-                if (playerName == null || newDiscordId == null) {
-                    return null;
-                }
-                
-                return new DiscordTransferRequest(playerName, newDiscordId);
-                
-            } catch (Exception e) {
-                logger.severe("[TRANSFER] Erro ao fazer parse da requisição: " + e.getMessage());
-                return null;
-            }
-        }
     }
     
     // =====================================================
@@ -1562,6 +1447,28 @@ public class HttpApiManager {
             this.newDiscordId = newDiscordId;
         }
         
+        /**
+         * Parse em streaming do corpo JSON (todos os campos obrigatórios)
+         */
+        public static DiscordTransferRequest fromJson(JsonReader reader) throws IOException {
+            String playerName = null;
+            String newDiscordId = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "playerName": playerName = reader.nextString(); break;
+                    case "newDiscordId": newDiscordId = reader.nextString(); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            
+            if (playerName == null || newDiscordId == null) {
+                return null;
+            }
+            return new DiscordTransferRequest(playerName, newDiscordId);
+        }
+        
         // Getters
         public String getPlayerName() { return playerName; }
         public String getNewDiscordId() { return newDiscordId; }
@@ -1583,6 +1490,28 @@ public class HttpApiManager {
             this.ipAddress = ipAddress;
         }
         
+        /**
+         * Parse em streaming do corpo JSON (todos os campos obrigatórios)
+         */
+        public static AccountUnlinkRequest fromJson(JsonReader reader) throws IOException {
+            String playerName = null;
+            String ipAddress = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "playerName": playerName = reader.nextString(); break;
+                    case "ipAddress": ipAddress = reader.nextString(); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            
+            if (playerName == null || ipAddress == null) {
+                return null;
+            }
+            return new AccountUnlinkRequest(playerName, ipAddress);
+        }
+        
         // Getters
         public String getPlayerName() { return playerName; }
         public String getIpAddress() { return ipAddress; }
@@ -1628,6 +1557,32 @@ public class HttpApiManager {
             this.ipAddress = ipAddress;
         }
         
+        /**
+         * Parse em streaming do corpo JSON (todos os campos obrigatórios)
+         */
+        public static CompleteRelinkRequest fromJson(JsonReader reader) throws IOException {
+            String playerName = null;
+            String relinkCode = null;
+            String newDiscordId = null;
+            String ipAddress = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "playerName": playerName = reader.nextString(); break;
+                    case "relinkCode": relinkCode = reader.nextString(); break;
+                    case "newDiscordId": newDiscordId = reader.nextString(); break;
+                    case "ipAddress": ipAddress = reader.nextString(); break;
+                    default: reader.skipValue();
+                }
+            }
+            reader.endObject();
+            
+            if (playerName == null || relinkCode == null || newDiscordId == null || ipAddress == null) {
+                return null;
+            }
+            return new CompleteRelinkRequest(playerName, relinkCode, newDiscordId, ipAddress);
+        }
+        
         // Getters
         public String getPlayerName() { return playerName; }
         public String getRelinkCode() { return relinkCode; }
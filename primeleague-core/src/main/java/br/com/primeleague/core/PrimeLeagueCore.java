@@ -19,11 +19,19 @@ import br.com.primeleague.core.managers.MessageManager;
 import br.com.primeleague.core.managers.EconomyManager;
 import br.com.primeleague.core.managers.RecoveryCodeManager;
 import br.com.primeleague.core.managers.PermissionManager;
+import br.com.primeleague.core.managers.LoginContextManager;
+import br.com.primeleague.core.managers.LoginAdmissionController;
 import br.com.primeleague.core.commands.PrivateMessageCommand;
 import br.com.primeleague.core.commands.ReplyCommand;
 import br.com.primeleague.core.commands.MoneyCommand;
 import br.com.primeleague.core.commands.PayCommand;
 import br.com.primeleague.core.commands.EcoCommand;
+import br.com.primeleague.core.commands.PermTraceCommand;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import br.com.primeleague.core.cluster.InvalidationBus;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.scheduler.MainThreadDispatcher;
+import br.com.primeleague.core.identity.NameDirectory;
 import br.com.primeleague.core.validation.SchemaValidator;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -34,6 +42,8 @@ import java.util.logging.Logger;
 public final class PrimeLeagueCore extends JavaPlugin {
 
     private static PrimeLeagueCore instance;
+    // Threads com JDBC fora do DbExecutor e da API: perfis, ledger, auditoria, logs de clã e outbox
+    private static final int DEDICATED_DB_THREADS = 5;
     private Logger logger;
     private DataManager dataManager;
     private IdentityManager identityManager;
@@ -45,7 +55,14 @@ public final class PrimeLeagueCore extends JavaPlugin {
     private HttpApiManager httpApiManager;
     private RecoveryCodeManager recoveryCodeManager;
     private PermissionManager permissionManager;
+    private LoginContextManager loginContextManager;
+    private LoginAdmissionController loginAdmissionController;
     private SchemaValidator schemaValidator;
+    private MetricsRegistry metricsRegistry;
+    private NameDirectory nameDirectory;
+    private InvalidationBus invalidationBus;
+    private DbExecutor dbExecutor;
+    private MainThreadDispatcher mainThreadDispatcher;
 
     @Override
     public void onEnable() {
@@ -54,12 +71,35 @@ public final class PrimeLeagueCore extends JavaPlugin {
 
         saveDefaultConfig();
 
+        // Registro de contadores (usado pelos managers em vez de logs no caminho quente)
+        this.metricsRegistry = new MetricsRegistry();
+
+        // Barramento de invalidação entre servidores (managers assinam na construção; transporte inicia no fim)
+        this.invalidationBus = new InvalidationBus(this);
+
         this.dataManager = new DataManager(this);
         this.dataManager.connect();
 
+        // Fila de callbacks para a thread principal com orçamento por tick (retorno dos DAOs)
+        this.mainThreadDispatcher = new MainThreadDispatcher(this, metricsRegistry, getConfig().getDouble("main_thread.callback_budget_ms", 5.0));
+        this.mainThreadDispatcher.start();
+
+        // Executor de JDBC com faixas de prioridade (usado pelos DAOs de todos os módulos)
+        this.dbExecutor = new DbExecutor(this, metricsRegistry, getConfig().getConfigurationSection("database.executor"), mainThreadDispatcher);
+
+        // Diretório de nomes (tab-completion e sugestões), carregado fora da thread principal
+        this.nameDirectory = new NameDirectory(logger, getConfig().getInt("name_directory.max_names", 500000));
+        dbExecutor.execute(DbExecutor.Priority.BACKGROUND, "names.load", () -> nameDirectory.load(dataManager.getDataSource()));
+
         // Inicializa o IdentityManager (coração da arquitetura de segurança)
         this.identityManager = new IdentityManager(this, this.dataManager);
 
+        // Inicializa o LoginContextManager (hidratação única dos dados de login)
+        this.loginContextManager = new LoginContextManager(this, this.dataManager);
+
+        // Inicializa o LoginAdmissionController (limita pré-logins simultâneos no restart)
+        this.loginAdmissionController = new LoginAdmissionController(this);
+
         // Inicializa o DonorManager (sistema de doadores)
         this.donorManager = new DonorManager(this);
 
@@ -102,9 +142,15 @@ public final class PrimeLeagueCore extends JavaPlugin {
             this.httpApiManager.start();
         }
         
+        // Cada thread com JDBC segura no máximo uma conexão: a soma precisa caber no pool
+        checkConnectionBudget();
+        
         // Inicializa API
         PrimeLeagueAPI.initialize(this);
         
+        // Inicia o transporte do barramento após todos os managers do Core assinarem
+        this.invalidationBus.start(this.dataManager.getDataSource());
+        
         // Registra o DataManager como provedor de perfis para outros módulos
         PrimeLeagueAPI.registerProfileProvider(new PrimeLeagueAPI.ProfileProvider() {
             @Override
@@ -119,14 +165,14 @@ public final class PrimeLeagueCore extends JavaPlugin {
         });
         
         // Registra o ProfileService para outros módulos
-        ProfileServiceRegistry.register(new CoreProfileService(this.dataManager));
+        ProfileServiceRegistry.register(new CoreProfileService(this.dataManager, this.dbExecutor));
         
         // Registra o TagService para outros módulos
         TagServiceRegistry.register(new TagServiceAdapter(this.tagManager));
         
         // Registra o EconomyService para outros módulos
         br.com.primeleague.api.EconomyServiceRegistry.register(
-            new br.com.primeleague.core.services.EconomyServiceImpl(this.economyManager, this.identityManager)
+            new br.com.primeleague.core.services.EconomyServiceImpl(this.economyManager, this.identityManager, this.dbExecutor)
         );
         
         // DAOServiceRegistry será usado pelos módulos para registrar seus próprios DAOs
@@ -141,10 +187,14 @@ public final class PrimeLeagueCore extends JavaPlugin {
         getCommand("pagar").setExecutor(new PayCommand(this));
         getCommand("eco").setExecutor(new EcoCommand(this));
         
+        // Registra comandos de diagnóstico
+        getCommand("permtrace").setExecutor(new PermTraceCommand(this));
+        
 
         
         // Registra listeners
         getServer().getPluginManager().registerEvents(new ProfileListener(this.dataManager), this);
+        getServer().getPluginManager().registerEvents(this.loginAdmissionController, this);
         
         logger.info("[Core] PrimeLeague Core habilitado");
     }
@@ -156,6 +206,31 @@ public final class PrimeLeagueCore extends JavaPlugin {
             httpApiManager.stop();
         }
         
+        // Concluir tarefas de banco já enfileiradas (módulos dependentes já foram desabilitados)
+        if (dbExecutor != null) {
+            dbExecutor.shutdown(5000L);
+        }
+        
+        // Executar os callbacks que as tarefas acima deixaram na fila
+        if (mainThreadDispatcher != null) {
+            mainThreadDispatcher.stop();
+        }
+        
+        // Gravar perfis pendentes do write-behind antes de limpar caches
+        if (dataManager != null) {
+            dataManager.shutdownWriteBehind();
+        }
+        
+        // Drenar o journal do ledger econômico para o banco
+        if (economyManager != null) {
+            economyManager.shutdown();
+        }
+        
+        // Enviar invalidações pendentes (inclusive as geradas pelo dreno acima)
+        if (invalidationBus != null) {
+            invalidationBus.stop();
+        }
+        
         // Limpar caches
         if (economyManager != null) {
             economyManager.clearAllCache();
@@ -163,10 +238,27 @@ public final class PrimeLeagueCore extends JavaPlugin {
         if (donorManager != null) {
             donorManager.clearAllCache();
         }
-        
+        if (loginContextManager != null) {
+            loginContextManager.clear();
+        }
+
         logger.info("[Core] PrimeLeague Core desabilitado");
     }
 
+    /**
+     * Avisa se as threads que fazem JDBC podem pedir mais conexões do que o pool tem.
+     */
+    private void checkConnectionBudget() {
+        int poolSize = getConfig().getInt("database.pool.maximumPoolSize", 24);
+        int apiThreads = httpApiManager != null ? getConfig().getInt("api.pipeline.db_threads", 8) : 0;
+        int required = dbExecutor.getThreadCount() + apiThreads + DEDICATED_DB_THREADS;
+        if (required > poolSize) {
+            logger.warning("⚠️ [DB] " + required + " threads com JDBC (executor " + dbExecutor.getThreadCount()
+                + ", API " + apiThreads + ", dedicadas " + DEDICATED_DB_THREADS + ") para um pool de " + poolSize
+                + " conexões: aumente database.pool.maximumPoolSize");
+        }
+    }
+
     public static PrimeLeagueCore getInstance() {
         return instance;
     }
@@ -214,10 +306,38 @@ public final class PrimeLeagueCore extends JavaPlugin {
     public PermissionManager getPermissionManager() {
         return permissionManager;
     }
+
+    public LoginContextManager getLoginContextManager() {
+        return loginContextManager;
+    }
+
+    public LoginAdmissionController getLoginAdmissionController() {
+        return loginAdmissionController;
+    }
     
     public SchemaValidator getSchemaValidator() {
         return schemaValidator;
     }
+
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    public NameDirectory getNameDirectory() {
+        return nameDirectory;
+    }
+
+    public InvalidationBus getInvalidationBus() {
+        return invalidationBus;
+    }
+
+    public DbExecutor getDbExecutor() {
+        return dbExecutor;
+    }
+
+    public MainThreadDispatcher getMainThreadDispatcher() {
+        return mainThreadDispatcher;
+    }
 }
 
 
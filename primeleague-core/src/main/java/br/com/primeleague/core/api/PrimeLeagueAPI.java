@@ -9,16 +9,24 @@ import br.com.primeleague.core.managers.WhitelistManager;
 import br.com.primeleague.core.managers.EconomyManager;
 import br.com.primeleague.core.managers.DonorManager;
 import br.com.primeleague.core.managers.PermissionManager;
+import br.com.primeleague.core.managers.LoginContextManager;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import br.com.primeleague.core.identity.NameDirectory;
+import br.com.primeleague.core.cluster.InvalidationBus;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.scheduler.MainThreadDispatcher;
 import br.com.primeleague.core.services.TagManager;
 import br.com.primeleague.core.services.DAOServiceRegistry;
 import br.com.primeleague.core.models.PlayerProfile;
 import br.com.primeleague.core.models.PlayerGroup;
+import br.com.primeleague.core.models.LoginContext;
 import br.com.primeleague.core.util.UUIDUtils;
 import br.com.primeleague.api.ClanServiceRegistry;
 import br.com.primeleague.api.EconomyServiceRegistry;
 import br.com.primeleague.api.IdentityServiceRegistry;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -36,7 +44,13 @@ public final class PrimeLeagueAPI {
     private static DonorManager donorManager;
     private static ProfileProvider provider;
     private static PermissionManager permissionManager;
+    private static LoginContextManager loginContextManager;
     private static DAOServiceRegistry daoServiceRegistry;
+    private static MetricsRegistry metricsRegistry;
+    private static NameDirectory nameDirectory;
+    private static InvalidationBus invalidationBus;
+    private static DbExecutor dbExecutor;
+    private static MainThreadDispatcher mainThreadDispatcher;
 
     private PrimeLeagueAPI() {}
 
@@ -53,7 +67,13 @@ public final class PrimeLeagueAPI {
         economyManager = core.getEconomyManager();
         donorManager = core.getDonorManager();
         permissionManager = core.getPermissionManager();
+        loginContextManager = core.getLoginContextManager();
         daoServiceRegistry = core.getDAOServiceRegistry();
+        metricsRegistry = core.getMetricsRegistry();
+        nameDirectory = core.getNameDirectory();
+        invalidationBus = core.getInvalidationBus();
+        dbExecutor = core.getDbExecutor();
+        mainThreadDispatcher = core.getMainThreadDispatcher();
         initialized = true;
     }
 
@@ -105,6 +125,56 @@ public final class PrimeLeagueAPI {
         return permissionManager;
     }
 
+    public static LoginContextManager getLoginContextManager() {
+        ensureInit();
+        return loginContextManager;
+    }
+
+    public static MetricsRegistry getMetricsRegistry() {
+        ensureInit();
+        return metricsRegistry;
+    }
+
+    /**
+     * Barramento de invalidação de caches entre servidores.
+     * Módulos publicam após escritas e assinam os tipos que cacheiam.
+     */
+    public static InvalidationBus getInvalidationBus() {
+        ensureInit();
+        return invalidationBus;
+    }
+
+    /**
+     * Executor de JDBC com faixas de prioridade.
+     * DAOs dos módulos usam no lugar de runTaskAsynchronously.
+     */
+    public static DbExecutor getDbExecutor() {
+        ensureInit();
+        return dbExecutor;
+    }
+
+    /**
+     * Fila de callbacks para a thread principal com orçamento por tick.
+     * DAOs e managers usam no lugar de runTask para entregar resultados.
+     */
+    public static MainThreadDispatcher getMainThreadDispatcher() {
+        ensureInit();
+        return mainThreadDispatcher;
+    }
+
+    /**
+     * Obtém o contexto de login hidratado no AsyncPlayerPreLoginEvent.
+     * Contém perfil, player_id, vínculo Discord, assinatura, IPs autorizados,
+     * punições ativas e grupos, evitando novas consultas nos listeners de login.
+     *
+     * @param playerName Nome do jogador
+     * @return LoginContext ou null se não hidratado (listeners devem usar o fallback)
+     */
+    public static LoginContext getLoginContext(String playerName) {
+        ensureInit();
+        return loginContextManager.getContext(playerName);
+    }
+
     public static PlayerProfile getPlayerProfile(Player player) {
         ensureInit();
         return dataManager.getPlayerProfile(player);
@@ -193,6 +263,64 @@ public final class PrimeLeagueAPI {
         }
     }
     
+    /**
+     * Diretório de nomes de todos os jogadores (online e offline).
+     */
+    public static NameDirectory getNameDirectory() {
+        ensureInit();
+        return nameDirectory;
+    }
+    
+    /**
+     * Completa nomes de jogadores para tab-completion: online primeiro, depois offline.
+     * Apenas memória; seguro para a thread principal.
+     * 
+     * @param prefix Prefixo digitado (case-insensitive)
+     * @param limit Quantidade máxima de nomes
+     * @return Lista de nomes
+     */
+    public static List<String> completePlayerNames(String prefix, int limit) {
+        ensureInit();
+        String lowerPrefix = prefix != null ? prefix.toLowerCase() : "";
+        List<String> names = new ArrayList<String>();
+        for (Player online : org.bukkit.Bukkit.getOnlinePlayers()) {
+            if (names.size() >= limit) {
+                return names;
+            }
+            if (online.getName().toLowerCase().startsWith(lowerPrefix)) {
+                names.add(online.getName());
+            }
+        }
+        for (String name : nameDirectory.complete(lowerPrefix, limit)) {
+            if (names.size() >= limit) {
+                break;
+            }
+            boolean duplicate = false;
+            for (String existing : names) {
+                if (existing.equalsIgnoreCase(name)) {
+                    duplicate = true;
+                    break;
+                }
+            }
+            if (!duplicate) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+    
+    /**
+     * Sugere nomes parecidos para um nome não encontrado ("você quis dizer").
+     * 
+     * @param playerName Nome digitado
+     * @param limit Quantidade máxima de sugestões
+     * @return Sugestões (vazia se não houver nomes parecidos)
+     */
+    public static List<String> suggestPlayerNames(String playerName, int limit) {
+        ensureInit();
+        return nameDirectory.suggest(playerName, limit);
+    }
+    
     // ============================================================================
     // WHITELIST V2 - API PÚBLICA
     // ============================================================================
@@ -280,22 +408,11 @@ public final class PrimeLeagueAPI {
      * @return true se o jogador tem a permissão, false caso contrário
      */
     public static boolean hasPermission(Player player, String permissionNode) {
-        // 🔧 DEBUG: Log de entrada na API
-        System.out.println("🔍 [API-DEBUG] PrimeLeagueAPI.hasPermission() chamado:");
-        System.out.println("🔍 [API-DEBUG] - Player: " + (player != null ? player.getName() : "NULL"));
-        System.out.println("🔍 [API-DEBUG] - Permission: " + permissionNode);
-        System.out.println("🔍 [API-DEBUG] - API inicializada: " + initialized);
-        
         try {
             ensureInit();
-            System.out.println("🔍 [API-DEBUG] - PermissionManager: " + (permissionManager != null ? "OK" : "NULL"));
-            
-            boolean result = permissionManager.hasPermission(player, permissionNode);
-            System.out.println("🔍 [API-DEBUG] - Resultado: " + result);
-            
-            return result;
+            return permissionManager.hasPermission(player, permissionNode);
         } catch (Exception e) {
-            System.err.println("🔍 [API-DEBUG] ❌ Erro na API hasPermission: " + e.getMessage());
+            System.err.println("❌ [PrimeLeagueAPI] Erro em hasPermission(" + permissionNode + "): " + e.getMessage());
             e.printStackTrace();
             return false;
         }
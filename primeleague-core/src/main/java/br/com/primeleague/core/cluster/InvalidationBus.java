@@ -0,0 +1,174 @@
+package br.com.primeleague.core.cluster;
+
+import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Barramento de invalidação de caches entre servidores que compartilham o MySQL.
+ *
+ * Os managers publicam um evento tipado após cada escrita confirmada no banco
+ * e assinam os tipos que cacheiam; ao receber um evento de outro nó, aplicam o
+ * delta (ou descartam a entrada) no próprio cache. Eventos do próprio nó são
+ * ignorados na recepção.
+ *
+ * Transportes (cluster.transport):
+ * - none: servidor único, publicação é no-op (padrão)
+ * - outbox: tabela no banco consultada por marca d'água ({@link OutboxTransport})
+ * - multicast: UDP, para testes no mesmo host ({@link MulticastTransport})
+ *
+ * Os handlers rodam na thread do transporte: devem ser thread-safe e agendar
+ * no scheduler do Bukkit o que precisar da thread principal.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class InvalidationBus {
+
+    private final Logger logger;
+    private final MetricsRegistry metrics;
+    private final String nodeId;
+    private final String transportName;
+    private final FileConfiguration config;
+    private final Map<InvalidationEvent.Type, List<Consumer<InvalidationEvent>>> subscribers =
+        new EnumMap<InvalidationEvent.Type, List<Consumer<InvalidationEvent>>>(InvalidationEvent.Type.class);
+
+    private volatile InvalidationTransport transport;
+
+    public InvalidationBus(PrimeLeagueCore plugin) {
+        this.logger = plugin.getLogger();
+        this.metrics = plugin.getMetricsRegistry();
+        this.config = plugin.getConfig();
+        String configuredNode = config.getString("cluster.node_id", "");
+        this.nodeId = configuredNode == null || configuredNode.trim().isEmpty()
+            ? UUID.randomUUID().toString().substring(0, 8) : configuredNode.trim();
+        this.transportName = config.getString("cluster.transport", "none").trim().toLowerCase();
+        for (InvalidationEvent.Type type : InvalidationEvent.Type.values()) {
+            subscribers.put(type, new CopyOnWriteArrayList<Consumer<InvalidationEvent>>());
+        }
+    }
+
+    /**
+     * Inicia o transporte configurado. Assinaturas feitas depois continuam valendo.
+     *
+     * @param dataSource Pool do banco compartilhado (usado pelo outbox)
+     */
+    public void start(DataSource dataSource) {
+        InvalidationTransport created;
+        if ("outbox".equals(transportName)) {
+            created = new OutboxTransport(dataSource, logger,
+                config.getLong("cluster.outbox.poll_interval_ms", 250L),
+                config.getInt("cluster.outbox.batch_size", 500),
+                config.getLong("cluster.outbox.gap_timeout_ms", 5000L),
+                config.getInt("cluster.outbox.retention_seconds", 600),
+                config.getInt("cluster.outbox.queue_capacity", 10000));
+        } else if ("multicast".equals(transportName)) {
+            created = new MulticastTransport(logger,
+                config.getString("cluster.multicast.group", "239.255.42.99"),
+                config.getInt("cluster.multicast.port", 47999),
+                config.getInt("cluster.multicast.ttl", 1));
+        } else {
+            if (!"none".equals(transportName)) {
+                logger.warning("⚠️ [CLUSTER] Transporte desconhecido '" + transportName + "', invalidação entre servidores desabilitada");
+            }
+            return;
+        }
+
+        try {
+            created.start(this::receive);
+            this.transport = created;
+            logger.info("✅ [CLUSTER] Barramento de invalidação ativo (nó " + nodeId + ", transporte " + created.getName() + ")");
+        } catch (IOException | SQLException e) {
+            logger.severe("🚨 [CLUSTER] Falha ao iniciar o transporte " + transportName + ", caches apenas locais: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Para o transporte (eventos pendentes do outbox são enviados antes).
+     */
+    public void stop() {
+        InvalidationTransport current = transport;
+        transport = null;
+        if (current != null) {
+            current.stop();
+        }
+    }
+
+    /**
+     * Registra um handler para eventos de outros nós.
+     *
+     * @param type Tipo de evento
+     * @param handler Handler (thread do transporte)
+     */
+    public void subscribe(InvalidationEvent.Type type, Consumer<InvalidationEvent> handler) {
+        subscribers.get(type).add(handler);
+    }
+
+    /**
+     * Publica uma mudança já confirmada no banco. No-op sem transporte ativo.
+     *
+     * @param type Tipo de evento
+     * @param key Chave do objeto alterado
+     * @param value Valor do delta (ver {@link InvalidationEvent.Type})
+     */
+    public void publish(InvalidationEvent.Type type, String key, long value) {
+        InvalidationTransport current = transport;
+        if (current == null) {
+            return;
+        }
+        if (current.publish(new InvalidationEvent(type, key, value, nodeId))) {
+            count("cluster.published");
+        } else {
+            count("cluster.dropped");
+        }
+    }
+
+    public void publish(InvalidationEvent.Type type, int key) {
+        publish(type, String.valueOf(key), 0L);
+    }
+
+    public void publish(InvalidationEvent.Type type, String key) {
+        publish(type, key, 0L);
+    }
+
+    public boolean isEnabled() {
+        return transport != null;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void receive(InvalidationEvent event) {
+        if (nodeId.equals(event.getOriginNode())) {
+            return;
+        }
+        count("cluster.received");
+        for (Consumer<InvalidationEvent> handler : subscribers.get(event.getType())) {
+            try {
+                handler.accept(event);
+            } catch (RuntimeException e) {
+                count("cluster.errors");
+                logger.log(Level.WARNING, "⚠️ [CLUSTER] Erro ao aplicar " + event + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private void count(String name) {
+        if (metrics != null) {
+            metrics.counter(name).increment();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.primeleague.core.cluster;
+
+/**
+ * Evento de invalidação de cache entre servidores que compartilham o banco.
+ *
+ * Cada evento identifica o que mudou (tipo + chave) e, quando útil, um valor
+ * numérico para aplicar o delta sem nova consulta. O nó de origem permite
+ * ignorar os próprios eventos ao recebê-los de volta pelo transporte.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class InvalidationEvent {
+
+    /**
+     * Tipos de evento (chave / valor de cada um).
+     */
+    public enum Type {
+        /** Perfil gravado. Chave: UUID canônico. */
+        PROFILE_CHANGED,
+        /** Saldo alterado no banco. Chave: player_id. */
+        BALANCE_CHANGED,
+        /** Grupo de permissões alterado. Chave: group_id; valor 1 = mudança de membros. */
+        GROUP_CHANGED,
+        /** Clã, membros ou relações alterados. Chave: clan_id. */
+        CLAN_CHANGED,
+        /** Território reivindicado/removido. Chave: "mundo:x:z"; valor: clan_id (0 = removido). */
+        TERRITORY_CHANGED,
+        /** Assinatura/vínculo Discord alterado. Chave: discord_id (pode ser vazia); valor: player_id (-1 = nenhum). */
+        SUBSCRIPTION_CHANGED,
+        /** Jogador adicionado à whitelist. Chave: UUID; valor: player_id. */
+        WHITELIST_ADDED,
+        /** Jogador removido da whitelist. Chave: UUID; valor: player_id. */
+        WHITELIST_REMOVED
+    }
+
+    private static final char SEPARATOR = '|';
+
+    private final Type type;
+    private final String key;
+    private final long value;
+    private final String originNode;
+
+    public InvalidationEvent(Type type, String key, long value, String originNode) {
+        this.type = type;
+        this.key = key != null ? key : "";
+        this.value = value;
+        this.originNode = originNode;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    public String getOriginNode() {
+        return originNode;
+    }
+
+    /**
+     * @return Chave como inteiro (player_id, group_id, clan_id), ou -1 se não numérica
+     */
+    public int getIntKey() {
+        try {
+            return Integer.parseInt(key);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Formato de linha: nó|tipo|valor|chave (a chave vem por último e pode conter '|').
+     */
+    public String encode() {
+        return originNode + SEPARATOR + type.name() + SEPARATOR + value + SEPARATOR + key;
+    }
+
+    /**
+     * @param line Linha gerada por {@link #encode()}
+     * @return Evento, ou null se a linha for inválida ou de um tipo desconhecido (nó mais novo)
+     */
+    public static InvalidationEvent decode(String line) {
+        int first = line.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : line.indexOf(SEPARATOR, first + 1);
+        int third = second < 0 ? -1 : line.indexOf(SEPARATOR, second + 1);
+        if (third < 0) {
+            return null;
+        }
+        Type type = parseType(line.substring(first + 1, second));
+        if (type == null) {
+            return null;
+        }
+        try {
+            long value = Long.parseLong(line.substring(second + 1, third));
+            return new InvalidationEvent(type, line.substring(third + 1), value, line.substring(0, first));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return Tipo, ou null se desconhecido
+     */
+    static Type parseType(String name) {
+        try {
+            return Type.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return type + "[" + key + "=" + value + " @" + originNode + "]";
+    }
+}
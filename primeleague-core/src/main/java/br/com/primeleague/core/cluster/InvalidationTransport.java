@@ -0,0 +1,39 @@
+package br.com.primeleague.core.cluster;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Transporte do barramento de invalidação entre servidores.
+ *
+ * Implementações entregam ao receptor todos os eventos publicados por
+ * qualquer nó (inclusive o próprio; o barramento filtra pela origem).
+ * {@link #publish} nunca bloqueia o chamador em I/O de rede ou banco.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public interface InvalidationTransport {
+
+    /**
+     * Inicia o transporte.
+     *
+     * @param receiver Receptor dos eventos (chamado na thread do transporte)
+     */
+    void start(Consumer<InvalidationEvent> receiver) throws IOException, SQLException;
+
+    /**
+     * Publica um evento.
+     *
+     * @return false se o evento foi descartado (fila cheia ou transporte parado)
+     */
+    boolean publish(InvalidationEvent event);
+
+    /**
+     * Para o transporte, enviando o que ainda estiver pendente quando possível.
+     */
+    void stop();
+
+    String getName();
+}
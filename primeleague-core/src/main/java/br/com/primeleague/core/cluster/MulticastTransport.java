@@ -0,0 +1,126 @@
+package br.com.primeleague.core.cluster;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Transporte por UDP multicast, para testes com vários servidores no mesmo host
+ * (ou na mesma rede local).
+ *
+ * Um datagrama por evento, sem confirmação: eventos perdidos não são
+ * reenviados, então o TTL dos caches continua sendo a rede de segurança.
+ * Em produção com servidores em máquinas diferentes, use o outbox.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class MulticastTransport implements InvalidationTransport {
+
+    private static final int MAX_DATAGRAM = 512;
+
+    private final Logger logger;
+    private final String groupAddress;
+    private final int port;
+    private final int ttl;
+
+    private InetAddress group;
+    private volatile MulticastSocket socket;
+    private Thread receiverThread;
+    private volatile boolean running;
+
+    /**
+     * @param logger Logger do plugin
+     * @param groupAddress Endereço do grupo multicast (ex: 239.255.42.99)
+     * @param port Porta UDP
+     * @param ttl TTL dos datagramas (1 = não sai da rede local)
+     */
+    public MulticastTransport(Logger logger, String groupAddress, int port, int ttl) {
+        this.logger = logger;
+        this.groupAddress = groupAddress;
+        this.port = port;
+        this.ttl = Math.max(0, ttl);
+    }
+
+    @Override
+    public void start(final Consumer<InvalidationEvent> receiver) throws IOException {
+        group = InetAddress.getByName(groupAddress);
+        final MulticastSocket listening = new MulticastSocket(port);
+        listening.setTimeToLive(ttl);
+        listening.setLoopbackMode(false); // false = loopback habilitado (servidores no mesmo host)
+        listening.joinGroup(group);
+        socket = listening;
+        running = true;
+
+        receiverThread = new Thread(() -> {
+            byte[] buffer = new byte[MAX_DATAGRAM];
+            while (running) {
+                DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+                try {
+                    listening.receive(packet);
+                } catch (IOException e) {
+                    if (running) {
+                        logger.warning("⚠️ [CLUSTER] Falha ao receber datagrama: " + e.getMessage());
+                    }
+                    continue;
+                }
+                InvalidationEvent event = InvalidationEvent.decode(
+                    new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8));
+                if (event != null) {
+                    receiver.accept(event);
+                }
+            }
+        }, "PrimeLeague-Cluster-Multicast");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+    }
+
+    @Override
+    public boolean publish(InvalidationEvent event) {
+        MulticastSocket current = socket;
+        if (!running || current == null) {
+            return false;
+        }
+        byte[] data = event.encode().getBytes(StandardCharsets.UTF_8);
+        if (data.length > MAX_DATAGRAM) {
+            return false;
+        }
+        try {
+            current.send(new DatagramPacket(data, data.length, group, port));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (socket != null) {
+            try {
+                socket.leaveGroup(group);
+            } catch (IOException ignored) {
+                // Socket já inutilizável
+            }
+            socket.close(); // Desbloqueia o receive()
+            socket = null;
+        }
+        if (receiverThread != null) {
+            try {
+                receiverThread.join(1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            receiverThread = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "multicast";
+    }
+}
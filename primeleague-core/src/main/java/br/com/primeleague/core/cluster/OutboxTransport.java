@@ -0,0 +1,251 @@
+package br.com.primeleague.core.cluster;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * Transporte por tabela de outbox no MySQL compartilhado.
+ *
+ * Publicação: eventos entram numa fila em memória e são gravados em lote
+ * (um INSERT em batch por ciclo) pela thread do transporte.
+ *
+ * Consumo: cada nó consulta {@code id > marca d'água} em ordem. IDs de
+ * AUTO_INCREMENT são reservados no INSERT mas ficam visíveis na ordem do
+ * commit, então um ID menor pode aparecer depois de um maior. As linhas
+ * acima de um buraco são entregues e lembradas; a marca d'água só avança
+ * sobre IDs contíguos. Um buraco que persiste além de {@code gapTimeoutMs}
+ * é tratado como INSERT desfeito e pulado.
+ *
+ * Linhas antigas são apagadas periodicamente (retenção configurável).
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class OutboxTransport implements InvalidationTransport {
+
+    private static final String CREATE_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS cache_invalidation_outbox (" +
+        "id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY," +
+        "origin_node VARCHAR(64) NOT NULL," +
+        "event_type VARCHAR(32) NOT NULL," +
+        "event_key VARCHAR(128) NOT NULL," +
+        "event_value BIGINT NOT NULL DEFAULT 0," +
+        "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP," +
+        "INDEX idx_outbox_created_at (created_at)" +
+        ")";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO cache_invalidation_outbox (origin_node, event_type, event_key, event_value) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_MAX_ID_SQL =
+        "SELECT COALESCE(MAX(id), 0) AS max_id FROM cache_invalidation_outbox";
+
+    private static final String SELECT_AFTER_SQL =
+        "SELECT id, origin_node, event_type, event_key, event_value FROM cache_invalidation_outbox " +
+        "WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String DELETE_EXPIRED_SQL =
+        "DELETE FROM cache_invalidation_outbox WHERE created_at < DATE_SUB(NOW(), INTERVAL ? SECOND) LIMIT 5000";
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final long CLEANUP_INTERVAL_MS = 60000L;
+
+    private final DataSource dataSource;
+    private final Logger logger;
+    private final long pollIntervalMs;
+    private final int batchSize;
+    private final long gapTimeoutMs;
+    private final int retentionSeconds;
+    private final BlockingQueue<InvalidationEvent> pending;
+
+    private ScheduledExecutorService worker;
+    private Consumer<InvalidationEvent> receiver;
+
+    // Estado do consumo (acessado só pela thread do transporte)
+    private long highWaterMark;
+    private final TreeSet<Long> deliveredAboveMark = new TreeSet<Long>();
+    private long gapSince;
+    private long lastCleanup;
+
+    /**
+     * @param dataSource Pool do banco compartilhado
+     * @param logger Logger do plugin
+     * @param pollIntervalMs Intervalo entre ciclos de envio/consulta
+     * @param batchSize Máximo de linhas lidas ou gravadas por ciclo
+     * @param gapTimeoutMs Tempo de espera por um ID ausente antes de pulá-lo
+     * @param retentionSeconds Idade a partir da qual as linhas são apagadas
+     * @param queueCapacity Capacidade da fila de publicação
+     */
+    public OutboxTransport(DataSource dataSource, Logger logger, long pollIntervalMs, int batchSize,
+                           long gapTimeoutMs, int retentionSeconds, int queueCapacity) {
+        this.dataSource = dataSource;
+        this.logger = logger;
+        this.pollIntervalMs = Math.max(10L, pollIntervalMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.gapTimeoutMs = Math.max(this.pollIntervalMs, gapTimeoutMs);
+        this.retentionSeconds = Math.max(60, retentionSeconds);
+        this.pending = new ArrayBlockingQueue<InvalidationEvent>(Math.max(1, queueCapacity));
+    }
+
+    @Override
+    public void start(Consumer<InvalidationEvent> receiver) throws SQLException {
+        this.receiver = receiver;
+        try (Connection conn = dataSource.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(CREATE_TABLE_SQL);
+            }
+            // Eventos anteriores à inicialização não interessam: os caches começam vazios
+            try (PreparedStatement ps = conn.prepareStatement(SELECT_MAX_ID_SQL);
+                 ResultSet rs = ps.executeQuery()) {
+                highWaterMark = rs.next() ? rs.getLong("max_id") : 0L;
+            }
+        }
+        lastCleanup = System.currentTimeMillis();
+
+        worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "PrimeLeague-Cluster-Outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(this::cycle, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean publish(InvalidationEvent event) {
+        return worker != null && pending.offer(event);
+    }
+
+    @Override
+    public void stop() {
+        if (worker == null) {
+            return;
+        }
+        worker.shutdown();
+        try {
+            worker.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+        try {
+            flushPending();
+        } catch (SQLException e) {
+            logger.warning("⚠️ [CLUSTER] " + pending.size() + " eventos não enviados no desligamento: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "outbox";
+    }
+
+    private void cycle() {
+        try {
+            flushPending();
+            poll();
+            long now = System.currentTimeMillis();
+            if (now - lastCleanup >= CLEANUP_INTERVAL_MS) {
+                lastCleanup = now;
+                deleteExpired();
+            }
+        } catch (SQLException e) {
+            logger.warning("⚠️ [CLUSTER] Falha no ciclo do outbox: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // Exceção não tratada cancelaria o agendamento
+            logger.severe("🚨 [CLUSTER] Erro inesperado no ciclo do outbox: " + e.getMessage());
+        }
+    }
+
+    private void flushPending() throws SQLException {
+        List<InvalidationEvent> batch = new ArrayList<InvalidationEvent>();
+        while (pending.drainTo(batch, batchSize) > 0) {
+            try (Connection conn = dataSource.getConnection();
+                 PreparedStatement ps = conn.prepareStatement(INSERT_SQL)) {
+                for (InvalidationEvent event : batch) {
+                    String key = event.getKey();
+                    ps.setString(1, event.getOriginNode());
+                    ps.setString(2, event.getType().name());
+                    ps.setString(3, key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+                    ps.setLong(4, event.getValue());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            } catch (SQLException e) {
+                // Devolve à fila o que couber para a próxima tentativa
+                for (InvalidationEvent event : batch) {
+                    pending.offer(event);
+                }
+                throw e;
+            }
+            batch.clear();
+        }
+    }
+
+    private void poll() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_AFTER_SQL)) {
+            ps.setLong(1, highWaterMark);
+            ps.setInt(2, batchSize + deliveredAboveMark.size());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong("id");
+                    if (!deliveredAboveMark.add(id)) {
+                        continue; // Já entregue num ciclo anterior (acima de um buraco)
+                    }
+                    InvalidationEvent.Type type = InvalidationEvent.parseType(rs.getString("event_type"));
+                    if (type != null) {
+                        receiver.accept(new InvalidationEvent(type, rs.getString("event_key"),
+                            rs.getLong("event_value"), rs.getString("origin_node")));
+                    }
+                }
+            }
+        }
+        advanceHighWaterMark();
+    }
+
+    /**
+     * Avança a marca d'água sobre os IDs contíguos já entregues; pula buracos antigos.
+     */
+    private void advanceHighWaterMark() {
+        while (deliveredAboveMark.remove(highWaterMark + 1)) {
+            highWaterMark++;
+        }
+        if (deliveredAboveMark.isEmpty()) {
+            gapSince = 0L;
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (gapSince == 0L) {
+            gapSince = now;
+        } else if (now - gapSince >= gapTimeoutMs) {
+            // INSERT desfeito (ou ID descartado pelo AUTO_INCREMENT): não vai mais aparecer
+            highWaterMark = deliveredAboveMark.first() - 1;
+            while (deliveredAboveMark.remove(highWaterMark + 1)) {
+                highWaterMark++;
+            }
+            gapSince = deliveredAboveMark.isEmpty() ? 0L : now;
+        }
+    }
+
+    private void deleteExpired() throws SQLException {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(DELETE_EXPIRED_SQL)) {
+            ps.setInt(1, retentionSeconds);
+            ps.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package br.com.primeleague.core.commands;
+
+import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.permissions.PermissionTrace;
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+
+/**
+ * Comando administrativo /permtrace para diagnosticar verificações de permissão
+ * sem logs permanentes no caminho quente.
+ *
+ * Uso:
+ * - /permtrace on [jogador:<nome>] [node:<prefixo>] - Liga o trace (com escopo opcional)
+ * - /permtrace off - Desliga o trace
+ * - /permtrace rate <linhas/s> - Define o limite de amostragem
+ * - /permtrace stats - Mostra o estado do trace e os contadores de permissões
+ *
+ * Permissão: primeleague.admin.permtrace
+ *
+ * @author PrimeLeague Team
+ * @version 1.0
+ */
+public class PermTraceCommand implements CommandExecutor {
+
+    private final PrimeLeagueCore plugin;
+
+    public PermTraceCommand(PrimeLeagueCore plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+
+        // Console sempre pode usar; jogadores precisam da permissão
+        if (sender instanceof Player && !PrimeLeagueAPI.hasPermission((Player) sender, "primeleague.admin.permtrace")) {
+            sender.sendMessage(ChatColor.RED + "Você não tem permissão para usar este comando.");
+            return true;
+        }
+
+        if (args.length == 0) {
+            sendUsage(sender);
+            return true;
+        }
+
+        PermissionTrace trace = plugin.getPermissionManager().getTrace();
+        String action = args[0].toLowerCase();
+
+        if (action.equals("on")) {
+            String player = null;
+            String node = null;
+            for (int i = 1; i < args.length; i++) {
+                String arg = args[i];
+                if (arg.toLowerCase().startsWith("jogador:")) {
+                    player = arg.substring("jogador:".length());
+                } else if (arg.toLowerCase().startsWith("node:")) {
+                    node = arg.substring("node:".length());
+                } else {
+                    sendUsage(sender);
+                    return true;
+                }
+            }
+            // Com o jogador online, o UUID também entra no filtro (verificações feitas só pelo UUID)
+            Player target = player != null ? Bukkit.getPlayerExact(player) : null;
+            trace.enable(player, target != null ? target.getUniqueId() : null, node);
+            sender.sendMessage(ChatColor.GREEN + "Trace de permissões ligado. " + ChatColor.GRAY + trace.getStatus());
+        } else if (action.equals("off")) {
+            trace.disable();
+            sender.sendMessage(ChatColor.YELLOW + "Trace de permissões desligado. " + ChatColor.GRAY + trace.getStatus());
+        } else if (action.equals("rate") && args.length == 2) {
+            try {
+                trace.setLinesPerSecond(Integer.parseInt(args[1]));
+                sender.sendMessage(ChatColor.GREEN + "Limite de amostragem atualizado. " + ChatColor.GRAY + trace.getStatus());
+            } catch (NumberFormatException e) {
+                sender.sendMessage(ChatColor.RED + "Limite inválido. Use um número inteiro (ex: 20).");
+            }
+        } else if (action.equals("stats")) {
+            sender.sendMessage(ChatColor.GOLD + "=== Diagnóstico de Permissões ===");
+            sender.sendMessage(ChatColor.GRAY + trace.getStatus());
+            for (Map.Entry<String, Long> entry : plugin.getMetricsRegistry().snapshot().entrySet()) {
+                if (entry.getKey().startsWith("permissions.")) {
+                    sender.sendMessage(ChatColor.YELLOW + entry.getKey() + ": " + ChatColor.WHITE + entry.getValue());
+                }
+            }
+            sender.sendMessage(ChatColor.GRAY + plugin.getPermissionManager().getCacheStats());
+        } else {
+            sendUsage(sender);
+        }
+        return true;
+    }
+
+    private void sendUsage(CommandSender sender) {
+        sender.sendMessage(ChatColor.RED + "Uso correto: /permtrace <on [jogador:<nome>] [node:<prefixo>]|off|rate <linhas/s>|stats>");
+    }
+}
@@ -0,0 +1,402 @@
+package br.com.primeleague.core.database;
+
+import br.com.primeleague.core.metrics.Histogram;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import br.com.primeleague.core.scheduler.MainThreadDispatcher;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.plugin.Plugin;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Executor de JDBC compartilhado por todos os módulos, no lugar de
+ * {@code runTaskAsynchronously} (pool do CraftBukkit sem limite nem prioridade).
+ *
+ * Cada prioridade é uma faixa com pool e fila próprios e limitados: uma
+ * rajada de manutenção nunca atrasa o carregamento de quem está entrando.
+ * As threads das faixas e do transbordo ({@link #getThreadCount()}) dividem o
+ * pool do HikariCP com o executor da API HTTP e com as threads dedicadas de
+ * gravação (auditoria da economia, logs de clã, write-behind de perfis e
+ * outbox do cluster): o Core confere essa soma contra
+ * database.pool.maximumPoolSize na inicialização.
+ *
+ * Fluxos compostos ({@link #supplyAsync} + thenCompose) rodam inteiros fora
+ * da thread principal e voltam a ela uma única vez, via {@link #mainThread()},
+ * para os efeitos no Bukkit.
+ *
+ * Toda tarefa tem nome fixo (ex: "warp.get"); o tempo de fila e o de execução
+ * vão para histogramas por faixa e por nome ("db.task.warp.get.exec_ms").
+ *
+ * Fila cheia: {@link #execute} nunca descarta a tarefa, porque os DAOs
+ * dependem dela para gravar e para chamar o callback. Fora da thread principal
+ * a tarefa roda na própria thread de quem chamou (contrapressão); na thread
+ * principal ela vai para o transbordo, um pool pequeno com fila própria
+ * limitada, e só com o transbordo também cheio roda na thread principal.
+ * {@link #tryExecute} recusa a tarefa (contador db.rejected.*) e serve para
+ * quem pode tentar de novo depois (flushes periódicos, arquivamento).
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class DbExecutor {
+
+    /**
+     * Faixas de prioridade.
+     */
+    public enum Priority {
+        /** Dados necessários para o jogador entrar (perfil, punições ativas, homes). */
+        LOGIN("login", 2, 500),
+        /** Resposta a comandos e ações do jogador. */
+        INTERACTIVE("interactive", 3, 2000),
+        /** Logs, estatísticas e limpezas periódicas. */
+        BACKGROUND("background", 2, 5000);
+
+        private final String key;
+        private final int defaultThreads;
+        private final int defaultQueueCapacity;
+
+        Priority(String key, int defaultThreads, int defaultQueueCapacity) {
+            this.key = key;
+            this.defaultThreads = defaultThreads;
+            this.defaultQueueCapacity = defaultQueueCapacity;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    /**
+     * Consulta executada no pool (pode lançar SQLException).
+     */
+    @FunctionalInterface
+    public interface SqlCallable<T> {
+        T call() throws Exception;
+    }
+
+    private static final long REJECTION_LOG_INTERVAL_MS = 5000L;
+    private static final int DEFAULT_OVERFLOW_THREADS = 1;
+    private static final int DEFAULT_OVERFLOW_QUEUE_CAPACITY = 1000;
+
+    /**
+     * Pool, fila e métricas de uma prioridade.
+     */
+    private static final class Lane {
+        final Priority priority;
+        final ThreadPoolExecutor pool;
+        final int queueCapacity;
+        final Histogram waitHistogram;
+        final Histogram execHistogram;
+        final LongAdder rejected;
+        final LongAdder callerRuns;
+        final LongAdder overflowed;
+        final AtomicLong lastRejectionLog = new AtomicLong();
+
+        Lane(Priority priority, int threads, int queueCapacity, MetricsRegistry metrics) {
+            this.priority = priority;
+            this.queueCapacity = queueCapacity;
+            this.pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<Runnable>(queueCapacity), new NamedThreadFactory("PrimeLeague-DB-" + priority.key),
+                new ThreadPoolExecutor.AbortPolicy());
+            this.pool.allowCoreThreadTimeOut(true);
+            this.waitHistogram = metrics.histogram("db.lane." + priority.key + ".wait_ms");
+            this.execHistogram = metrics.histogram("db.lane." + priority.key + ".exec_ms");
+            this.rejected = metrics.counter("db.rejected." + priority.key);
+            this.callerRuns = metrics.counter("db.caller_runs." + priority.key);
+            this.overflowed = metrics.counter("db.overflowed." + priority.key);
+        }
+    }
+
+    private final Logger logger;
+    private final MetricsRegistry metrics;
+    private final Map<Priority, Lane> lanes = new EnumMap<Priority, Lane>(Priority.class);
+    private final ThreadPoolExecutor overflow;
+    private final int overflowQueueCapacity;
+    private final Thread primaryThread;
+    private final Executor mainThreadExecutor;
+
+    /**
+     * @param plugin Plugin dono do executor (conclusão de futures na thread principal)
+     * @param metrics Registro de métricas
+     * @param config Seção database.executor (pode ser null: usa os padrões)
+     * @param dispatcher Fila da thread principal onde os futures de {@link #supply} são concluídos
+     */
+    public DbExecutor(Plugin plugin, MetricsRegistry metrics, ConfigurationSection config, MainThreadDispatcher dispatcher) {
+        this.logger = plugin.getLogger();
+        this.metrics = metrics;
+        for (Priority priority : Priority.values()) {
+            int threads = config != null ? config.getInt(priority.key + ".threads", priority.defaultThreads) : priority.defaultThreads;
+            int capacity = config != null ? config.getInt(priority.key + ".queue_capacity", priority.defaultQueueCapacity) : priority.defaultQueueCapacity;
+            lanes.put(priority, new Lane(priority, Math.max(1, threads), Math.max(1, capacity), metrics));
+        }
+        int overflowThreads = config != null ? config.getInt("overflow.threads", DEFAULT_OVERFLOW_THREADS) : DEFAULT_OVERFLOW_THREADS;
+        int overflowCapacity = config != null ? config.getInt("overflow.queue_capacity", DEFAULT_OVERFLOW_QUEUE_CAPACITY) : DEFAULT_OVERFLOW_QUEUE_CAPACITY;
+        this.overflowQueueCapacity = Math.max(1, overflowCapacity);
+        this.overflow = new ThreadPoolExecutor(Math.max(1, overflowThreads), Math.max(1, overflowThreads), 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<Runnable>(overflowQueueCapacity), new NamedThreadFactory("PrimeLeague-DB-overflow"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.overflow.allowCoreThreadTimeOut(true);
+        // Construído no onEnable do Core
+        this.primaryThread = Thread.currentThread();
+        this.mainThreadExecutor = dispatcher.executor(plugin);
+    }
+
+    /**
+     * Executa uma tarefa de banco na faixa informada. A tarefa cuida do próprio
+     * retorno à thread principal (padrão dos DAOs com callback).
+     *
+     * Nunca descarta: com a fila da faixa cheia, a tarefa roda na thread de quem
+     * chamou (fora da thread principal) ou no transbordo (na thread principal).
+     *
+     * @param priority Faixa
+     * @param name Nome fixo da tarefa (métricas)
+     * @param task Tarefa
+     */
+    public void execute(Priority priority, String name, Runnable task) {
+        Lane lane = lanes.get(priority);
+        TimedTask timed = new TimedTask(lane, name, task);
+        try {
+            lane.pool.execute(timed);
+            return;
+        } catch (RejectedExecutionException e) {
+            // Faixa cheia ou encerrada: segue para os desvios abaixo
+        }
+        if (Thread.currentThread() != primaryThread) {
+            lane.callerRuns.increment();
+            logDiverted(lane, name, "executada na thread de quem chamou");
+            timed.run();
+            return;
+        }
+        try {
+            overflow.execute(timed);
+            lane.overflowed.increment();
+            logDiverted(lane, name, "enviada ao transbordo");
+        } catch (RejectedExecutionException e) {
+            // Transbordo também cheio: travar a thread principal ainda é melhor que perder a gravação
+            lane.callerRuns.increment();
+            logDiverted(lane, name, "executada na thread principal (transbordo cheio: " + overflowQueueCapacity + ")");
+            timed.run();
+        }
+    }
+
+    /**
+     * Executa uma tarefa de banco na faixa informada, recusando-a se a fila
+     * estiver cheia. Para tarefas que quem chamou pode repetir depois.
+     *
+     * @param priority Faixa
+     * @param name Nome fixo da tarefa (métricas)
+     * @param task Tarefa
+     * @return false se a fila da faixa estava cheia e a tarefa foi descartada
+     */
+    public boolean tryExecute(Priority priority, String name, Runnable task) {
+        Lane lane = lanes.get(priority);
+        try {
+            lane.pool.execute(new TimedTask(lane, name, task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            lane.rejected.increment();
+            logDiverted(lane, name, "descartada (total " + lane.rejected.sum() + ")");
+            return false;
+        }
+    }
+
+    /**
+     * Avisa, no máximo uma vez a cada {@link #REJECTION_LOG_INTERVAL_MS} por faixa, que ela está cheia.
+     */
+    private void logDiverted(Lane lane, String name, String outcome) {
+        long now = System.currentTimeMillis();
+        long last = lane.lastRejectionLog.get();
+        if (now - last >= REJECTION_LOG_INTERVAL_MS && lane.lastRejectionLog.compareAndSet(last, now)) {
+            logger.warning("⚠️ [DB] Fila " + lane.priority.key + " cheia (" + lane.queueCapacity + "), tarefa " + name + " " + outcome);
+        }
+    }
+
+    /**
+     * Executa uma consulta na faixa informada e conclui o future na thread principal.
+     *
+     * @param priority Faixa
+     * @param name Nome fixo da tarefa (métricas)
+     * @param query Consulta
+     * @return Future concluído na thread principal com o resultado ou a exceção
+     *         (RejectedExecutionException se a fila estava cheia)
+     */
+    public <T> CompletableFuture<T> supply(Priority priority, String name, SqlCallable<T> query) {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        supplyAsync(priority, name, query).whenCompleteAsync((result, error) -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(result);
+            }
+        }, mainThreadExecutor);
+        return future;
+    }
+
+    /**
+     * Executa uma consulta na faixa informada sem voltar à thread principal.
+     * Estágios encadeados sem executor explícito rodam na thread do pool.
+     *
+     * @param priority Faixa
+     * @param name Nome fixo da tarefa (métricas)
+     * @param query Consulta
+     * @return Future concluído na thread do pool (RejectedExecutionException se a fila estava cheia)
+     */
+    public <T> CompletableFuture<T> supplyAsync(Priority priority, final String name, final SqlCallable<T> query) {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        boolean accepted = tryExecute(priority, name, () -> {
+            try {
+                future.complete(query.call());
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        if (!accepted) {
+            future.completeExceptionally(new RejectedExecutionException("Fila " + priority.key + " cheia: " + name));
+        }
+        return future;
+    }
+
+    /**
+     * Executor que agenda na thread principal do servidor (via {@link MainThreadDispatcher}),
+     * para o último estágio de um fluxo ({@code whenCompleteAsync(..., db.mainThread())}).
+     */
+    public Executor mainThread() {
+        return mainThreadExecutor;
+    }
+
+    /**
+     * @return Threads que o executor pode ocupar ao mesmo tempo (faixas e transbordo),
+     *         cada uma com no máximo uma conexão do pool
+     */
+    public int getThreadCount() {
+        int threads = overflow.getMaximumPoolSize();
+        for (Lane lane : lanes.values()) {
+            threads += lane.pool.getMaximumPoolSize();
+        }
+        return threads;
+    }
+
+    /**
+     * Encerra as faixas aguardando as tarefas já enfileiradas (gravações pendentes).
+     *
+     * @param timeoutMs Espera máxima total
+     */
+    public void shutdown(long timeoutMs) {
+        for (Lane lane : lanes.values()) {
+            lane.pool.shutdown();
+        }
+        overflow.shutdown();
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (Lane lane : lanes.values()) {
+            try {
+                long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+                if (!lane.pool.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                    int dropped = lane.pool.shutdownNow().size();
+                    logger.warning("⚠️ [DB] Faixa " + lane.priority.key + " encerrada com " + dropped + " tarefas descartadas");
+                }
+            } catch (InterruptedException e) {
+                lane.pool.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            long remaining = Math.max(0L, deadline - System.currentTimeMillis());
+            if (!overflow.awaitTermination(remaining, TimeUnit.MILLISECONDS)) {
+                int dropped = overflow.shutdownNow().size();
+                logger.warning("⚠️ [DB] Transbordo encerrado com " + dropped + " tarefas descartadas");
+            }
+        } catch (InterruptedException e) {
+            overflow.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Estado das faixas para o /api/health.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{");
+        for (Lane lane : lanes.values()) {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(lane.priority.key).append("\":{\"threads\":").append(lane.pool.getMaximumPoolSize())
+                .append(",\"active\":").append(lane.pool.getActiveCount())
+                .append(",\"queue_depth\":").append(lane.pool.getQueue().size())
+                .append(",\"queue_capacity\":").append(lane.queueCapacity)
+                .append(",\"rejected\":").append(lane.rejected.sum())
+                .append(",\"caller_runs\":").append(lane.callerRuns.sum())
+                .append(",\"overflowed\":").append(lane.overflowed.sum())
+                .append(",\"wait\":").append(lane.waitHistogram.toJson())
+                .append(",\"exec\":").append(lane.execHistogram.toJson()).append('}');
+        }
+        json.append(",\"overflow\":{\"threads\":").append(overflow.getMaximumPoolSize())
+            .append(",\"active\":").append(overflow.getActiveCount())
+            .append(",\"queue_depth\":").append(overflow.getQueue().size())
+            .append(",\"queue_capacity\":").append(overflowQueueCapacity).append('}');
+        return json.append('}').toString();
+    }
+
+    /**
+     * Envolve a tarefa medindo tempo de fila e de execução.
+     */
+    private final class TimedTask implements Runnable {
+        private final Lane lane;
+        private final String name;
+        private final Runnable task;
+        private final long enqueuedAt = System.nanoTime();
+
+        TimedTask(Lane lane, String name, Runnable task) {
+            this.lane = lane;
+            this.name = name;
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            long waited = startedAt - enqueuedAt;
+            lane.waitHistogram.record(waited);
+            metrics.histogram("db.task." + name + ".wait_ms").record(waited);
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                metrics.counter("db.errors." + lane.priority.key).increment();
+                logger.log(Level.SEVERE, "🚨 [DB] Erro não tratado na tarefa " + name + ": " + e.getMessage(), e);
+            } finally {
+                long elapsed = System.nanoTime() - startedAt;
+                lane.execHistogram.record(elapsed);
+                metrics.histogram("db.task." + name + ".exec_ms").record(elapsed);
+            }
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.primeleague.core.economy;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+
+/**
+ * Contador de transações diárias por jogador, com reinício automático à meia-noite.
+ *
+ * Armazenado em arrays primitivos (endereçamento aberto, sem boxing) divididos
+ * em segmentos com lock próprio, para que jogadores diferentes não disputem o
+ * mesmo lock. Cada segmento guarda o dia a que seus contadores pertencem; no
+ * primeiro acesso de um novo dia o segmento é zerado e volta à capacidade
+ * inicial, então a memória acompanha apenas os jogadores ativos no dia.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class DailyTransactionCounter {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Segment[] segments;
+    private final int mask;
+    private final ZoneId zone;
+
+    private static final class Segment {
+        long day = Long.MIN_VALUE;
+        int[] keys;
+        int[] counts;
+        int size;
+
+        Segment() {
+            reset();
+        }
+
+        void reset() {
+            keys = new int[INITIAL_CAPACITY];
+            counts = new int[INITIAL_CAPACITY];
+            Arrays.fill(keys, EMPTY);
+            size = 0;
+        }
+    }
+
+    /**
+     * @param segments Quantidade de segmentos (arredondada para potência de 2)
+     */
+    public DailyTransactionCounter(int segments) {
+        int size = Integer.highestOneBit(Math.max(2, segments) - 1) << 1;
+        this.segments = new Segment[size];
+        for (int i = 0; i < size; i++) {
+            this.segments[i] = new Segment();
+        }
+        this.mask = size - 1;
+        this.zone = ZoneId.systemDefault();
+    }
+
+    /**
+     * Obtém a quantidade de transações do jogador no dia atual.
+     */
+    public int get(int playerId) {
+        Segment segment = segmentFor(playerId);
+        long today = today();
+        synchronized (segment) {
+            rollover(segment, today);
+            int slot = find(segment.keys, playerId);
+            return slot >= 0 ? segment.counts[slot] : 0;
+        }
+    }
+
+    /**
+     * Incrementa e retorna a quantidade de transações do jogador no dia atual.
+     */
+    public int increment(int playerId) {
+        Segment segment = segmentFor(playerId);
+        long today = today();
+        synchronized (segment) {
+            rollover(segment, today);
+            int slot = find(segment.keys, playerId);
+            if (slot < 0) {
+                if ((segment.size + 1) * 2 > segment.keys.length) {
+                    grow(segment);
+                }
+                slot = insert(segment.keys, playerId);
+                segment.size++;
+            }
+            return ++segment.counts[slot];
+        }
+    }
+
+    /**
+     * Zera todos os contadores.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.reset();
+            }
+        }
+    }
+
+    /**
+     * Quantidade de jogadores com contador (segmentos ainda não acessados hoje podem conter o dia anterior).
+     */
+    public int size() {
+        int total = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                total += segment.size;
+            }
+        }
+        return total;
+    }
+
+    private long today() {
+        return LocalDate.now(zone).toEpochDay();
+    }
+
+    private void rollover(Segment segment, long today) {
+        if (segment.day != today) {
+            if (segment.size > 0) {
+                segment.reset();
+            }
+            segment.day = today;
+        }
+    }
+
+    private Segment segmentFor(int playerId) {
+        return segments[(hash(playerId) >>> 24) & mask];
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int find(int[] keys, int key) {
+        int capacityMask = keys.length - 1;
+        int slot = hash(key) & capacityMask;
+        while (true) {
+            int current = keys[slot];
+            if (current == key) {
+                return slot;
+            }
+            if (current == EMPTY) {
+                return -1;
+            }
+            slot = (slot + 1) & capacityMask;
+        }
+    }
+
+    private static int insert(int[] keys, int key) {
+        int capacityMask = keys.length - 1;
+        int slot = hash(key) & capacityMask;
+        while (keys[slot] != EMPTY) {
+            slot = (slot + 1) & capacityMask;
+        }
+        keys[slot] = key;
+        return slot;
+    }
+
+    private static void grow(Segment segment) {
+        int[] oldKeys = segment.keys;
+        int[] oldCounts = segment.counts;
+        int[] keys = new int[oldKeys.length * 2];
+        int[] counts = new int[keys.length];
+        Arrays.fill(keys, EMPTY);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                counts[insert(keys, oldKeys[i])] = oldCounts[i];
+            }
+        }
+        segment.keys = keys;
+        segment.counts = counts;
+    }
+}
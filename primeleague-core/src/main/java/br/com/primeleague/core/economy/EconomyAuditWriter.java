@@ -0,0 +1,637 @@
+package br.com.primeleague.core.economy;
+
+import br.com.primeleague.api.models.Money;
+import br.com.primeleague.core.enums.TransactionReason;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Pipeline assíncrono de auditoria econômica (economy_logs).
+ *
+ * Os produtores enfileiram registros em uma fila limitada (vários produtores,
+ * um consumidor) e uma thread dedicada grava em lote com INSERT multi-linha,
+ * a cada N ms ou M registros - um commit por lote em vez de um por transação.
+ *
+ * Sem perda de auditoria: se a fila estiver cheia ou o banco falhar, os
+ * registros são anexados a um arquivo local de spill, que é reaplicado no
+ * banco assim que a fila esvazia.
+ *
+ * Um lote recusado por erro de dados (SQLState classe 22/23, ex.: motivo maior
+ * que a coluna ou player_id inexistente) é regravado linha a linha: só as
+ * linhas recusadas vão para o arquivo de dead-letter (.dead), no mesmo formato
+ * do spill, e o replay segue adiante em vez de travar no mesmo lote.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class EconomyAuditWriter {
+
+    private static final String INSERT_PREFIX =
+        "INSERT INTO economy_logs (player_id, change_type, amount, balance_before, new_balance, reason, context_info, related_player_id, created_at) VALUES ";
+
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final Logger logger;
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final File spillFile;
+    private final File replayFile;
+    // Linhas do replayFile já confirmadas no banco (retomada sem reinserir lotes)
+    private final File replayOffsetFile;
+    // Registros recusados pelo banco por erro de dados (não adianta tentar de novo)
+    private final File deadLetterFile;
+    private final Object spillLock = new Object();
+
+    private volatile boolean running;
+    private Thread worker;
+
+    // Métricas de backpressure
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+    private volatile int peakQueueDepth;
+
+    /**
+     * Registro de auditoria (valores em centavos).
+     */
+    public static final class Entry {
+        final long createdAt;
+        final int playerId;
+        final TransactionReason reason;
+        final long amountCents;
+        final long balanceBeforeCents;
+        final long newBalanceCents;
+        final String reasonText;
+        final String contextInfo;
+        final Integer relatedPlayerId;
+
+        Entry(long createdAt, int playerId, TransactionReason reason, long amountCents, long balanceBeforeCents,
+              long newBalanceCents, String reasonText, String contextInfo, Integer relatedPlayerId) {
+            this.createdAt = createdAt;
+            this.playerId = playerId;
+            this.reason = reason;
+            this.amountCents = amountCents;
+            this.balanceBeforeCents = balanceBeforeCents;
+            this.newBalanceCents = newBalanceCents;
+            this.reasonText = reasonText;
+            this.contextInfo = contextInfo;
+            this.relatedPlayerId = relatedPlayerId;
+        }
+    }
+
+    public EconomyAuditWriter(DataSource dataSource, Logger logger, File spillFile,
+                              int queueCapacity, int batchSize, long flushIntervalMs) {
+        this.dataSource = dataSource;
+        this.logger = logger;
+        this.queue = new ArrayBlockingQueue<Entry>(Math.max(16, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(10L, flushIntervalMs);
+        this.spillFile = spillFile;
+        this.replayFile = new File(spillFile.getPath() + ".replay");
+        this.replayOffsetFile = new File(spillFile.getPath() + ".replay.offset");
+        this.deadLetterFile = new File(spillFile.getPath() + ".dead");
+    }
+
+    /**
+     * Inicia a thread de gravação (reaplica spill de execuções anteriores).
+     */
+    public void start() {
+        running = true;
+        worker = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runLoop();
+            }
+        }, "PrimeLeague-EconomyAudit");
+        worker.setDaemon(true);
+        worker.start();
+        logger.info("✅ [ECONOMY-AUDIT] Gravação em lote iniciada (lote: " + batchSize + ", intervalo: " + flushIntervalMs + "ms)");
+    }
+
+    /**
+     * Enfileira um registro de auditoria. Nunca bloqueia: com a fila cheia, o
+     * registro vai para o arquivo de spill.
+     */
+    public void submit(int playerId, TransactionReason reason, long amountCents, long balanceBeforeCents,
+                       long newBalanceCents, String reasonText, String contextInfo, Integer relatedPlayerId) {
+        Entry entry = new Entry(System.currentTimeMillis(), playerId, reason, amountCents, balanceBeforeCents,
+                newBalanceCents, reasonText, contextInfo, relatedPlayerId);
+        submitted.incrementAndGet();
+        if (!running || !queue.offer(entry)) {
+            List<Entry> single = new ArrayList<Entry>(1);
+            single.add(entry);
+            spill(single);
+            return;
+        }
+        int depth = queue.size();
+        if (depth > peakQueueDepth) {
+            peakQueueDepth = depth;
+        }
+    }
+
+    /**
+     * Para a thread e grava o que restou na fila (ou no spill, se o banco falhar).
+     */
+    public void shutdown() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(5000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+        List<Entry> remaining = new ArrayList<Entry>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            writeOrSpill(remaining.subList(i, Math.min(remaining.size(), i + batchSize)));
+        }
+        logger.info("✅ [ECONOMY-AUDIT] Fila de auditoria drenada no desligamento: " + remaining.size() + " registros");
+    }
+
+    private void runLoop() {
+        replaySpill();
+        List<Entry> batch = new ArrayList<Entry>(batchSize);
+        while (running) {
+            try {
+                // Aguarda o primeiro registro e completa o lote até o prazo do intervalo
+                Entry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    replaySpill();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0L) {
+                        break;
+                    }
+                    Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                writeOrSpill(batch);
+                batch.clear();
+                if (queue.isEmpty()) {
+                    replaySpill();
+                }
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    writeOrSpill(batch);
+                    batch.clear();
+                }
+                if (!running) {
+                    break;
+                }
+            } catch (Throwable t) {
+                logger.severe("🚨 [ECONOMY-AUDIT] Erro inesperado na gravação de auditoria: " + t.getMessage());
+                if (!batch.isEmpty()) {
+                    spill(batch);
+                    batch.clear();
+                }
+            }
+        }
+    }
+
+    private void writeOrSpill(List<Entry> batch) {
+        try {
+            writeBatch(batch);
+            written.addAndGet(batch.size());
+        } catch (SQLException e) {
+            failedBatches.incrementAndGet();
+            if (isDataError(e)) {
+                writeRows(batch);
+                return;
+            }
+            logger.warning("⚠️ [ECONOMY-AUDIT] Falha ao gravar lote de " + batch.size() + " registros, enviando ao spill: " + e.getMessage());
+            spill(batch);
+        }
+    }
+
+    /**
+     * Grava linha a linha um lote recusado por erro de dados: as linhas recusadas
+     * vão para o dead-letter e as que falharem por outro motivo, para o spill.
+     */
+    private void writeRows(List<Entry> rows) {
+        List<Entry> retry = new ArrayList<Entry>();
+        for (Entry entry : rows) {
+            try {
+                writeBatch(Collections.singletonList(entry));
+                written.incrementAndGet();
+            } catch (SQLException e) {
+                if (isDataError(e)) {
+                    deadLetter(entry, e);
+                } else {
+                    retry.add(entry);
+                }
+            }
+        }
+        if (!retry.isEmpty()) {
+            spill(retry);
+        }
+    }
+
+    /**
+     * Grava um lote com um único INSERT multi-linha e um único commit.
+     */
+    private void writeBatch(List<Entry> batch) throws SQLException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW_PLACEHOLDER.length() + 1));
+        sql.append(INSERT_PREFIX);
+        for (int i = 0; i < batch.size(); i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(ROW_PLACEHOLDER);
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (Entry entry : batch) {
+                ps.setInt(index++, entry.playerId);
+                ps.setString(index++, entry.reason.name());
+                ps.setBigDecimal(index++, Money.toBigDecimal(entry.amountCents));
+                ps.setBigDecimal(index++, Money.toBigDecimal(entry.balanceBeforeCents));
+                ps.setBigDecimal(index++, Money.toBigDecimal(entry.newBalanceCents));
+                ps.setString(index++, entry.reasonText != null ? entry.reasonText : entry.reason.getDisplayName());
+                ps.setString(index++, entry.contextInfo);
+                if (entry.relatedPlayerId != null) {
+                    ps.setInt(index++, entry.relatedPlayerId);
+                } else {
+                    ps.setNull(index++, Types.INTEGER);
+                }
+                ps.setTimestamp(index++, new Timestamp(entry.createdAt));
+            }
+            ps.executeUpdate();
+        }
+        batches.incrementAndGet();
+    }
+
+    // ==================== SPILL EM ARQUIVO ====================
+
+    /**
+     * Anexa registros ao arquivo de spill (uma linha por registro, campos separados por tab).
+     */
+    private void spill(List<Entry> entries) {
+        synchronized (spillLock) {
+            File parent = spillFile.getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(spillFile, true), StandardCharsets.UTF_8))) {
+                for (Entry entry : entries) {
+                    writer.write(encode(entry));
+                    writer.newLine();
+                }
+                spilled.addAndGet(entries.size());
+            } catch (IOException e) {
+                // Último recurso: registrar no log do servidor para não perder a auditoria
+                logger.severe("🚨 [ECONOMY-AUDIT] Falha ao gravar spill (" + e.getMessage() + "); registros:");
+                for (Entry entry : entries) {
+                    logger.severe("   " + encode(entry));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reaplica no banco os registros do arquivo de spill, em lotes.
+     * O arquivo é renomeado antes da leitura para que novos spills não se misturem.
+     * Depois de cada lote confirmado, o número de linhas já gravadas vai para o
+     * arquivo .offset: uma nova tentativa continua dali, sem reinserir lotes.
+     */
+    private void replaySpill() {
+        synchronized (spillLock) {
+            if (!replayFile.exists()) {
+                if (!spillFile.exists() || !spillFile.renameTo(replayFile)) {
+                    return;
+                }
+                deleteReplayOffset();
+            }
+        }
+
+        long committedLines = readReplayOffset();
+        long lineNumber = 0;
+        List<Entry> batch = new ArrayList<Entry>(batchSize);
+        // Linha do arquivo de cada registro do lote, para avançar o offset linha a linha
+        long[] batchLines = new long[batchSize];
+        int total = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(replayFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (++lineNumber <= committedLines) {
+                    continue;
+                }
+                Entry entry = decode(line);
+                if (entry == null) {
+                    logger.warning("⚠️ [ECONOMY-AUDIT] Linha de spill inválida ignorada: " + line);
+                    continue;
+                }
+                batchLines[batch.size()] = lineNumber;
+                batch.add(entry);
+                if (batch.size() >= batchSize) {
+                    total += replayBatch(batch, batchLines);
+                    batch.clear();
+                    writeReplayOffset(lineNumber);
+                }
+            }
+            total += replayBatch(batch, batchLines);
+        } catch (IOException | SQLException e) {
+            // Mantém o arquivo e o offset do último lote confirmado para a próxima tentativa
+            logger.warning("⚠️ [ECONOMY-AUDIT] Falha ao reaplicar spill (" + total + " registros gravados): " + e.getMessage());
+            replayed.addAndGet(total);
+            return;
+        }
+        if (!replayFile.delete()) {
+            // Tudo confirmado: o offset cobre o arquivo inteiro, então uma nova tentativa não reinsere nada
+            writeReplayOffset(lineNumber);
+            logger.warning("⚠️ [ECONOMY-AUDIT] Não foi possível remover o arquivo de spill reaplicado: " + replayFile.getName());
+        } else {
+            deleteReplayOffset();
+        }
+        replayed.addAndGet(total);
+        if (total > 0) {
+            logger.info("✅ [ECONOMY-AUDIT] " + total + " registros do spill reaplicados no banco");
+        }
+    }
+
+    /**
+     * Grava um lote do spill. Se o banco recusar o lote por erro de dados, grava
+     * linha a linha, manda as recusadas para o dead-letter e avança o offset a
+     * cada linha; qualquer outra falha interrompe o replay (próxima tentativa
+     * continua da última linha confirmada).
+     *
+     * @return Registros gravados no banco
+     */
+    private int replayBatch(List<Entry> batch, long[] batchLines) throws SQLException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            writeBatch(batch);
+            return batch.size();
+        } catch (SQLException e) {
+            failedBatches.incrementAndGet();
+            if (!isDataError(e)) {
+                throw e;
+            }
+        }
+        int count = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Entry entry = batch.get(i);
+            try {
+                writeBatch(Collections.singletonList(entry));
+                count++;
+            } catch (SQLException e) {
+                if (!isDataError(e)) {
+                    replayed.addAndGet(count);
+                    throw e;
+                }
+                deadLetter(entry, e);
+            }
+            writeReplayOffset(batchLines[i]);
+        }
+        return count;
+    }
+
+    /**
+     * Anexa ao dead-letter um registro que o banco recusou por erro de dados.
+     * O formato é o do spill: depois de corrigido, o registro pode voltar ao spill.
+     */
+    private void deadLetter(Entry entry, SQLException cause) {
+        deadLettered.incrementAndGet();
+        String line = encode(entry);
+        logger.severe("🚨 [ECONOMY-AUDIT] Registro recusado pelo banco (" + cause.getSQLState() + ": "
+            + cause.getMessage() + "), enviado ao dead-letter: " + line);
+        synchronized (spillLock) {
+            File parent = deadLetterFile.getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(deadLetterFile, true), StandardCharsets.UTF_8))) {
+                writer.write(line);
+                writer.newLine();
+            } catch (IOException e) {
+                // O registro já ficou no log do servidor acima
+                logger.severe("🚨 [ECONOMY-AUDIT] Falha ao gravar dead-letter: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Erro de dados (classe 22) ou de integridade (classe 23): o mesmo registro
+     * será recusado em qualquer nova tentativa.
+     */
+    private static boolean isDataError(SQLException e) {
+        String state = e.getSQLState();
+        return state != null && (state.startsWith("22") || state.startsWith("23"));
+    }
+
+    /**
+     * @return Linhas do replayFile já confirmadas, ou 0 sem offset gravado
+     */
+    private long readReplayOffset() {
+        if (!replayOffsetFile.exists()) {
+            return 0L;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(replayOffsetFile), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            return line != null ? Long.parseLong(line.trim()) : 0L;
+        } catch (IOException | NumberFormatException e) {
+            logger.warning("⚠️ [ECONOMY-AUDIT] Offset do spill ilegível, reaplicando do início: " + e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * Grava o offset em um arquivo temporário e o renomeia (troca atômica do offset anterior).
+     */
+    private void writeReplayOffset(long lines) {
+        File temp = new File(replayOffsetFile.getPath() + ".tmp");
+        try (FileOutputStream out = new FileOutputStream(temp)) {
+            out.write(Long.toString(lines).getBytes(StandardCharsets.UTF_8));
+            out.getFD().sync();
+        } catch (IOException e) {
+            logger.warning("⚠️ [ECONOMY-AUDIT] Falha ao gravar offset do spill: " + e.getMessage());
+            return;
+        }
+        try {
+            Files.move(temp.toPath(), replayOffsetFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warning("⚠️ [ECONOMY-AUDIT] Falha ao gravar offset do spill: " + e.getMessage());
+        }
+    }
+
+    private void deleteReplayOffset() {
+        if (replayOffsetFile.exists() && !replayOffsetFile.delete()) {
+            logger.warning("⚠️ [ECONOMY-AUDIT] Não foi possível remover " + replayOffsetFile.getName());
+        }
+    }
+
+    private static String encode(Entry entry) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(entry.createdAt).append('\t')
+          .append(entry.playerId).append('\t')
+          .append(entry.reason.name()).append('\t')
+          .append(entry.amountCents).append('\t')
+          .append(entry.balanceBeforeCents).append('\t')
+          .append(entry.newBalanceCents).append('\t')
+          .append(entry.relatedPlayerId != null ? entry.relatedPlayerId.toString() : "").append('\t');
+        escape(sb, entry.reasonText);
+        sb.append('\t');
+        escape(sb, entry.contextInfo);
+        return sb.toString();
+    }
+
+    private static Entry decode(String line) {
+        String[] fields = line.split("\t", -1);
+        if (fields.length != 9) {
+            return null;
+        }
+        try {
+            return new Entry(
+                Long.parseLong(fields[0]),
+                Integer.parseInt(fields[1]),
+                TransactionReason.valueOf(fields[2]),
+                Long.parseLong(fields[3]),
+                Long.parseLong(fields[4]),
+                Long.parseLong(fields[5]),
+                unescape(fields[7]),
+                unescape(fields[8]),
+                fields[6].isEmpty() ? null : Integer.valueOf(fields[6]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void escape(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("\\0");
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+    }
+
+    private static String unescape(String value) {
+        if ("\\0".equals(value)) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 't': sb.append('\t'); break;
+                    case 'n': sb.append('\n'); break;
+                    case 'r': sb.append('\r'); break;
+                    default: sb.append(next);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // ==================== MÉTRICAS ====================
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getSpilledCount() {
+        return spilled.get();
+    }
+
+    public long getReplayedCount() {
+        return replayed.get();
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public long getFailedBatchCount() {
+        return failedBatches.get();
+    }
+
+    public long getDeadLetteredCount() {
+        return deadLettered.get();
+    }
+
+    public boolean hasPendingSpill() {
+        return spillFile.exists() || replayFile.exists();
+    }
+}
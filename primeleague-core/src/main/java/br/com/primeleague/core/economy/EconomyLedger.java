@@ -0,0 +1,614 @@
+package br.com.primeleague.core.economy;
+
+import br.com.primeleague.api.models.Money;
+import br.com.primeleague.core.enums.TransactionReason;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Ledger econômico em memória com journal durável assíncrono.
+ *
+ * Para jogadores carregados, o saldo em memória (centavos em AtomicLong) é a
+ * fonte da verdade: créditos, débitos e transferências são CAS sem lock e sem
+ * acesso ao banco. Cada mutação é anexada ao LedgerJournal (arquivo mapeado em
+ * memória); uma thread dedicada aplica o journal no banco em lotes, em uma única
+ * transação por lote:
+ * - UPDATE player_data SET money = money + delta (deltas agregados por jogador)
+ * - INSERT em economy_logs (um registro por lado da operação)
+ * - checkpoint da última sequência aplicada (economy_ledger_checkpoint)
+ *
+ * Na inicialização, os registros posteriores ao checkpoint são reaplicados
+ * (recuperação após queda). Como o checkpoint é gravado na mesma transação dos
+ * saldos, cada registro é aplicado no banco exatamente uma vez.
+ *
+ * Com vários servidores no mesmo banco, os deltas de cada nó comutam no
+ * UPDATE; uma conta alterada por outro nó é marcada com {@link #invalidate}
+ * e recarregada depois que as mutações locais forem aplicadas.
+ *
+ * Uma conta só sai da memória sem mutações em andamento: apply/transfer
+ * fixam a conta (pins) do CAS até publicar a sequência do journal, e a remoção
+ * troca pins de 0 para EVICTED antes de tirá-la do mapa.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class EconomyLedger {
+
+    private static final String JOURNAL_ID = "core";
+
+    private static final String CREATE_CHECKPOINT_TABLE_SQL =
+        "CREATE TABLE IF NOT EXISTS economy_ledger_checkpoint (" +
+        "journal_id VARCHAR(32) NOT NULL PRIMARY KEY," +
+        "last_sequence BIGINT NOT NULL," +
+        "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP" +
+        ")";
+
+    private static final String SELECT_CHECKPOINT_SQL =
+        "SELECT last_sequence FROM economy_ledger_checkpoint WHERE journal_id = ?";
+
+    private static final String UPSERT_CHECKPOINT_SQL =
+        "INSERT INTO economy_ledger_checkpoint (journal_id, last_sequence) VALUES (?, ?) " +
+        "ON DUPLICATE KEY UPDATE last_sequence = VALUES(last_sequence)";
+
+    private static final String GET_BALANCE_SQL =
+        "SELECT money FROM player_data WHERE player_id = ?";
+
+    private static final String APPLY_DELTA_SQL =
+        "UPDATE player_data SET money = money + ? WHERE player_id = ?";
+
+    private static final String INSERT_ECONOMY_LOG_SQL =
+        "INSERT INTO economy_logs (player_id, change_type, amount, balance_before, new_balance, reason, context_info, related_player_id, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final DataSource dataSource;
+    private final Logger logger;
+    private final LedgerJournal journal;
+    private final long flushIntervalMs;
+    private final int batchSize;
+    private final boolean writeLogs;
+
+    // Contas carregadas (player_id -> conta); fonte da verdade enquanto presentes
+    private final Map<Integer, Account> accounts = new ConcurrentHashMap<Integer, Account>();
+
+    // Próxima sequência do journal a aplicar no banco
+    private volatile long nextSequence;
+    private final Object flushLock = new Object();
+    private ScheduledExecutorService flusher;
+
+    // Notificado com cada player_id cujo saldo mudou no banco (após o commit do lote)
+    private volatile IntConsumer flushListener;
+
+    // Métricas
+    private final AtomicLong appliedEntries = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    // pins de uma conta em remoção: novos acessos esperam e recarregam do banco
+    private static final int EVICTED = -1;
+
+    /**
+     * Conta em memória.
+     */
+    private static final class Account {
+        final AtomicLong cents;
+        // Última sequência do journal que alterou esta conta (só cresce)
+        final AtomicLong lastSequence = new AtomicLong(-1L);
+        // Mutações em andamento (CAS feito, sequência ainda não publicada), ou EVICTED
+        final AtomicInteger pins = new AtomicInteger();
+        // Remoção solicitada (quit); efetivada após o checkpoint cobrir lastSequence
+        volatile boolean releaseRequested;
+        // Saldo alterado por outro servidor; não é desfeito por novos acessos
+        volatile boolean stale;
+
+        Account(long cents) {
+            this.cents = new AtomicLong(cents);
+        }
+
+        void publish(long sequence) {
+            long last;
+            do {
+                last = lastSequence.get();
+            } while (sequence > last && !lastSequence.compareAndSet(last, sequence));
+        }
+    }
+
+    /**
+     * Resultado de uma mutação no ledger.
+     */
+    public static final class Result {
+        private final boolean success;
+        private final long balanceCents;
+        private final String error;
+
+        private Result(boolean success, long balanceCents, String error) {
+            this.success = success;
+            this.balanceCents = balanceCents;
+            this.error = error;
+        }
+
+        static Result success(long balanceCents) {
+            return new Result(true, balanceCents, null);
+        }
+
+        static Result error(String error) {
+            return new Result(false, 0L, error);
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public long getBalanceCents() {
+            return balanceCents;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+
+    public EconomyLedger(DataSource dataSource, Logger logger, File journalDirectory, int recordsPerSegment,
+                         long flushIntervalMs, int batchSize, boolean writeLogs) {
+        this.dataSource = dataSource;
+        this.logger = logger;
+        this.journal = new LedgerJournal(journalDirectory, recordsPerSegment, logger);
+        this.flushIntervalMs = Math.max(50L, flushIntervalMs);
+        this.batchSize = Math.max(1, batchSize);
+        this.writeLogs = writeLogs;
+    }
+
+    /**
+     * Abre o journal, reaplica registros pendentes de uma execução anterior e
+     * inicia a thread de flush.
+     */
+    public void start() throws SQLException, IOException {
+        long checkpoint;
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement(CREATE_CHECKPOINT_TABLE_SQL)) {
+                ps.executeUpdate();
+            }
+            checkpoint = readCheckpoint(conn);
+        }
+        journal.open(checkpoint);
+        nextSequence = checkpoint + 1;
+
+        // Recuperação: aplica tudo o que ficou no journal após o último checkpoint
+        int replayed = flush();
+        if (replayed > 0) {
+            logger.warning("⚠️ [LEDGER] Recuperação: " + replayed + " registros do journal reaplicados no banco");
+        }
+
+        flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "PrimeLeague-LedgerFlusher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        flusher.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    flush();
+                } catch (Throwable t) {
+                    logger.severe("🚨 [LEDGER] Erro inesperado no flush do journal: " + t.getMessage());
+                }
+            }
+        }, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("✅ [LEDGER] Ledger econômico iniciado (checkpoint: " + checkpoint + ", intervalo: " + flushIntervalMs + "ms)");
+    }
+
+    /**
+     * Obtém o saldo em centavos, carregando a conta do banco se necessário.
+     *
+     * @param playerId ID do jogador
+     * @return Saldo em centavos ou null se o jogador não existir
+     */
+    public Long getBalance(int playerId) throws SQLException {
+        Account account = getAccount(playerId);
+        return account != null ? account.cents.get() : null;
+    }
+
+    /**
+     * Obtém o saldo apenas se a conta já estiver carregada (sem acesso ao banco).
+     */
+    public Long getLoadedBalance(int playerId) {
+        Account account = accounts.get(playerId);
+        return account != null ? account.cents.get() : null;
+    }
+
+    /**
+     * Aplica um crédito (delta positivo) ou débito (delta negativo).
+     */
+    public Result apply(int playerId, long deltaCents, TransactionReason reason, String reasonText) throws SQLException {
+        Account account = pinAccount(playerId);
+        if (account == null) {
+            return Result.error("Jogador não encontrado");
+        }
+        try {
+            long current;
+            long updated;
+            do {
+                current = account.cents.get();
+                updated = current + deltaCents;
+                if (updated < 0) {
+                    return Result.error("Saldo insuficiente");
+                }
+                if (((current ^ updated) & (deltaCents ^ updated)) < 0) {
+                    return Result.error("Valor excede o limite de saldo");
+                }
+            } while (!account.cents.compareAndSet(current, updated));
+
+            account.publish(journal.append(LedgerJournal.TYPE_SINGLE, reason, playerId, 0,
+                    deltaCents, updated, 0L, reasonText));
+            return Result.success(updated);
+        } finally {
+            account.pins.decrementAndGet();
+        }
+    }
+
+    /**
+     * Transfere entre dois jogadores sem lock: debita a origem por CAS e credita o destino.
+     * Um único registro de journal cobre os dois lados (replay atômico).
+     */
+    public Result transfer(int fromPlayerId, int toPlayerId, long amountCents, String reasonText) throws SQLException {
+        Account from = pinAccount(fromPlayerId);
+        if (from == null) {
+            return Result.error("Remetente não encontrado");
+        }
+        try {
+            Account to = pinAccount(toPlayerId);
+            if (to == null) {
+                return Result.error("Destinatário não encontrado");
+            }
+            try {
+                return transfer(from, to, fromPlayerId, toPlayerId, amountCents, reasonText);
+            } finally {
+                to.pins.decrementAndGet();
+            }
+        } finally {
+            from.pins.decrementAndGet();
+        }
+    }
+
+    private Result transfer(Account from, Account to, int fromPlayerId, int toPlayerId, long amountCents,
+                            String reasonText) {
+        long fromCurrent;
+        long fromUpdated;
+        do {
+            fromCurrent = from.cents.get();
+            fromUpdated = fromCurrent - amountCents;
+            if (fromUpdated < 0) {
+                return Result.error("Saldo insuficiente para transferência");
+            }
+        } while (!from.cents.compareAndSet(fromCurrent, fromUpdated));
+
+        long toCurrent;
+        long toUpdated;
+        do {
+            toCurrent = to.cents.get();
+            toUpdated = toCurrent + amountCents;
+            if (toUpdated < 0) {
+                // Estouro: devolver o valor à origem
+                from.cents.addAndGet(amountCents);
+                return Result.error("Valor excede o limite de saldo do destinatário");
+            }
+        } while (!to.cents.compareAndSet(toCurrent, toUpdated));
+
+        long sequence = journal.append(LedgerJournal.TYPE_TRANSFER, TransactionReason.PLAYER_TRANSFER,
+                fromPlayerId, toPlayerId, -amountCents, fromUpdated, toUpdated, reasonText);
+        from.publish(sequence);
+        to.publish(sequence);
+        return Result.success(fromUpdated);
+    }
+
+    /**
+     * Solicita a remoção da conta da memória (quit). A conta só sai quando todas
+     * as suas mutações já estiverem no banco, para não recarregar um saldo defasado.
+     */
+    public void release(int playerId) {
+        Account account = accounts.get(playerId);
+        if (account == null) {
+            return;
+        }
+        account.releaseRequested = true;
+        evictIfCheckpointed(playerId, account);
+    }
+
+    /**
+     * Marca a conta como desatualizada (saldo alterado por outro servidor). Ela sai
+     * da memória quando as mutações locais chegarem ao banco e é recarregada na
+     * próxima leitura, já com os deltas dos dois nós.
+     */
+    public void invalidate(int playerId) {
+        Account account = accounts.get(playerId);
+        if (account == null) {
+            return;
+        }
+        account.stale = true;
+        evictIfCheckpointed(playerId, account);
+    }
+
+    /**
+     * @param listener Recebe o player_id de cada saldo alterado no banco (thread do flusher)
+     */
+    public void setFlushListener(IntConsumer listener) {
+        this.flushListener = listener;
+    }
+
+    /**
+     * Aplica no banco os registros do journal ainda não aplicados.
+     *
+     * @return Número de registros aplicados
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            int total = 0;
+            while (true) {
+                LedgerJournal.ReadResult read = journal.read(nextSequence, batchSize);
+                if (read.entries.isEmpty()) {
+                    if (read.nextSequence != nextSequence) {
+                        // Apenas espaço vazio/corrompido de segmentos selados
+                        try {
+                            writeBatch(read.entries, read.nextSequence - 1);
+                            nextSequence = read.nextSequence;
+                        } catch (SQLException e) {
+                            failedFlushes.incrementAndGet();
+                            logger.severe("🚨 [LEDGER] Falha ao gravar checkpoint: " + e.getMessage());
+                        }
+                        continue;
+                    }
+                    break;
+                }
+                journal.force();
+                Set<Integer> changed;
+                try {
+                    changed = writeBatch(read.entries, read.nextSequence - 1);
+                } catch (SQLException e) {
+                    failedFlushes.incrementAndGet();
+                    logger.severe("🚨 [LEDGER] Falha ao aplicar lote de " + read.entries.size() + " registros: " + e.getMessage());
+                    break;
+                }
+                nextSequence = read.nextSequence;
+                total += read.entries.size();
+                appliedEntries.addAndGet(read.entries.size());
+                notifyFlushed(changed);
+            }
+            journal.truncate(nextSequence - 1);
+            evictReleased();
+            return total;
+        }
+    }
+
+    /**
+     * Para o flusher, aplica o restante do journal e fecha os segmentos.
+     */
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        int written = flush();
+        journal.close();
+        logger.info("✅ [LEDGER] Journal drenado no desligamento: " + written + " registros aplicados");
+    }
+
+    public int getLoadedAccountCount() {
+        return accounts.size();
+    }
+
+    public long getPendingEntries() {
+        long pending = 0;
+        for (Account account : accounts.values()) {
+            if (account.lastSequence.get() >= nextSequence) {
+                pending++;
+            }
+        }
+        return pending;
+    }
+
+    public long getAppliedEntries() {
+        return appliedEntries.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    private Account getAccount(int playerId) throws SQLException {
+        Account account = accounts.get(playerId);
+        if (account != null) {
+            account.releaseRequested = false;
+            return account;
+        }
+        // Contas fora da memória não têm mutações pendentes: o banco está atualizado
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement(GET_BALANCE_SQL)) {
+            ps.setInt(1, playerId);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                BigDecimal money = rs.getBigDecimal("money");
+                Account loaded = new Account(money != null ? Money.toCents(money) : 0L);
+                Account existing = ((ConcurrentHashMap<Integer, Account>) accounts).putIfAbsent(playerId, loaded);
+                return existing != null ? existing : loaded;
+            }
+        }
+    }
+
+    /**
+     * Obtém a conta e a fixa na memória até o decremento de pins. Uma conta
+     * em remoção não é usada: espera-se a saída do mapa e ela é recarregada.
+     */
+    private Account pinAccount(int playerId) throws SQLException {
+        while (true) {
+            Account account = getAccount(playerId);
+            if (account == null) {
+                return null;
+            }
+            int pins = account.pins.get();
+            if (pins == EVICTED) {
+                Thread.yield();
+                continue;
+            }
+            if (account.pins.compareAndSet(pins, pins + 1)) {
+                return account;
+            }
+        }
+    }
+
+    private void notifyFlushed(Set<Integer> playerIds) {
+        IntConsumer listener = flushListener;
+        if (listener == null) {
+            return;
+        }
+        for (Integer playerId : playerIds) {
+            listener.accept(playerId);
+        }
+    }
+
+    /**
+     * @return player_ids cujo saldo mudou no banco
+     */
+    private Set<Integer> writeBatch(List<LedgerJournal.Entry> entries, long lastSequence) throws SQLException {
+        // Deltas agregados por jogador: um UPDATE por conta por lote
+        Map<Integer, Long> deltas = new HashMap<Integer, Long>();
+        for (LedgerJournal.Entry entry : entries) {
+            deltas.put(entry.playerId, deltaOf(deltas, entry.playerId) + entry.deltaCents);
+            if (entry.type == LedgerJournal.TYPE_TRANSFER) {
+                deltas.put(entry.relatedPlayerId, deltaOf(deltas, entry.relatedPlayerId) - entry.deltaCents);
+            }
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                if (!deltas.isEmpty()) {
+                    try (PreparedStatement ps = conn.prepareStatement(APPLY_DELTA_SQL)) {
+                        for (Map.Entry<Integer, Long> delta : deltas.entrySet()) {
+                            if (delta.getValue() == 0L) {
+                                continue;
+                            }
+                            ps.setBigDecimal(1, Money.toBigDecimal(delta.getValue()));
+                            ps.setInt(2, delta.getKey());
+                            ps.addBatch();
+                        }
+                        ps.executeBatch();
+                    }
+                }
+                if (writeLogs && !entries.isEmpty()) {
+                    try (PreparedStatement ps = conn.prepareStatement(INSERT_ECONOMY_LOG_SQL)) {
+                        for (LedgerJournal.Entry entry : entries) {
+                            if (entry.type == LedgerJournal.TYPE_TRANSFER) {
+                                addLogRow(ps, entry.playerId, entry.reason, entry.deltaCents, entry.balanceAfterCents,
+                                        "Transferência para player_id " + entry.relatedPlayerId, entry.relatedPlayerId, entry.timestamp);
+                                addLogRow(ps, entry.relatedPlayerId, entry.reason, -entry.deltaCents, entry.relatedBalanceAfterCents,
+                                        "Transferência de player_id " + entry.playerId, entry.playerId, entry.timestamp);
+                            } else {
+                                addLogRow(ps, entry.playerId, entry.reason, entry.deltaCents, entry.balanceAfterCents,
+                                        entry.text, 0, entry.timestamp);
+                            }
+                        }
+                        ps.executeBatch();
+                    }
+                }
+                try (PreparedStatement ps = conn.prepareStatement(UPSERT_CHECKPOINT_SQL)) {
+                    ps.setString(1, JOURNAL_ID);
+                    ps.setLong(2, lastSequence);
+                    ps.executeUpdate();
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        return deltas.keySet();
+    }
+
+    private void addLogRow(PreparedStatement ps, int playerId, TransactionReason reason, long deltaCents,
+                           long balanceAfterCents, String text, int relatedPlayerId, long timestamp) throws SQLException {
+        ps.setInt(1, playerId);
+        ps.setString(2, reason.name());
+        ps.setBigDecimal(3, Money.toBigDecimal(deltaCents));
+        ps.setBigDecimal(4, Money.toBigDecimal(balanceAfterCents - deltaCents));
+        ps.setBigDecimal(5, Money.toBigDecimal(balanceAfterCents));
+        ps.setString(6, text != null && !text.isEmpty() ? text : reason.getDisplayName());
+        ps.setString(7, "EconomyLedger");
+        ps.setObject(8, relatedPlayerId != 0 ? Integer.valueOf(relatedPlayerId) : null);
+        ps.setTimestamp(9, new Timestamp(timestamp));
+        ps.addBatch();
+    }
+
+    private static long deltaOf(Map<Integer, Long> deltas, int playerId) {
+        Long delta = deltas.get(playerId);
+        return delta != null ? delta : 0L;
+    }
+
+    private long readCheckpoint(Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_CHECKPOINT_SQL)) {
+            ps.setString(1, JOURNAL_ID);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getLong("last_sequence") : -1L;
+            }
+        }
+    }
+
+    private void evictReleased() {
+        Iterator<Map.Entry<Integer, Account>> it = accounts.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Account> entry = it.next();
+            if (entry.getValue().releaseRequested || entry.getValue().stale) {
+                evictIfCheckpointed(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Remove a conta se não há mutação em andamento nem pendente no banco.
+     * Com pins em uso, a remoção fica para o próximo flush.
+     */
+    private void evictIfCheckpointed(int playerId, Account account) {
+        if (!(account.releaseRequested || account.stale) || account.lastSequence.get() >= nextSequence
+                || !account.pins.compareAndSet(0, EVICTED)) {
+            return;
+        }
+        // Com pins em EVICTED nenhuma mutação começa: a sequência relida agora é a final
+        if (account.lastSequence.get() < nextSequence) {
+            accounts.remove(playerId, account);
+        } else {
+            account.pins.set(0);
+        }
+    }
+}
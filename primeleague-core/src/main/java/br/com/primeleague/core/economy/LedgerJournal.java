@@ -0,0 +1,440 @@
+package br.com.primeleague.core.economy;
+
+import br.com.primeleague.core.enums.TransactionReason;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Journal sequencial append-only do ledger econômico, em segmentos mapeados em memória.
+ *
+ * Cada mutação de saldo ocupa um registro de tamanho fixo; a posição do registro
+ * define seu número de sequência (base do segmento + índice). A reserva de espaço
+ * é um getAndAdd, portanto várias threads gravam em paralelo sem lock. Um registro
+ * só é considerado válido com o MAGIC (gravado por último) e o CRC32 corretos,
+ * o que descarta registros incompletos após uma queda.
+ *
+ * Layout do registro (RECORD_SIZE bytes):
+ * 0 magic | 4 crc32 | 8 timestamp | 16 tipo | 17 tamanho do motivo | 18 tamanho do texto |
+ * 20 player_id | 24 related_player_id | 32 delta | 40 saldo após | 48 saldo após (relacionado) |
+ * 56 motivo (TransactionReason.name(), ASCII) seguido do texto
+ *
+ * O motivo é gravado pelo nome, não pelo ordinal, para que reordenar ou incluir
+ * constantes no enum não mude o motivo de registros ainda não aplicados. Registros
+ * do formato anterior (MAGIC_V1, ordinal no byte 17) continuam legíveis.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class LedgerJournal {
+
+    public static final int RECORD_SIZE = 256;
+    public static final byte TYPE_SINGLE = 1;
+    public static final byte TYPE_TRANSFER = 2;
+
+    private static final int MAGIC = 0x4C454432; // "LED2"
+    private static final int MAGIC_V1 = 0x4C454447; // "LEDG" (motivo pelo ordinal)
+    private static final int HEADER_SIZE = 56;
+    private static final int MAX_TEXT_BYTES = RECORD_SIZE - HEADER_SIZE;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final File directory;
+    private final int recordsPerSegment;
+    private final Logger logger;
+
+    // Segmentos abertos em ordem de sequência (o último é o ativo)
+    private final List<Segment> segments = new ArrayList<Segment>();
+    private volatile Segment active;
+
+    // Buffer de montagem por thread (evita alocação por registro)
+    private final ThreadLocal<ByteBuffer> scratch = new ThreadLocal<ByteBuffer>() {
+        @Override
+        protected ByteBuffer initialValue() {
+            return ByteBuffer.allocate(RECORD_SIZE);
+        }
+    };
+
+    public LedgerJournal(File directory, int recordsPerSegment, Logger logger) {
+        this.directory = directory;
+        this.recordsPerSegment = Math.max(1024, recordsPerSegment);
+        this.logger = logger;
+    }
+
+    /**
+     * Registro decodificado do journal.
+     */
+    public static final class Entry {
+        public final long sequence;
+        public final long timestamp;
+        public final byte type;
+        public final TransactionReason reason;
+        public final int playerId;
+        public final int relatedPlayerId;
+        public final long deltaCents;
+        public final long balanceAfterCents;
+        public final long relatedBalanceAfterCents;
+        public final String text;
+
+        Entry(long sequence, long timestamp, byte type, TransactionReason reason, int playerId, int relatedPlayerId,
+              long deltaCents, long balanceAfterCents, long relatedBalanceAfterCents, String text) {
+            this.sequence = sequence;
+            this.timestamp = timestamp;
+            this.type = type;
+            this.reason = reason;
+            this.playerId = playerId;
+            this.relatedPlayerId = relatedPlayerId;
+            this.deltaCents = deltaCents;
+            this.balanceAfterCents = balanceAfterCents;
+            this.relatedBalanceAfterCents = relatedBalanceAfterCents;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Resultado de uma leitura do journal a partir de uma sequência.
+     */
+    public static final class ReadResult {
+        public final List<Entry> entries;
+        // Próxima sequência a ler (avança sobre registros inválidos de segmentos selados)
+        public final long nextSequence;
+
+        ReadResult(List<Entry> entries, long nextSequence) {
+            this.entries = entries;
+            this.nextSequence = nextSequence;
+        }
+    }
+
+    /**
+     * Abre os segmentos existentes e prepara o segmento ativo.
+     *
+     * @param checkpointSequence Última sequência já aplicada no banco (-1 se nenhuma)
+     */
+    public synchronized void open(long checkpointSequence) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Não foi possível criar o diretório do journal: " + directory);
+        }
+        File[] files = directory.listFiles();
+        if (files != null) {
+            Arrays.sort(files);
+            for (File file : files) {
+                String name = file.getName();
+                if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+                    continue;
+                }
+                long base = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                Segment segment = Segment.open(file, base, recordsPerSegment);
+                // Segmentos reabertos são somente leitura (replay); novas gravações vão para um segmento novo
+                segment.seal();
+                segments.add(segment);
+            }
+        }
+        long nextBase = checkpointSequence + 1;
+        if (!segments.isEmpty()) {
+            Segment last = segments.get(segments.size() - 1);
+            nextBase = Math.max(nextBase, last.baseSequence + last.capacity);
+        }
+        rotate(nextBase);
+    }
+
+    /**
+     * Anexa um registro ao journal.
+     *
+     * @return Sequência atribuída ao registro
+     */
+    public long append(byte type, TransactionReason reason, int playerId, int relatedPlayerId,
+                       long deltaCents, long balanceAfterCents, long relatedBalanceAfterCents, String text) {
+        ByteBuffer record = scratch.get();
+        record.clear();
+        record.putInt(0);
+        record.putInt(0);
+        record.putLong(System.currentTimeMillis());
+        record.put(type);
+        byte[] reasonBytes = reason.name().getBytes(StandardCharsets.US_ASCII);
+        record.put((byte) reasonBytes.length);
+        byte[] textBytes = text != null ? text.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        int textLength = Math.min(textBytes.length, MAX_TEXT_BYTES - reasonBytes.length);
+        record.putShort((short) textLength);
+        record.putInt(playerId);
+        record.putInt(relatedPlayerId);
+        record.putInt(0);
+        record.putLong(deltaCents);
+        record.putLong(balanceAfterCents);
+        record.putLong(relatedBalanceAfterCents);
+        record.put(reasonBytes);
+        record.put(textBytes, 0, textLength);
+        while (record.hasRemaining()) {
+            record.put((byte) 0);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 8, RECORD_SIZE - 8);
+        record.putInt(4, (int) crc.getValue());
+
+        while (true) {
+            Segment segment = active;
+            int index = segment.reserve();
+            if (index >= 0) {
+                segment.write(index, record.array());
+                return segment.baseSequence + index;
+            }
+            synchronized (this) {
+                if (active == segment) {
+                    try {
+                        rotate(segment.baseSequence + segment.capacity);
+                    } catch (IOException e) {
+                        throw new IllegalStateException("Falha ao rotacionar segmento do journal", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lê registros válidos a partir de uma sequência, em ordem.
+     * Para no primeiro registro ainda não concluído do segmento ativo.
+     *
+     * @param fromSequence Primeira sequência a ler
+     * @param maxEntries Máximo de registros
+     */
+    public synchronized ReadResult read(long fromSequence, int maxEntries) {
+        List<Entry> entries = new ArrayList<Entry>();
+        long sequence = fromSequence;
+        for (Segment segment : segments) {
+            long end = segment.baseSequence + segment.capacity;
+            if (end <= sequence) {
+                continue;
+            }
+            if (sequence < segment.baseSequence) {
+                sequence = segment.baseSequence;
+            }
+            int limit = segment.writtenLimit();
+            while (sequence < segment.baseSequence + limit && entries.size() < maxEntries) {
+                int index = (int) (sequence - segment.baseSequence);
+                Entry entry = segment.readEntry(index, sequence);
+                if (entry == null) {
+                    if (!segment.isSealed() || segment.hasPendingWriters()) {
+                        // Registro reservado ainda em gravação: retomar na próxima leitura
+                        return new ReadResult(entries, sequence);
+                    }
+                    if (!segment.isEmptySlot(index)) {
+                        logger.warning("⚠️ [LEDGER-JOURNAL] Registro corrompido ignorado (seq " + sequence + ")");
+                    }
+                } else {
+                    entries.add(entry);
+                }
+                sequence++;
+            }
+            if (entries.size() >= maxEntries) {
+                return new ReadResult(entries, sequence);
+            }
+            if (segment.isSealed() && !segment.hasPendingWriters()) {
+                // Espaço não usado no fim de um segmento selado
+                sequence = end;
+            } else {
+                return new ReadResult(entries, sequence);
+            }
+        }
+        return new ReadResult(entries, sequence);
+    }
+
+    /**
+     * Força os registros gravados para o disco.
+     */
+    public synchronized void force() {
+        for (Segment segment : segments) {
+            if (!segment.isForced()) {
+                segment.force();
+            }
+        }
+    }
+
+    /**
+     * Remove segmentos selados cujos registros já foram aplicados no banco.
+     *
+     * @param checkpointSequence Última sequência aplicada
+     */
+    public synchronized void truncate(long checkpointSequence) {
+        while (segments.size() > 1) {
+            Segment oldest = segments.get(0);
+            if (!oldest.isSealed() || oldest.hasPendingWriters()
+                    || oldest.baseSequence + oldest.capacity - 1 > checkpointSequence) {
+                return;
+            }
+            segments.remove(0);
+            oldest.close();
+            if (!oldest.file.delete()) {
+                logger.warning("⚠️ [LEDGER-JOURNAL] Não foi possível remover o segmento " + oldest.file.getName());
+            }
+        }
+    }
+
+    public synchronized void close() {
+        for (Segment segment : segments) {
+            segment.force();
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    private void rotate(long baseSequence) throws IOException {
+        if (active != null) {
+            active.seal();
+        }
+        File file = new File(directory, String.format("%s%020d%s", SEGMENT_PREFIX, baseSequence, SEGMENT_SUFFIX));
+        Segment segment = Segment.open(file, baseSequence, recordsPerSegment);
+        segments.add(segment);
+        active = segment;
+    }
+
+    private static TransactionReason reasonOf(String name) {
+        try {
+            return TransactionReason.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return TransactionReason.OTHER;
+        }
+    }
+
+    /**
+     * Arquivo de segmento mapeado em memória.
+     */
+    private static final class Segment {
+        final File file;
+        final long baseSequence;
+        final int capacity;
+        private final RandomAccessFile raf;
+        private final MappedByteBuffer buffer;
+        private final AtomicLong reserved = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+        private volatile boolean sealed;
+        private volatile boolean forced;
+
+        private Segment(File file, long baseSequence, int capacity, RandomAccessFile raf, MappedByteBuffer buffer) {
+            this.file = file;
+            this.baseSequence = baseSequence;
+            this.capacity = capacity;
+            this.raf = raf;
+            this.buffer = buffer;
+        }
+
+        static Segment open(File file, long baseSequence, int capacity) throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+            return new Segment(file, baseSequence, capacity, raf, buffer);
+        }
+
+        int reserve() {
+            if (sealed) {
+                return -1;
+            }
+            long index = reserved.getAndIncrement();
+            if (index >= capacity) {
+                return -1;
+            }
+            return (int) index;
+        }
+
+        void write(int index, byte[] record) {
+            int offset = index * RECORD_SIZE;
+            ByteBuffer target = buffer.duplicate();
+            target.position(offset + 4);
+            target.put(record, 4, RECORD_SIZE - 4);
+            // MAGIC por último: o registro só passa a ser visível completo
+            buffer.putInt(offset, MAGIC);
+            forced = false;
+            completed.incrementAndGet();
+        }
+
+        Entry readEntry(int index, long sequence) {
+            int offset = index * RECORD_SIZE;
+            int magic = buffer.getInt(offset);
+            if (magic != MAGIC && magic != MAGIC_V1) {
+                return null;
+            }
+            byte[] record = new byte[RECORD_SIZE];
+            ByteBuffer source = buffer.duplicate();
+            source.position(offset);
+            source.get(record);
+            CRC32 crc = new CRC32();
+            crc.update(record, 8, RECORD_SIZE - 8);
+            ByteBuffer view = ByteBuffer.wrap(record);
+            if (view.getInt(4) != (int) crc.getValue()) {
+                return null;
+            }
+            TransactionReason reason;
+            int textOffset = HEADER_SIZE;
+            if (magic == MAGIC) {
+                int reasonLength = Math.min(view.get(17) & 0xFF, MAX_TEXT_BYTES);
+                reason = reasonOf(new String(record, HEADER_SIZE, reasonLength, StandardCharsets.US_ASCII));
+                textOffset += reasonLength;
+            } else {
+                int reasonOrdinal = view.get(17);
+                TransactionReason[] reasons = TransactionReason.values();
+                reason = reasonOrdinal >= 0 && reasonOrdinal < reasons.length
+                        ? reasons[reasonOrdinal] : TransactionReason.OTHER;
+            }
+            int textLength = Math.min(view.getShort(18), RECORD_SIZE - textOffset);
+            return new Entry(sequence, view.getLong(8), view.get(16), reason, view.getInt(20), view.getInt(24),
+                    view.getLong(32), view.getLong(40), view.getLong(48),
+                    new String(record, textOffset, Math.max(0, textLength), StandardCharsets.UTF_8));
+        }
+
+        boolean isEmptySlot(int index) {
+            return buffer.getInt(index * RECORD_SIZE) == 0;
+        }
+
+        /**
+         * Limite de leitura: segmentos reabertos são lidos por inteiro (MAGIC/CRC decidem).
+         */
+        int writtenLimit() {
+            long reservedCount = reserved.get();
+            if (reservedCount == 0 && sealed) {
+                return capacity;
+            }
+            return (int) Math.min(reservedCount, capacity);
+        }
+
+        boolean hasPendingWriters() {
+            return completed.get() < Math.min(reserved.get(), capacity);
+        }
+
+        void seal() {
+            sealed = true;
+        }
+
+        boolean isSealed() {
+            return sealed;
+        }
+
+        boolean isForced() {
+            return forced;
+        }
+
+        void force() {
+            buffer.force();
+            forced = true;
+        }
+
+        void close() {
+            try {
+                raf.close();
+            } catch (IOException e) {
+                // Ignorar erros de fechamento
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.com.primeleague.core.economy;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tabela de locks de tamanho fixo indexada por player_id (lock striping).
+ *
+ * Substitui o mapa de um ReentrantLock por jogador, que crescia sem limite:
+ * a memória é constante e dois jogadores só disputam o mesmo lock quando caem
+ * no mesmo stripe. Para operações com dois jogadores, os stripes são sempre
+ * adquiridos em ordem crescente de índice (sem deadlock), e um único lock é
+ * usado quando os dois caem no mesmo stripe.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class StripedLockTable {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    /**
+     * @param stripes Quantidade de stripes (arredondada para potência de 2)
+     */
+    public StripedLockTable(int stripes) {
+        int size = Integer.highestOneBit(Math.max(2, stripes) - 1) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adquire o lock do jogador.
+     */
+    public void lock(int playerId) {
+        locks[indexOf(playerId)].lock();
+    }
+
+    /**
+     * Libera o lock do jogador.
+     */
+    public void unlock(int playerId) {
+        locks[indexOf(playerId)].unlock();
+    }
+
+    /**
+     * Adquire os locks de dois jogadores em ordem determinística.
+     */
+    public void lockPair(int firstPlayerId, int secondPlayerId) {
+        int first = indexOf(firstPlayerId);
+        int second = indexOf(secondPlayerId);
+        if (first == second) {
+            locks[first].lock();
+        } else if (first < second) {
+            locks[first].lock();
+            locks[second].lock();
+        } else {
+            locks[second].lock();
+            locks[first].lock();
+        }
+    }
+
+    /**
+     * Libera os locks adquiridos por {@link #lockPair(int, int)} na ordem inversa.
+     */
+    public void unlockPair(int firstPlayerId, int secondPlayerId) {
+        int first = indexOf(firstPlayerId);
+        int second = indexOf(secondPlayerId);
+        if (first == second) {
+            locks[first].unlock();
+        } else if (first < second) {
+            locks[second].unlock();
+            locks[first].unlock();
+        } else {
+            locks[first].unlock();
+            locks[second].unlock();
+        }
+    }
+
+    public int getStripeCount() {
+        return locks.length;
+    }
+
+    private int indexOf(int playerId) {
+        // Espalha os bits: IDs sequenciais não devem cair em stripes vizinhos previsíveis
+        int h = playerId * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
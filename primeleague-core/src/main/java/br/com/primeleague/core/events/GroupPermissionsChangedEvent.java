@@ -17,6 +17,7 @@ public class GroupPermissionsChangedEvent extends Event {
     private final String groupName;
     private final String actionType;
     private final String permissionNode;
+    private final Boolean granted;
     
     /**
      * Construtor para mudanças gerais no grupo.
@@ -30,6 +31,7 @@ public class GroupPermissionsChangedEvent extends Event {
         this.groupName = groupName;
         this.actionType = actionType;
         this.permissionNode = null;
+        this.granted = null;
     }
     
     /**
@@ -41,10 +43,25 @@ public class GroupPermissionsChangedEvent extends Event {
      * @param permissionNode Nó da permissão afetada
      */
     public GroupPermissionsChangedEvent(int groupId, String groupName, String actionType, String permissionNode) {
+        this(groupId, groupName, actionType, permissionNode, null);
+    }
+    
+    /**
+     * Construtor para mudanças de permissão com o valor definido,
+     * permitindo aplicar a alteração no cache sem recarregar o grupo.
+     * 
+     * @param groupId ID do grupo modificado
+     * @param groupName Nome do grupo modificado
+     * @param actionType Tipo da ação realizada
+     * @param permissionNode Nó da permissão afetada
+     * @param granted Valor definido para o nó (null se desconhecido)
+     */
+    public GroupPermissionsChangedEvent(int groupId, String groupName, String actionType, String permissionNode, Boolean granted) {
         this.groupId = groupId;
         this.groupName = groupName;
         this.actionType = actionType;
         this.permissionNode = permissionNode;
+        this.granted = granted;
     }
     
     /**
@@ -83,6 +100,15 @@ public class GroupPermissionsChangedEvent extends Event {
         return permissionNode;
     }
     
+    /**
+     * Obtém o valor definido para o nó (PERMISSION_ADDED).
+     * 
+     * @return true/false, ou null se não informado
+     */
+    public Boolean getGranted() {
+        return granted;
+    }
+    
     /**
      * Verifica se este evento afeta uma permissão específica.
      * 
@@ -108,6 +134,7 @@ public class GroupPermissionsChangedEvent extends Event {
                 ", groupName='" + groupName + '\'' +
                 ", actionType='" + actionType + '\'' +
                 ", permissionNode='" + permissionNode + '\'' +
+                ", granted=" + granted +
                 '}';
     }
 }
@@ -0,0 +1,294 @@
+package br.com.primeleague.core.http;
+
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Pipeline assíncrono de requisições da API HTTP.
+ *
+ * O dispatcher NIO do servidor (selector + keep-alive) apenas faz a admissão:
+ * reserva uma vaga do endpoint e entrega o handler a um executor de banco
+ * limitado, devolvendo o controle ao loop imediatamente. Cada requisição vira
+ * um {@link CompletableFuture} com timeout próprio.
+ *
+ * Load shedding: sem vaga no endpoint ou com a fila do executor cheia, a
+ * requisição é recusada na hora com 503 + Retry-After, em vez de empilhar
+ * atrás de consultas lentas.
+ *
+ * Timeout: o cliente recebe 504 sem Retry-After, e o handler já iniciado não é
+ * interrompido. A operação pode ter sido concluída (ex.: discord-transfer,
+ * recovery-verify), então o cliente confere o estado em vez de repetir às cegas.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class ApiRequestPipeline {
+
+    private final Logger logger;
+    private final MetricsRegistry metrics;
+    private final ThreadPoolExecutor dbExecutor;
+    private final ScheduledThreadPoolExecutor timeoutScheduler;
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<String, Endpoint>();
+
+    // Garante uma única resposta por exchange (handler x timeout). Mapa próprio por identidade:
+    // os atributos de HttpExchange no Java 8 são compartilhados pelo HttpContext inteiro.
+    private final Map<HttpExchange, AtomicBoolean> responded = new ConcurrentHashMap<HttpExchange, AtomicBoolean>();
+
+    /**
+     * Limites de um endpoint.
+     */
+    private static final class Endpoint {
+        final String name;
+        final Semaphore permits;
+        final int maxConcurrent;
+        final long timeoutMs;
+
+        Endpoint(String name, int maxConcurrent, long timeoutMs) {
+            this.name = name;
+            this.permits = new Semaphore(maxConcurrent);
+            this.maxConcurrent = maxConcurrent;
+            this.timeoutMs = timeoutMs;
+        }
+    }
+
+    /**
+     * @param logger Logger do plugin
+     * @param metrics Registro de métricas (pode ser null)
+     * @param dbThreads Threads do executor de banco
+     * @param queueCapacity Capacidade da fila do executor de banco
+     */
+    public ApiRequestPipeline(Logger logger, MetricsRegistry metrics, int dbThreads, int queueCapacity) {
+        this.logger = logger;
+        this.metrics = metrics;
+        int threads = Math.max(1, dbThreads);
+        this.dbExecutor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<Runnable>(Math.max(1, queueCapacity)), new NamedThreadFactory("PrimeLeague-API-DB"),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.dbExecutor.allowCoreThreadTimeOut(true);
+        this.timeoutScheduler = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("PrimeLeague-API-Timeout"));
+        this.timeoutScheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Envolve um handler bloqueante no pipeline assíncrono do endpoint.
+     *
+     * @param name Nome do endpoint (métricas e configuração)
+     * @param delegate Handler original (executado no executor de banco)
+     * @param maxConcurrent Máximo de requisições simultâneas do endpoint
+     * @param timeoutMs Tempo limite da requisição
+     * @return Handler não bloqueante para registrar no servidor
+     */
+    public HttpHandler wrap(String name, final HttpHandler delegate, int maxConcurrent, long timeoutMs) {
+        final Endpoint endpoint = new Endpoint(name, Math.max(1, maxConcurrent), Math.max(1L, timeoutMs));
+        endpoints.put(name, endpoint);
+        return new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                submit(endpoint, delegate, exchange);
+            }
+        };
+    }
+
+    /**
+     * Admissão da requisição (roda no dispatcher do servidor, nunca bloqueia).
+     */
+    private CompletableFuture<Void> submit(final Endpoint endpoint, final HttpHandler delegate, final HttpExchange exchange) {
+        count("http.requests");
+
+        final CompletableFuture<Void> result = new CompletableFuture<Void>();
+        if (!endpoint.permits.tryAcquire()) {
+            count("http.shed");
+            count("http." + endpoint.name + ".shed");
+            sendUnavailable(exchange, "Serviço sobrecarregado, tente novamente");
+            result.complete(null);
+            return result;
+        }
+        responded.put(exchange, new AtomicBoolean(false));
+
+        final AtomicBoolean started = new AtomicBoolean(false);
+        final long startNanos = System.nanoTime();
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                if (!started.compareAndSet(false, true)) {
+                    return; // Expirou na fila: vaga já liberada pelo timeout
+                }
+                try {
+                    delegate.handle(exchange);
+                    result.complete(null);
+                } catch (Throwable t) {
+                    if (!result.isDone()) { // Após timeout a exchange já foi respondida e fechada
+                        count("http.errors");
+                        logger.log(Level.SEVERE, "🚨 [API] Erro no endpoint " + endpoint.name + ": " + t.getMessage(), t);
+                        sendError(exchange, 500, "Erro interno do servidor", false);
+                        result.completeExceptionally(t);
+                    }
+                } finally {
+                    responded.remove(exchange);
+                    endpoint.permits.release();
+                }
+            }
+        };
+
+        final Future<?> future;
+        try {
+            future = dbExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            responded.remove(exchange);
+            endpoint.permits.release();
+            count("http.shed");
+            count("http." + endpoint.name + ".shed");
+            sendUnavailable(exchange, "Fila da API cheia, tente novamente");
+            result.complete(null);
+            return result;
+        }
+
+        final ScheduledFuture<?> timeout;
+        try {
+            timeout = timeoutScheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (result.isDone()) {
+                        return;
+                    }
+                    count("http.timeouts");
+                    count("http." + endpoint.name + ".timeouts");
+                    logger.warning("⚠️ [API] Timeout no endpoint " + endpoint.name + " após " +
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos) + "ms");
+                    // Sem interromper: um handler de escrita termina a transação em vez de parar no meio
+                    future.cancel(false);
+                    sendError(exchange, 504, "Tempo limite excedido", false);
+                    if (started.compareAndSet(false, true)) {
+                        responded.remove(exchange);
+                        endpoint.permits.release(); // Nunca saiu da fila
+                    }
+                    result.completeExceptionally(new TimeoutException(endpoint.name));
+                }
+            }, endpoint.timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return result; // Pipeline em desligamento
+        }
+
+        result.whenComplete((ignored, error) -> timeout.cancel(false));
+        return result;
+    }
+
+    /**
+     * Reserva o direito de responder a uma exchange.
+     * Requisições fora do pipeline (ou recusadas na admissão) sempre podem responder.
+     *
+     * @param exchange Exchange HTTP
+     * @return true se o chamador deve escrever a resposta
+     */
+    public boolean claimResponse(HttpExchange exchange) {
+        AtomicBoolean flag = responded.get(exchange);
+        return flag == null || flag.compareAndSet(false, true);
+    }
+
+    private void sendUnavailable(HttpExchange exchange, String message) {
+        sendError(exchange, 503, message, true);
+    }
+
+    private void sendError(HttpExchange exchange, int statusCode, String message, boolean retryAfter) {
+        if (!claimResponse(exchange)) {
+            return;
+        }
+        try {
+            byte[] body = ("{\"error\":\"" + message + "\",\"status\":" + statusCode + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+            if (retryAfter) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+            }
+            exchange.sendResponseHeaders(statusCode, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        } catch (IOException e) {
+            exchange.close();
+        }
+    }
+
+    private void count(String name) {
+        if (metrics != null) {
+            metrics.counter(name).increment();
+        }
+    }
+
+    /**
+     * Estado do pipeline para o /api/health.
+     *
+     * @return JSON com fila do executor e vagas livres por endpoint
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"db_active\":").append(dbExecutor.getActiveCount())
+            .append(",\"db_queue_depth\":").append(dbExecutor.getQueue().size())
+            .append(",\"endpoints\":{");
+        boolean first = true;
+        for (Endpoint endpoint : endpoints.values()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            json.append('"').append(endpoint.name).append("\":{\"in_flight\":")
+                .append(endpoint.maxConcurrent - endpoint.permits.availablePermits())
+                .append(",\"max_concurrent\":").append(endpoint.maxConcurrent)
+                .append(",\"timeout_ms\":").append(endpoint.timeoutMs).append('}');
+        }
+        return json.append("}}").toString();
+    }
+
+    /**
+     * Encerra os executores (requisições pendentes são descartadas).
+     */
+    public void shutdown() {
+        timeoutScheduler.shutdownNow();
+        dbExecutor.shutdown();
+        try {
+            if (!dbExecutor.awaitTermination(2, TimeUnit.SECONDS)) {
+                dbExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            dbExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        NamedThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
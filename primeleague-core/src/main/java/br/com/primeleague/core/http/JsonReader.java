@@ -0,0 +1,468 @@
+package br.com.primeleague.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Leitor JSON em streaming (pull parser), sem dependências externas.
+ *
+ * Lê direto do InputStream da requisição com um buffer pequeno de bytes e
+ * decodifica UTF-8 sob demanda: o corpo nunca é materializado como String
+ * e cada campo é visitado uma única vez, na ordem em que aparece.
+ *
+ * Uso típico (DTOs de requisição):
+ * <pre>
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *     switch (reader.nextName()) {
+ *         case "playerName": playerName = reader.nextString(); break;
+ *         default: reader.skipValue();
+ *     }
+ * }
+ * reader.endObject();
+ * </pre>
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class JsonReader implements Closeable {
+
+    /**
+     * Tipos de token do documento.
+     */
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_STRING_LENGTH = 64 * 1024;
+
+    // Escopos da pilha
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[512];
+    private int pos;
+    private int limit;
+
+    private final int[] stack = new int[MAX_DEPTH];
+    private int depth;
+    private Token peeked;
+
+    private final StringBuilder text = new StringBuilder(32);
+
+    /**
+     * @param in Stream com o documento JSON (UTF-8)
+     */
+    public JsonReader(InputStream in) {
+        this.in = in;
+        this.stack[depth++] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Tipo do próximo token, sem consumi-lo.
+     *
+     * @return Próximo token
+     * @throws IOException Erro de leitura ou JSON inválido
+     */
+    public Token peek() throws IOException {
+        if (peeked != null) {
+            return peeked;
+        }
+        int scope = stack[depth - 1];
+        switch (scope) {
+            case EMPTY_ARRAY:
+            case NONEMPTY_ARRAY: {
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                int c = nextNonWhitespace();
+                if (c == ']') {
+                    return peeked = Token.END_ARRAY;
+                }
+                if (scope == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw syntaxError("esperado ',' ou ']'");
+                    }
+                } else {
+                    pos--;
+                }
+                return peeked = peekValue();
+            }
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT: {
+                int c = nextNonWhitespace();
+                if (c == '}') {
+                    return peeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("esperado ',' ou '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("esperado nome de campo");
+                }
+                stack[depth - 1] = DANGLING_NAME;
+                return peeked = Token.NAME;
+            }
+            case DANGLING_NAME: {
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("esperado ':'");
+                }
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                return peeked = peekValue();
+            }
+            case EMPTY_DOCUMENT: {
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                return peeked = peekValue();
+            }
+            default: {
+                if (nextNonWhitespace() != -1) {
+                    throw syntaxError("conteúdo após o fim do documento");
+                }
+                return peeked = Token.END_DOCUMENT;
+            }
+        }
+    }
+
+    private Token peekValue() throws IOException {
+        int c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                pos--;
+                return Token.BOOLEAN;
+            case 'n':
+                pos--;
+                return Token.NULL;
+            case -1:
+                throw syntaxError("fim inesperado do documento");
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    pos--;
+                    return Token.NUMBER;
+                }
+                throw syntaxError("caractere inesperado '" + (char) c + "'");
+        }
+    }
+
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        depth--;
+    }
+
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        depth--;
+    }
+
+    /**
+     * @return true se o objeto/array atual ainda tem elementos
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Lê um valor textual. Números e booleanos são devolvidos como texto e null como null.
+     */
+    public String nextString() throws IOException {
+        Token token = peek();
+        peeked = null;
+        switch (token) {
+            case STRING:
+                return readString();
+            case NUMBER:
+                return readLiteral();
+            case BOOLEAN:
+                return nextBooleanLiteral() ? "true" : "false";
+            case NULL:
+                expectLiteral("null");
+                return null;
+            default:
+                throw syntaxError("esperado texto, encontrado " + token);
+        }
+    }
+
+    /**
+     * Lê um booleano (aceita também "true"/"false" entre aspas).
+     */
+    public boolean nextBoolean() throws IOException {
+        Token token = peek();
+        peeked = null;
+        if (token == Token.STRING) {
+            return Boolean.parseBoolean(readString());
+        }
+        if (token != Token.BOOLEAN) {
+            throw syntaxError("esperado booleano, encontrado " + token);
+        }
+        return nextBooleanLiteral();
+    }
+
+    private boolean nextBooleanLiteral() throws IOException {
+        String literal = readLiteral();
+        if ("true".equals(literal)) {
+            return true;
+        }
+        if ("false".equals(literal)) {
+            return false;
+        }
+        throw syntaxError("literal inválido '" + literal + "'");
+    }
+
+    public long nextLong() throws IOException {
+        Token token = peek();
+        peeked = null;
+        String value;
+        if (token == Token.NUMBER) {
+            value = readLiteral();
+        } else if (token == Token.STRING) {
+            value = readString();
+        } else {
+            throw syntaxError("esperado número, encontrado " + token);
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw syntaxError("número inválido '" + value + "'");
+        }
+    }
+
+    /**
+     * Pula o próximo valor inteiro (inclusive objetos e arrays aninhados).
+     */
+    public void skipValue() throws IOException {
+        int open = 0;
+        do {
+            Token token = peek();
+            switch (token) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    open++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    open++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    open--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    open--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case END_DOCUMENT:
+                    throw syntaxError("fim inesperado do documento");
+                default:
+                    nextString();
+                    break;
+            }
+        } while (open > 0);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("esperado " + expected + ", encontrado " + token);
+        }
+        peeked = null;
+    }
+
+    private void push(int scope) throws IOException {
+        if (depth == MAX_DEPTH) {
+            throw syntaxError("aninhamento excessivo");
+        }
+        stack[depth++] = scope;
+    }
+
+    private void expectLiteral(String literal) throws IOException {
+        String value = readLiteral();
+        if (!literal.equals(value)) {
+            throw syntaxError("literal inválido '" + value + "'");
+        }
+    }
+
+    /**
+     * Lê números e literais (true/false/null) até o próximo delimitador.
+     */
+    private String readLiteral() throws IOException {
+        text.setLength(0);
+        while (true) {
+            if (pos == limit && !fill()) {
+                break;
+            }
+            int c = buffer[pos] & 0xFF;
+            if ((c >= '0' && c <= '9') || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '-' || c == '+' || c == '.') {
+                text.append((char) c);
+                pos++;
+                if (text.length() > 64) {
+                    throw syntaxError("literal muito longo");
+                }
+            } else {
+                break;
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Lê uma string (aspas de abertura já consumidas), decodificando UTF-8 e escapes.
+     */
+    private String readString() throws IOException {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return text.toString();
+            }
+            if (c == -1) {
+                throw syntaxError("string não terminada");
+            }
+            if (text.length() >= MAX_STRING_LENGTH) {
+                throw syntaxError("string muito longa");
+            }
+            if (c == '\\') {
+                readEscape();
+            } else if (c < 0x20) {
+                throw syntaxError("caractere de controle em string");
+            } else if (c < 0x80) {
+                text.append((char) c);
+            } else {
+                readMultiByte(c);
+            }
+        }
+    }
+
+    private void readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case '"': text.append('"'); break;
+            case '\\': text.append('\\'); break;
+            case '/': text.append('/'); break;
+            case 'b': text.append('\b'); break;
+            case 'f': text.append('\f'); break;
+            case 'n': text.append('\n'); break;
+            case 'r': text.append('\r'); break;
+            case 't': text.append('\t'); break;
+            case 'u': {
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw syntaxError("escape \\u inválido");
+                    }
+                    value = (value << 4) | digit;
+                }
+                text.append((char) value); // Pares surrogate chegam como dois escapes consecutivos
+                break;
+            }
+            default:
+                throw syntaxError("escape inválido");
+        }
+    }
+
+    private void readMultiByte(int lead) throws IOException {
+        int extra;
+        int codePoint;
+        if ((lead & 0xE0) == 0xC0) {
+            extra = 1;
+            codePoint = lead & 0x1F;
+        } else if ((lead & 0xF0) == 0xE0) {
+            extra = 2;
+            codePoint = lead & 0x0F;
+        } else if ((lead & 0xF8) == 0xF0) {
+            extra = 3;
+            codePoint = lead & 0x07;
+        } else {
+            text.append('�');
+            return;
+        }
+        for (int i = 0; i < extra; i++) {
+            if (pos == limit && !fill()) {
+                throw syntaxError("UTF-8 truncado");
+            }
+            int next = buffer[pos] & 0xFF;
+            if ((next & 0xC0) != 0x80) {
+                text.append('�'); // Sequência inválida: o byte atual é reprocessado como novo caractere
+                return;
+            }
+            pos++;
+            codePoint = (codePoint << 6) | (next & 0x3F);
+        }
+        if (Character.isValidCodePoint(codePoint)) {
+            text.appendCodePoint(codePoint);
+        } else {
+            text.append('�');
+        }
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            int c = read();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    private boolean fill() throws IOException {
+        int count = in.read(buffer, 0, buffer.length);
+        if (count <= 0) {
+            pos = 0;
+            limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = count;
+        return true;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException("JSON inválido: " + message);
+    }
+}
@@ -0,0 +1,260 @@
+package br.com.primeleague.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Escritor JSON em streaming, sem dependências externas.
+ *
+ * Codifica direto em UTF-8 num buffer de bytes reaproveitado por thread
+ * ({@link #acquire()}), com escape correto de aspas, barras, caracteres de
+ * controle e pares surrogate. O buffer é enviado como está na resposta HTTP,
+ * sem String intermediária.
+ *
+ * O writer de {@link #acquire()} pertence à thread atual e é reiniciado a
+ * cada chamada: deve ser usado e enviado antes de um novo acquire.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class JsonWriter {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final int MAX_DEPTH = 32;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ThreadLocal<JsonWriter> POOL = new ThreadLocal<JsonWriter>() {
+        @Override
+        protected JsonWriter initialValue() {
+            return new JsonWriter();
+        }
+    };
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int size;
+    private final boolean[] needsComma = new boolean[MAX_DEPTH];
+    private int depth;
+    private boolean afterName;
+
+    /**
+     * Writer da thread atual, reiniciado.
+     *
+     * @return Writer vazio
+     */
+    public static JsonWriter acquire() {
+        JsonWriter writer = POOL.get();
+        writer.reset();
+        return writer;
+    }
+
+    /**
+     * Descarta o conteúdo (buffers que cresceram demais são liberados).
+     */
+    public void reset() {
+        if (buffer.length > MAX_RETAINED_CAPACITY) {
+            buffer = new byte[INITIAL_CAPACITY];
+        }
+        size = 0;
+        depth = 0;
+        afterName = false;
+    }
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        put('{');
+        push();
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        depth--;
+        put('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        put('[');
+        push();
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        depth--;
+        put(']');
+        return this;
+    }
+
+    public JsonWriter name(String name) {
+        if (depth > 0) {
+            if (needsComma[depth - 1]) {
+                put(',');
+            }
+            needsComma[depth - 1] = true;
+        }
+        writeString(name);
+        put(':');
+        afterName = true;
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        writeAscii(Long.toString(value));
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        writeAscii(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        writeAscii("null");
+        return this;
+    }
+
+    /**
+     * Escreve um valor já serializado (ex: JSON de métricas), sem escape.
+     *
+     * @param json JSON válido
+     */
+    public JsonWriter rawValue(String json) {
+        if (json == null) {
+            return nullValue();
+        }
+        beforeValue();
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+        return this;
+    }
+
+    /**
+     * @return Buffer interno (válido até o próximo reset); use com {@link #size()}
+     */
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buffer, 0, size);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size, StandardCharsets.UTF_8);
+    }
+
+    private void push() {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("Aninhamento JSON excessivo");
+        }
+        needsComma[depth++] = false;
+    }
+
+    private void beforeValue() {
+        if (afterName) {
+            afterName = false;
+            return;
+        }
+        if (depth > 0) {
+            if (needsComma[depth - 1]) {
+                put(',');
+            }
+            needsComma[depth - 1] = true;
+        }
+    }
+
+    private void writeString(String value) {
+        ensureCapacity(value.length() + 2);
+        put('"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c == '"' || c == '\\') {
+                    put('\\');
+                    put(c);
+                } else if (c < 0x20) {
+                    writeControl(c);
+                } else {
+                    put(c);
+                }
+            } else if (c < 0x800) {
+                put(0xC0 | (c >> 6));
+                put(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                put(0xF0 | (codePoint >> 18));
+                put(0x80 | ((codePoint >> 12) & 0x3F));
+                put(0x80 | ((codePoint >> 6) & 0x3F));
+                put(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                put('?'); // Surrogate sem par não tem representação UTF-8 válida
+            } else {
+                put(0xE0 | (c >> 12));
+                put(0x80 | ((c >> 6) & 0x3F));
+                put(0x80 | (c & 0x3F));
+            }
+        }
+        put('"');
+    }
+
+    private void writeControl(char c) {
+        switch (c) {
+            case '\n': put('\\'); put('n'); break;
+            case '\r': put('\\'); put('r'); break;
+            case '\t': put('\\'); put('t'); break;
+            case '\b': put('\\'); put('b'); break;
+            case '\f': put('\\'); put('f'); break;
+            default:
+                put('\\');
+                put('u');
+                put('0');
+                put('0');
+                put(HEX[c >> 4]);
+                put(HEX[c & 0xF]);
+        }
+    }
+
+    private void writeAscii(String value) {
+        int length = value.length();
+        ensureCapacity(length);
+        for (int i = 0; i < length; i++) {
+            buffer[size++] = (byte) value.charAt(i);
+        }
+    }
+
+    private void put(int b) {
+        if (size == buffer.length) {
+            ensureCapacity(1);
+        }
+        buffer[size++] = (byte) b;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (size + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package br.com.primeleague.core.identity;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+/**
+ * Diretório em memória de todos os nomes de player_data, ordenado e com busca por prefixo.
+ *
+ * Os nomes ficam em uma arena compacta (um único byte[] com offsets), ordenada
+ * por nome em minúsculas: não há um objeto String por jogador. A arena é
+ * imutável e trocada por referência volátil; nomes novos entram em um pequeno
+ * delta ordenado que é incorporado à arena quando atinge o limite.
+ *
+ * Usado para tab-completion e sugestões ("você quis dizer") em comandos que
+ * recebem nomes de jogadores offline, sem consulta ao banco por tecla.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class NameDirectory {
+
+    // Nomes do Minecraft têm até 16 caracteres; acima disso a entrada é ignorada
+    private static final int MAX_NAME_BYTES = 32;
+    private static final int DELTA_MERGE_THRESHOLD = 512;
+    private static final int MAX_SUGGESTION_DISTANCE = 2;
+    private static final int MAX_SUGGESTION_SCAN = 4096;
+
+    private final Logger logger;
+    private final int maxNames;
+
+    private volatile Arena arena = Arena.EMPTY;
+    // Nomes adicionados após a carga (chave em minúsculas -> nome), protegido por this
+    private final TreeMap<String, String> delta = new TreeMap<String, String>();
+    private volatile boolean loaded;
+
+    /**
+     * @param logger Logger do Core
+     * @param maxNames Limite de nomes mantidos em memória
+     */
+    public NameDirectory(Logger logger, int maxNames) {
+        this.logger = logger;
+        this.maxNames = Math.max(1, maxNames);
+    }
+
+    /**
+     * Carrega todos os nomes com um cursor de streaming (sem materializar o ResultSet).
+     * Deve ser chamado fora da thread principal.
+     *
+     * @param dataSource Pool de conexões do Core
+     */
+    public void load(DataSource dataSource) {
+        long start = System.currentTimeMillis();
+        ArenaBuilder builder = new ArenaBuilder();
+        boolean truncated = false;
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement ps = conn.prepareStatement("SELECT name FROM player_data",
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // Connector/J só faz streaming linha a linha com fetch size = Integer.MIN_VALUE
+            ps.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    if (builder.size() >= maxNames) {
+                        truncated = true;
+                        break;
+                    }
+                    builder.add(rs.getString(1));
+                }
+            }
+        } catch (SQLException e) {
+            logger.severe("🚨 [NAME-DIRECTORY] Erro ao carregar nomes de jogadores: " + e.getMessage());
+            return;
+        }
+
+        synchronized (this) {
+            for (String name : delta.values()) {
+                builder.add(name);
+            }
+            delta.clear();
+            arena = builder.build();
+            loaded = true;
+        }
+
+        logger.info("✅ [NAME-DIRECTORY] " + arena.size() + " nomes carregados em " + (System.currentTimeMillis() - start) +
+                   "ms (" + (arena.memoryBytes() / 1024) + " KB)");
+        if (truncated) {
+            logger.warning("⚠️ [NAME-DIRECTORY] Limite de " + maxNames + " nomes atingido; nomes restantes ignorados");
+        }
+    }
+
+    /**
+     * Registra um nome (novo jogador ou troca de nome). Custo O(log n) se já existir.
+     */
+    public void add(String name) {
+        if (!isValidName(name) || contains(name)) {
+            return;
+        }
+        synchronized (this) {
+            if (arena.size() + delta.size() >= maxNames) {
+                return;
+            }
+            delta.put(name.toLowerCase(Locale.ROOT), name);
+            if (delta.size() >= DELTA_MERGE_THRESHOLD) {
+                mergeDelta();
+            }
+        }
+    }
+
+    /**
+     * Verifica se o nome existe (case-insensitive).
+     */
+    public boolean contains(String name) {
+        if (name == null || name.isEmpty()) {
+            return false;
+        }
+        if (arena.indexOf(name) >= 0) {
+            return true;
+        }
+        synchronized (this) {
+            return delta.containsKey(name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Nomes que começam com o prefixo (case-insensitive), em ordem alfabética.
+     *
+     * @param prefix Prefixo digitado
+     * @param limit Quantidade máxima de resultados
+     * @return Lista de nomes (nunca null)
+     */
+    public List<String> complete(String prefix, int limit) {
+        if (prefix == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        List<String> results = arena.withPrefix(lowerPrefix, limit);
+
+        synchronized (this) {
+            if (!delta.isEmpty()) {
+                Map<String, String> matches = delta.subMap(lowerPrefix, true, lowerPrefix + Character.MAX_VALUE, false);
+                if (!matches.isEmpty()) {
+                    List<String> merged = new ArrayList<String>(results);
+                    merged.addAll(matches.values());
+                    Collections.sort(merged, String.CASE_INSENSITIVE_ORDER);
+                    results = merged.size() > limit ? merged.subList(0, limit) : merged;
+                }
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Sugestões para um nome digitado errado ("você quis dizer").
+     * Procura entre os nomes que compartilham a primeira letra, com distância de edição até 2.
+     *
+     * @param name Nome digitado
+     * @param limit Quantidade máxima de sugestões
+     * @return Sugestões ordenadas pela menor distância
+     */
+    public List<String> suggest(String name, int limit) {
+        if (name == null || name.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        String lowerName = name.toLowerCase(Locale.ROOT);
+        List<String> candidates = complete(lowerName.substring(0, 1), MAX_SUGGESTION_SCAN);
+
+        List<String> suggestions = new ArrayList<String>();
+        List<Integer> distances = new ArrayList<Integer>();
+        for (String candidate : candidates) {
+            if (Math.abs(candidate.length() - lowerName.length()) > MAX_SUGGESTION_DISTANCE) {
+                continue;
+            }
+            int distance = editDistance(lowerName, candidate.toLowerCase(Locale.ROOT));
+            if (distance > MAX_SUGGESTION_DISTANCE) {
+                continue;
+            }
+            int position = 0;
+            while (position < distances.size() && distances.get(position) <= distance) {
+                position++;
+            }
+            if (position < limit) {
+                suggestions.add(position, candidate);
+                distances.add(position, distance);
+                if (suggestions.size() > limit) {
+                    suggestions.remove(limit);
+                    distances.remove(limit);
+                }
+            }
+        }
+        return suggestions;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        Arena current = arena;
+        synchronized (this) {
+            return current.size() + delta.size();
+        }
+    }
+
+    /**
+     * Memória aproximada da arena em bytes.
+     */
+    public long getMemoryBytes() {
+        return arena.memoryBytes();
+    }
+
+    private void mergeDelta() {
+        ArenaBuilder builder = new ArenaBuilder(arena);
+        for (String name : delta.values()) {
+            builder.add(name);
+        }
+        delta.clear();
+        arena = builder.build();
+    }
+
+    private static boolean isValidName(String name) {
+        return name != null && !name.isEmpty() && name.length() <= MAX_NAME_BYTES && name.trim().equals(name);
+    }
+
+    private static int editDistance(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * Compara dois trechos UTF-8 ignorando caixa ASCII (nomes do Minecraft são ASCII).
+     */
+    private static int compareBytes(byte[] a, int aStart, int aEnd, byte[] b, int bStart, int bEnd) {
+        int aLength = aEnd - aStart;
+        int bLength = bEnd - bStart;
+        int limit = Math.min(aLength, bLength);
+        for (int i = 0; i < limit; i++) {
+            int x = lower(a[aStart + i]);
+            int y = lower(b[bStart + i]);
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return aLength - bLength;
+    }
+
+    private static int lower(byte value) {
+        int c = value & 0xFF;
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    /**
+     * Arena imutável: bytes de todos os nomes concatenados, em ordem, e seus offsets.
+     */
+    private static final class Arena {
+
+        static final Arena EMPTY = new Arena(new byte[0], new int[] {0});
+
+        final byte[] bytes;
+        final int[] offsets; // offsets[i]..offsets[i + 1] = nome i
+
+        Arena(byte[] bytes, int[] offsets) {
+            this.bytes = bytes;
+            this.offsets = offsets;
+        }
+
+        int size() {
+            return offsets.length - 1;
+        }
+
+        long memoryBytes() {
+            return bytes.length + offsets.length * 4L;
+        }
+
+        String nameAt(int index) {
+            return new String(bytes, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+        }
+
+        int indexOf(String name) {
+            byte[] key = name.getBytes(StandardCharsets.UTF_8);
+            int low = 0;
+            int high = size() - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compareBytes(bytes, offsets[mid], offsets[mid + 1], key, 0, key.length);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        List<String> withPrefix(String lowerPrefix, int limit) {
+            byte[] key = lowerPrefix.getBytes(StandardCharsets.UTF_8);
+            // Primeiro nome >= prefixo
+            int low = 0;
+            int high = size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compareBytes(bytes, offsets[mid], offsets[mid + 1], key, 0, key.length) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            List<String> results = new ArrayList<String>();
+            for (int i = low; i < size() && results.size() < limit; i++) {
+                int start = offsets[i];
+                int length = offsets[i + 1] - start;
+                if (length < key.length || compareBytes(bytes, start, start + key.length, key, 0, key.length) != 0) {
+                    break;
+                }
+                results.add(nameAt(i));
+            }
+            return results;
+        }
+    }
+
+    /**
+     * Acumula nomes e produz uma arena ordenada e sem duplicatas (case-insensitive).
+     */
+    private static final class ArenaBuilder {
+
+        private final List<byte[]> names = new ArrayList<byte[]>();
+
+        ArenaBuilder() {
+        }
+
+        ArenaBuilder(Arena base) {
+            for (int i = 0; i < base.size(); i++) {
+                names.add(Arrays.copyOfRange(base.bytes, base.offsets[i], base.offsets[i + 1]));
+            }
+        }
+
+        int size() {
+            return names.size();
+        }
+
+        void add(String name) {
+            if (isValidName(name)) {
+                names.add(name.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        Arena build() {
+            Collections.sort(names, new Comparator<byte[]>() {
+                @Override
+                public int compare(byte[] a, byte[] b) {
+                    return compareBytes(a, 0, a.length, b, 0, b.length);
+                }
+            });
+
+            int total = 0;
+            int unique = 0;
+            byte[] previous = null;
+            for (byte[] name : names) {
+                if (previous == null || compareBytes(previous, 0, previous.length, name, 0, name.length) != 0) {
+                    total += name.length;
+                    unique++;
+                }
+                previous = name;
+            }
+
+            byte[] bytes = new byte[total];
+            int[] offsets = new int[unique + 1];
+            int position = 0;
+            int index = 0;
+            previous = null;
+            for (byte[] name : names) {
+                if (previous == null || compareBytes(previous, 0, previous.length, name, 0, name.length) != 0) {
+                    offsets[index++] = position;
+                    System.arraycopy(name, 0, bytes, position, name.length);
+                    position += name.length;
+                }
+                previous = name;
+            }
+            offsets[unique] = position;
+            return new Arena(bytes, offsets);
+        }
+    }
+}
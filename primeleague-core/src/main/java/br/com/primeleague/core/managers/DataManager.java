@@ -1,7 +1,13 @@
 package br.com.primeleague.core.managers;
 
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.cluster.InvalidationBus;
+import br.com.primeleague.core.cluster.InvalidationEvent;
+import br.com.primeleague.core.models.PlayerIdentity;
 import br.com.primeleague.core.models.PlayerProfile;
+import br.com.primeleague.core.profile.ProfileWriteBehindStore;
+import br.com.primeleague.core.subscription.SubscriptionCache;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 
@@ -11,9 +17,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import org.bukkit.entity.Player;
 import java.sql.Timestamp;
@@ -33,6 +41,8 @@ public final class DataManager {
     private final Map<UUID, PlayerProfile> profileCache = new ConcurrentHashMap<UUID, PlayerProfile>();
     private final Set<UUID> loadingProfiles = Collections.newSetFromMap(new ConcurrentHashMap<UUID, Boolean>());
     private HikariDataSource dataSource;
+    private ProfileWriteBehindStore writeBehindStore;
+    private final SubscriptionCache subscriptionCache;
     
     // TRADUTOR DE IDENTIDADE: Mapeia UUID do Bukkit para UUID canônico
     private final Map<UUID, UUID> bukkitToCanonicalUuidMap = new ConcurrentHashMap<>();
@@ -54,6 +64,15 @@ public final class DataManager {
             "ON DUPLICATE KEY UPDATE name = VALUES(name), elo = VALUES(elo), money = VALUES(money), " +
             "total_playtime = VALUES(total_playtime), last_seen = VALUES(last_seen), total_logins = VALUES(total_logins), status = VALUES(status)";
 
+    // UPSERT do write-behind: no UPDATE, só sobrescreve as colunas marcadas como sujas
+    private static final String UPSERT_DIRTY_PLAYER_SQL =
+            "INSERT INTO player_data (uuid, name, elo, money, total_playtime, last_seen, total_logins, status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE name = IF(?, VALUES(name), name), elo = IF(?, VALUES(elo), elo), " +
+            "money = IF(?, VALUES(money), money), total_playtime = IF(?, VALUES(total_playtime), total_playtime), " +
+            "last_seen = IF(?, VALUES(last_seen), last_seen), total_logins = IF(?, VALUES(total_logins), total_logins), " +
+            "status = IF(?, VALUES(status), status)";
+
     // SQLs para funcionalidades P2P (refatorados)
     private static final String SELECT_PLAYER_BY_NAME_SQL =
             "SELECT uuid, name, elo, money, total_playtime, last_seen, total_logins, status FROM player_data WHERE name = ? LIMIT 1";
@@ -82,8 +101,51 @@ public final class DataManager {
             "ELSE DATE_ADD(subscription_expires_at, INTERVAL ? DAY) " +
             "END WHERE discord_id = ?";
 
+    private static final String SELECT_DISCORD_SUBSCRIPTION_SQL =
+            "SELECT donor_tier, donor_tier_expires_at, subscription_expires_at FROM discord_users WHERE discord_id = ?";
+    
+    private static final String COUNT_DISCORD_LINKS_SQL =
+            "SELECT COUNT(*) as count FROM discord_links WHERE discord_id = ? AND verified = TRUE";
+    
+    private static final String SELECT_PLAYER_LINK_BY_UUID_SQL =
+            "SELECT pd.player_id, dl.discord_id FROM player_data pd " +
+            "LEFT JOIN discord_links dl ON dl.player_id = pd.player_id AND dl.verified = TRUE " +
+            "WHERE pd.uuid = ? LIMIT 1";
+
     public DataManager(PrimeLeagueCore plugin) {
         this.plugin = plugin;
+        this.subscriptionCache = new SubscriptionCache(
+            plugin.getConfig().getInt("subscription_cache.ttl_seconds", 300),
+            plugin.getConfig().getInt("subscription_cache.max_entries", 20000),
+            plugin.getMetricsRegistry());
+        subscribeInvalidations(plugin.getInvalidationBus());
+    }
+
+    /**
+     * Aplica invalidações vindas de outros servidores no cache de perfis e de assinaturas.
+     * Perfis de jogadores conectados aqui não são descartados: este nó é o dono deles.
+     */
+    private void subscribeInvalidations(InvalidationBus bus) {
+        bus.subscribe(InvalidationEvent.Type.PROFILE_CHANGED, event -> {
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(event.getKey());
+            } catch (IllegalArgumentException e) {
+                return;
+            }
+            if (!bukkitToCanonicalUuidMap.containsValue(uuid) && !loadingProfiles.contains(uuid)) {
+                profileCache.remove(uuid);
+            }
+        });
+        bus.subscribe(InvalidationEvent.Type.SUBSCRIPTION_CHANGED, event -> {
+            String discordId = event.getKey().isEmpty() ? null : event.getKey();
+            subscriptionCache.invalidateDiscord(discordId);
+            if (event.getValue() >= 0) {
+                subscriptionCache.invalidatePlayer((int) event.getValue());
+            } else if (discordId == null) {
+                subscriptionCache.invalidatePlayer(null);
+            }
+        });
     }
 
     public void connect() {
@@ -100,7 +162,7 @@ public final class DataManager {
         cfg.setUsername(user);
         cfg.setPassword(password);
         cfg.setConnectionTestQuery(testQuery);
-        cfg.setMaximumPoolSize(plugin.getConfig().getInt("database.pool.maximumPoolSize", 10));
+        cfg.setMaximumPoolSize(plugin.getConfig().getInt("database.pool.maximumPoolSize", 24));
         cfg.setMinimumIdle(plugin.getConfig().getInt("database.pool.minimumIdle", 2));
         cfg.setConnectionTimeout(plugin.getConfig().getLong("database.pool.connectionTimeoutMs", 10000L));
         cfg.setIdleTimeout(plugin.getConfig().getLong("database.pool.idleTimeoutMs", 600000L));
@@ -110,9 +172,39 @@ public final class DataManager {
         cfg.addDataSourceProperty("cachePrepStmts", "true");
         cfg.addDataSourceProperty("prepStmtCacheSize", "250");
         cfg.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        // Reescreve lotes JDBC em INSERTs multi-linha (write-behind de perfis)
+        cfg.addDataSourceProperty("rewriteBatchedStatements", "true");
 
         this.dataSource = new HikariDataSource(cfg);
         plugin.getLogger().info("Pool de conexões inicializado.");
+
+        // Write-behind de perfis (flush em lote por thread dedicada)
+        this.writeBehindStore = new ProfileWriteBehindStore(this, plugin.getLogger(),
+                plugin.getConfig().getLong("database.write_behind.flush_interval_ms", 5000L),
+                plugin.getConfig().getInt("database.write_behind.batch_size", 100));
+        this.writeBehindStore.start();
+    }
+
+    /**
+     * Grava sincronamente os perfis pendentes e para o flusher.
+     * Deve ser chamado no desligamento, antes de disconnect().
+     */
+    public void shutdownWriteBehind() {
+        if (this.writeBehindStore != null) {
+            this.writeBehindStore.shutdown();
+        }
+    }
+
+    public ProfileWriteBehindStore getWriteBehindStore() {
+        return this.writeBehindStore;
+    }
+
+    /**
+     * Perfil ainda não persistido pelo write-behind, se houver.
+     * Tem precedência sobre o banco, que pode estar defasado até o próximo flush.
+     */
+    private PlayerProfile getPendingProfile(UUID uuid) {
+        return writeBehindStore != null ? writeBehindStore.getPending(uuid) : null;
     }
 
     public void disconnect() {
@@ -141,23 +233,53 @@ public final class DataManager {
             return null;
         }
         
-        String sql = "SELECT uuid FROM player_data WHERE name = ? LIMIT 1";
-        
+        // Resolvido pelo IdentityManager (memória, LRU offline e cache negativo antes do banco)
+        PlayerIdentity identity = plugin.getIdentityManager().resolveByName(playerName);
+        return identity != null ? getCanonicalUuid(identity.getUuid()) : null;
+    }
+    
+    /**
+     * Carrega a identidade (player_id, UUID e nome) de um jogador pelo nome.
+     * Suporte para o IdentityManager; os demais devem usar IdentityManager.resolveByName.
+     * 
+     * @param playerName Nome do jogador
+     * @return Identidade ou null se não encontrado
+     * @throws SQLException em erro de banco (não deve gerar cache negativo)
+     */
+    public PlayerIdentity loadIdentityByName(String playerName) throws SQLException {
         try (Connection conn = getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT player_id, uuid, name FROM player_data WHERE name = ? LIMIT 1")) {
             
-            ps.setString(1, playerName.trim());
+            ps.setString(1, playerName);
+            return readIdentity(ps);
+        }
+    }
+    
+    /**
+     * Carrega a identidade (player_id, UUID e nome) de um jogador pelo player_id.
+     * Suporte para o IdentityManager; os demais devem usar IdentityManager.resolveById.
+     * 
+     * @param playerId ID numérico do jogador
+     * @return Identidade ou null se não encontrado
+     * @throws SQLException em erro de banco
+     */
+    public PlayerIdentity loadIdentityById(int playerId) throws SQLException {
+        try (Connection conn = getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     "SELECT player_id, uuid, name FROM player_data WHERE player_id = ? LIMIT 1")) {
             
-            try (ResultSet rs = ps.executeQuery()) {
-                if (rs.next()) {
-                    return UUID.fromString(rs.getString("uuid"));
-                }
+            ps.setInt(1, playerId);
+            return readIdentity(ps);
+        }
+    }
+    
+    private PlayerIdentity readIdentity(PreparedStatement ps) throws SQLException {
+        try (ResultSet rs = ps.executeQuery()) {
+            if (rs.next()) {
+                return new PlayerIdentity(rs.getInt("player_id"), UUID.fromString(rs.getString("uuid")), rs.getString("name"));
             }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().warning("Erro ao buscar UUID do jogador " + playerName + ": " + e.getMessage());
         }
-        
         return null;
     }
 
@@ -169,6 +291,11 @@ public final class DataManager {
      */
     public void loadPlayerProfileWithCreation(UUID uuid, String playerName) {
         // Evento de pré-login é assíncrono; esta chamada é bloqueante mas fora do main thread
+        PlayerProfile pendingProfile = getPendingProfile(uuid);
+        if (pendingProfile != null) {
+            this.profileCache.put(uuid, pendingProfile);
+            return;
+        }
         try {
             PlayerProfile profile = null;
             Connection conn = getConnection();
@@ -213,6 +340,7 @@ public final class DataManager {
                             // Salvar novo perfil no banco de dados
                             saveNewPlayerProfile(profile);
                         }
+                        profile.markClean();
                     } finally {
                         rs.close();
                     }
@@ -237,14 +365,14 @@ public final class DataManager {
      * @param callback Callback para receber o resultado
      */
     public void loadPlayerProfileWithCreationAsync(UUID uuid, String playerName, java.util.function.Consumer<PlayerProfile> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "profile.loadPlayerProfileWithCreation", () -> {
             loadPlayerProfileWithCreation(uuid, playerName);
             
             // Obter o perfil do cache após a operação
             PlayerProfile profile = profileCache.get(uuid);
             
             // Retornar para a thread principal
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(profile);
             });
         });
@@ -258,6 +386,10 @@ public final class DataManager {
      * @return PlayerProfile se existir, null se não existir
      */
     public PlayerProfile loadPlayerProfile(UUID uuid) {
+        PlayerProfile pendingProfile = getPendingProfile(uuid);
+        if (pendingProfile != null) {
+            return pendingProfile;
+        }
         try {
             PlayerProfile profile = null;
             Connection conn = getConnection();
@@ -286,9 +418,7 @@ public final class DataManager {
                             } else {
                                 profile.setStatus(PlayerProfile.PlayerStatus.ACTIVE);
                             }
-                            
-                            
-                            
+                            profile.markClean();
                         }
                         // Se não existir, retorna null (NÃO cria automaticamente)
                     } finally {
@@ -315,11 +445,11 @@ public final class DataManager {
      * @param callback Callback para receber o resultado
      */
     public void loadPlayerProfileAsync(UUID uuid, java.util.function.Consumer<PlayerProfile> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "profile.loadPlayerProfile", () -> {
             PlayerProfile profile = loadPlayerProfile(uuid);
             
             // Retornar para a thread principal
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(profile);
             });
         });
@@ -384,6 +514,7 @@ public final class DataManager {
                             // Salvar novo perfil no banco de dados
                             saveNewPlayerProfile(profile);
                         }
+                        profile.markClean();
                     } finally {
                         rs.close();
                     }
@@ -394,6 +525,13 @@ public final class DataManager {
                 conn.close();
             }
             
+            // Alterações ainda não gravadas pelo write-behind prevalecem sobre o banco
+            PlayerProfile pendingProfile = getPendingProfile(uuid);
+            if (pendingProfile != null) {
+                pendingProfile.setClanId(profile.getClanId());
+                profile = pendingProfile;
+            }
+            
             // Atualizar cache
             this.profileCache.put(uuid, profile);
             return profile;
@@ -405,21 +543,33 @@ public final class DataManager {
         }
     }
 
+    /**
+     * Agenda a persistência do perfil no write-behind e o remove do cache.
+     * Perfis sem alterações não geram escrita; várias chamadas antes do próximo
+     * flush resultam em uma única linha no lote.
+     *
+     * @param profile O perfil a ser salvo
+     */
     public void savePlayerProfileAsync(final PlayerProfile profile) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, new Runnable() {
-            @Override
-            public void run() {
-                try {
-                    savePlayerProfileSync(profile);
-                } finally {
-                    // Remoção atômica: evita apagar perfil novo carregado em relogin rápido
-                    profileCache.remove(profile.getUuid(), profile);
-                }
-            }
-        });
+        if (writeBehindStore != null) {
+            writeBehindStore.enqueue(profile);
+        } else {
+            savePlayerProfileSync(profile);
+        }
+        // Remoção atômica: evita apagar perfil novo carregado em relogin rápido
+        profileCache.remove(profile.getUuid(), profile);
     }
 
+    /**
+     * Persiste o perfil imediatamente (linha completa), sem passar pelo write-behind.
+     *
+     * @param profile O perfil a ser salvo
+     */
     public void savePlayerProfileSync(final PlayerProfile profile) {
+        if (writeBehindStore != null) {
+            writeBehindStore.discard(profile);
+        }
+        int dirtyFields = profile.consumeDirtyFields();
         try {
             Connection conn = getConnection();
             try {
@@ -438,6 +588,7 @@ public final class DataManager {
                     ps.setInt(7, profile.getTotalLogins());
                     ps.setString(8, profile.getStatus().name());
                     ps.executeUpdate();
+                    plugin.getInvalidationBus().publish(InvalidationEvent.Type.PROFILE_CHANGED, profile.getUuid().toString());
                 } finally {
                     ps.close();
                 }
@@ -446,6 +597,64 @@ public final class DataManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().severe("Falha ao salvar perfil: " + profile.getUuid() + " - " + e.getMessage());
+            // Mantém as alterações para o próximo flush
+            profile.markDirty(dirtyFields);
+            if (writeBehindStore != null) {
+                writeBehindStore.enqueue(profile);
+            }
+        }
+    }
+
+    /**
+     * Grava um lote de perfis em uma única conexão (JDBC batch).
+     * Usado pelo ProfileWriteBehindStore; só as colunas marcadas em cada máscara
+     * são sobrescritas quando a linha já existe.
+     *
+     * @param profiles Perfis a gravar
+     * @param dirtyMasks Máscara de campos sujos de cada perfil (mesma ordem)
+     * @throws SQLException Se o lote falhar; nenhum perfil do lote é confirmado
+     */
+    public void savePlayerProfilesBatch(List<PlayerProfile> profiles, List<Integer> dirtyMasks) throws SQLException {
+        if (profiles.isEmpty()) {
+            return;
+        }
+        try (Connection conn = getConnection()) {
+            boolean autoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(UPSERT_DIRTY_PLAYER_SQL)) {
+                for (int i = 0; i < profiles.size(); i++) {
+                    PlayerProfile profile = profiles.get(i);
+                    int mask = dirtyMasks.get(i);
+                    ps.setString(1, profile.getUuid().toString());
+                    ps.setString(2, profile.getPlayerName());
+                    ps.setInt(3, profile.getElo());
+                    ps.setBigDecimal(4, profile.getMoney());
+                    ps.setLong(5, profile.getTotalPlaytime());
+                    ps.setTimestamp(6, new java.sql.Timestamp(profile.getLastSeen() != null
+                            ? profile.getLastSeen().getTime() : System.currentTimeMillis()));
+                    ps.setInt(7, profile.getTotalLogins());
+                    ps.setString(8, profile.getStatus().name());
+                    ps.setBoolean(9, (mask & PlayerProfile.DIRTY_NAME) != 0);
+                    ps.setBoolean(10, (mask & PlayerProfile.DIRTY_ELO) != 0);
+                    ps.setBoolean(11, (mask & PlayerProfile.DIRTY_MONEY) != 0);
+                    ps.setBoolean(12, (mask & PlayerProfile.DIRTY_PLAYTIME) != 0);
+                    ps.setBoolean(13, (mask & PlayerProfile.DIRTY_LAST_SEEN) != 0);
+                    ps.setBoolean(14, (mask & PlayerProfile.DIRTY_LOGINS) != 0);
+                    ps.setBoolean(15, (mask & PlayerProfile.DIRTY_STATUS) != 0);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(autoCommit);
+            }
+        }
+        InvalidationBus bus = plugin.getInvalidationBus();
+        for (PlayerProfile profile : profiles) {
+            bus.publish(InvalidationEvent.Type.PROFILE_CHANGED, profile.getUuid().toString());
         }
     }
 
@@ -495,6 +704,13 @@ public final class DataManager {
             return cachedProfile;
         }
         
+        // Perfil aguardando flush do write-behind
+        PlayerProfile pendingProfile = getPendingProfile(uuid);
+        if (pendingProfile != null) {
+            profileCache.put(uuid, pendingProfile);
+            return pendingProfile;
+        }
+        
         // Se não está no cache, carregar do banco
         PlayerProfile profile = loadOfflinePlayerProfile(uuid);
         if (profile != null) {
@@ -547,7 +763,8 @@ public final class DataManager {
                     profile.setMoney(rs.getBigDecimal("money"));
                     profile.setClanId(null); // clan_id não existe mais em player_data
                     profile.setTotalPlaytime(rs.getLong("total_playtime"));
-                    // subscription_expires_at agora está em discord_usersprofile.setLastSeen(rs.getTimestamp("last_seen"));
+                    // subscription_expires_at agora está em discord_users
+                    profile.setLastSeen(rs.getTimestamp("last_seen"));
                     profile.setTotalLogins(rs.getInt("total_logins"));
                     
                     String statusStr = rs.getString("status");
@@ -557,7 +774,14 @@ public final class DataManager {
                         profile.setStatus(PlayerProfile.PlayerStatus.ACTIVE);
                     }
                     
-                    // Dados de doador agora estão em discord_users// Adicionar ao cache
+                    // Dados de doador agora estão em discord_users
+                    // Adicionar ao cache
+                    PlayerProfile pendingProfile = getPendingProfile(uuid);
+                    if (pendingProfile != null) {
+                        profile = pendingProfile;
+                    } else {
+                        profile.markClean();
+                    }
                     profileCache.put(uuid, profile);
                     return profile;
                 }
@@ -588,7 +812,8 @@ public final class DataManager {
                     profile.setMoney(rs.getBigDecimal("money"));
                     profile.setClanId(null); // clan_id não existe mais em player_data
                     profile.setTotalPlaytime(rs.getLong("total_playtime"));
-                    // subscription_expires_at agora está em discord_usersprofile.setLastSeen(rs.getTimestamp("last_seen"));
+                    // subscription_expires_at agora está em discord_users
+                    profile.setLastSeen(rs.getTimestamp("last_seen"));
                     profile.setTotalLogins(rs.getInt("total_logins"));
                     
                     String statusStr = rs.getString("status");
@@ -598,7 +823,9 @@ public final class DataManager {
                         profile.setStatus(PlayerProfile.PlayerStatus.ACTIVE);
                     }
                     
-                    // Dados de doador agora estão em discord_usersreturn profile;
+                    // Dados de doador agora estão em discord_users
+                    profile.markClean();
+                    return profile;
                 }
             }
         } catch (SQLException e) {
@@ -627,7 +854,8 @@ public final class DataManager {
                     profile.setMoney(rs.getBigDecimal("money"));
                     profile.setClanId(null); // clan_id não existe mais em player_data
                     profile.setTotalPlaytime(rs.getLong("total_playtime"));
-                    // subscription_expires_at agora está em discord_usersprofile.setLastSeen(rs.getTimestamp("last_seen"));
+                    // subscription_expires_at agora está em discord_users
+                    profile.setLastSeen(rs.getTimestamp("last_seen"));
                     profile.setTotalLogins(rs.getInt("total_logins"));
                     
                     String statusStr = rs.getString("status");
@@ -637,7 +865,9 @@ public final class DataManager {
                         profile.setStatus(PlayerProfile.PlayerStatus.ACTIVE);
                     }
                     
-                    // Dados de doador agora estão em discord_usersreturn profile;
+                    // Dados de doador agora estão em discord_users
+                    profile.markClean();
+                    return profile;
                 }
             }
         } catch (SQLException e) {
@@ -661,6 +891,7 @@ public final class DataManager {
      */
     public void clearCache() {
         profileCache.clear();
+        subscriptionCache.clear();
     }
     
     /**
@@ -718,7 +949,8 @@ public final class DataManager {
                     // clan_id não existe mais em player_data
                     profile.setClanId(null);
                     profile.setTotalPlaytime(rs.getLong("total_playtime"));
-                    // subscription_expires_at agora está em discord_usersprofile.setLastSeen(rs.getTimestamp("last_seen"));
+                    // subscription_expires_at agora está em discord_users
+                    profile.setLastSeen(rs.getTimestamp("last_seen"));
                     profile.setTotalLogins(rs.getInt("total_logins"));
                     
                     String statusStr = rs.getString("status");
@@ -727,6 +959,7 @@ public final class DataManager {
                     } else {
                         profile.setStatus(PlayerProfile.PlayerStatus.ACTIVE);
                     }
+                    profile.markClean();
                     return profile;
                 }
             }
@@ -756,7 +989,8 @@ public final class DataManager {
                     profile.setElo(rs.getInt("elo"));
                     profile.setMoney(rs.getBigDecimal("money"));
                     profile.setTotalPlaytime(rs.getLong("total_playtime"));
-                    // subscription_expires_at agora está em discord_usersprofile.setLastSeen(rs.getTimestamp("last_seen"));
+                    // subscription_expires_at agora está em discord_users
+                    profile.setLastSeen(rs.getTimestamp("last_seen"));
                     profile.setTotalLogins(rs.getInt("total_logins"));
                     
                     String statusStr = rs.getString("status");
@@ -773,6 +1007,7 @@ public final class DataManager {
                     } else {
                         profile.setClanId(null);
                     }
+                    profile.markClean();
                     return profile;
                 }
             }
@@ -841,6 +1076,7 @@ public final class DataManager {
             stmt.setInt(2, playerId.intValue());
             
             int affectedRows = stmt.executeUpdate();
+            invalidateSubscriptionCache(discordId.trim(), playerId);
             return affectedRows > 0;
             
         } catch (SQLException e) {
@@ -876,6 +1112,7 @@ public final class DataManager {
             stmt.setString(2, playerUuid.toString());
             
             int affectedRows = stmt.executeUpdate();
+            invalidatePlayerSubscription(playerUuid);
             return affectedRows > 0;
             
         } catch (SQLException e) {
@@ -911,6 +1148,7 @@ public final class DataManager {
             stmt.setString(3, playerUuid.toString());
             
             int affectedRows = stmt.executeUpdate();
+            invalidatePlayerSubscription(playerUuid);
             return affectedRows > 0;
             
         } catch (SQLException e) {
@@ -1032,22 +1270,8 @@ public final class DataManager {
      * @return player_id ou null se não encontrado
      */
     public Integer getPlayerIdByName(String playerName) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT player_id FROM player_data WHERE name = ? LIMIT 1")) {
-            
-            stmt.setString(1, playerName);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt("player_id");
-                }
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar player_id por nome: " + e.getMessage());
-        }
-        
-        return null;
+        PlayerIdentity identity = plugin.getIdentityManager().resolveByName(playerName);
+        return identity != null ? identity.getPlayerId() : null;
     }
     
     /**
@@ -1122,6 +1346,7 @@ public final class DataManager {
             stmt.setString(1, status);
             stmt.setString(2, discordId);
             stmt.executeUpdate();
+            invalidateSubscriptionCache(discordId, null);
             
             plugin.getLogger().info("[DATA-MANAGER] Status Discord atualizado para " + discordId + ": " + status);
             
@@ -1164,22 +1389,8 @@ public final class DataManager {
      * @return Número de contas vinculadas
      */
     public int getDiscordLinkCount(String discordId) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT COUNT(*) as count FROM discord_links WHERE discord_id = ? AND verified = TRUE")) {
-            
-            stmt.setString(1, discordId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt("count");
-                }
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao contar links Discord: " + e.getMessage());
-        }
-        
-        return 0;
+        SubscriptionCache.DiscordSubscription subscription = getDiscordSubscription(discordId);
+        return subscription != null ? subscription.getLinkCount() : 0;
     }
     
     /**
@@ -1190,22 +1401,8 @@ public final class DataManager {
      * @return donor tier ou 0 se não encontrado
      */
     public int getDonorTierByDiscordId(String discordId) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT donor_tier FROM discord_users WHERE discord_id = ?")) {
-            
-            stmt.setString(1, discordId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt("donor_tier");
-                }
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar donor tier por Discord ID: " + e.getMessage());
-        }
-        
-        return 0;
+        SubscriptionCache.DiscordSubscription subscription = getDiscordSubscription(discordId);
+        return subscription != null && subscription.exists() ? subscription.getDonorTier() : 0;
     }
 
     /**
@@ -1215,9 +1412,9 @@ public final class DataManager {
      * @param callback Callback para receber o resultado
      */
     public void getDonorTierByDiscordIdAsync(String discordId, java.util.function.Consumer<Integer> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "profile.getDonorTierByDiscordId", () -> {
             int tier = getDonorTierByDiscordId(discordId);
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(tier);
             });
         });
@@ -1231,22 +1428,8 @@ public final class DataManager {
      * @return data de expiração da assinatura ou null se não encontrado
      */
     public java.sql.Timestamp getSharedSubscriptionByDiscordId(String discordId) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT subscription_expires_at FROM discord_users WHERE discord_id = ?")) {
-            
-            stmt.setString(1, discordId);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getTimestamp("subscription_expires_at");
-                }
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar assinatura compartilhada por Discord ID: " + e.getMessage());
-        }
-        
-        return null;
+        SubscriptionCache.DiscordSubscription subscription = getDiscordSubscription(discordId);
+        return subscription != null && subscription.exists() ? subscription.getSubscriptionExpiresAt() : null;
     }
     
     /**
@@ -1281,26 +1464,9 @@ public final class DataManager {
      * @return true se tem assinatura ativa, false caso contrário
      */
     public boolean hasActiveSubscription(UUID playerUuid) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT du.subscription_expires_at " +
-                     "FROM discord_users du " +
-                     "JOIN discord_links dl ON du.discord_id = dl.discord_id " +
-                     "JOIN player_data pd ON dl.player_id = pd.player_id " +
-                     "WHERE pd.uuid = ? AND dl.verified = TRUE " +
-                     "AND du.subscription_expires_at > NOW() " +
-                     "LIMIT 1")) {
-            
-            stmt.setString(1, playerUuid.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                return rs.next(); // Retorna true se encontrou uma assinatura ativa
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao verificar assinatura ativa para " + playerUuid + ": " + e.getMessage());
-        }
-        
-        return false;
+        // Expiração calculada em memória a partir do timestamp cacheado
+        SubscriptionCache.DiscordSubscription subscription = getPlayerSubscription(playerUuid);
+        return subscription != null && subscription.isActive(System.currentTimeMillis());
     }
 
     /**
@@ -1310,9 +1476,9 @@ public final class DataManager {
      * @param callback Callback para receber o resultado
      */
     public void hasActiveSubscriptionAsync(UUID playerUuid, java.util.function.Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "profile.hasActiveSubscription", () -> {
             boolean hasActive = hasActiveSubscription(playerUuid);
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(hasActive);
             });
         });
@@ -1386,27 +1552,8 @@ public final class DataManager {
      * @return Timestamp da expiração ou null se não encontrado
      */
     public java.sql.Timestamp getSubscriptionExpiry(UUID playerUuid) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT du.subscription_expires_at " +
-                     "FROM discord_users du " +
-                     "JOIN discord_links dl ON du.discord_id = dl.discord_id " +
-                     "JOIN player_data pd ON dl.player_id = pd.player_id " +
-                     "WHERE pd.uuid = ? AND dl.verified = TRUE " +
-                     "LIMIT 1")) {
-            
-            stmt.setString(1, playerUuid.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getTimestamp("subscription_expires_at");
-                }
-            }
-            
-        } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar expiração da assinatura para " + playerUuid + ": " + e.getMessage());
-        }
-        
-        return null;
+        SubscriptionCache.DiscordSubscription subscription = getPlayerSubscription(playerUuid);
+        return subscription != null && subscription.exists() ? subscription.getSubscriptionExpiresAt() : null;
     }
     
     /**
@@ -1416,42 +1563,153 @@ public final class DataManager {
      * @return Tier de doador ou null se não encontrado
      */
     public Integer getDonorTier(UUID playerUuid) {
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(
-                     "SELECT du.donor_tier " +
-                     "FROM discord_users du " +
-                     "JOIN discord_links dl ON du.discord_id = dl.discord_id " +
-                     "JOIN player_data pd ON dl.player_id = pd.player_id " +
-                     "WHERE pd.uuid = ? AND dl.verified = TRUE " +
-                     "LIMIT 1")) {
+        SubscriptionCache.DiscordSubscription subscription = getPlayerSubscription(playerUuid);
+        return subscription != null && subscription.exists() ? Integer.valueOf(subscription.getDonorTier()) : null;
+    }
+
+    /**
+     * Obtém o tier de doador de um jogador de forma ASSÍNCRONA.
+     * 
+     * @param playerUuid UUID do jogador
+     * @param callback Callback para receber o resultado
+     */
+    public void getDonorTierAsync(UUID playerUuid, java.util.function.Consumer<Integer> callback) {
+        getDonorTierAsync(playerUuid).thenAcceptAsync(callback, plugin.getDbExecutor().mainThread());
+    }
+
+    /**
+     * Obtém o tier de doador de um jogador como future concluído na thread do
+     * executor de banco (para compor fluxos sem voltar à thread principal).
+     * 
+     * @param playerUuid UUID do jogador
+     * @return Future com o tier ou null se não encontrado / erro de banco
+     */
+    public CompletableFuture<Integer> getDonorTierAsync(UUID playerUuid) {
+        return plugin.getDbExecutor().supplyAsync(DbExecutor.Priority.INTERACTIVE, "profile.getDonorTier", () -> getDonorTier(playerUuid))
+            .exceptionally(e -> null);
+    }
+    
+    // ===== CACHE DE ASSINATURAS (READ-THROUGH) =====
+    
+    /**
+     * Assinatura compartilhada de um Discord ID (cache → banco).
+     * 
+     * @param discordId Discord ID do usuário
+     * @return Assinatura (exists() = false se não há linha em discord_users) ou null em erro de banco
+     */
+    public SubscriptionCache.DiscordSubscription getDiscordSubscription(String discordId) {
+        if (discordId == null) {
+            return null;
+        }
+        SubscriptionCache.DiscordSubscription cached = subscriptionCache.getDiscord(discordId);
+        if (cached != null) {
+            return cached;
+        }
+        
+        long generation = subscriptionCache.generation();
+        try (Connection conn = dataSource.getConnection()) {
+            boolean exists = false;
+            int donorTier = 0;
+            long donorTierExpiresAt = 0;
+            long subscriptionExpiresAt = 0;
+            try (PreparedStatement stmt = conn.prepareStatement(SELECT_DISCORD_SUBSCRIPTION_SQL)) {
+                stmt.setString(1, discordId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        exists = true;
+                        donorTier = rs.getInt("donor_tier");
+                        Timestamp tierExpiry = rs.getTimestamp("donor_tier_expires_at");
+                        Timestamp subscriptionExpiry = rs.getTimestamp("subscription_expires_at");
+                        donorTierExpiresAt = tierExpiry != null ? tierExpiry.getTime() : 0;
+                        subscriptionExpiresAt = subscriptionExpiry != null ? subscriptionExpiry.getTime() : 0;
+                    }
+                }
+            }
             
-            stmt.setString(1, playerUuid.toString());
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt("donor_tier");
+            int linkCount = 0;
+            try (PreparedStatement stmt = conn.prepareStatement(COUNT_DISCORD_LINKS_SQL)) {
+                stmt.setString(1, discordId);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (rs.next()) {
+                        linkCount = rs.getInt("count");
+                    }
                 }
             }
             
+            SubscriptionCache.DiscordSubscription loaded = new SubscriptionCache.DiscordSubscription(
+                discordId, exists, donorTier, donorTierExpiresAt, subscriptionExpiresAt, linkCount);
+            subscriptionCache.putDiscord(loaded, generation);
+            return loaded;
+            
         } catch (SQLException e) {
-            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar tier de doador para " + playerUuid + ": " + e.getMessage());
+            plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar assinatura por Discord ID " + discordId + ": " + e.getMessage());
+            return null;
         }
-        
-        return null;
     }
-
+    
     /**
-     * Obtém o tier de doador de um jogador de forma ASSÍNCRONA.
+     * Assinatura do Discord ID vinculado (verificado) a um jogador (cache → banco).
      * 
      * @param playerUuid UUID do jogador
-     * @param callback Callback para receber o resultado
+     * @return Assinatura ou null se o jogador não tem vínculo, não existe ou houve erro de banco
      */
-    public void getDonorTierAsync(UUID playerUuid, java.util.function.Consumer<Integer> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            Integer tier = getDonorTier(playerUuid);
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                callback.accept(tier);
-            });
-        });
+    public SubscriptionCache.DiscordSubscription getPlayerSubscription(UUID playerUuid) {
+        if (playerUuid == null) {
+            return null;
+        }
+        Integer playerId = plugin.getIdentityManager() != null
+            ? plugin.getIdentityManager().getPlayerIdByUuid(playerUuid) : null;
+        SubscriptionCache.PlayerLink link = playerId != null ? subscriptionCache.getPlayerLink(playerId) : null;
+        
+        if (link == null) {
+            long generation = subscriptionCache.generation();
+            try (Connection conn = dataSource.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(SELECT_PLAYER_LINK_BY_UUID_SQL)) {
+                
+                stmt.setString(1, playerUuid.toString());
+                try (ResultSet rs = stmt.executeQuery()) {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    link = new SubscriptionCache.PlayerLink(rs.getInt("player_id"), rs.getString("discord_id"));
+                }
+                subscriptionCache.putPlayerLink(link, generation);
+                
+            } catch (SQLException e) {
+                plugin.getLogger().severe("🚨 [DATA-MANAGER] Erro ao buscar vínculo Discord para " + playerUuid + ": " + e.getMessage());
+                return null;
+            }
+        }
+        
+        return link.getDiscordId() != null ? getDiscordSubscription(link.getDiscordId()) : null;
+    }
+    
+    /**
+     * Invalida o cache de assinaturas após escritas externas (ex: verificação de vínculo no P2P).
+     * 
+     * @param discordId Discord ID afetado (pode ser null)
+     * @param playerId player_id afetado (pode ser null)
+     */
+    public void invalidateSubscriptionCache(String discordId, Integer playerId) {
+        subscriptionCache.invalidateDiscord(discordId);
+        if (playerId != null) {
+            subscriptionCache.invalidatePlayer(playerId);
+        }
+        if (discordId != null || playerId != null) {
+            plugin.getInvalidationBus().publish(InvalidationEvent.Type.SUBSCRIPTION_CHANGED,
+                discordId, playerId != null ? playerId : -1L);
+        }
+    }
+    
+    /**
+     * Invalida a assinatura vinculada a um jogador (escritas por UUID).
+     */
+    private void invalidatePlayerSubscription(UUID playerUuid) {
+        Integer playerId = plugin.getIdentityManager() != null
+            ? plugin.getIdentityManager().getPlayerIdByUuid(playerUuid) : null;
+        subscriptionCache.invalidatePlayer(playerId);
+        plugin.getInvalidationBus().publish(InvalidationEvent.Type.SUBSCRIPTION_CHANGED,
+            null, playerId != null ? playerId : -1L);
     }
     
     /**
@@ -1476,6 +1734,7 @@ public final class DataManager {
             stmt.setString(3, discordId);
             
             int affectedRows = stmt.executeUpdate();
+            invalidateSubscriptionCache(discordId, null);
             return affectedRows > 0;
             
         } catch (SQLException e) {
@@ -1494,9 +1753,9 @@ public final class DataManager {
      * @param callback Callback para receber o resultado
      */
     public void updateDonorTierAsync(String discordId, int tier, java.util.Date expiresAt, java.util.function.Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "profile.updateDonorTier", () -> {
             boolean success = updateDonorTier(discordId, tier, expiresAt);
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(success);
             });
         });
@@ -1625,6 +1884,10 @@ public final class DataManager {
             logTransferAction(conn, playerId, oldDiscordId, newDiscordId, oldSubscription, newSubscription, ipAddress);
             
             conn.commit();
+            
+            // Vínculo e as duas assinaturas mudaram
+            invalidateSubscriptionCache(oldDiscordId, null);
+            invalidateSubscriptionCache(newDiscordId, playerId);
             return TransferResult.success("Transferência realizada com sucesso");
             
         } catch (SQLException e) {
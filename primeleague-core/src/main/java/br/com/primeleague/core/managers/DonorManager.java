@@ -1,6 +1,7 @@
 package br.com.primeleague.core.managers;
 
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.core.models.DonorLevel;
 import com.zaxxer.hikari.HikariDataSource;
 import org.bukkit.configuration.ConfigurationSection;
@@ -210,9 +211,9 @@ public final class DonorManager {
      * @param callback Callback para receber o resultado
      */
     public void updateDonorLevelAsync(UUID playerUuid, String levelKey, double totalDonation, java.util.function.Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "donor.updateDonorLevel", () -> {
             boolean success = updateDonorLevel(playerUuid, levelKey, totalDonation);
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(success);
             });
         });
@@ -255,9 +256,9 @@ public final class DonorManager {
      * @param callback Callback para receber o resultado
      */
     public void removeDonorStatusAsync(UUID playerUuid, java.util.function.Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "donor.removeDonorStatus", () -> {
             boolean success = removeDonorStatus(playerUuid);
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(success);
             });
         });
@@ -300,9 +301,9 @@ public final class DonorManager {
      * @param callback Callback para receber a lista de doadores
      */
     public void getAllDonorsAsync(java.util.function.Consumer<List<DonorInfo>> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        plugin.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "donor.getAllDonors", () -> {
             List<DonorInfo> donors = getAllDonors();
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
+            plugin.getMainThreadDispatcher().dispatch(plugin, () -> {
                 callback.accept(donors);
             });
         });
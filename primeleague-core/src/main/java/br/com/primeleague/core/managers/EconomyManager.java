@@ -1,12 +1,22 @@
 package br.com.primeleague.core.managers;
 
+import br.com.primeleague.api.models.Money;
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.cluster.InvalidationBus;
+import br.com.primeleague.core.cluster.InvalidationEvent;
+import br.com.primeleague.core.economy.DailyTransactionCounter;
+import br.com.primeleague.core.economy.EconomyAuditWriter;
+import br.com.primeleague.core.economy.EconomyLedger;
+import br.com.primeleague.core.economy.StripedLockTable;
 import br.com.primeleague.core.enums.TransactionReason;
 import br.com.primeleague.core.models.EconomyResponse;
 import br.com.primeleague.core.utils.EconomyUtils;
 import com.zaxxer.hikari.HikariDataSource;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.io.File;
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -14,21 +24,24 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 /**
  * Gerenciador centralizado da economia do Prime League V2.0.
  * 
  * Características:
- * - Controle de concorrência com ReentrantLock por player_id
+ * - Controle de concorrência com locks por stripe de player_id (tabela de tamanho fixo)
  * - Transações atômicas e seguras
- * - Auditoria completa de todas as operações
+ * - Auditoria completa de todas as operações (gravada em lote pelo EconomyAuditWriter)
  * - Cache em memória para performance
+ * - Aritmética em ponto fixo (Money, centavos em long); double/BigDecimal apenas na fachada
  * - Integração com sistema de doadores
  * - Validações anti-inflacionárias configuráveis
  * - API thread-safe para uso por outros módulos
+ * - Ledger em memória com journal durável (economy.ledger.enabled): saldos
+ *   atualizados por CAS e gravados no banco em lotes pelo EconomyLedger
  * 
  * @author PrimeLeague Team
  * @version 2.0.0
@@ -41,16 +54,23 @@ public final class EconomyManager {
     private final DonorManager donorManager;
     
     // Cache em memória para saldos (player_id -> saldo)
-    private final Map<Integer, BigDecimal> balanceCache = new ConcurrentHashMap<>();
+    private final Map<Integer, Money> balanceCache = new ConcurrentHashMap<>();
     
-    // Sistema de locks para controle de concorrência
-    private final Map<Integer, ReentrantLock> playerLocks = new ConcurrentHashMap<>();
+    // Sistema de locks para controle de concorrência (memória constante)
+    private final StripedLockTable playerLocks;
     
-    // Contadores de transações diárias por jogador
-    private final Map<Integer, Integer> dailyTransactionCounts = new ConcurrentHashMap<>();
+    // Contadores de transações diárias por jogador (zerados automaticamente a cada dia)
+    private final DailyTransactionCounter dailyTransactionCounts = new DailyTransactionCounter(32);
+    
+    // Ledger em memória (null quando desabilitado: caminho síncrono com lock por jogador)
+    private EconomyLedger ledger;
+    
+    // Gravação assíncrona em lote dos logs de auditoria (null quando logs desabilitados)
+    private EconomyAuditWriter auditWriter;
     
     // Configurações carregadas do config.yml
     private double initialBalance;
+    private long initialBalanceCents;
     private boolean enableTransactionLogs;
     private String logLevel;
     
@@ -61,10 +81,6 @@ public final class EconomyManager {
     private static final String UPDATE_BALANCE_SQL = 
         "UPDATE player_data SET money = ? WHERE player_id = ?";
     
-    private static final String INSERT_ECONOMY_LOG_SQL = 
-        "INSERT INTO economy_logs (player_id, change_type, amount, balance_before, new_balance, reason, context_info, related_player_id) " +
-        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-    
     private static final String CREATE_ECONOMY_LOGS_TABLE_SQL = 
         "CREATE TABLE IF NOT EXISTS economy_logs (" +
         "log_id INT AUTO_INCREMENT PRIMARY KEY," +
@@ -86,10 +102,14 @@ public final class EconomyManager {
         this.logger = plugin.getLogger();
         this.dataSource = plugin.getDataManager().getDataSource();
         this.donorManager = plugin.getDonorManager();
+        this.playerLocks = new StripedLockTable(plugin.getConfig().getInt("economy.lock_stripes", 256));
         
         loadConfiguration();
         initializeEconomyUtils();
         createEconomyLogsTable();
+        initializeAuditWriter();
+        initializeLedger();
+        initializeClusterSync();
         
         logger.info("🔄 [ECONOMY] EconomyManager V2.0 inicializado");
     }
@@ -101,6 +121,7 @@ public final class EconomyManager {
         FileConfiguration config = plugin.getConfig();
         
         this.initialBalance = config.getDouble("economy.initial_balance", 100.0);
+        this.initialBalanceCents = Money.toCents(initialBalance);
         this.enableTransactionLogs = config.getBoolean("economy.enable_transaction_logs", true);
         this.logLevel = config.getString("economy.log_level", "INFO");
         
@@ -150,21 +171,66 @@ public final class EconomyManager {
     }
 
     /**
-     * Obtém o lock para um player_id específico.
-     * Cria um novo lock se não existir.
+     * Inicializa a gravação em lote dos logs de auditoria.
      */
-    private ReentrantLock getPlayerLock(int playerId) {
-        ReentrantLock lock = playerLocks.get(playerId);
-        if (lock == null) {
-            lock = new ReentrantLock();
-            ReentrantLock existingLock = playerLocks.putIfAbsent(playerId, lock);
-            if (existingLock != null) {
-                lock = existingLock;
-            }
+    private void initializeAuditWriter() {
+        if (!enableTransactionLogs) {
+            return;
         }
-        return lock;
+        FileConfiguration config = plugin.getConfig();
+        this.auditWriter = new EconomyAuditWriter(dataSource, logger,
+            new File(plugin.getDataFolder(), config.getString("economy.audit.spill_file", "economy-audit-spill.log")),
+            config.getInt("economy.audit.queue_capacity", 10000),
+            config.getInt("economy.audit.batch_size", 500),
+            config.getLong("economy.audit.flush_interval_ms", 200L));
+        this.auditWriter.start();
     }
-
+    
+    /**
+     * Inicializa o ledger em memória, reaplicando o journal de uma execução anterior.
+     * Em caso de falha, a economia segue no caminho síncrono com lock por jogador.
+     */
+    private void initializeLedger() {
+        FileConfiguration config = plugin.getConfig();
+        if (!config.getBoolean("economy.ledger.enabled", true)) {
+            logger.info("ℹ️ [ECONOMY-LEDGER] Ledger desabilitado na configuração");
+            return;
+        }
+        
+        EconomyLedger created = new EconomyLedger(dataSource, logger,
+            new File(plugin.getDataFolder(), config.getString("economy.ledger.directory", "ledger")),
+            config.getInt("economy.ledger.records_per_segment", 65536),
+            config.getLong("economy.ledger.flush_interval_ms", 1000L),
+            config.getInt("economy.ledger.batch_size", 500),
+            enableTransactionLogs);
+        try {
+            created.start();
+            this.ledger = created;
+        } catch (SQLException | IOException e) {
+            logger.severe("🚨 [ECONOMY-LEDGER] Falha ao iniciar o ledger, usando gravação direta no banco: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Sincroniza saldos com outros servidores pelo barramento de invalidação.
+     * Publica após o saldo chegar ao banco (commit direto ou lote do ledger) e,
+     * ao receber, descarta a entrada local para recarregar na próxima leitura.
+     */
+    private void initializeClusterSync() {
+        final InvalidationBus bus = plugin.getInvalidationBus();
+        if (ledger != null) {
+            ledger.setFlushListener(playerId -> bus.publish(InvalidationEvent.Type.BALANCE_CHANGED, playerId));
+        }
+        bus.subscribe(InvalidationEvent.Type.BALANCE_CHANGED, event -> {
+            int playerId = event.getIntKey();
+            balanceCache.remove(playerId);
+            EconomyLedger current = ledger;
+            if (current != null) {
+                current.invalidate(playerId);
+            }
+        });
+    }
+    
     /**
      * Obtém o saldo de um jogador.
      * 
@@ -172,10 +238,44 @@ public final class EconomyManager {
      * @return Saldo atual do jogador
      */
     public BigDecimal getBalance(int playerId) {
+        return Money.toBigDecimal(getBalanceCents(playerId));
+    }
+    
+    /**
+     * Obtém o saldo de um jogador em ponto fixo.
+     * 
+     * @param playerId ID do jogador
+     * @return Saldo atual do jogador
+     */
+    public Money getBalanceMoney(int playerId) {
+        return Money.ofCents(getBalanceCents(playerId));
+    }
+    
+    /**
+     * Obtém o saldo de um jogador em centavos.
+     * 
+     * @param playerId ID do jogador
+     * @return Saldo atual em centavos
+     */
+    private long getBalanceCents(int playerId) {
+        if (ledger != null) {
+            try {
+                Long cents = ledger.getBalance(playerId);
+                if (cents != null) {
+                    return cents;
+                }
+                logger.warning("⚠️ [ECONOMY-GET] Player ID não encontrado: " + playerId + " - usando saldo inicial");
+                return initialBalanceCents;
+            } catch (SQLException e) {
+                logger.severe("🚨 [ECONOMY-GET] Erro ao buscar saldo: " + e.getMessage());
+                return 0L;
+            }
+        }
+        
         // Primeiro verificar cache
-        BigDecimal cachedBalance = balanceCache.get(playerId);
+        Money cachedBalance = balanceCache.get(playerId);
         if (cachedBalance != null) {
-            return cachedBalance;
+            return cachedBalance.getCents();
         }
         
         // Se não está no cache, buscar no banco
@@ -185,20 +285,20 @@ public final class EconomyManager {
             ps.setInt(1, playerId);
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
-                    BigDecimal balance = rs.getBigDecimal("money");
+                    Money balance = Money.of(rs.getBigDecimal("money"));
                     // Adicionar ao cache
                     balanceCache.put(playerId, balance);
-                    return balance;
+                    return balance.getCents();
                 } else {
                     // Jogador não encontrado, retornar saldo inicial
                     logger.warning("⚠️ [ECONOMY-GET] Player ID não encontrado: " + playerId + " - usando saldo inicial");
-                    return BigDecimal.valueOf(initialBalance);
+                    return initialBalanceCents;
                 }
             }
             
         } catch (SQLException e) {
             logger.severe("🚨 [ECONOMY-GET] Erro ao buscar saldo: " + e.getMessage());
-            return BigDecimal.ZERO;
+            return 0L;
         }
     }
 
@@ -210,22 +310,31 @@ public final class EconomyManager {
      * @param callback Callback para receber o resultado
      */
     public void getBalanceAsync(int playerId, java.util.function.Consumer<BigDecimal> callback) {
-        // Verificar cache primeiro (na thread principal, é seguro e rápido)
-        BigDecimal cachedBalance = balanceCache.get(playerId);
-        if (cachedBalance != null) {
-            callback.accept(cachedBalance);
+        CompletableFuture<BigDecimal> balance = getBalanceAsync(playerId);
+        if (balance.isDone()) {
+            // Cache: entrega na mesma thread, sem esperar um tick
+            callback.accept(balance.getNow(null));
             return;
         }
-        
-        // Se não está no cache, buscar no banco de forma assíncrona
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            BigDecimal balanceFromDb = getBalance(playerId); // Chama a versão síncrona fora da thread principal
-            
-            // Retorna para a thread principal para entregar o resultado
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                callback.accept(balanceFromDb);
-            });
-        });
+        balance.thenAcceptAsync(callback, plugin.getDbExecutor().mainThread());
+    }
+
+    /**
+     * Obtém o saldo de um jogador como future.
+     * Com o saldo em cache o future já vem concluído; senão conclui na thread do
+     * executor de banco, para ser composto sem voltar à thread principal.
+     * 
+     * @param playerId ID do jogador
+     * @return Future com o saldo (null em erro de banco)
+     */
+    public CompletableFuture<BigDecimal> getBalanceAsync(int playerId) {
+        Long ledgerCents = ledger != null ? ledger.getLoadedBalance(playerId) : null;
+        Money cachedBalance = ledgerCents != null ? Money.ofCents(ledgerCents) : balanceCache.get(playerId);
+        if (cachedBalance != null) {
+            return CompletableFuture.completedFuture(cachedBalance.toBigDecimal());
+        }
+        return plugin.getDbExecutor().supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.getBalance", () -> getBalance(playerId))
+            .exceptionally(e -> null);
     }
 
     /**
@@ -252,8 +361,18 @@ public final class EconomyManager {
      * @return true se tem saldo suficiente, false caso contrário
      */
     public boolean hasBalance(int playerId, double amount) {
-        BigDecimal balance = getBalance(playerId);
-        return balance.compareTo(BigDecimal.valueOf(amount)) >= 0;
+        return getBalanceCents(playerId) >= Money.toCents(amount);
+    }
+    
+    /**
+     * Verifica se um jogador tem saldo suficiente.
+     * 
+     * @param playerId ID do jogador
+     * @param amount Valor necessário
+     * @return true se tem saldo suficiente, false caso contrário
+     */
+    public boolean hasBalance(int playerId, Money amount) {
+        return getBalanceCents(playerId) >= amount.getCents();
     }
     
     /**
@@ -267,9 +386,7 @@ public final class EconomyManager {
         Integer playerId = plugin.getIdentityManager().getPlayerIdByUuid(playerUuid);
         if (playerId == null) return false;
         
-        BigDecimal balance = getBalance(playerId);
-        if (balance == null) return false;
-        return balance.compareTo(BigDecimal.valueOf(amount)) >= 0;
+        return getBalanceCents(playerId) >= Money.toCents(amount);
     }
     
     /**
@@ -281,7 +398,19 @@ public final class EconomyManager {
      * @return Resposta da operação
      */
     public EconomyResponse creditBalance(int playerId, double amount, String reason) {
-        return processTransaction(playerId, amount, TransactionReason.CREDIT, reason, null);
+        return processTransaction(playerId, Money.toCents(amount), TransactionReason.CREDIT, reason, null);
+    }
+    
+    /**
+     * Credita um valor na conta de um jogador.
+     * 
+     * @param playerId ID do jogador
+     * @param amount Valor a creditar
+     * @param reason Motivo do crédito
+     * @return Resposta da operação
+     */
+    public EconomyResponse creditBalance(int playerId, Money amount, String reason) {
+        return processTransaction(playerId, amount.getCents(), TransactionReason.CREDIT, reason, null);
     }
     
     /**
@@ -309,7 +438,19 @@ public final class EconomyManager {
      * @return Resposta da operação
      */
     public EconomyResponse debitBalance(int playerId, double amount, String reason) {
-        return processTransaction(playerId, -amount, TransactionReason.DEBIT, reason, null);
+        return processTransaction(playerId, -Money.toCents(amount), TransactionReason.DEBIT, reason, null);
+    }
+    
+    /**
+     * Debita um valor da conta de um jogador.
+     * 
+     * @param playerId ID do jogador
+     * @param amount Valor a debitar
+     * @param reason Motivo do débito
+     * @return Resposta da operação
+     */
+    public EconomyResponse debitBalance(int playerId, Money amount, String reason) {
+        return processTransaction(playerId, -amount.getCents(), TransactionReason.DEBIT, reason, null);
     }
     
     /**
@@ -348,7 +489,7 @@ public final class EconomyManager {
         
         // Calcular desconto de doador
         double discount = donorManager.getDonorDiscount(donorTier);
-        double finalPrice = originalPrice * (1.0 - discount);
+        Money finalPrice = Money.ofCents(Money.multiply(Money.toCents(originalPrice), 1.0 - discount));
         
         // Log do desconto aplicado
         if (discount > 0) {
@@ -363,24 +504,24 @@ public final class EconomyManager {
                        " - Sem desconto (Tier: " + donorTier + ")");
         }
         
-        return debitBalance(playerUuid, finalPrice, reason);
+        return debitBalance(playerId.intValue(), finalPrice, reason);
     }
     
     /**
      * Processa uma transação atômica.
      * 
      * @param playerId ID do jogador
-     * @param amount Valor da transação (positivo para crédito, negativo para débito)
+     * @param amountCents Valor da transação em centavos (positivo para crédito, negativo para débito)
      * @param reason Motivo da transação
      * @param contextInfo Informações adicionais
      * @param relatedPlayerId ID do jogador relacionado (para transferências)
      * @return Resposta da operação
      */
-    private EconomyResponse processTransaction(int playerId, double amount, TransactionReason reason, 
+    private EconomyResponse processTransaction(int playerId, long amountCents, TransactionReason reason, 
                                              String reasonText, Integer relatedPlayerId) {
         // Validações anti-inflacionárias
-        if (!EconomyUtils.isValidAmount(Math.abs(amount))) {
-            return EconomyResponse.error("Valor inválido: " + amount);
+        if (!EconomyUtils.isValidAmountCents(Math.abs(amountCents))) {
+            return EconomyResponse.error("Valor inválido: " + Money.toPlainString(amountCents));
         }
         
         // Verificar limite de transações diárias
@@ -388,17 +529,20 @@ public final class EconomyManager {
             return EconomyResponse.error("Limite de transações diárias excedido");
         }
         
+        if (ledger != null) {
+            return processLedgerTransaction(playerId, amountCents, reason, reasonText);
+        }
+        
         // Obter lock do jogador
-        ReentrantLock lock = getPlayerLock(playerId);
-        lock.lock();
+        playerLocks.lock(playerId);
         
         try {
             // Obter saldo atual
-            BigDecimal currentBalance = getBalance(playerId);
-            BigDecimal newBalance = currentBalance.add(BigDecimal.valueOf(amount));
+            long currentBalance = getBalanceCents(playerId);
+            long newBalance = Money.add(currentBalance, amountCents);
             
             // Verificar se o novo saldo seria negativo
-            if (newBalance.compareTo(BigDecimal.ZERO) < 0) {
+            if (newBalance < 0) {
                 return EconomyResponse.error("Saldo insuficiente");
             }
             
@@ -406,29 +550,25 @@ public final class EconomyManager {
             try (Connection conn = dataSource.getConnection();
                  PreparedStatement ps = conn.prepareStatement(UPDATE_BALANCE_SQL)) {
                 
-                ps.setBigDecimal(1, newBalance);
+                ps.setBigDecimal(1, Money.toBigDecimal(newBalance));
                 ps.setInt(2, playerId);
                 
                 int rowsAffected = ps.executeUpdate();
                 if (rowsAffected > 0) {
                     // Atualizar cache
-                    balanceCache.put(playerId, newBalance);
+                    balanceCache.put(playerId, Money.ofCents(newBalance));
+                    plugin.getInvalidationBus().publish(InvalidationEvent.Type.BALANCE_CHANGED, playerId);
                     
                     // Incrementar contador de transações diárias
                     incrementDailyTransactionCount(playerId);
                     
                     // Log da transação
-                    logTransaction(playerId, reason, amount, currentBalance, newBalance, reasonText, relatedPlayerId);
+                    logTransaction(playerId, reason, amountCents, currentBalance, newBalance, reasonText, relatedPlayerId);
                     
                     // Log de valor suspeito
-                    if (EconomyUtils.isSuspiciousAmount(Math.abs(amount))) {
-                        logger.warning("⚠️ [ECONOMY-SUSPICIOUS] Transação suspeita detectada:");
-                        logger.warning("   - Player ID: " + playerId);
-                        logger.warning("   - Valor: " + EconomyUtils.formatCurrency(Math.abs(amount)));
-                        logger.warning("   - Motivo: " + reasonText);
-                    }
+                    logIfSuspicious(playerId, amountCents, reasonText);
                     
-                    return EconomyResponse.success(newBalance.doubleValue());
+                    return EconomyResponse.successCents(newBalance);
                 } else {
                     return EconomyResponse.error("Falha ao atualizar saldo");
                 }
@@ -439,7 +579,42 @@ public final class EconomyManager {
             }
             
         } finally {
-            lock.unlock();
+            playerLocks.unlock(playerId);
+        }
+    }
+    
+    /**
+     * Processa uma transação no ledger em memória (sem lock e sem I/O no caminho quente).
+     * A gravação no banco e o log de auditoria são feitos em lote pelo flusher do ledger.
+     */
+    private EconomyResponse processLedgerTransaction(int playerId, long amountCents, TransactionReason reason, String reasonText) {
+        EconomyLedger.Result result;
+        try {
+            result = ledger.apply(playerId, amountCents, reason, reasonText);
+        } catch (SQLException e) {
+            logger.severe("🚨 [ECONOMY-TRANSACTION] Erro na transação: " + e.getMessage());
+            return EconomyResponse.error("Erro interno: " + e.getMessage());
+        }
+        if (!result.isSuccess()) {
+            return EconomyResponse.error(result.getError());
+        }
+        
+        incrementDailyTransactionCount(playerId);
+        logIfSuspicious(playerId, amountCents, reasonText);
+        
+        return EconomyResponse.successCents(result.getBalanceCents());
+    }
+    
+    /**
+     * Registra um alerta quando o valor da transação ultrapassa o limite suspeito.
+     */
+    private void logIfSuspicious(int playerId, long amountCents, String reasonText) {
+        long absCents = Math.abs(amountCents);
+        if (EconomyUtils.isSuspiciousAmountCents(absCents)) {
+            logger.warning("⚠️ [ECONOMY-SUSPICIOUS] Transação suspeita detectada:");
+            logger.warning("   - Player ID: " + playerId);
+            logger.warning("   - Valor: " + EconomyUtils.formatCurrency(Money.toDouble(absCents)));
+            logger.warning("   - Motivo: " + reasonText);
         }
     }
     
@@ -450,7 +625,7 @@ public final class EconomyManager {
      * @return true se dentro do limite, false caso contrário
      */
     private boolean checkDailyTransactionLimit(int playerId) {
-        int currentCount = dailyTransactionCounts.getOrDefault(playerId, 0);
+        int currentCount = dailyTransactionCounts.get(playerId);
         return EconomyUtils.isValidDailyTransactionCount(currentCount);
     }
     
@@ -460,66 +635,27 @@ public final class EconomyManager {
      * @param playerId ID do jogador
      */
     private void incrementDailyTransactionCount(int playerId) {
-        dailyTransactionCounts.merge(playerId, 1, new java.util.function.BiFunction<Integer, Integer, Integer>() {
-            @Override
-            public Integer apply(Integer oldValue, Integer value) {
-                return oldValue + value;
-            }
-        });
+        dailyTransactionCounts.increment(playerId);
     }
     
     /**
-     * Registra uma transação no log (método público).
+     * Registra uma transação no log de auditoria.
+     * A gravação é assíncrona e em lote (EconomyAuditWriter); não acessa o banco nesta thread.
      * 
      * @param playerId ID do jogador
      * @param reason Motivo da transação
-     * @param amount Valor da transação
-     * @param balanceBefore Saldo anterior
-     * @param newBalance Novo saldo
+     * @param amount Valor da transação em centavos
+     * @param balanceBefore Saldo anterior em centavos
+     * @param newBalance Novo saldo em centavos
      * @param reasonText Texto do motivo
      * @param relatedPlayerId ID do jogador relacionado
      */
-    private void logTransaction(int playerId, TransactionReason reason, double amount, 
-                              BigDecimal balanceBefore, BigDecimal newBalance, 
+    private void logTransaction(int playerId, TransactionReason reason, long amount, 
+                              long balanceBefore, long newBalance, 
                               String reasonText, Integer relatedPlayerId) {
-        if (!enableTransactionLogs) return;
+        if (auditWriter == null) return;
         
-        try (Connection conn = dataSource.getConnection()) {
-            logTransaction(conn, playerId, reason, amount, balanceBefore, newBalance, reasonText, relatedPlayerId);
-        } catch (SQLException e) {
-            logger.severe("🚨 [ECONOMY-LOG] Erro ao obter conexão para log: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Registra uma transação no log usando uma conexão existente (método privado).
-     * 
-     * @param conn Conexão existente (para uso em transações)
-     * @param playerId ID do jogador
-     * @param reason Motivo da transação
-     * @param amount Valor da transação
-     * @param balanceBefore Saldo anterior
-     * @param newBalance Novo saldo
-     * @param reasonText Texto do motivo
-     * @param relatedPlayerId ID do jogador relacionado
-     */
-    private void logTransaction(Connection conn, int playerId, TransactionReason reason, double amount, 
-                              BigDecimal balanceBefore, BigDecimal newBalance, 
-                              String reasonText, Integer relatedPlayerId) throws SQLException {
-        if (!enableTransactionLogs) return;
-        
-        try (PreparedStatement ps = conn.prepareStatement(INSERT_ECONOMY_LOG_SQL)) {
-            ps.setInt(1, playerId);
-            ps.setString(2, reason.name());
-            ps.setBigDecimal(3, BigDecimal.valueOf(amount));
-            ps.setBigDecimal(4, balanceBefore);
-            ps.setBigDecimal(5, newBalance);
-            ps.setString(6, reasonText);
-            ps.setString(7, "EconomyManager V2.0");
-            ps.setObject(8, relatedPlayerId);
-            
-            ps.executeUpdate();
-        }
+        auditWriter.submit(playerId, reason, amount, balanceBefore, newBalance, reasonText, "EconomyManager V2.0", relatedPlayerId);
     }
     
     /**
@@ -528,9 +664,11 @@ public final class EconomyManager {
      * @param playerId ID do jogador
      */
     public void clearPlayerCache(int playerId) {
+        if (ledger != null) {
+            // A conta só sai da memória depois que suas mutações chegarem ao banco
+            ledger.release(playerId);
+        }
         balanceCache.remove(playerId);
-        playerLocks.remove(playerId);
-        dailyTransactionCounts.remove(playerId);
     }
     
     /**
@@ -538,11 +676,38 @@ public final class EconomyManager {
      */
     public void clearAllCache() {
         balanceCache.clear();
-        playerLocks.clear();
         dailyTransactionCounts.clear();
         logger.info("🧹 [ECONOMY-CACHE] Cache econômico limpo");
     }
     
+    /**
+     * Drena o journal do ledger e a fila de auditoria para o banco. Chamado no onDisable.
+     */
+    public void shutdown() {
+        if (ledger != null) {
+            ledger.shutdown();
+            ledger = null;
+        }
+        if (auditWriter != null) {
+            auditWriter.shutdown();
+            auditWriter = null;
+        }
+    }
+    
+    /**
+     * Obtém o ledger em memória (null se desabilitado).
+     */
+    public EconomyLedger getLedger() {
+        return ledger;
+    }
+    
+    /**
+     * Obtém o gravador de auditoria em lote (null se logs desabilitados).
+     */
+    public EconomyAuditWriter getAuditWriter() {
+        return auditWriter;
+    }
+    
     /**
      * Recarrega as configurações.
      */
@@ -570,6 +735,19 @@ public final class EconomyManager {
      * @return Resposta da operação
      */
     public EconomyResponse transfer(int fromPlayerId, int toPlayerId, double amount) {
+        return transfer(fromPlayerId, toPlayerId, Money.of(amount));
+    }
+    
+    /**
+     * Realiza uma transferência entre dois jogadores.
+     * 
+     * @param fromPlayerId ID do jogador que envia
+     * @param toPlayerId ID do jogador que recebe
+     * @param money Valor a transferir
+     * @return Resposta da operação
+     */
+    public EconomyResponse transfer(int fromPlayerId, int toPlayerId, Money money) {
+        long amount = money.getCents();
         if (amount <= 0) {
             return EconomyResponse.error("Valor deve ser maior que zero");
         }
@@ -578,19 +756,13 @@ public final class EconomyManager {
             return EconomyResponse.error("Não é possível transferir para si mesmo");
         }
         
-        // Obter locks em ordem para evitar deadlock
-        ReentrantLock fromLock = getPlayerLock(fromPlayerId);
-        ReentrantLock toLock = getPlayerLock(toPlayerId);
-        
-        // Sempre adquirir locks na mesma ordem (menor ID primeiro)
-        if (fromPlayerId < toPlayerId) {
-            fromLock.lock();
-            toLock.lock();
-        } else {
-            toLock.lock();
-            fromLock.lock();
+        if (ledger != null) {
+            return transferViaLedger(fromPlayerId, toPlayerId, money);
         }
         
+        // Obter locks em ordem determinística de stripe para evitar deadlock
+        playerLocks.lockPair(fromPlayerId, toPlayerId);
+        
         try {
             // Realizar transferência no banco
             try (Connection conn = dataSource.getConnection()) {
@@ -598,12 +770,12 @@ public final class EconomyManager {
                 
                 try {
                     // Verificar saldo do remetente (dentro da transação para consistência)
-                    BigDecimal fromBalance;
+                    long fromBalance;
                     try (PreparedStatement ps = conn.prepareStatement(GET_BALANCE_SQL)) {
                         ps.setInt(1, fromPlayerId);
                         try (ResultSet rs = ps.executeQuery()) {
                             if (rs.next()) {
-                                fromBalance = rs.getBigDecimal("money");
+                                fromBalance = Money.toCents(rs.getBigDecimal("money"));
                             } else {
                                 conn.rollback();
                                 return EconomyResponse.error("Remetente não encontrado");
@@ -611,18 +783,18 @@ public final class EconomyManager {
                         }
                     }
                     
-                    if (fromBalance.compareTo(BigDecimal.valueOf(amount)) < 0) {
+                    if (fromBalance < amount) {
                         conn.rollback();
                         return EconomyResponse.error("Saldo insuficiente para transferência");
                     }
                     
                     // Obter saldo do destinatário
-                    BigDecimal toBalance;
+                    long toBalance;
                     try (PreparedStatement ps = conn.prepareStatement(GET_BALANCE_SQL)) {
                         ps.setInt(1, toPlayerId);
                         try (ResultSet rs = ps.executeQuery()) {
                             if (rs.next()) {
-                                toBalance = rs.getBigDecimal("money");
+                                toBalance = Money.toCents(rs.getBigDecimal("money"));
                             } else {
                                 conn.rollback();
                                 return EconomyResponse.error("Destinatário não encontrado");
@@ -631,39 +803,41 @@ public final class EconomyManager {
                     }
                     
                     // Calcular novos saldos
-                    BigDecimal fromNewBalance = fromBalance.subtract(BigDecimal.valueOf(amount));
-                    BigDecimal toNewBalance = toBalance.add(BigDecimal.valueOf(amount));
+                    long fromNewBalance = Money.subtract(fromBalance, amount);
+                    long toNewBalance = Money.add(toBalance, amount);
                     
                     // Atualizar saldo do remetente
                     try (PreparedStatement ps = conn.prepareStatement(UPDATE_BALANCE_SQL)) {
-                        ps.setBigDecimal(1, fromNewBalance);
+                        ps.setBigDecimal(1, Money.toBigDecimal(fromNewBalance));
                         ps.setInt(2, fromPlayerId);
                         ps.executeUpdate();
                     }
                     
                     // Atualizar saldo do destinatário
                     try (PreparedStatement ps = conn.prepareStatement(UPDATE_BALANCE_SQL)) {
-                        ps.setBigDecimal(1, toNewBalance);
+                        ps.setBigDecimal(1, Money.toBigDecimal(toNewBalance));
                         ps.setInt(2, toPlayerId);
                         ps.executeUpdate();
                     }
                     
-                                         // Registrar logs usando a conexão da transação
-                     logTransaction(conn, fromPlayerId, TransactionReason.PLAYER_TRANSFER, -amount, fromBalance, fromNewBalance, "Transferência para player_id " + toPlayerId, toPlayerId);
-                     logTransaction(conn, toPlayerId, TransactionReason.PLAYER_TRANSFER, amount, toBalance, toNewBalance, "Transferência de player_id " + fromPlayerId, fromPlayerId);
-                    
                     conn.commit(); // Confirmar transação
                     
+                    // Registrar logs (enfileirados após o commit)
+                    logTransaction(fromPlayerId, TransactionReason.PLAYER_TRANSFER, -amount, fromBalance, fromNewBalance, "Transferência para player_id " + toPlayerId, toPlayerId);
+                    logTransaction(toPlayerId, TransactionReason.PLAYER_TRANSFER, amount, toBalance, toNewBalance, "Transferência de player_id " + fromPlayerId, fromPlayerId);
+                    
                     // Atualizar cache
-                    balanceCache.put(fromPlayerId, fromNewBalance);
-                    balanceCache.put(toPlayerId, toNewBalance);
+                    balanceCache.put(fromPlayerId, Money.ofCents(fromNewBalance));
+                    balanceCache.put(toPlayerId, Money.ofCents(toNewBalance));
+                    plugin.getInvalidationBus().publish(InvalidationEvent.Type.BALANCE_CHANGED, fromPlayerId);
+                    plugin.getInvalidationBus().publish(InvalidationEvent.Type.BALANCE_CHANGED, toPlayerId);
                     
                     // Incrementar contadores de transações diárias
                     incrementDailyTransactionCount(fromPlayerId);
                     incrementDailyTransactionCount(toPlayerId);
                     
-                    logger.info("✅ [ECONOMY-TRANSFER] Transferência realizada: " + fromPlayerId + " -> " + toPlayerId + " ($" + amount + ")");
-                    return EconomyResponse.success(fromNewBalance.doubleValue());
+                    logger.info("✅ [ECONOMY-TRANSFER] Transferência realizada: " + fromPlayerId + " -> " + toPlayerId + " ($" + money + ")");
+                    return EconomyResponse.successCents(fromNewBalance);
                     
                 } catch (SQLException e) {
                     conn.rollback(); // Reverter transação em caso de erro
@@ -677,16 +851,33 @@ public final class EconomyManager {
             
         } finally {
             // Liberar locks na ordem inversa
-            if (fromPlayerId < toPlayerId) {
-                toLock.unlock();
-                fromLock.unlock();
-            } else {
-                fromLock.unlock();
-                toLock.unlock();
-            }
+            playerLocks.unlockPair(fromPlayerId, toPlayerId);
         }
     }
 
+    /**
+     * Transferência pelo ledger: débito e crédito por CAS, um único registro no journal.
+     */
+    private EconomyResponse transferViaLedger(int fromPlayerId, int toPlayerId, Money amount) {
+        EconomyLedger.Result result;
+        try {
+            result = ledger.transfer(fromPlayerId, toPlayerId, amount.getCents(),
+                "Transferência para player_id " + toPlayerId);
+        } catch (SQLException e) {
+            logger.severe("🚨 [ECONOMY-TRANSFER] Erro ao realizar transferência: " + e.getMessage());
+            return EconomyResponse.error("Erro interno: " + e.getMessage());
+        }
+        if (!result.isSuccess()) {
+            return EconomyResponse.error(result.getError());
+        }
+        
+        incrementDailyTransactionCount(fromPlayerId);
+        incrementDailyTransactionCount(toPlayerId);
+        
+        logger.info("✅ [ECONOMY-TRANSFER] Transferência realizada: " + fromPlayerId + " -> " + toPlayerId + " ($" + amount + ")");
+        return EconomyResponse.successCents(result.getBalanceCents());
+    }
+
     /**
      * Credita um valor na conta de um jogador de forma ASSÍNCRONA.
      * 
@@ -696,14 +887,22 @@ public final class EconomyManager {
      * @param callback Callback para receber a resposta da operação
      */
     public void creditBalanceAsync(int playerId, double amount, String reason, java.util.function.Consumer<EconomyResponse> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            EconomyResponse response = processTransaction(playerId, amount, TransactionReason.CREDIT, reason, null);
-            
-            // Retorna para a thread principal
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                callback.accept(response);
-            });
-        });
+        creditBalanceAsync(playerId, amount, reason).thenAcceptAsync(callback, plugin.getDbExecutor().mainThread());
+    }
+
+    /**
+     * Credita um valor na conta de um jogador, como future concluído na thread
+     * do executor de banco (para compor fluxos sem voltar à thread principal).
+     * 
+     * @param playerId ID do jogador
+     * @param amount Valor
+     * @param reason Motivo
+     * @return Future com a resposta da operação (nunca falha: erros viram EconomyResponse.error)
+     */
+    public CompletableFuture<EconomyResponse> creditBalanceAsync(int playerId, double amount, String reason) {
+        return plugin.getDbExecutor().supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.creditBalance",
+                () -> creditBalance(playerId, amount, reason))
+            .exceptionally(e -> EconomyResponse.error("Erro interno: " + e.getMessage()));
     }
 
     /**
@@ -715,14 +914,22 @@ public final class EconomyManager {
      * @param callback Callback para receber a resposta da operação
      */
     public void debitBalanceAsync(int playerId, double amount, String reason, java.util.function.Consumer<EconomyResponse> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            EconomyResponse response = processTransaction(playerId, -amount, TransactionReason.DEBIT, reason, null);
-            
-            // Retorna para a thread principal
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                callback.accept(response);
-            });
-        });
+        debitBalanceAsync(playerId, amount, reason).thenAcceptAsync(callback, plugin.getDbExecutor().mainThread());
+    }
+
+    /**
+     * Debita um valor na conta de um jogador, como future concluído na thread
+     * do executor de banco (para compor fluxos sem voltar à thread principal).
+     * 
+     * @param playerId ID do jogador
+     * @param amount Valor
+     * @param reason Motivo
+     * @return Future com a resposta da operação (nunca falha: erros viram EconomyResponse.error)
+     */
+    public CompletableFuture<EconomyResponse> debitBalanceAsync(int playerId, double amount, String reason) {
+        return plugin.getDbExecutor().supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.debitBalance",
+                () -> debitBalance(playerId, amount, reason))
+            .exceptionally(e -> EconomyResponse.error("Erro interno: " + e.getMessage()));
     }
 
     /**
@@ -734,13 +941,20 @@ public final class EconomyManager {
      * @param callback Callback para receber o resultado
      */
     public void transferAsync(int fromPlayerId, int toPlayerId, double amount, java.util.function.Consumer<EconomyResponse> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            EconomyResponse response = transfer(fromPlayerId, toPlayerId, amount);
-            
-            // Retorna para a thread principal
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                callback.accept(response);
-            });
-        });
+        transferAsync(fromPlayerId, toPlayerId, amount).thenAcceptAsync(callback, plugin.getDbExecutor().mainThread());
+    }
+
+    /**
+     * Transfere dinheiro entre jogadores, como future concluído na thread do executor de banco.
+     * 
+     * @param fromPlayerId ID do jogador remetente
+     * @param toPlayerId ID do jogador destinatário
+     * @param amount Valor a transferir
+     * @return Future com a resposta da operação (nunca falha: erros viram EconomyResponse.error)
+     */
+    public CompletableFuture<EconomyResponse> transferAsync(int fromPlayerId, int toPlayerId, double amount) {
+        return plugin.getDbExecutor().supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.transfer",
+                () -> transfer(fromPlayerId, toPlayerId, amount))
+            .exceptionally(e -> EconomyResponse.error("Erro interno: " + e.getMessage()));
     }
 }
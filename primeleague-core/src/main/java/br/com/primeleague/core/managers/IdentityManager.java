@@ -1,10 +1,16 @@
 package br.com.primeleague.core.managers;
 
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.models.PlayerIdentity;
 import org.bukkit.entity.Player;
 
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -16,6 +22,13 @@ import java.util.concurrent.ConcurrentHashMap;
  * 3. Garantir que toda identificação de jogador use player_id como fonte da verdade
  * 4. Prevenir roubo de identidade e corrupção de dados
  * 
+ * Armazenamento: um único registro imutável (PlayerIdentity) por player_id,
+ * indexado por UUID e por nome normalizado (case-insensitive). Toda alteração
+ * passa por um único ponto sincronizado, então os índices não divergem.
+ * Jogadores online ficam fixos; jogadores offline consultados recentemente
+ * ficam em uma camada LRU de tamanho limitado, e nomes inexistentes ficam
+ * em cache negativo por alguns segundos, evitando consultas repetidas ao MySQL.
+ * 
  * @author PrimeLeague Team
  * @version 1.0
  */
@@ -24,11 +37,18 @@ public class IdentityManager {
     private final PrimeLeagueCore plugin;
     private final DataManager dataManager;
     
-    // Mapeamentos de identidade
-    private final Map<UUID, Integer> uuidToPlayerIdMap = new ConcurrentHashMap<>();
-    private final Map<String, Integer> nameToPlayerIdMap = new ConcurrentHashMap<>();
-    private final Map<Integer, UUID> playerIdToUuidMap = new ConcurrentHashMap<>();
-    private final Map<Integer, String> playerIdToNameMap = new ConcurrentHashMap<>();
+    // Registros de identidade (leitura sem lock; escrita apenas via index/removeRecord)
+    private final Map<Integer, PlayerIdentity> recordsById = new ConcurrentHashMap<>();
+    private final Map<UUID, PlayerIdentity> recordsByUuid = new ConcurrentHashMap<>();
+    private final Map<String, PlayerIdentity> recordsByName = new ConcurrentHashMap<>();
+    
+    // Camada LRU de jogadores offline (player_id, em ordem de acesso), protegida por this
+    private final LinkedHashMap<Integer, Boolean> offlineLru = new LinkedHashMap<>(64, 0.75f, true);
+    private final int offlineCapacity;
+    
+    // Cache negativo de nomes inexistentes (nome normalizado -> expira em)
+    private final Map<String, Long> unknownNames = new ConcurrentHashMap<>();
+    private final long negativeTtlMs;
     
     // Cache de jogadores online com player_id
     private final Map<Integer, Player> onlinePlayersById = new ConcurrentHashMap<>();
@@ -36,6 +56,8 @@ public class IdentityManager {
     public IdentityManager(PrimeLeagueCore plugin, DataManager dataManager) {
         this.plugin = plugin;
         this.dataManager = dataManager;
+        this.offlineCapacity = Math.max(0, plugin.getConfig().getInt("identity.offline_cache_size", 5000));
+        this.negativeTtlMs = Math.max(0, plugin.getConfig().getLong("identity.negative_ttl_seconds", 60L)) * 1000L;
     }
     
     /**
@@ -54,9 +76,9 @@ public class IdentityManager {
         UUID bukkitUuid = player.getUniqueId();
         
         // REFATORADO: Buscar apenas no cache - fail-fast se não encontrado
-        Integer cachedPlayerId = uuidToPlayerIdMap.get(bukkitUuid);
-        if (cachedPlayerId != null) {
-            return cachedPlayerId;
+        PlayerIdentity identity = recordsByUuid.get(bukkitUuid);
+        if (identity != null) {
+            return identity.getPlayerId();
         }
         
         // Jogador não encontrado no cache - erro crítico
@@ -74,44 +96,49 @@ public class IdentityManager {
      * @param callback Callback para receber o player_id
      */
     public void getPlayerIdAsync(Player player, java.util.function.Consumer<Integer> callback) {
-        if (player == null) {
-            callback.accept(null);
+        CompletableFuture<Integer> playerId = getPlayerIdAsync(player);
+        if (playerId.isDone()) {
+            // Cache: entrega na mesma thread
+            callback.accept(playerId.getNow(null));
             return;
         }
+        playerId.thenAcceptAsync(callback, plugin.getDbExecutor().mainThread());
+    }
+
+    /**
+     * Obtém o player_id de um jogador como future. Já concluído se a identidade
+     * está em cache; senão conclui na thread do executor de banco.
+     * 
+     * @param player Jogador do Bukkit (lido na thread que chama)
+     * @return Future com o player_id ou null se não encontrado
+     */
+    public CompletableFuture<Integer> getPlayerIdAsync(Player player) {
+        if (player == null) {
+            return CompletableFuture.completedFuture(null);
+        }
         
         UUID bukkitUuid = player.getUniqueId();
         String playerName = player.getName();
         
-        // Verificar cache primeiro (thread principal)
-        Integer cachedPlayerId = uuidToPlayerIdMap.get(bukkitUuid);
-        if (cachedPlayerId != null) {
-            callback.accept(cachedPlayerId);
-            return;
+        PlayerIdentity identity = recordsByUuid.get(bukkitUuid);
+        if (identity != null) {
+            return CompletableFuture.completedFuture(identity.getPlayerId());
         }
         
-        // Buscar no banco de dados de forma assíncrona
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            Integer playerId = dataManager.getPlayerIdFromDatabase(bukkitUuid, playerName);
-            
-            // Retornar para a thread principal
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                callback.accept(playerId);
-            });
-        });
+        return plugin.getDbExecutor().supplyAsync(DbExecutor.Priority.LOGIN, "identity.getPlayerId",
+                () -> dataManager.getPlayerIdFromDatabase(bukkitUuid, playerName))
+            .exceptionally(e -> null);
     }
     
     /**
-     * Obtém o player_id de um jogador pelo nome.
+     * Obtém o player_id de um jogador pelo nome (case-insensitive, apenas memória).
      * 
      * @param playerName Nome do jogador
      * @return player_id ou null se não encontrado
      */
     public Integer getPlayerIdByName(String playerName) {
-        if (playerName == null) {
-            return null;
-        }
-        
-        return nameToPlayerIdMap.get(playerName);
+        PlayerIdentity identity = lookupByName(playerName);
+        return identity != null ? identity.getPlayerId() : null;
     }
     
     /**
@@ -125,7 +152,8 @@ public class IdentityManager {
             return null;
         }
         
-        return uuidToPlayerIdMap.get(bukkitUuid);
+        PlayerIdentity identity = touch(recordsByUuid.get(bukkitUuid));
+        return identity != null ? identity.getPlayerId() : null;
     }
     
     /**
@@ -135,7 +163,8 @@ public class IdentityManager {
      * @return UUID do Bukkit ou null se não encontrado
      */
     public UUID getUuidByPlayerId(int playerId) {
-        return playerIdToUuidMap.get(playerId);
+        PlayerIdentity identity = touch(recordsById.get(playerId));
+        return identity != null ? identity.getUuid() : null;
     }
     
     /**
@@ -145,7 +174,88 @@ public class IdentityManager {
      * @return Nome do jogador ou null se não encontrado
      */
     public String getNameByPlayerId(int playerId) {
-        return playerIdToNameMap.get(playerId);
+        PlayerIdentity identity = touch(recordsById.get(playerId));
+        return identity != null ? identity.getName() : null;
+    }
+    
+    /**
+     * Busca a identidade pelo nome apenas em memória (online + LRU offline).
+     * Seguro para a thread principal.
+     * 
+     * @param playerName Nome do jogador (case-insensitive)
+     * @return Identidade ou null se não estiver em cache
+     */
+    public PlayerIdentity lookupByName(String playerName) {
+        String key = PlayerIdentity.normalizeName(playerName);
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        return touch(recordsByName.get(key));
+    }
+    
+    /**
+     * Resolve a identidade pelo nome: memória, cache negativo e, por último, o banco.
+     * O resultado (positivo ou negativo) fica em cache. Pode acessar o banco:
+     * não chamar na thread principal quando o nome pode não estar em cache.
+     * 
+     * @param playerName Nome do jogador (case-insensitive)
+     * @return Identidade ou null se o jogador não existir (ou em erro de banco)
+     */
+    public PlayerIdentity resolveByName(String playerName) {
+        String key = PlayerIdentity.normalizeName(playerName);
+        if (key == null || key.isEmpty()) {
+            return null;
+        }
+        
+        PlayerIdentity identity = touch(recordsByName.get(key));
+        if (identity != null) {
+            return identity;
+        }
+        
+        Long expiresAt = unknownNames.get(key);
+        if (expiresAt != null) {
+            if (expiresAt > System.currentTimeMillis()) {
+                return null;
+            }
+            unknownNames.remove(key, expiresAt);
+        }
+        
+        try {
+            identity = dataManager.loadIdentityByName(playerName.trim());
+        } catch (SQLException e) {
+            plugin.getLogger().warning("⚠️ [IDENTITY] Erro ao resolver identidade de " + playerName + ": " + e.getMessage());
+            return null;
+        }
+        
+        if (identity == null) {
+            if (negativeTtlMs > 0) {
+                unknownNames.put(key, System.currentTimeMillis() + negativeTtlMs);
+            }
+            return null;
+        }
+        return index(identity, false);
+    }
+    
+    /**
+     * Resolve a identidade pelo player_id: memória e, se necessário, o banco.
+     * Pode acessar o banco: não chamar na thread principal para jogadores offline.
+     * 
+     * @param playerId ID numérico do jogador
+     * @return Identidade ou null se não existir (ou em erro de banco)
+     */
+    public PlayerIdentity resolveById(int playerId) {
+        PlayerIdentity identity = touch(recordsById.get(playerId));
+        if (identity != null) {
+            return identity;
+        }
+        
+        try {
+            identity = dataManager.loadIdentityById(playerId);
+        } catch (SQLException e) {
+            plugin.getLogger().warning("⚠️ [IDENTITY] Erro ao resolver identidade do player_id " + playerId + ": " + e.getMessage());
+            return null;
+        }
+        return identity != null ? index(identity, false) : null;
     }
     
     /**
@@ -163,11 +273,14 @@ public class IdentityManager {
         UUID bukkitUuid = player.getUniqueId();
         String playerName = player.getName();
         
-        // Adicionar ao cache
-        addToCache(playerId, bukkitUuid, playerName);
-        
-        // Adicionar à lista de jogadores online
+        // Adicionar à lista de jogadores online antes de indexar (registro fixo, fora da LRU)
         onlinePlayersById.put(playerId, player);
+        index(new PlayerIdentity(playerId, bukkitUuid, playerName), true);
+        
+        // Novos registros (e trocas de nome) entram no diretório de nomes
+        if (plugin.getNameDirectory() != null) {
+            plugin.getNameDirectory().add(playerName);
+        }
         
         plugin.getLogger().info("🔐 [IDENTITY] Jogador registrado: " + playerName + 
                                " (player_id: " + playerId + ", UUID: " + bukkitUuid + ")");
@@ -187,16 +300,19 @@ public class IdentityManager {
         UUID bukkitUuid = player.getUniqueId();
         String playerName = player.getName();
         
-        // Remover da lista de jogadores online
-        Integer playerId = uuidToPlayerIdMap.get(bukkitUuid);
+        // Remover da lista de jogadores online; o registro passa para a camada LRU offline
+        PlayerIdentity identity = recordsByUuid.get(bukkitUuid);
+        Integer playerId = identity != null ? identity.getPlayerId() : null;
         if (playerId != null) {
             onlinePlayersById.remove(playerId);
+            synchronized (this) {
+                if (recordsById.get(playerId) == identity) {
+                    offlineLru.put(playerId, Boolean.TRUE);
+                    evictOffline();
+                }
+            }
         }
         
-        // Limpar cache (manter mapeamentos para consultas futuras)
-        // uuidToPlayerIdMap.remove(bukkitUuid); // Não remover - pode ser consultado offline
-        // nameToPlayerIdMap.remove(playerName); // Não remover - pode ser consultado offline
-        
         plugin.getLogger().info("🔓 [IDENTITY] Jogador desregistrado: " + playerName + 
                                " (player_id: " + playerId + ", UUID: " + bukkitUuid + ")");
     }
@@ -212,7 +328,7 @@ public class IdentityManager {
             return false;
         }
         
-        return uuidToPlayerIdMap.containsKey(player.getUniqueId());
+        return recordsByUuid.containsKey(player.getUniqueId());
     }
     
     /**
@@ -235,17 +351,93 @@ public class IdentityManager {
     }
     
     /**
-     * Adiciona um mapeamento ao cache interno.
+     * Indexa um registro de forma atômica em relação às demais escritas.
+     * Registros antigos do mesmo player_id, nome ou UUID (renomeação, troca de UUID)
+     * são removidos de todos os índices antes da inclusão.
      * 
-     * @param playerId ID numérico do jogador
-     * @param bukkitUuid UUID do Bukkit
-     * @param playerName Nome do jogador
+     * @param identity Registro a indexar
+     * @param online Se o jogador está online (registro fixo, fora da LRU)
+     * @return O registro indexado
      */
-    private void addToCache(int playerId, UUID bukkitUuid, String playerName) {
-        uuidToPlayerIdMap.put(bukkitUuid, playerId);
-        nameToPlayerIdMap.put(playerName, playerId);
-        playerIdToUuidMap.put(playerId, bukkitUuid);
-        playerIdToNameMap.put(playerId, playerName);
+    private synchronized PlayerIdentity index(PlayerIdentity identity, boolean online) {
+        int playerId = identity.getPlayerId();
+        
+        // Um jogador offline já presente (ex.: carregado por outra thread) mantém o registro atual
+        PlayerIdentity current = recordsById.get(playerId);
+        if (!online && current != null && onlinePlayersById.containsKey(playerId)) {
+            return current;
+        }
+        
+        removeRecord(current);
+        PlayerIdentity nameOwner = recordsByName.get(identity.getNameKey());
+        if (nameOwner != null && nameOwner.getPlayerId() != playerId) {
+            removeRecord(nameOwner);
+        }
+        PlayerIdentity uuidOwner = recordsByUuid.get(identity.getUuid());
+        if (uuidOwner != null && uuidOwner.getPlayerId() != playerId) {
+            removeRecord(uuidOwner);
+        }
+        
+        recordsById.put(playerId, identity);
+        recordsByName.put(identity.getNameKey(), identity);
+        recordsByUuid.put(identity.getUuid(), identity);
+        unknownNames.remove(identity.getNameKey());
+        
+        if (online) {
+            offlineLru.remove(playerId);
+        } else {
+            offlineLru.put(playerId, Boolean.TRUE);
+            evictOffline();
+        }
+        return identity;
+    }
+    
+    /**
+     * Remove um registro de todos os índices (chamado com o lock do store).
+     */
+    private void removeRecord(PlayerIdentity identity) {
+        if (identity == null) {
+            return;
+        }
+        recordsById.remove(identity.getPlayerId(), identity);
+        recordsByName.remove(identity.getNameKey(), identity);
+        recordsByUuid.remove(identity.getUuid(), identity);
+        offlineLru.remove(identity.getPlayerId());
+    }
+    
+    /**
+     * Descarta os registros offline menos usados além da capacidade (chamado com o lock do store).
+     */
+    private void evictOffline() {
+        Iterator<Integer> eldest = offlineLru.keySet().iterator();
+        while (offlineLru.size() > offlineCapacity && eldest.hasNext()) {
+            Integer playerId = eldest.next();
+            eldest.remove();
+            PlayerIdentity identity = recordsById.get(playerId);
+            if (identity != null && !onlinePlayersById.containsKey(playerId)) {
+                recordsById.remove(playerId, identity);
+                recordsByName.remove(identity.getNameKey(), identity);
+                recordsByUuid.remove(identity.getUuid(), identity);
+            }
+        }
+        
+        // Cache negativo também é limitado: entradas vencidas saem quando ele cresce demais
+        if (unknownNames.size() > offlineCapacity) {
+            long now = System.currentTimeMillis();
+            unknownNames.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+    }
+    
+    /**
+     * Marca um registro offline como usado recentemente na LRU.
+     */
+    private PlayerIdentity touch(PlayerIdentity identity) {
+        if (identity != null && !onlinePlayersById.containsKey(identity.getPlayerId())) {
+            synchronized (this) {
+                offlineLru.get(identity.getPlayerId());
+            }
+        }
+        return identity;
     }
     
     /**
@@ -253,24 +445,32 @@ public class IdentityManager {
      * 
      * @return String com estatísticas
      */
-    public String getStats() {
+    public synchronized String getStats() {
         return String.format("IdentityManager Stats - " +
+                           "Records: %d, " +
                            "UUID Mappings: %d, " +
                            "Name Mappings: %d, " +
+                           "Offline LRU: %d/%d, " +
+                           "Unknown Names: %d, " +
                            "Online Players: %d",
-                           uuidToPlayerIdMap.size(),
-                           nameToPlayerIdMap.size(),
+                           recordsById.size(),
+                           recordsByUuid.size(),
+                           recordsByName.size(),
+                           offlineLru.size(),
+                           offlineCapacity,
+                           unknownNames.size(),
                            onlinePlayersById.size());
     }
     
     /**
      * Limpa todo o cache (apenas para debugging/emergências).
      */
-    public void clearCache() {
-        uuidToPlayerIdMap.clear();
-        nameToPlayerIdMap.clear();
-        playerIdToUuidMap.clear();
-        playerIdToNameMap.clear();
+    public synchronized void clearCache() {
+        recordsById.clear();
+        recordsByUuid.clear();
+        recordsByName.clear();
+        offlineLru.clear();
+        unknownNames.clear();
         onlinePlayersById.clear();
         plugin.getLogger().warning("🗑️ [IDENTITY] Cache limpo manualmente");
     }
@@ -0,0 +1,318 @@
+package br.com.primeleague.core.managers;
+
+import br.com.primeleague.core.PrimeLeagueCore;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Controle de admissão do pipeline de pré-login.
+ *
+ * Em um restart, todos os jogadores reconectam ao mesmo tempo e os handlers de
+ * AsyncPlayerPreLoginEvent de todos os módulos disputam o pool do Hikari. Este
+ * controlador limita quantos pré-logins executam simultaneamente:
+ * - Fila FIFO justa: o primeiro a chegar é o primeiro admitido
+ * - Limite adaptativo AIMD: +1 por janela de logins abaixo da latência alvo,
+ *   redução multiplicativa quando a latência passa do alvo ou o banco falha
+ * - Feedback de posição na fila na mensagem de kick (fila cheia/tempo esgotado)
+ * - Métricas de profundidade da fila e tempo de espera
+ *
+ * O permit é obtido no ProfileListener (LOWEST) e liberado aqui em MONITOR,
+ * ambos na mesma thread assíncrona do evento.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class LoginAdmissionController implements Listener {
+
+    private final PrimeLeagueCore plugin;
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyMs;
+    private final int maxQueue;
+    private final long maxWaitMs;
+
+    // Fila justa de pré-logins aguardando admissão
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition admission = lock.newCondition();
+    private final Deque<Object> queue = new ArrayDeque<Object>();
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseAt;
+
+    // Início da admissão da thread atual (presente apenas se admitida)
+    private final ThreadLocal<Long> admittedAt = new ThreadLocal<Long>();
+
+    // Métricas
+    private final AtomicLong admitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong totalWaitMs = new AtomicLong();
+    private final AtomicLong maxWaitObservedMs = new AtomicLong();
+    private volatile int peakQueueDepth;
+    private volatile double latencyEwmaMs;
+
+    public LoginAdmissionController(PrimeLeagueCore plugin) {
+        this.plugin = plugin;
+        int poolSize = plugin.getConfig().getInt("database.pool.maximumPoolSize", 24);
+        this.enabled = plugin.getConfig().getBoolean("login_admission.enabled", true);
+        this.minLimit = Math.max(1, plugin.getConfig().getInt("login_admission.min_limit", 1));
+        this.maxLimit = Math.max(minLimit, plugin.getConfig().getInt("login_admission.max_limit", poolSize));
+        this.targetLatencyMs = plugin.getConfig().getLong("login_admission.target_latency_ms", 500L);
+        this.maxQueue = plugin.getConfig().getInt("login_admission.max_queue", 500);
+        this.maxWaitMs = plugin.getConfig().getLong("login_admission.max_wait_ms", 15000L);
+        int initialLimit = plugin.getConfig().getInt("login_admission.initial_limit", Math.max(1, poolSize / 2));
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Resultado de uma tentativa de admissão.
+     */
+    public static final class Admission {
+        private final boolean admitted;
+        private final int position;
+        private final int queueSize;
+
+        private Admission(boolean admitted, int position, int queueSize) {
+            this.admitted = admitted;
+            this.position = position;
+            this.queueSize = queueSize;
+        }
+
+        public boolean isAdmitted() {
+            return admitted;
+        }
+
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Mensagem de kick com a posição na fila de login.
+         */
+        public String getKickMessage() {
+            return "§e§l⏳ Servidor processando muitos logins\n\n" +
+                   "§fVocê estava na posição §e" + position + "§f de §e" + queueSize + "§f da fila.\n\n" +
+                   "§aTente conectar novamente em alguns segundos.";
+        }
+    }
+
+    /**
+     * Aguarda a admissão do pré-login da thread atual.
+     * Bloqueia a thread assíncrona do evento até haver vaga, respeitando a ordem de chegada.
+     *
+     * @return Admission com o resultado (e a posição na fila se não admitido)
+     */
+    public Admission acquire() {
+        if (!enabled) {
+            return new Admission(true, 0, 0);
+        }
+        long start = System.currentTimeMillis();
+        Object ticket = new Object();
+
+        lock.lock();
+        try {
+            if (queue.isEmpty() && inFlight < (int) limit) {
+                return admit(start);
+            }
+            if (queue.size() >= maxQueue) {
+                rejected.incrementAndGet();
+                return new Admission(false, queue.size() + 1, queue.size() + 1);
+            }
+            queue.addLast(ticket);
+            if (queue.size() > peakQueueDepth) {
+                peakQueueDepth = queue.size();
+            }
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+            while (queue.peekFirst() != ticket || inFlight >= (int) limit) {
+                if (remainingNanos <= 0L) {
+                    int position = positionOf(ticket);
+                    int size = queue.size();
+                    queue.remove(ticket);
+                    admission.signalAll();
+                    timedOut.incrementAndGet();
+                    recordWait(start);
+                    return new Admission(false, position, size);
+                }
+                try {
+                    remainingNanos = admission.awaitNanos(remainingNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    queue.remove(ticket);
+                    admission.signalAll();
+                    return new Admission(false, 0, queue.size());
+                }
+            }
+            queue.pollFirst();
+            // O próximo da fila pode ter vaga disponível também
+            admission.signalAll();
+            return admit(start);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Sinaliza uma falha de banco durante o pré-login admitido (redução multiplicativa).
+     */
+    public void recordFailure() {
+        if (!enabled) {
+            return;
+        }
+        lock.lock();
+        try {
+            decrease();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Libera o permit do pré-login ao fim da cadeia de handlers.
+     * MONITOR executa mesmo quando o login foi negado por outro módulo.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerPreLoginComplete(AsyncPlayerPreLoginEvent event) {
+        Long start = admittedAt.get();
+        if (start == null) {
+            return;
+        }
+        admittedAt.remove();
+        long latency = System.currentTimeMillis() - start;
+
+        lock.lock();
+        try {
+            inFlight--;
+            latencyEwmaMs = latencyEwmaMs == 0 ? latency : latencyEwmaMs * 0.8 + latency * 0.2;
+            if (latency > targetLatencyMs) {
+                decrease();
+            } else {
+                // Aumento aditivo: +1 a cada "limit" logins concluídos dentro do alvo
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            admission.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Admission admit(long start) {
+        inFlight++;
+        admittedAt.set(System.currentTimeMillis());
+        admitted.incrementAndGet();
+        recordWait(start);
+        return new Admission(true, 0, 0);
+    }
+
+    private void decrease() {
+        // No máximo uma redução por período de latência alvo, para não colapsar
+        // o limite com vários logins lentos da mesma rajada
+        long now = System.currentTimeMillis();
+        if (now - lastDecreaseAt < targetLatencyMs) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * 0.7);
+        lastDecreaseAt = now;
+    }
+
+    private int positionOf(Object ticket) {
+        int position = 1;
+        for (Object queued : queue) {
+            if (queued == ticket) {
+                return position;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private void recordWait(long start) {
+        long waited = System.currentTimeMillis() - start;
+        totalWaitMs.addAndGet(waited);
+        long currentMax;
+        while (waited > (currentMax = maxWaitObservedMs.get())) {
+            if (maxWaitObservedMs.compareAndSet(currentMax, waited)) {
+                break;
+            }
+        }
+    }
+
+    public int getQueueDepth() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCurrentLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAdmittedCount() {
+        return admitted.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.get();
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public long getMaxWaitMs() {
+        return maxWaitObservedMs.get();
+    }
+
+    public long getAverageWaitMs() {
+        long total = admitted.get() + timedOut.get();
+        return total == 0 ? 0 : totalWaitMs.get() / total;
+    }
+
+    public long getLatencyEwmaMs() {
+        return (long) latencyEwmaMs;
+    }
+
+    /**
+     * Obtém estatísticas do controle de admissão.
+     */
+    public String getStats() {
+        return String.format("LoginAdmission Stats - " +
+                           "Limit: %d, In-flight: %d, Queue: %d (peak %d), " +
+                           "Admitted: %d, Rejected: %d, Timed out: %d, " +
+                           "Wait avg/max: %dms/%dms, Latency EWMA: %dms",
+                           getCurrentLimit(), getInFlight(), getQueueDepth(), peakQueueDepth,
+                           admitted.get(), rejected.get(), timedOut.get(),
+                           getAverageWaitMs(), maxWaitObservedMs.get(), getLatencyEwmaMs());
+    }
+}
@@ -0,0 +1,285 @@
+package br.com.primeleague.core.managers;
+
+import br.com.primeleague.api.models.Punishment;
+import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.models.LoginContext;
+import br.com.primeleague.core.models.PlayerGroup;
+import br.com.primeleague.core.models.PlayerProfile;
+import br.com.primeleague.core.util.UUIDUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estágio de hidratação de login.
+ *
+ * Carrega, uma única vez por AsyncPlayerPreLoginEvent, todos os dados que os
+ * listeners de login dos módulos precisam (perfil, player_id, vínculo Discord,
+ * assinatura, IPs autorizados, punições ativas e grupos) em duas consultas
+ * sobre a mesma conexão, e compartilha o snapshot via PrimeLeagueAPI.
+ *
+ * O contexto é descartado no quit ou após o TTL (jogadores barrados no pré-login).
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class LoginContextManager {
+
+    // Contextos de jogadores barrados no pré-login nunca passam pelo quit
+    private static final long CONTEXT_TTL_MS = 2 * 60 * 1000L;
+
+    // Consulta 1: player_data + vínculo Discord (uk_player_id garante no máximo uma linha) + assinatura
+    private static final String SELECT_LOGIN_PLAYER_SQL =
+            "SELECT pd.player_id, pd.uuid, pd.name, pd.elo, pd.money, pd.total_playtime, pd.last_seen, " +
+            "pd.total_logins, pd.status, dl.discord_id, dl.verified, du.donor_tier, du.subscription_expires_at " +
+            "FROM player_data pd " +
+            "LEFT JOIN discord_links dl ON dl.player_id = pd.player_id " +
+            "LEFT JOIN discord_users du ON du.discord_id = dl.discord_id " +
+            "WHERE pd.name = ? LIMIT 1";
+
+    // Consulta 2: coleções do jogador em colunas genéricas (kind identifica a origem de cada linha)
+    private static final String SELECT_LOGIN_DETAILS_SQL =
+            "SELECT 'IP' AS kind, 0 AS row_id, NULL AS ref_id, NULL AS ref2_id, 0 AS flag, " +
+            "ip_address AS text1, NULL AS text2, NULL AS text3, authorized_at AS ts1, NULL AS ts2 " +
+            "FROM player_authorized_ips WHERE player_id = ? " +
+            "UNION ALL " +
+            "SELECT 'PUNISHMENT', id, author_player_id, NULL, 0, type, reason, author_name, created_at, expires_at " +
+            "FROM punishments WHERE target_player_id = ? AND type IN ('BAN', 'MUTE') AND is_active = 1 " +
+            "AND (expires_at IS NULL OR expires_at > NOW()) " +
+            "UNION ALL " +
+            "SELECT 'GROUP', id, group_id, added_by_player_id, is_primary, reason, NULL, NULL, added_at, expires_at " +
+            "FROM player_groups WHERE player_id = ? AND (expires_at IS NULL OR expires_at > NOW())";
+
+    private final PrimeLeagueCore plugin;
+    private final DataManager dataManager;
+
+    // Contextos hidratados (nome em minúsculas -> contexto)
+    private final Map<String, LoginContext> contexts = new ConcurrentHashMap<String, LoginContext>();
+
+    public LoginContextManager(PrimeLeagueCore plugin, DataManager dataManager) {
+        this.plugin = plugin;
+        this.dataManager = dataManager;
+    }
+
+    /**
+     * Hidrata o contexto de login de um jogador.
+     * Deve ser chamado na thread assíncrona do AsyncPlayerPreLoginEvent.
+     * Sempre consulta o banco: cada tentativa de login recebe um snapshot novo.
+     *
+     * @param playerName Nome do jogador
+     * @return Contexto hidratado, ou null em caso de erro de banco
+     */
+    public LoginContext hydrate(String playerName) {
+        if (playerName == null || playerName.trim().isEmpty()) {
+            return null;
+        }
+        purgeExpired();
+
+        String key = playerName.toLowerCase();
+        try {
+            LoginContext context = loadContext(playerName);
+
+            // O perfil do contexto passa a ser o perfil em cache do jogador
+            PlayerProfile profile = context.getProfile();
+            if (profile != null) {
+                dataManager.putPlayerProfileInCache(profile.getUuid(), profile);
+            }
+
+            contexts.put(key, context);
+            return context;
+        } catch (SQLException e) {
+            plugin.getLogger().severe("🚨 [LOGIN-CONTEXT] Erro ao hidratar contexto de login para " + playerName + ": " + e.getMessage());
+            // Sem snapshot deste login: descartar o anterior para os chamadores irem direto ao banco
+            contexts.remove(key);
+            return null;
+        }
+    }
+
+    /**
+     * Obtém o contexto de login já hidratado de um jogador.
+     *
+     * @param playerName Nome do jogador
+     * @return Contexto ou null se não hidratado/expirado
+     */
+    public LoginContext getContext(String playerName) {
+        if (playerName == null) {
+            return null;
+        }
+        LoginContext context = contexts.get(playerName.toLowerCase());
+        if (context != null && isExpired(context)) {
+            contexts.remove(playerName.toLowerCase(), context);
+            return null;
+        }
+        return context;
+    }
+
+    /**
+     * Descarta o contexto de um jogador (chamado no quit).
+     *
+     * @param playerName Nome do jogador
+     */
+    public void invalidate(String playerName) {
+        if (playerName != null) {
+            contexts.remove(playerName.toLowerCase());
+        }
+    }
+
+    /**
+     * Limpa todos os contextos.
+     */
+    public void clear() {
+        contexts.clear();
+    }
+
+    public int getContextCount() {
+        return contexts.size();
+    }
+
+    private LoginContext loadContext(String playerName) throws SQLException {
+        try (Connection conn = dataManager.getConnection()) {
+            Integer playerId = null;
+            UUID uuid = null;
+            PlayerProfile profile = null;
+            String discordId = null;
+            boolean verified = false;
+            Timestamp subscriptionExpiresAt = null;
+            int donorTier = 0;
+
+            try (PreparedStatement ps = conn.prepareStatement(SELECT_LOGIN_PLAYER_SQL)) {
+                ps.setString(1, playerName);
+                try (ResultSet rs = ps.executeQuery()) {
+                    if (!rs.next()) {
+                        return LoginContext.notFound(playerName, UUIDUtils.offlineUUIDFromName(playerName));
+                    }
+                    playerId = rs.getInt("player_id");
+                    uuid = UUID.fromString(rs.getString("uuid"));
+                    profile = readProfile(rs, uuid);
+                    discordId = rs.getString("discord_id");
+                    verified = rs.getBoolean("verified");
+                    donorTier = rs.getInt("donor_tier");
+                    subscriptionExpiresAt = rs.getTimestamp("subscription_expires_at");
+                }
+            }
+
+            Map<String, Timestamp> authorizedIps = new HashMap<String, Timestamp>();
+            Punishment activeBan = null;
+            Punishment activeMute = null;
+            List<PlayerGroup> groups = new ArrayList<PlayerGroup>();
+
+            try (PreparedStatement ps = conn.prepareStatement(SELECT_LOGIN_DETAILS_SQL)) {
+                ps.setInt(1, playerId);
+                ps.setInt(2, playerId);
+                ps.setInt(3, playerId);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String kind = rs.getString("kind");
+                        if ("IP".equals(kind)) {
+                            authorizedIps.put(rs.getString("text1"), rs.getTimestamp("ts1"));
+                        } else if ("PUNISHMENT".equals(kind)) {
+                            Punishment punishment = readPunishment(rs, playerId, playerName);
+                            if (punishment.getType() == Punishment.Type.BAN) {
+                                activeBan = mostRecent(activeBan, punishment);
+                            } else {
+                                activeMute = mostRecent(activeMute, punishment);
+                            }
+                        } else if ("GROUP".equals(kind)) {
+                            groups.add(new PlayerGroup(
+                                rs.getInt("row_id"),
+                                playerId,
+                                rs.getInt("ref_id"),
+                                rs.getBoolean("flag"),
+                                rs.getTimestamp("ts2"),
+                                rs.getTimestamp("ts1"),
+                                rs.getInt("ref2_id"),
+                                rs.getString("text1")
+                            ));
+                        }
+                    }
+                }
+            }
+
+            return new LoginContext(playerName, true, playerId, uuid, profile, discordId, verified,
+                    subscriptionExpiresAt, donorTier, authorizedIps, activeBan, activeMute, groups);
+        }
+    }
+
+    private PlayerProfile readProfile(ResultSet rs, UUID uuid) throws SQLException {
+        // Alterações ainda não gravadas pelo write-behind prevalecem sobre o banco
+        PlayerProfile pendingProfile = dataManager.getWriteBehindStore() != null
+                ? dataManager.getWriteBehindStore().getPending(uuid) : null;
+        if (pendingProfile != null) {
+            return pendingProfile;
+        }
+
+        PlayerProfile profile = new PlayerProfile();
+        profile.setUuid(uuid);
+        profile.setPlayerName(rs.getString("name"));
+        profile.setElo(rs.getInt("elo"));
+        profile.setMoney(rs.getBigDecimal("money"));
+        profile.setClanId(null);
+        profile.setTotalPlaytime(rs.getLong("total_playtime"));
+        profile.setLastSeen(rs.getTimestamp("last_seen"));
+        profile.setTotalLogins(rs.getInt("total_logins"));
+
+        String statusStr = rs.getString("status");
+        if (statusStr != null) {
+            profile.setStatus(PlayerProfile.PlayerStatus.valueOf(statusStr));
+        } else {
+            profile.setStatus(PlayerProfile.PlayerStatus.ACTIVE);
+        }
+        profile.markClean();
+        return profile;
+    }
+
+    private Punishment readPunishment(ResultSet rs, int playerId, String playerName) throws SQLException {
+        Punishment punishment = new Punishment();
+        punishment.setId(rs.getInt("row_id"));
+        punishment.setType(Punishment.Type.valueOf(rs.getString("text1")));
+        punishment.setPunishmentType(rs.getString("text1"));
+        punishment.setReason(rs.getString("text2"));
+        punishment.setAuthorName(rs.getString("text3"));
+        int authorPlayerId = rs.getInt("ref_id");
+        if (!rs.wasNull()) {
+            punishment.setAuthorPlayerId(authorPlayerId);
+        }
+        punishment.setTargetPlayerId(playerId);
+        punishment.setTargetName(playerName);
+        punishment.setCreatedAt(rs.getTimestamp("ts1"));
+        punishment.setExpiresAt(rs.getTimestamp("ts2"));
+        punishment.setActive(true);
+        return punishment;
+    }
+
+    private Punishment mostRecent(Punishment current, Punishment candidate) {
+        if (current == null || current.getCreatedAt() == null) {
+            return candidate;
+        }
+        if (candidate.getCreatedAt() != null && candidate.getCreatedAt().after(current.getCreatedAt())) {
+            return candidate;
+        }
+        return current;
+    }
+
+    private boolean isExpired(LoginContext context) {
+        return System.currentTimeMillis() - context.getLoadedAt() > CONTEXT_TTL_MS;
+    }
+
+    private void purgeExpired() {
+        Iterator<LoginContext> it = contexts.values().iterator();
+        while (it.hasNext()) {
+            if (isExpired(it.next())) {
+                it.remove();
+            }
+        }
+    }
+}
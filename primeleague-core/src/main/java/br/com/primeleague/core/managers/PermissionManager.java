@@ -1,27 +1,46 @@
 package br.com.primeleague.core.managers;
 
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.cluster.InvalidationEvent;
 import br.com.primeleague.core.events.GroupPermissionsChangedEvent;
 import br.com.primeleague.core.models.GroupPermission;
+import br.com.primeleague.core.models.LoginContext;
 import br.com.primeleague.core.models.PermissionGroup;
 import br.com.primeleague.core.models.PlayerGroup;
 import br.com.primeleague.core.models.PlayerProfile;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import br.com.primeleague.core.permissions.PermissionTrace;
+import br.com.primeleague.core.permissions.PermissionTrie;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.sql.*;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 /**
  * Gerenciador central do sistema de permissões.
  * Responsável por cache, verificação de permissões e atualizações em tempo real.
  * 
+ * As permissões efetivas de cada jogador são compiladas em uma PermissionTrie
+ * (nós exatos, curingas e negações resolvidos por prioridade de grupo). Jogadores
+ * com o mesmo conjunto de grupos compartilham a mesma trie compilada.
+ * 
+ * A verificação nunca acessa o banco: a trie é compilada no pré-login e
+ * associada ao jogador no PlayerLoginEvent. Em cache miss, responde com as
+ * permissões do(s) grupo(s) padrão enquanto uma única carga assíncrona por
+ * jogador atualiza o cache.
+ * 
  * @author PrimeLeague Development Team
  * @version 1.0.0
  */
@@ -31,8 +50,24 @@ public class PermissionManager implements Listener {
     private final Logger logger;
     private final DataManager dataManager;
     
-    // Cache de permissões por jogador (UUID -> Set<permission_node>)
-    private final Map<UUID, Set<String>> playerPermissionsCache = new ConcurrentHashMap<>();
+    // Cache de permissões por jogador (UUID -> trie compilada)
+    private final Map<UUID, PermissionTrie> playerPermissionsCache = new ConcurrentHashMap<>();
+    
+    // Tries compiladas por conjunto de grupos (IDs em ordem de prioridade -> trie), compartilhadas entre jogadores
+    private final ConcurrentHashMap<GroupSetKey, CompiledTrie> compiledTriesCache = new ConcurrentHashMap<>();
+    
+    // Geração das definições de grupo: cada mudança propagada recebe a próxima
+    private final AtomicLong groupsGeneration = new AtomicLong();
+    
+    // Geração da última mudança de cada grupo (group_id -> geração); reloadAllCache vale para todos
+    private final Map<Integer, Long> groupChangedAt = new ConcurrentHashMap<>();
+    private volatile long allGroupsChangedAt;
+    
+    // Trie dos grupos padrão, servida em cache miss (null = recompilar na próxima leitura)
+    private volatile PermissionTrie defaultPermissions;
+    
+    // Cargas assíncronas em andamento (UUID -> nova carga solicitada durante a atual)
+    private final ConcurrentHashMap<UUID, Boolean> inFlightLoads = new ConcurrentHashMap<>();
     
     // Cache de grupos por jogador (UUID -> List<PlayerGroup>)
     private final Map<UUID, List<PlayerGroup>> playerGroupsCache = new ConcurrentHashMap<>();
@@ -46,6 +81,20 @@ public class PermissionManager implements Listener {
     // Cache de jogadores por grupo (group_id -> Set<UUID>)
     private final Map<Integer, Set<UUID>> groupPlayersCache = new ConcurrentHashMap<>();
     
+    // Índice reverso (UUID -> group_ids em que o jogador está indexado)
+    private final Map<UUID, Set<Integer>> playerGroupIndex = new ConcurrentHashMap<>();
+    
+    // Diagnóstico sob demanda e contadores (sem log no caminho quente)
+    private final PermissionTrace trace;
+    private final LongAdder checks;
+    private final LongAdder granted;
+    private final LongAdder denied;
+    private final LongAdder cacheMisses;
+    private final LongAdder defaultServed;
+    private final LongAdder loadsCoalesced;
+    private final LongAdder triesCompiled;
+    private final LongAdder triesReused;
+    
     /**
      * Construtor do PermissionManager.
      * 
@@ -55,9 +104,21 @@ public class PermissionManager implements Listener {
         this.core = core;
         this.logger = core.getLogger();
         this.dataManager = core.getDataManager();
+        this.trace = new PermissionTrace(logger);
+        
+        MetricsRegistry metrics = core.getMetricsRegistry();
+        this.checks = metrics.counter("permissions.checks");
+        this.granted = metrics.counter("permissions.granted");
+        this.denied = metrics.counter("permissions.denied");
+        this.cacheMisses = metrics.counter("permissions.cache_misses");
+        this.defaultServed = metrics.counter("permissions.default_served");
+        this.loadsCoalesced = metrics.counter("permissions.loads_coalesced");
+        this.triesCompiled = metrics.counter("permissions.tries_compiled");
+        this.triesReused = metrics.counter("permissions.tries_reused");
         
         // Registrar este manager como listener
         Bukkit.getPluginManager().registerEvents(this, core);
+        core.getInvalidationBus().subscribe(InvalidationEvent.Type.GROUP_CHANGED, this::onRemoteGroupChanged);
         
         // Carregar cache inicial
         loadInitialCache();
@@ -69,33 +130,21 @@ public class PermissionManager implements Listener {
      * Carrega o cache inicial do sistema de permissões.
      */
     private void loadInitialCache() {
-        logger.info("🔍 [PERMISSION-DEBUG] loadInitialCache() iniciado");
-        
         try {
-            // Carregar grupos
-            logger.info("🔍 [PERMISSION-DEBUG] Carregando cache de grupos...");
             loadGroupsCache();
-            
-            // Carregar permissões dos grupos
-            logger.info("🔍 [PERMISSION-DEBUG] Carregando cache de permissões de grupos...");
             loadGroupPermissionsCache();
             
             // Carregar jogadores online
-            logger.info("🔍 [PERMISSION-DEBUG] Carregando permissões de jogadores online...");
             Player[] onlinePlayers = Bukkit.getOnlinePlayers();
-            logger.info("🔍 [PERMISSION-DEBUG] - Total de jogadores online: " + onlinePlayers.length);
-            
             for (Player player : onlinePlayers) {
-                logger.info("🔍 [PERMISSION-DEBUG] - Carregando permissões para: " + player.getName() + " (" + player.getUniqueId() + ")");
                 loadPlayerPermissionsAsync(player.getUniqueId());
             }
             
-            logger.info("🔍 [PERMISSION-DEBUG] ✅ Cache inicial de permissões carregado com sucesso!");
-            logger.info("🔍 [PERMISSION-DEBUG] - Grupos carregados: " + groupsCache.size());
-            logger.info("🔍 [PERMISSION-DEBUG] - Permissões de grupos carregadas: " + groupPermissionsCache.size());
+            logger.info("✅ Cache inicial de permissões carregado: " + groupsCache.size() + " grupos, " +
+                       groupPermissionsCache.size() + " grupos com permissões, " + onlinePlayers.length + " jogadores online");
             
         } catch (Exception e) {
-            logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro ao carregar cache inicial de permissões: " + e.getMessage());
+            logger.severe("❌ Erro ao carregar cache inicial de permissões: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -104,17 +153,13 @@ public class PermissionManager implements Listener {
      * Carrega o cache de grupos.
      */
     private void loadGroupsCache() {
-        logger.info("🔍 [PERMISSION-DEBUG] loadGroupsCache() iniciado");
-        
         try (Connection conn = dataManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                  "SELECT group_id, group_name, display_name, description, priority, is_default, is_active, created_at, updated_at " +
                  "FROM permission_groups WHERE is_active = true ORDER BY priority DESC")) {
             
-            logger.info("🔍 [PERMISSION-DEBUG] Executando query para carregar grupos...");
             ResultSet rs = stmt.executeQuery();
             
-            int count = 0;
             while (rs.next()) {
                 PermissionGroup group = new PermissionGroup(
                     rs.getInt("group_id"),
@@ -129,20 +174,11 @@ public class PermissionManager implements Listener {
                 );
                 
                 groupsCache.put(group.getGroupId(), group);
-                groupPlayersCache.put(group.getGroupId(), new HashSet<>());
-                
-                logger.info("🔍 [PERMISSION-DEBUG] - Grupo carregado: ID=" + group.getGroupId() + 
-                           ", Nome=" + group.getGroupName() + 
-                           ", Prioridade=" + group.getPriority() + 
-                           ", Padrão=" + group.isDefault() + 
-                           ", Ativo=" + group.isActive());
-                count++;
+                groupPlayersCache.put(group.getGroupId(), ConcurrentHashMap.newKeySet());
             }
             
-            logger.info("🔍 [PERMISSION-DEBUG] ✅ Cache de grupos carregado: " + count + " grupos");
-            
         } catch (SQLException e) {
-            logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro ao carregar cache de grupos: " + e.getMessage());
+            logger.severe("❌ Erro ao carregar cache de grupos: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -151,19 +187,13 @@ public class PermissionManager implements Listener {
      * Carrega o cache de permissões dos grupos.
      */
     private void loadGroupPermissionsCache() {
-        logger.info("🔍 [PERMISSION-DEBUG] loadGroupPermissionsCache() iniciado");
-        
         try (Connection conn = dataManager.getConnection();
              PreparedStatement stmt = conn.prepareStatement(
                  "SELECT id, group_id, permission_node, is_granted, created_at, created_by_player_id " +
                  "FROM group_permissions")) {
             
-            logger.info("🔍 [PERMISSION-DEBUG] Executando query para carregar permissões de grupos...");
             ResultSet rs = stmt.executeQuery();
             
-            int totalPermissions = 0;
-            Map<Integer, Integer> permissionsPerGroup = new HashMap<>();
-            
             while (rs.next()) {
                 GroupPermission perm = new GroupPermission(
                     rs.getInt("id"),
@@ -175,29 +205,10 @@ public class PermissionManager implements Listener {
                 );
                 
                 groupPermissionsCache.computeIfAbsent(perm.getGroupId(), k -> new ArrayList<>()).add(perm);
-                
-                // Contar permissões por grupo
-                permissionsPerGroup.put(perm.getGroupId(), 
-                    permissionsPerGroup.getOrDefault(perm.getGroupId(), 0) + 1);
-                
-                logger.info("🔍 [PERMISSION-DEBUG] - Permissão carregada: Grupo=" + perm.getGroupId() + 
-                           ", Node=" + perm.getPermissionNode() + 
-                           ", Granted=" + perm.isGranted());
-                
-                totalPermissions++;
-            }
-            
-            logger.info("🔍 [PERMISSION-DEBUG] ✅ Cache de permissões de grupos carregado: " + totalPermissions + " permissões");
-            
-            // Log de permissões por grupo
-            for (Map.Entry<Integer, Integer> entry : permissionsPerGroup.entrySet()) {
-                PermissionGroup group = groupsCache.get(entry.getKey());
-                String groupName = group != null ? group.getGroupName() : "UNKNOWN";
-                logger.info("🔍 [PERMISSION-DEBUG] - Grupo " + groupName + " (ID=" + entry.getKey() + "): " + entry.getValue() + " permissões");
             }
             
         } catch (SQLException e) {
-            logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro ao carregar cache de permissões de grupos: " + e.getMessage());
+            logger.severe("❌ Erro ao carregar cache de permissões de grupos: " + e.getMessage());
             e.printStackTrace();
         }
     }
@@ -205,62 +216,49 @@ public class PermissionManager implements Listener {
     /**
      * Carrega as permissões de um jogador de forma assíncrona.
      * 
+     * Single-flight: se já houver uma carga em andamento para o jogador, apenas
+     * marca que outra é necessária; a tarefa atual repete a carga ao terminar,
+     * então mudanças feitas durante a carga não são perdidas.
+     * 
      * @param playerUuid UUID do jogador
      */
     public void loadPlayerPermissionsAsync(UUID playerUuid) {
-        logger.info("🔍 [PERMISSION-DEBUG] loadPlayerPermissionsAsync() chamado para UUID: " + playerUuid);
+        boolean[] started = new boolean[1];
+        inFlightLoads.compute(playerUuid, (uuid, pending) -> {
+            started[0] = pending == null;
+            return pending == null ? Boolean.FALSE : Boolean.TRUE;
+        });
+        if (!started[0]) {
+            loadsCoalesced.increment();
+            return;
+        }
         
-        Bukkit.getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "permissions.loadPlayerPermissions", () -> {
             try {
-                logger.info("🔍 [PERMISSION-DEBUG] Iniciando carregamento assíncrono para: " + playerUuid);
-                loadPlayerPermissions(playerUuid);
-                
-                // Sincronizar com a thread principal
-                Bukkit.getScheduler().runTask(core, () -> {
-                    logger.info("🔍 [PERMISSION-DEBUG] ✅ Permissões carregadas para jogador: " + playerUuid);
-                    
-                    // Log das permissões carregadas
-                    Set<String> permissions = playerPermissionsCache.get(playerUuid);
-                    if (permissions != null) {
-                        logger.info("🔍 [PERMISSION-DEBUG] - Permissões carregadas: " + permissions);
-                    } else {
-                        logger.warning("🔍 [PERMISSION-DEBUG] ⚠️ Permissões ainda NULL após carregamento!");
-                    }
-                });
-                
+                do {
+                    inFlightLoads.replace(playerUuid, Boolean.FALSE);
+                    loadPlayerPermissions(playerUuid);
+                } while (!inFlightLoads.remove(playerUuid, Boolean.FALSE));
             } catch (Exception e) {
-                logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro ao carregar permissões do jogador " + playerUuid + ": " + e.getMessage());
+                inFlightLoads.remove(playerUuid);
+                logger.severe("❌ Erro ao carregar permissões do jogador " + playerUuid + ": " + e.getMessage());
                 e.printStackTrace();
             }
         });
     }
     
     /**
-     * Carrega as permissões de um jogador de forma síncrona (para resolver cache miss).
+     * Carrega as permissões de um jogador de forma síncrona.
+     * Acessa o banco: não deve ser chamado na thread principal.
      * 
      * @param playerUuid UUID do jogador
      * @throws Exception se houver erro no carregamento
      */
     public void loadPlayerPermissionsSync(UUID playerUuid) throws Exception {
-        logger.info("🔍 [PERMISSION-DEBUG] loadPlayerPermissionsSync() chamado para UUID: " + playerUuid);
+        loadPlayerPermissions(playerUuid);
         
-        try {
-            logger.info("🔍 [PERMISSION-DEBUG] Iniciando carregamento síncrono para: " + playerUuid);
-            loadPlayerPermissions(playerUuid);
-            
-            // Verificar se o carregamento foi bem-sucedido
-            Set<String> permissions = playerPermissionsCache.get(playerUuid);
-            if (permissions != null) {
-                logger.info("🔍 [PERMISSION-DEBUG] ✅ Carregamento síncrono bem-sucedido para: " + playerUuid);
-                logger.info("🔍 [PERMISSION-DEBUG] - Permissões carregadas: " + permissions);
-            } else {
-                logger.warning("🔍 [PERMISSION-DEBUG] ⚠️ Carregamento síncrono falhou - permissões ainda NULL para: " + playerUuid);
-                throw new Exception("Falha no carregamento síncrono de permissões");
-            }
-            
-        } catch (Exception e) {
-            logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro no carregamento síncrono para " + playerUuid + ": " + e.getMessage());
-            throw e;
+        if (playerPermissionsCache.get(playerUuid) == null) {
+            throw new Exception("Falha no carregamento síncrono de permissões");
         }
     }
     
@@ -270,53 +268,62 @@ public class PermissionManager implements Listener {
      * @param playerUuid UUID do jogador
      */
     private void loadPlayerPermissions(UUID playerUuid) {
-        logger.info("🔍 [PERMISSION-DEBUG] loadPlayerPermissions() iniciado para UUID: " + playerUuid);
-        
         try (Connection conn = dataManager.getConnection()) {
-            logger.info("🔍 [PERMISSION-DEBUG] Conexão com banco obtida");
-            
             // Buscar ID do jogador
             Integer playerId = getPlayerId(conn, playerUuid);
-            logger.info("🔍 [PERMISSION-DEBUG] Player ID encontrado: " + playerId);
-            
             if (playerId == null) {
-                logger.warning("🔍 [PERMISSION-DEBUG] ⚠️ Jogador não encontrado no banco: " + playerUuid);
+                // Jogador ainda não registrado: fica com os grupos padrão (evita nova carga a cada verificação)
+                playerPermissionsCache.put(playerUuid, getDefaultPermissions());
                 return;
             }
             
-            // Carregar grupos do jogador
-            logger.info("🔍 [PERMISSION-DEBUG] Carregando grupos do jogador...");
+            // Carregar grupos do jogador e calcular permissões consolidadas
             List<PlayerGroup> playerGroups = loadPlayerGroups(conn, playerId);
-            logger.info("🔍 [PERMISSION-DEBUG] Grupos carregados: " + playerGroups.size() + " grupos");
-            
-            for (PlayerGroup group : playerGroups) {
-                logger.info("🔍 [PERMISSION-DEBUG] - Grupo ID: " + group.getGroupId() + ", Primary: " + group.isPrimary() + ", Expired: " + group.isExpired());
-            }
+            PermissionTrie permissions = calculatePlayerPermissions(playerGroups);
             
             playerGroupsCache.put(playerUuid, playerGroups);
-            
-            // Calcular permissões consolidadas
-            logger.info("🔍 [PERMISSION-DEBUG] Calculando permissões consolidadas...");
-            Set<String> permissions = calculatePlayerPermissions(playerId, playerGroups);
-            logger.info("🔍 [PERMISSION-DEBUG] Permissões calculadas: " + permissions.size() + " permissões");
-            logger.info("🔍 [PERMISSION-DEBUG] - Lista de permissões: " + permissions);
-            
             playerPermissionsCache.put(playerUuid, permissions);
             
             // Atualizar cache de jogadores por grupo
             updateGroupPlayersCache(playerUuid, playerGroups);
             
-            logger.info("🔍 [PERMISSION-DEBUG] ✅ Carregamento de permissões concluído para: " + playerUuid);
-            
         } catch (SQLException e) {
-            logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro SQL ao carregar permissões do jogador " + playerUuid + ": " + e.getMessage());
+            logger.severe("❌ Erro SQL ao carregar permissões do jogador " + playerUuid + ": " + e.getMessage());
             e.printStackTrace();
         } catch (Exception e) {
-            logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro geral ao carregar permissões do jogador " + playerUuid + ": " + e.getMessage());
+            logger.severe("❌ Erro geral ao carregar permissões do jogador " + playerUuid + ": " + e.getMessage());
             e.printStackTrace();
         }
     }
     
+    /**
+     * Carrega as permissões de um jogador a partir do contexto de login já hidratado,
+     * sem acessar o banco (grupos e player_id vêm do pré-login).
+     * 
+     * @param playerUuid UUID do jogador
+     * @param context Contexto de login do jogador
+     */
+    public void loadPlayerPermissions(UUID playerUuid, LoginContext context) {
+        List<PlayerGroup> playerGroups = new ArrayList<>(context.getGroups());
+        PermissionTrie permissions = calculatePlayerPermissions(playerGroups);
+        playerGroupsCache.put(playerUuid, playerGroups);
+        playerPermissionsCache.put(playerUuid, permissions);
+        updateGroupPlayersCache(playerUuid, playerGroups);
+    }
+    
+    /**
+     * Pré-aquece as permissões no pré-login (thread assíncrona): compila a trie do
+     * conjunto de grupos do jogador, que o PlayerLoginEvent apenas associa ao UUID.
+     * 
+     * @param context Contexto de login hidratado
+     */
+    public void prewarm(LoginContext context) {
+        if (context == null || context.getPlayerId() == null) {
+            return;
+        }
+        calculatePlayerPermissions(new ArrayList<>(context.getGroups()));
+    }
+    
     /**
      * Busca o ID do jogador pelo UUID.
      * CORREÇÃO: Usar UUID canônico em vez de UUID do Bukkit
@@ -375,15 +382,14 @@ public class PermissionManager implements Listener {
     
     /**
      * Calcula as permissões consolidadas de um jogador.
+     * A trie é compilada uma vez por conjunto de grupos ativos e reutilizada.
+     * 
+     * Cada trie guarda a geração lida antes da compilação: se um dos grupos
+     * mudou depois disso (propagateGroupChange concorrente), a trie pode ter
+     * sido montada com a definição antiga e é descartada e recompilada, mesmo
+     * que já tenha entrado no cache depois do removeIf da propagação.
      */
-    private Set<String> calculatePlayerPermissions(int playerId, List<PlayerGroup> playerGroups) {
-        logger.info("🔍 [PERMISSION-DEBUG] calculatePlayerPermissions() iniciado para Player ID: " + playerId);
-        
-        Set<String> permissions = new HashSet<>();
-        Map<String, Boolean> permissionMap = new HashMap<>();
-        
-        logger.info("🔍 [PERMISSION-DEBUG] - Total de grupos do jogador: " + playerGroups.size());
-        
+    private PermissionTrie calculatePlayerPermissions(List<PlayerGroup> playerGroups) {
         // Ordenar grupos por prioridade (maior primeiro)
         playerGroups.sort((g1, g2) -> {
             PermissionGroup pg1 = groupsCache.get(g1.getGroupId());
@@ -392,87 +398,140 @@ public class PermissionManager implements Listener {
             return Integer.compare(pg2.getPriority(), pg1.getPriority());
         });
         
-        logger.info("🔍 [PERMISSION-DEBUG] - Grupos ordenados por prioridade:");
-        for (PlayerGroup group : playerGroups) {
-            PermissionGroup pg = groupsCache.get(group.getGroupId());
-            logger.info("🔍 [PERMISSION-DEBUG]   - Grupo ID: " + group.getGroupId() + 
-                       ", Nome: " + (pg != null ? pg.getGroupName() : "NULL") + 
-                       ", Prioridade: " + (pg != null ? pg.getPriority() : "NULL") +
-                       ", Ativo: " + (pg != null ? pg.isActive() : "NULL") +
-                       ", Expirado: " + group.isExpired());
-        }
-        
-        // Processar permissões de cada grupo
-        for (PlayerGroup playerGroup : playerGroups) {
-            if (playerGroup.isExpired()) {
-                logger.info("🔍 [PERMISSION-DEBUG] - Pulando grupo expirado: " + playerGroup.getGroupId());
-                continue;
-            }
+        while (true) {
+            // Lida antes dos caches de grupo: uma mudança posterior invalida o que for compilado aqui
+            long generation = groupsGeneration.get();
             
-            PermissionGroup group = groupsCache.get(playerGroup.getGroupId());
-            if (group == null) {
-                logger.warning("🔍 [PERMISSION-DEBUG] - Grupo não encontrado no cache: " + playerGroup.getGroupId());
-                continue;
+            // Grupos que contribuem com permissões, já na ordem de prioridade
+            List<PermissionGroup> effectiveGroups = new ArrayList<>();
+            for (PlayerGroup playerGroup : playerGroups) {
+                if (playerGroup.isExpired()) {
+                    continue;
+                }
+                
+                PermissionGroup group = groupsCache.get(playerGroup.getGroupId());
+                if (group == null || !group.isActive()) {
+                    continue;
+                }
+                
+                if (!effectiveGroups.contains(group)) {
+                    effectiveGroups.add(group);
+                }
             }
             
-            if (!group.isActive()) {
-                logger.info("🔍 [PERMISSION-DEBUG] - Pulando grupo inativo: " + group.getGroupName());
-                continue;
+            GroupSetKey key = new GroupSetKey(effectiveGroups);
+            CompiledTrie cached = compiledTriesCache.get(key);
+            if (cached != null && isCurrent(key, cached.generation)) {
+                triesReused.increment();
+                return cached.trie;
             }
             
-            List<GroupPermission> groupPerms = groupPermissionsCache.get(playerGroup.getGroupId());
-            if (groupPerms == null) {
-                logger.warning("🔍 [PERMISSION-DEBUG] - Nenhuma permissão encontrada para grupo: " + group.getGroupName());
+            CompiledTrie compiled = new CompiledTrie(compilePermissions(effectiveGroups), generation);
+            triesCompiled.increment();
+            if (!isCurrent(key, generation)) {
+                // Um grupo mudou durante a compilação: descarta e compila de novo
                 continue;
             }
-            
-            logger.info("🔍 [PERMISSION-DEBUG] - Processando grupo: " + group.getGroupName() + " (" + groupPerms.size() + " permissões)");
-            
-            for (GroupPermission perm : groupPerms) {
-                String node = perm.getPermissionNode();
-                
-                // Se a permissão já foi definida por um grupo de maior prioridade, ignorar
-                if (permissionMap.containsKey(node)) {
-                    logger.info("🔍 [PERMISSION-DEBUG]   - Permissão já definida por grupo de maior prioridade: " + node);
-                    continue;
+            // Entre duas compilações concorrentes, fica a de geração mais recente
+            compiledTriesCache.merge(key, compiled,
+                (current, fresh) -> current.generation >= fresh.generation ? current : fresh);
+            return compiled.trie;
+        }
+    }
+    
+    /**
+     * @return true se nenhum grupo do conjunto mudou depois da geração informada
+     */
+    private boolean isCurrent(GroupSetKey key, long generation) {
+        if (allGroupsChangedAt > generation) {
+            return false;
+        }
+        for (int groupId : key.groupIds) {
+            Long changedAt = groupChangedAt.get(groupId);
+            if (changedAt != null && changedAt > generation) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Compila as permissões dos grupos (em ordem de prioridade) em uma trie imutável.
+     */
+    private PermissionTrie compilePermissions(List<PermissionGroup> effectiveGroups) {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        int rank = 0;
+        for (PermissionGroup group : effectiveGroups) {
+            List<GroupPermission> groupPerms = groupPermissionsCache.get(group.getGroupId());
+            if (groupPerms != null) {
+                for (GroupPermission perm : groupPerms) {
+                    // Definições já feitas por um grupo de maior prioridade são ignoradas pelo builder
+                    builder.add(perm.getPermissionNode(), perm.isGranted(), rank);
                 }
-                
-                permissionMap.put(node, perm.isGranted());
-                logger.info("🔍 [PERMISSION-DEBUG]   - Adicionada permissão: " + node + " = " + perm.isGranted());
             }
+            rank++;
         }
-        
-        // Adicionar apenas permissões concedidas
-        for (Map.Entry<String, Boolean> entry : permissionMap.entrySet()) {
-            if (entry.getValue()) {
-                permissions.add(entry.getKey());
-                logger.info("🔍 [PERMISSION-DEBUG] - Permissão final concedida: " + entry.getKey());
-            } else {
-                logger.info("🔍 [PERMISSION-DEBUG] - Permissão negada: " + entry.getKey());
+        return builder.build();
+    }
+    
+    /**
+     * Permissões dos grupos padrão ativos, usadas enquanto as do jogador não estão no cache.
+     */
+    private PermissionTrie getDefaultPermissions() {
+        PermissionTrie permissions = defaultPermissions;
+        if (permissions == null) {
+            List<PermissionGroup> defaultGroups = new ArrayList<>();
+            for (PermissionGroup group : groupsCache.values()) {
+                if (group.isDefault() && group.isActive()) {
+                    defaultGroups.add(group);
+                }
             }
+            defaultGroups.sort((g1, g2) -> Integer.compare(g2.getPriority(), g1.getPriority()));
+            permissions = compilePermissions(defaultGroups);
+            defaultPermissions = permissions;
         }
-        
-        logger.info("🔍 [PERMISSION-DEBUG] - Total de permissões finais: " + permissions.size());
-        logger.info("🔍 [PERMISSION-DEBUG] - Lista final de permissões: " + permissions);
-        
         return permissions;
     }
     
     /**
      * Atualiza o cache de jogadores por grupo.
+     * O índice reverso limita a remoção aos grupos em que o jogador estava.
      */
     private void updateGroupPlayersCache(UUID playerUuid, List<PlayerGroup> playerGroups) {
-        // Remover jogador de todos os grupos
-        for (Set<UUID> players : groupPlayersCache.values()) {
-            players.remove(playerUuid);
-        }
-        
-        // Adicionar jogador aos grupos ativos
+        Set<Integer> groupIds = new HashSet<>();
         for (PlayerGroup playerGroup : playerGroups) {
             if (!playerGroup.isExpired()) {
-                Set<UUID> players = groupPlayersCache.get(playerGroup.getGroupId());
+                groupIds.add(playerGroup.getGroupId());
+            }
+        }
+        
+        Set<Integer> previous = playerGroupIndex.put(playerUuid, groupIds);
+        if (previous != null) {
+            for (Integer groupId : previous) {
+                if (!groupIds.contains(groupId)) {
+                    Set<UUID> players = groupPlayersCache.get(groupId);
+                    if (players != null) {
+                        players.remove(playerUuid);
+                    }
+                }
+            }
+        }
+        
+        for (Integer groupId : groupIds) {
+            groupPlayersCache.computeIfAbsent(groupId, k -> ConcurrentHashMap.newKeySet()).add(playerUuid);
+        }
+    }
+    
+    /**
+     * Remove o jogador do índice de grupos.
+     */
+    private void removeFromGroupPlayersCache(UUID playerUuid) {
+        Set<Integer> previous = playerGroupIndex.remove(playerUuid);
+        if (previous != null) {
+            for (Integer groupId : previous) {
+                Set<UUID> players = groupPlayersCache.get(groupId);
                 if (players != null) {
-                    players.add(playerUuid);
+                    players.remove(playerUuid);
                 }
             }
         }
@@ -487,56 +546,19 @@ public class PermissionManager implements Listener {
      * @return true se o jogador tem a permissão, false caso contrário
      */
     public boolean hasPermission(Player player, String permissionNode) {
-        // 🔧 DEBUG: Log de entrada
-        logger.info("🔍 [PERMISSION-DEBUG] hasPermission() chamado:");
-        logger.info("🔍 [PERMISSION-DEBUG] - Player: " + (player != null ? player.getName() : "NULL"));
-        logger.info("🔍 [PERMISSION-DEBUG] - Permission: " + permissionNode);
-        
         if (player == null || permissionNode == null) {
-            logger.warning("🔍 [PERMISSION-DEBUG] ❌ Parâmetros inválidos - Player: " + (player != null ? "OK" : "NULL") + ", Permission: " + (permissionNode != null ? "OK" : "NULL"));
             return false;
         }
         
         UUID playerUuid = player.getUniqueId();
-        logger.info("🔍 [PERMISSION-DEBUG] - Player UUID: " + playerUuid);
-        
-        Set<String> permissions = playerPermissionsCache.get(playerUuid);
-        logger.info("🔍 [PERMISSION-DEBUG] - Cache hit: " + (permissions != null ? "SIM" : "NÃO"));
-        
-        if (permissions == null) {
-            logger.warning("🔍 [PERMISSION-DEBUG] ⚠️ CACHE MISS - Tentando carregamento síncrono para " + player.getName());
-            
-            // 🔧 CORREÇÃO: Tentar carregamento síncrono primeiro
-            try {
-                loadPlayerPermissionsSync(playerUuid);
-                permissions = playerPermissionsCache.get(playerUuid);
-                
-                if (permissions != null) {
-                    logger.info("🔍 [PERMISSION-DEBUG] ✅ Carregamento síncrono bem-sucedido para " + player.getName());
-                } else {
-                    logger.warning("🔍 [PERMISSION-DEBUG] ⚠️ Carregamento síncrono falhou, iniciando assíncrono para " + player.getName());
-                    loadPlayerPermissionsAsync(playerUuid);
-                    return false; // Por segurança, negar até carregar
-                }
-            } catch (Exception e) {
-                logger.severe("🔍 [PERMISSION-DEBUG] ❌ Erro no carregamento síncrono para " + player.getName() + ": " + e.getMessage());
-                loadPlayerPermissionsAsync(playerUuid);
-                return false; // Por segurança, negar até carregar
-            }
-        }
+        PermissionTrie permissions = playerPermissionsCache.get(playerUuid);
+        boolean cacheMiss = permissions == null;
         
-        boolean hasPermission = permissions.contains(permissionNode);
-        logger.info("🔍 [PERMISSION-DEBUG] - Permissões do jogador: " + permissions);
-        logger.info("🔍 [PERMISSION-DEBUG] - Tem permissão '" + permissionNode + "': " + hasPermission);
-        
-        if (!hasPermission) {
-            logger.warning("🔍 [PERMISSION-DEBUG] ❌ PERMISSÃO NEGADA para " + player.getName() + " - " + permissionNode);
-            logger.warning("🔍 [PERMISSION-DEBUG] - Permissões disponíveis: " + permissions);
-        } else {
-            logger.info("🔍 [PERMISSION-DEBUG] ✅ PERMISSÃO CONCEDIDA para " + player.getName() + " - " + permissionNode);
+        if (cacheMiss) {
+            permissions = onCacheMiss(playerUuid);
         }
         
-        return hasPermission;
+        return recordCheck(player.getName(), playerUuid, permissionNode, permissions.has(permissionNode), permissions, cacheMiss);
     }
     
     /**
@@ -551,15 +573,47 @@ public class PermissionManager implements Listener {
             return false;
         }
         
-        Set<String> permissions = playerPermissionsCache.get(playerUuid);
+        PermissionTrie permissions = playerPermissionsCache.get(playerUuid);
         
-        if (permissions == null) {
-            // Cache miss - carregar permissões
-            loadPlayerPermissionsAsync(playerUuid);
-            return false; // Por segurança, negar até carregar
+        boolean cacheMiss = permissions == null;
+        
+        if (cacheMiss) {
+            permissions = onCacheMiss(playerUuid);
         }
         
-        return permissions.contains(permissionNode);
+        return recordCheck(null, playerUuid, permissionNode, permissions.has(permissionNode), permissions, cacheMiss);
+    }
+    
+    /**
+     * Cache miss: agenda a carga (deduplicada) e responde com os grupos padrão,
+     * sem acessar o banco na thread que está verificando.
+     */
+    private PermissionTrie onCacheMiss(UUID playerUuid) {
+        cacheMisses.increment();
+        defaultServed.increment();
+        loadPlayerPermissionsAsync(playerUuid);
+        return getDefaultPermissions();
+    }
+    
+    /**
+     * Contabiliza a verificação e, se o trace estiver ligado, entrega a amostra.
+     * Sem alocação quando o trace está desligado.
+     */
+    private boolean recordCheck(String subject, UUID subjectUuid, String permissionNode, boolean result,
+                                PermissionTrie permissions, boolean cacheMiss) {
+        checks.increment();
+        (result ? granted : denied).increment();
+        if (trace.isEnabled()) {
+            trace.record(subject, subjectUuid, permissionNode, result, permissions, cacheMiss);
+        }
+        return result;
+    }
+    
+    /**
+     * Modo de diagnóstico das verificações (controlado por /permtrace).
+     */
+    public PermissionTrace getTrace() {
+        return trace;
     }
     
     /**
@@ -569,11 +623,11 @@ public class PermissionManager implements Listener {
      * @return Set de permissões do jogador
      */
     public Set<String> getPlayerPermissions(UUID playerUuid) {
-        Set<String> permissions = playerPermissionsCache.get(playerUuid);
+        PermissionTrie permissions = playerPermissionsCache.get(playerUuid);
         if (permissions == null) {
-            permissions = new HashSet<>();
+            return new HashSet<>();
         }
-        return new HashSet<>(permissions);
+        return new HashSet<>(permissions.getGrantedNodes());
     }
     
     /**
@@ -631,6 +685,11 @@ public class PermissionManager implements Listener {
     /**
      * Handler para o evento de mudança de permissões de grupo.
      * Atualiza o cache em tempo real.
+     * 
+     * Adição/remoção de nó vira um delta na lista de permissões do grupo em
+     * memória; as tries que contêm o grupo são recompiladas uma vez cada e os
+     * jogadores afetados (via índice grupo -> jogadores) trocam de trie sem
+     * nenhuma consulta por jogador.
      */
     @EventHandler
     public void onGroupPermissionsChanged(GroupPermissionsChangedEvent event) {
@@ -639,17 +698,122 @@ public class PermissionManager implements Listener {
         
         logger.info("🔄 Atualizando cache devido a mudança no grupo " + groupId + ": " + actionType);
         
-        // Recarregar cache do grupo afetado
-        reloadGroupCache(groupId);
+        boolean membershipChange = "PLAYER_ADDED_TO_GROUP".equals(actionType) || "PLAYER_REMOVED_FROM_GROUP".equals(actionType);
+        core.getInvalidationBus().publish(InvalidationEvent.Type.GROUP_CHANGED, String.valueOf(groupId), membershipChange ? 1L : 0L);
+        
+        if (applyPermissionDelta(event)) {
+            propagateGroupChange(groupId);
+            return;
+        }
         
-        // Recarregar permissões de todos os jogadores afetados
-        reloadAffectedPlayers(groupId);
+        if (membershipChange) {
+            // A definição do grupo não mudou, apenas quem pertence a ele
+            reloadAffectedPlayers(groupId);
+            return;
+        }
+        
+        // Mudança estrutural (grupo criado, removido ou sem valor informado): recarrega só o grupo
+        core.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "permissions.onGroupPermissionsChanged", () -> {
+            if (reloadGroupCache(groupId)) {
+                propagateGroupChange(groupId);
+            }
+        });
+    }
+    
+    /**
+     * Mudança de grupo feita em outro servidor (thread do barramento).
+     * O evento não traz o jogador afetado: mudança de membros recarrega os
+     * jogadores em cache (cargas deduplicadas); mudança de definição recarrega
+     * só o grupo e propaga em memória.
+     */
+    private void onRemoteGroupChanged(InvalidationEvent event) {
+        final int groupId = event.getIntKey();
+        if (event.getValue() == 1L) {
+            for (UUID playerUuid : playerGroupsCache.keySet()) {
+                loadPlayerPermissionsAsync(playerUuid);
+            }
+            return;
+        }
+        core.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "permissions.onRemoteGroupChanged", () -> {
+            if (reloadGroupCache(groupId)) {
+                propagateGroupChange(groupId);
+            }
+        });
+    }
+    
+    /**
+     * Aplica a adição/remoção de um nó diretamente na lista em cache do grupo.
+     * As listas são substituídas (cópia na escrita), nunca alteradas no lugar.
+     * 
+     * @return true se o evento trazia informação suficiente para o delta
+     */
+    private boolean applyPermissionDelta(GroupPermissionsChangedEvent event) {
+        String node = event.getPermissionNode();
+        if (node == null) {
+            return false;
+        }
+        
+        boolean removed = "PERMISSION_REMOVED".equals(event.getActionType());
+        Boolean granted = event.getGranted();
+        if (!removed && !("PERMISSION_ADDED".equals(event.getActionType()) && granted != null)) {
+            return false;
+        }
+        
+        groupPermissionsCache.compute(event.getGroupId(), (groupId, current) -> {
+            List<GroupPermission> updated = new ArrayList<>();
+            if (current != null) {
+                for (GroupPermission perm : current) {
+                    if (!perm.getPermissionNode().equalsIgnoreCase(node)) {
+                        updated.add(perm);
+                    }
+                }
+            }
+            if (!removed) {
+                updated.add(new GroupPermission(0, groupId, node, granted, new Timestamp(System.currentTimeMillis()), null));
+            }
+            return updated;
+        });
+        return true;
     }
     
     /**
-     * Recarrega o cache de um grupo específico.
+     * Propaga a nova definição de um grupo: descarta as tries que o contêm e
+     * recalcula, em memória, as permissões dos jogadores indexados no grupo.
      */
-    private void reloadGroupCache(int groupId) {
+    private void propagateGroupChange(int groupId) {
+        // Marca o grupo antes do removeIf: uma trie antiga que ainda entre no cache é recusada na leitura
+        groupChangedAt.put(groupId, groupsGeneration.incrementAndGet());
+        compiledTriesCache.keySet().removeIf(key -> key.contains(groupId));
+        defaultPermissions = null;
+        
+        Set<UUID> affectedPlayers = groupPlayersCache.get(groupId);
+        if (affectedPlayers == null || affectedPlayers.isEmpty()) {
+            return;
+        }
+        
+        long compiledBefore = triesCompiled.sum();
+        int updated = 0;
+        for (UUID playerUuid : affectedPlayers) {
+            List<PlayerGroup> playerGroups = playerGroupsCache.get(playerUuid);
+            if (playerGroups == null) {
+                continue;
+            }
+            playerPermissionsCache.put(playerUuid, calculatePlayerPermissions(new ArrayList<>(playerGroups)));
+            // Uma carga em andamento pode ter lido a definição antiga: força nova rodada
+            inFlightLoads.replace(playerUuid, Boolean.TRUE);
+            updated++;
+        }
+        
+        logger.info("🔄 Grupo " + groupId + ": " + updated + " jogadores atualizados em memória (" +
+                   (triesCompiled.sum() - compiledBefore) + " tries recompiladas)");
+    }
+    
+    /**
+     * Recarrega o cache de um grupo específico (uma consulta por grupo, fora da thread principal).
+     * 
+     * @return true se recarregado
+     */
+    private boolean reloadGroupCache(int groupId) {
         try (Connection conn = dataManager.getConnection()) {
             // Recarregar grupo
             try (PreparedStatement stmt = conn.prepareStatement(
@@ -701,9 +865,11 @@ public class PermissionManager implements Listener {
             }
             
             groupPermissionsCache.put(groupId, permissions);
+            return true;
             
         } catch (SQLException e) {
             logger.severe("❌ Erro ao recarregar cache do grupo " + groupId + ": " + e.getMessage());
+            return false;
         }
     }
     
@@ -725,13 +891,42 @@ public class PermissionManager implements Listener {
     // EVENT HANDLERS - LOGIN/LOGOUT
     // ============================================================================
     
+    /**
+     * Associa as permissões pré-aquecidas ao jogador antes do PlayerJoinEvent.
+     * Grupos já carregados no pré-login: a trie sai do cache de compiladas, sem consulta.
+     */
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        Player player = event.getPlayer();
+        
+        LoginContext context = core.getLoginContextManager().getContext(player.getName());
+        if (context != null && context.getPlayerId() != null) {
+            loadPlayerPermissions(player.getUniqueId(), context);
+            return;
+        }
+        loadPlayerPermissionsAsync(player.getUniqueId());
+    }
+    
+    /**
+     * Login recusado por outro listener: o jogador nunca passará pelo quit.
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerLoginResult(PlayerLoginEvent event) {
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            clearPlayerCache(event.getPlayer().getUniqueId());
+        }
+    }
+    
     /**
      * Handler para jogador entrando no servidor.
+     * Normalmente o cache já foi preenchido no login; aqui só cobre a falta do contexto.
      */
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
-        Player player = event.getPlayer();
-        loadPlayerPermissionsAsync(player.getUniqueId());
+        UUID playerUuid = event.getPlayer().getUniqueId();
+        if (!playerPermissionsCache.containsKey(playerUuid)) {
+            loadPlayerPermissionsAsync(playerUuid);
+        }
     }
     
     /**
@@ -739,17 +934,17 @@ public class PermissionManager implements Listener {
      */
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        UUID playerUuid = player.getUniqueId();
-        
-        // Limpar cache do jogador
+        clearPlayerCache(event.getPlayer().getUniqueId());
+    }
+    
+    /**
+     * Remove o jogador dos caches de permissões e de grupos.
+     */
+    private void clearPlayerCache(UUID playerUuid) {
         playerPermissionsCache.remove(playerUuid);
         playerGroupsCache.remove(playerUuid);
         
-        // Remover jogador de todos os grupos
-        for (Set<UUID> players : groupPlayersCache.values()) {
-            players.remove(playerUuid);
-        }
+        removeFromGroupPlayersCache(playerUuid);
     }
     
     /**
@@ -765,6 +960,10 @@ public class PermissionManager implements Listener {
         groupsCache.clear();
         groupPermissionsCache.clear();
         groupPlayersCache.clear();
+        playerGroupIndex.clear();
+        allGroupsChangedAt = groupsGeneration.incrementAndGet();
+        compiledTriesCache.clear();
+        defaultPermissions = null;
         
         // Recarregar
         loadInitialCache();
@@ -779,10 +978,64 @@ public class PermissionManager implements Listener {
      */
     public String getCacheStats() {
         return String.format(
-            "📊 Cache Stats - Grupos: %d, Jogadores: %d, Permissões: %d",
+            "📊 Cache Stats - Grupos: %d, Jogadores: %d, Permissões: %d, Tries compiladas: %d",
             groupsCache.size(),
             playerPermissionsCache.size(),
-            groupPermissionsCache.values().stream().mapToInt(List::size).sum()
+            groupPermissionsCache.values().stream().mapToInt(List::size).sum(),
+            compiledTriesCache.size()
         );
     }
+    
+    /**
+     * Chave de um conjunto de grupos: IDs na ordem de prioridade já resolvida.
+     */
+    /**
+     * Trie compilada e a geração dos grupos lida antes da compilação.
+     */
+    private static final class CompiledTrie {
+        private final PermissionTrie trie;
+        private final long generation;
+        
+        CompiledTrie(PermissionTrie trie, long generation) {
+            this.trie = trie;
+            this.generation = generation;
+        }
+    }
+    
+    private static final class GroupSetKey {
+        private final int[] groupIds;
+        private final int hash;
+        
+        GroupSetKey(List<PermissionGroup> effectiveGroups) {
+            this.groupIds = new int[effectiveGroups.size()];
+            for (int i = 0; i < groupIds.length; i++) {
+                groupIds[i] = effectiveGroups.get(i).getGroupId();
+            }
+            this.hash = Arrays.hashCode(groupIds);
+        }
+        
+        boolean contains(int groupId) {
+            for (int id : groupIds) {
+                if (id == groupId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GroupSetKey && Arrays.equals(groupIds, ((GroupSetKey) o).groupIds);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+        @Override
+        public String toString() {
+            return Arrays.toString(groupIds);
+        }
+    }
 }
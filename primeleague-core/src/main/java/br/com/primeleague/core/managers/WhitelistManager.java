@@ -1,6 +1,8 @@
 package br.com.primeleague.core.managers;
 
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.cluster.InvalidationBus;
+import br.com.primeleague.core.cluster.InvalidationEvent;
 import com.zaxxer.hikari.HikariDataSource;
 
 import java.sql.Connection;
@@ -70,6 +72,21 @@ public final class WhitelistManager {
         this.logger = plugin.getLogger();
         this.dataSource = plugin.getDataManager().getDataSource();
         loadWhitelistFromDatabase();
+        subscribeInvalidations(plugin.getInvalidationBus());
+    }
+
+    /**
+     * Aplica adições/remoções feitas em outros servidores direto nos caches.
+     */
+    private void subscribeInvalidations(InvalidationBus bus) {
+        bus.subscribe(InvalidationEvent.Type.WHITELIST_ADDED, event -> {
+            whitelistedPlayerIds.add((int) event.getValue());
+            whitelistedPlayers.add(UUID.fromString(event.getKey()));
+        });
+        bus.subscribe(InvalidationEvent.Type.WHITELIST_REMOVED, event -> {
+            whitelistedPlayerIds.remove((int) event.getValue());
+            whitelistedPlayers.remove(UUID.fromString(event.getKey()));
+        });
     }
 
     /**
@@ -259,6 +276,7 @@ public final class WhitelistManager {
             
             // Atualizar cache interno baseado em player_id
             whitelistedPlayerIds.add(targetPlayerId);
+            plugin.getInvalidationBus().publish(InvalidationEvent.Type.WHITELIST_ADDED, targetUuid.toString(), targetPlayerId);
             
             logger.info("✅ [WHITELIST-ADD] Jogador " + targetName + " (UUID: " + targetUuid + ", player_id: " + targetPlayerId + ") adicionado à whitelist por " + authorName + ". Motivo: " + reason);
             
@@ -433,6 +451,7 @@ public final class WhitelistManager {
             
             // Atualizar cache interno baseado em player_id
             whitelistedPlayerIds.remove(targetPlayerId);
+            plugin.getInvalidationBus().publish(InvalidationEvent.Type.WHITELIST_REMOVED, targetUuid.toString(), targetPlayerId);
             
             logger.info(String.format(
                 "Jogador (UUID: %s, player_id: %d) removido da whitelist por %s. Motivo: %s",
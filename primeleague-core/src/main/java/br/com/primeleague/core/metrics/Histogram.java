@@ -0,0 +1,100 @@
+package br.com.primeleague.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências com faixas fixas em milissegundos.
+ *
+ * Cada faixa é um LongAdder: registrar uma amostra não aloca nem trava, e os
+ * percentis são aproximados pelo limite superior da faixa que os contém
+ * (suficiente para diagnosticar fila e consultas lentas).
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class Histogram {
+
+    private static final long[] BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public Histogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra uma amostra.
+     *
+     * @param nanos Duração em nanossegundos
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0L, TimeUnit.NANOSECONDS.toMicros(nanos));
+        int index = 0;
+        while (index < BOUNDS_MS.length && micros > BOUNDS_MS[index] * 1000L) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        sumMicros.add(micros);
+        long currentMax = maxMicros.get();
+        while (micros > currentMax && !maxMicros.compareAndSet(currentMax, micros)) {
+            currentMax = maxMicros.get();
+        }
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanMs() {
+        long samples = count.sum();
+        return samples == 0 ? 0.0 : sumMicros.sum() / 1000.0 / samples;
+    }
+
+    public double getMaxMs() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * @param quantile Quantil entre 0 e 1 (ex: 0.99)
+     * @return Limite superior (ms) da faixa que contém o quantil; máximo observado na última faixa
+     */
+    public double getPercentileMs(double quantile) {
+        long samples = count.sum();
+        if (samples == 0) {
+            return 0.0;
+        }
+        long target = Math.max(1L, (long) Math.ceil(samples * quantile));
+        long seen = 0L;
+        for (int i = 0; i < BOUNDS_MS.length; i++) {
+            seen += buckets[i].sum();
+            if (seen >= target) {
+                return Math.min(BOUNDS_MS[i], getMaxMs());
+            }
+        }
+        return getMaxMs();
+    }
+
+    /**
+     * Resumo em JSON para o endpoint de saúde.
+     */
+    public String toJson() {
+        return "{\"count\":" + getCount()
+            + ",\"mean_ms\":" + round(getMeanMs())
+            + ",\"p50_ms\":" + round(getPercentileMs(0.50))
+            + ",\"p95_ms\":" + round(getPercentileMs(0.95))
+            + ",\"p99_ms\":" + round(getPercentileMs(0.99))
+            + ",\"max_ms\":" + round(getMaxMs()) + '}';
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
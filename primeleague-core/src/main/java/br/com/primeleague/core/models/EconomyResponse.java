@@ -1,10 +1,14 @@
 package br.com.primeleague.core.models;
 
+import br.com.primeleague.api.models.Money;
+
 import java.math.BigDecimal;
 
 /**
  * DTO para encapsular o resultado de uma transação econômica.
  * Contém informações sobre sucesso/falha, novo saldo e mensagens de erro.
+ * O novo saldo é mantido em centavos (Money); getNewBalance() converte para BigDecimal
+ * apenas para compatibilidade.
  * 
  * @author PrimeLeague Team
  * @version 1.0
@@ -12,14 +16,19 @@ import java.math.BigDecimal;
 public class EconomyResponse {
     
     private final boolean success;
-    private final BigDecimal newBalance;
+    private final long newBalanceCents;
     private final String errorMessage;
     private final String transactionId;
     
     // Construtor para transação bem-sucedida
     public EconomyResponse(BigDecimal newBalance, String transactionId) {
+        this(Money.toCents(newBalance), transactionId);
+    }
+    
+    // Construtor para transação bem-sucedida (saldo em centavos)
+    private EconomyResponse(long newBalanceCents, String transactionId) {
         this.success = true;
-        this.newBalance = newBalance;
+        this.newBalanceCents = newBalanceCents;
         this.errorMessage = null;
         this.transactionId = transactionId;
     }
@@ -27,14 +36,22 @@ public class EconomyResponse {
     // Construtor para transação falhada
     public EconomyResponse(String errorMessage) {
         this.success = false;
-        this.newBalance = null;
+        this.newBalanceCents = 0L;
         this.errorMessage = errorMessage;
         this.transactionId = null;
     }
     
     // Métodos estáticos para facilitar criação
     public static EconomyResponse success(double newBalance) {
-        return new EconomyResponse(BigDecimal.valueOf(newBalance), "TXN-" + System.currentTimeMillis());
+        return successCents(Money.toCents(newBalance));
+    }
+    
+    public static EconomyResponse success(Money newBalance) {
+        return successCents(newBalance.getCents());
+    }
+    
+    public static EconomyResponse successCents(long newBalanceCents) {
+        return new EconomyResponse(newBalanceCents, "TXN-" + System.currentTimeMillis());
     }
     
     public static EconomyResponse error(String errorMessage) {
@@ -47,7 +64,11 @@ public class EconomyResponse {
     }
     
     public BigDecimal getNewBalance() {
-        return newBalance;
+        return success ? Money.toBigDecimal(newBalanceCents) : null;
+    }
+    
+    public Money getNewBalanceMoney() {
+        return success ? Money.ofCents(newBalanceCents) : null;
     }
     
     public String getErrorMessage() {
@@ -63,7 +84,7 @@ public class EconomyResponse {
      */
     public String getPlayerMessage() {
         if (success) {
-            return "§aTransação realizada com sucesso! Novo saldo: §f$" + newBalance.toString();
+            return "§aTransação realizada com sucesso! Novo saldo: §f$" + Money.toPlainString(newBalanceCents);
         } else {
             return "§cErro na transação: §f" + errorMessage;
         }
@@ -72,7 +93,7 @@ public class EconomyResponse {
     @Override
     public String toString() {
         if (success) {
-            return "EconomyResponse{success=true, newBalance=" + newBalance + ", transactionId='" + transactionId + "'}";
+            return "EconomyResponse{success=true, newBalance=" + Money.toPlainString(newBalanceCents) + ", transactionId='" + transactionId + "'}";
         } else {
             return "EconomyResponse{success=false, errorMessage='" + errorMessage + "'}";
         }
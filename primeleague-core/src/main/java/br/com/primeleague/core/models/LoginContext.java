@@ -0,0 +1,172 @@
+package br.com.primeleague.core.models;
+
+import br.com.primeleague.api.models.Punishment;
+
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Snapshot dos dados de login de um jogador.
+ * Hidratado uma única vez por AsyncPlayerPreLoginEvent pelo LoginContextManager
+ * e compartilhado com todos os módulos via PrimeLeagueAPI#getLoginContext.
+ *
+ * Imutável: os listeners de login apenas leem o snapshot.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class LoginContext {
+
+    private final String playerName;
+    private final long loadedAt;
+
+    // player_data
+    private final boolean exists;
+    private final Integer playerId;
+    private final UUID canonicalUuid;
+    private final PlayerProfile profile;
+
+    // discord_links + discord_users
+    private final String discordId;
+    private final boolean verified;
+    private final Timestamp subscriptionExpiresAt;
+    private final int donorTier;
+
+    // player_authorized_ips (ip -> authorized_at)
+    private final Map<String, Timestamp> authorizedIps;
+
+    // punishments ativas
+    private final Punishment activeBan;
+    private final Punishment activeMute;
+
+    // player_groups válidos
+    private final List<PlayerGroup> groups;
+
+    public LoginContext(String playerName, boolean exists, Integer playerId, UUID canonicalUuid, PlayerProfile profile,
+                        String discordId, boolean verified, Timestamp subscriptionExpiresAt, int donorTier,
+                        Map<String, Timestamp> authorizedIps, Punishment activeBan, Punishment activeMute,
+                        List<PlayerGroup> groups) {
+        this.playerName = playerName;
+        this.loadedAt = System.currentTimeMillis();
+        this.exists = exists;
+        this.playerId = playerId;
+        this.canonicalUuid = canonicalUuid;
+        this.profile = profile;
+        this.discordId = discordId;
+        this.verified = verified;
+        this.subscriptionExpiresAt = subscriptionExpiresAt;
+        this.donorTier = donorTier;
+        this.authorizedIps = authorizedIps != null ? Collections.unmodifiableMap(authorizedIps) : Collections.<String, Timestamp>emptyMap();
+        this.activeBan = activeBan;
+        this.activeMute = activeMute;
+        this.groups = groups != null ? Collections.unmodifiableList(groups) : Collections.<PlayerGroup>emptyList();
+    }
+
+    /**
+     * Cria o contexto de um jogador que ainda não existe no banco.
+     *
+     * @param playerName Nome do jogador
+     * @param offlineUuid UUID determinístico que será usado no registro
+     * @return Contexto vazio
+     */
+    public static LoginContext notFound(String playerName, UUID offlineUuid) {
+        return new LoginContext(playerName, false, null, offlineUuid, null, null, false, null, 0,
+                null, null, null, null);
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    public boolean exists() {
+        return exists;
+    }
+
+    public Integer getPlayerId() {
+        return playerId;
+    }
+
+    public UUID getCanonicalUuid() {
+        return canonicalUuid;
+    }
+
+    public PlayerProfile getProfile() {
+        return profile;
+    }
+
+    public String getDiscordId() {
+        return discordId;
+    }
+
+    public boolean isLinked() {
+        return discordId != null;
+    }
+
+    public boolean isVerified() {
+        return verified;
+    }
+
+    public Timestamp getSubscriptionExpiresAt() {
+        return subscriptionExpiresAt;
+    }
+
+    public boolean hasActiveSubscription() {
+        return subscriptionExpiresAt != null && subscriptionExpiresAt.getTime() > System.currentTimeMillis();
+    }
+
+    public int getDonorTier() {
+        return donorTier;
+    }
+
+    public Map<String, Timestamp> getAuthorizedIps() {
+        return authorizedIps;
+    }
+
+    public boolean isIpAuthorized(String ipAddress) {
+        return ipAddress != null && authorizedIps.containsKey(ipAddress);
+    }
+
+    /**
+     * Verifica se o IP foi autorizado dentro da janela informada.
+     *
+     * @param ipAddress Endereço IP
+     * @param windowMillis Janela em milissegundos
+     * @return true se autorizado recentemente
+     */
+    public boolean isIpRecentlyAuthorized(String ipAddress, long windowMillis) {
+        Timestamp authorizedAt = ipAddress != null ? authorizedIps.get(ipAddress) : null;
+        return authorizedAt != null && System.currentTimeMillis() - authorizedAt.getTime() <= windowMillis;
+    }
+
+    public Punishment getActiveBan() {
+        return activeBan;
+    }
+
+    public Punishment getActiveMute() {
+        return activeMute;
+    }
+
+    public List<PlayerGroup> getGroups() {
+        return groups;
+    }
+
+    @Override
+    public String toString() {
+        return "LoginContext{" +
+                "playerName='" + playerName + '\'' +
+                ", exists=" + exists +
+                ", playerId=" + playerId +
+                ", verified=" + verified +
+                ", authorizedIps=" + authorizedIps.size() +
+                ", banned=" + (activeBan != null) +
+                ", groups=" + groups.size() +
+                '}';
+    }
+}
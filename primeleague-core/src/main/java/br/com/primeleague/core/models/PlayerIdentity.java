@@ -0,0 +1,65 @@
+package br.com.primeleague.core.models;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Registro imutável de identidade de um jogador: player_id ↔ UUID ↔ nome.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class PlayerIdentity {
+
+    private final int playerId;
+    private final UUID uuid;
+    private final String name;
+    private final String nameKey;
+
+    /**
+     * @param playerId ID numérico do jogador
+     * @param uuid UUID do jogador
+     * @param name Nome do jogador (como exibido)
+     */
+    public PlayerIdentity(int playerId, UUID uuid, String name) {
+        this.playerId = playerId;
+        this.uuid = uuid;
+        this.name = name;
+        this.nameKey = normalizeName(name);
+    }
+
+    /**
+     * Normaliza um nome para uso como chave de índice (sem espaços, minúsculas).
+     *
+     * @param name Nome do jogador
+     * @return Chave normalizada ou null
+     */
+    public static String normalizeName(String name) {
+        return name != null ? name.trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerIdentity{" +
+                "playerId=" + playerId +
+                ", uuid=" + uuid +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
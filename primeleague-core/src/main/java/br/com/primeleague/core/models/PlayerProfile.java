@@ -3,6 +3,7 @@ package br.com.primeleague.core.models;
 import java.util.UUID;
 import java.util.Date;
 import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * DTO (Data Transfer Object) para informações do jogador.
@@ -18,6 +19,17 @@ import java.math.BigDecimal;
  */
 public class PlayerProfile {
     
+    // Máscara de campos alterados desde o último flush (write-behind)
+    public static final int DIRTY_NAME = 1;
+    public static final int DIRTY_ELO = 1 << 1;
+    public static final int DIRTY_MONEY = 1 << 2;
+    public static final int DIRTY_PLAYTIME = 1 << 3;
+    public static final int DIRTY_LAST_SEEN = 1 << 4;
+    public static final int DIRTY_LOGINS = 1 << 5;
+    public static final int DIRTY_STATUS = 1 << 6;
+    public static final int DIRTY_ALL = DIRTY_NAME | DIRTY_ELO | DIRTY_MONEY | DIRTY_PLAYTIME
+            | DIRTY_LAST_SEEN | DIRTY_LOGINS | DIRTY_STATUS;
+    
     private UUID uuid;
     private String playerName;
     private int elo;
@@ -29,6 +41,7 @@ public class PlayerProfile {
     private PlayerStatus status;
     private Date createdAt;
     private Date updatedAt;
+    private final AtomicInteger dirtyFields = new AtomicInteger(0);
     
     /**
      * Status do jogador no sistema.
@@ -88,6 +101,7 @@ public class PlayerProfile {
     
     public void setPlayerName(String playerName) {
         this.playerName = playerName;
+        markDirty(DIRTY_NAME);
     }
     
     public int getElo() {
@@ -96,6 +110,7 @@ public class PlayerProfile {
     
     public void setElo(int elo) {
         this.elo = elo;
+        markDirty(DIRTY_ELO);
     }
     
     /**
@@ -116,6 +131,7 @@ public class PlayerProfile {
      */
     public void setMoney(BigDecimal money) {
         this.money = money != null ? money : BigDecimal.ZERO;
+        markDirty(DIRTY_MONEY);
     }
     
     /**
@@ -129,6 +145,7 @@ public class PlayerProfile {
     @Deprecated
     public void setMoney(double money) {
         this.money = BigDecimal.valueOf(money);
+        markDirty(DIRTY_MONEY);
     }
     
     /**
@@ -158,6 +175,7 @@ public class PlayerProfile {
     
     public void setTotalPlaytime(long totalPlaytime) {
         this.totalPlaytime = totalPlaytime;
+        markDirty(DIRTY_PLAYTIME);
     }
     
 
@@ -168,6 +186,7 @@ public class PlayerProfile {
     
     public void setLastSeen(Date lastSeen) {
         this.lastSeen = lastSeen;
+        markDirty(DIRTY_LAST_SEEN);
     }
     
     public int getTotalLogins() {
@@ -176,6 +195,7 @@ public class PlayerProfile {
     
     public void setTotalLogins(int totalLogins) {
         this.totalLogins = totalLogins;
+        markDirty(DIRTY_LOGINS);
     }
     
     public PlayerStatus getStatus() {
@@ -184,6 +204,7 @@ public class PlayerProfile {
     
     public void setStatus(PlayerStatus status) {
         this.status = status;
+        markDirty(DIRTY_STATUS);
     }
     
     public Date getCreatedAt() {
@@ -216,6 +237,7 @@ public class PlayerProfile {
     public void addMoney(BigDecimal amount) {
         if (amount != null && amount.compareTo(BigDecimal.ZERO) > 0) {
             this.money = this.money.add(amount);
+            markDirty(DIRTY_MONEY);
         }
     }
     
@@ -229,6 +251,7 @@ public class PlayerProfile {
         if (amount != null && amount.compareTo(BigDecimal.ZERO) > 0) {
             if (this.money.compareTo(amount) >= 0) {
                 this.money = this.money.subtract(amount);
+                markDirty(DIRTY_MONEY);
                 return true;
             }
         }
@@ -245,6 +268,52 @@ public class PlayerProfile {
         return amount != null && this.money.compareTo(amount) >= 0;
     }
     
+    // ========================================
+    // DIRTY TRACKING (WRITE-BEHIND)
+    // ========================================
+    
+    /**
+     * Marca campos como alterados desde o último flush.
+     * 
+     * @param fields Máscara de campos (constantes DIRTY_*)
+     */
+    public void markDirty(int fields) {
+        int current;
+        do {
+            current = dirtyFields.get();
+            if ((current & fields) == fields) {
+                return;
+            }
+        } while (!dirtyFields.compareAndSet(current, current | fields));
+    }
+    
+    /**
+     * Descarta a marcação de alterações. Usado após hidratar o perfil do banco.
+     */
+    public void markClean() {
+        dirtyFields.set(0);
+    }
+    
+    /**
+     * Verifica se há campos pendentes de persistência.
+     * 
+     * @return true se algum campo foi alterado desde o último flush
+     */
+    public boolean isDirty() {
+        return dirtyFields.get() != 0;
+    }
+    
+    /**
+     * Obtém e limpa atomicamente a máscara de campos alterados.
+     * Deve ser chamado ANTES de ler os valores a persistir: uma alteração
+     * concorrente volta a marcar o campo e será gravada no próximo flush.
+     * 
+     * @return Máscara de campos alterados (0 se nada mudou)
+     */
+    public int consumeDirtyFields() {
+        return dirtyFields.getAndSet(0);
+    }
+    
     @Override
     public String toString() {
         return "PlayerProfile{" +
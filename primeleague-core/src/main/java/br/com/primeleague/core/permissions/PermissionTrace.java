@@ -0,0 +1,164 @@
+package br.com.primeleague.core.permissions;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Modo de diagnóstico das verificações de permissão.
+ *
+ * Desligado por padrão: o custo na verificação é uma leitura volátil. Quando
+ * ligado (via /permtrace), registra as verificações filtradas por jogador e/ou
+ * prefixo de nó, limitadas a N linhas por segundo; o excedente é apenas contado.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class PermissionTrace {
+
+    public static final int DEFAULT_LINES_PER_SECOND = 20;
+
+    private final Logger logger;
+
+    private volatile boolean enabled;
+    private volatile String playerFilter;
+    private volatile UUID playerUuidFilter;
+    private volatile String nodePrefix;
+    private volatile int linesPerSecond = DEFAULT_LINES_PER_SECOND;
+
+    private final AtomicLong currentSecond = new AtomicLong();
+    private final AtomicInteger emittedInSecond = new AtomicInteger();
+    private final AtomicLong emitted = new AtomicLong();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public PermissionTrace(Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Verificação rápida usada no caminho quente antes de qualquer outro trabalho.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Liga o trace.
+     *
+     * @param player Nome ou UUID do jogador a observar (null = todos)
+     * @param prefix Prefixo de nó a observar (null = todos)
+     */
+    public void enable(String player, String prefix) {
+        enable(player, parseUuid(player), prefix);
+    }
+
+    /**
+     * Liga o trace com o UUID do jogador já resolvido, para que as verificações
+     * feitas só pelo UUID (sem nome) também entrem no filtro.
+     *
+     * @param player Nome ou UUID do jogador a observar (null = todos)
+     * @param playerUuid UUID do jogador (null = filtrar só pelo nome)
+     * @param prefix Prefixo de nó a observar (null = todos)
+     */
+    public void enable(String player, UUID playerUuid, String prefix) {
+        this.playerFilter = player != null ? player.toLowerCase(Locale.ROOT) : null;
+        this.playerUuidFilter = player != null ? playerUuid : null;
+        this.nodePrefix = prefix != null ? prefix.toLowerCase(Locale.ROOT) : null;
+        this.emitted.set(0);
+        this.suppressed.set(0);
+        this.enabled = true;
+    }
+
+    public void disable() {
+        this.enabled = false;
+    }
+
+    public void setLinesPerSecond(int linesPerSecond) {
+        this.linesPerSecond = Math.max(1, linesPerSecond);
+    }
+
+    /**
+     * Registra uma verificação, se estiver no escopo e dentro do limite de amostragem.
+     *
+     * @param subject Nome (ou UUID) do jogador verificado
+     * @param node Nó consultado
+     * @param granted Resultado da verificação
+     * @param permissions Trie usada (pode ser null em cache miss sem carga)
+     * @param cacheMiss Se a verificação precisou carregar as permissões
+     */
+    public void record(String subject, String node, boolean granted, PermissionTrie permissions, boolean cacheMiss) {
+        record(subject, null, node, granted, permissions, cacheMiss);
+    }
+
+    /**
+     * Registra uma verificação identificada pelo nome e/ou pelo UUID do jogador.
+     *
+     * @param subject Nome do jogador verificado (null se a verificação foi só pelo UUID)
+     * @param subjectUuid UUID do jogador verificado (pode ser null)
+     * @param node Nó consultado
+     * @param granted Resultado da verificação
+     * @param permissions Trie usada (pode ser null em cache miss sem carga)
+     * @param cacheMiss Se a verificação precisou carregar as permissões
+     */
+    public void record(String subject, UUID subjectUuid, String node, boolean granted, PermissionTrie permissions, boolean cacheMiss) {
+        if (!enabled || !inScope(subject, subjectUuid, node) || !tryAcquire()) {
+            return;
+        }
+        emitted.incrementAndGet();
+        logger.info("🔎 [PERM-TRACE] " + (subject != null ? subject : subjectUuid) + " -> " + node + ": " + (granted ? "CONCEDIDA" : "NEGADA") +
+                   (cacheMiss ? " (cache miss)" : "") +
+                   (permissions != null ? " [" + permissions.getGrantedNodes().size() + " nós concedidos, " +
+                                          permissions.getNodeCount() + " nós na trie]" : " [sem permissões carregadas]"));
+    }
+
+    private boolean inScope(String subject, UUID subjectUuid, String node) {
+        String player = playerFilter;
+        if (player != null && !(subject != null && player.equalsIgnoreCase(subject))
+                && !(subjectUuid != null && subjectUuid.equals(playerUuidFilter))) {
+            return false;
+        }
+        String prefix = nodePrefix;
+        return prefix == null || node.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null || value.length() != 36) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Janela fixa de um segundo: até linesPerSecond linhas por janela.
+     */
+    private boolean tryAcquire() {
+        long second = System.currentTimeMillis() / 1000L;
+        long windowSecond = currentSecond.get();
+        if (second != windowSecond && currentSecond.compareAndSet(windowSecond, second)) {
+            emittedInSecond.set(0);
+        }
+        if (emittedInSecond.incrementAndGet() <= linesPerSecond) {
+            return true;
+        }
+        suppressed.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Estado atual do trace para o comando /permtrace.
+     */
+    public String getStatus() {
+        return "Trace " + (enabled ? "LIGADO" : "DESLIGADO") +
+               " | jogador: " + (playerFilter != null ? playerFilter : "todos") +
+               " | prefixo: " + (nodePrefix != null ? nodePrefix : "todos") +
+               " | limite: " + linesPerSecond + "/s" +
+               " | registradas: " + emitted.get() +
+               " | descartadas: " + suppressed.get();
+    }
+}
@@ -0,0 +1,259 @@
+package br.com.primeleague.core.permissions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Permissões efetivas compiladas em uma trie imutável por segmentos ("a.b.c").
+ *
+ * Suporta:
+ * - Nós exatos ("primeleague.admin.ban")
+ * - Curingas ("primeleague.admin.*" e "*"), que cobrem qualquer nó abaixo do prefixo
+ * - Negação (is_granted = false ou prefixo "-" no nó)
+ *
+ * Resolução: entre o nó exato e os curingas do caminho, vence a definição do
+ * grupo de maior prioridade; no empate de prioridade, vence a mais específica.
+ * A consulta percorre a string original sem criar substrings (sem alocação).
+ *
+ * Instâncias são compartilhadas entre jogadores com o mesmo conjunto de grupos.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class PermissionTrie {
+
+    private static final byte UNSET = 0;
+    private static final byte GRANTED = 1;
+    private static final byte DENIED = 2;
+
+    public static final PermissionTrie EMPTY = new Builder().build();
+
+    private final Node root;
+    private final Set<String> grantedNodes;
+    private final int nodeCount;
+
+    private PermissionTrie(Node root, Set<String> grantedNodes, int nodeCount) {
+        this.root = root;
+        this.grantedNodes = grantedNodes;
+        this.nodeCount = nodeCount;
+    }
+
+    /**
+     * Verifica se o nó de permissão é concedido.
+     *
+     * @param permission Nó de permissão (case-insensitive)
+     * @return true se concedido, false se negado ou não definido
+     */
+    public boolean has(String permission) {
+        if (permission == null || permission.isEmpty()) {
+            return false;
+        }
+
+        // Curinga global "*"
+        byte bestState = root.wildcardState;
+        int bestRank = root.wildcardRank;
+
+        Node current = root;
+        int length = permission.length();
+        int start = 0;
+        while (start <= length) {
+            int end = permission.indexOf('.', start);
+            if (end < 0) {
+                end = length;
+            }
+            Node child = current.child(permission, start, end);
+            if (child == null) {
+                break;
+            }
+            current = child;
+            boolean last = end == length;
+            if (last) {
+                if (child.exactState != UNSET && child.exactRank <= bestRank) {
+                    bestState = child.exactState;
+                    bestRank = child.exactRank;
+                }
+                break;
+            }
+            if (child.wildcardState != UNSET && child.wildcardRank <= bestRank) {
+                bestState = child.wildcardState;
+                bestRank = child.wildcardRank;
+            }
+            start = end + 1;
+        }
+        return bestState == GRANTED;
+    }
+
+    /**
+     * Nós concedidos explicitamente (inclui curingas), para listagem e compatibilidade.
+     */
+    public Set<String> getGrantedNodes() {
+        return grantedNodes;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    @Override
+    public String toString() {
+        return grantedNodes.toString();
+    }
+
+    /**
+     * Nó imutável da trie. Os filhos ficam em arrays ordenados (busca binária).
+     */
+    private static final class Node {
+        final String[] segments;
+        final Node[] children;
+        final byte exactState;
+        final int exactRank;
+        final byte wildcardState;
+        final int wildcardRank;
+
+        Node(String[] segments, Node[] children, byte exactState, int exactRank, byte wildcardState, int wildcardRank) {
+            this.segments = segments;
+            this.children = children;
+            this.exactState = exactState;
+            this.exactRank = exactRank;
+            this.wildcardState = wildcardState;
+            this.wildcardRank = wildcardRank;
+        }
+
+        Node child(String permission, int start, int end) {
+            int low = 0;
+            int high = segments.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compareRegion(segments[mid], permission, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Compara um segmento (já em minúsculas) com a região [start, end) da consulta, ignorando caixa.
+         */
+        private static int compareRegion(String segment, String permission, int start, int end) {
+            int regionLength = end - start;
+            int limit = Math.min(segment.length(), regionLength);
+            for (int i = 0; i < limit; i++) {
+                char a = segment.charAt(i);
+                char b = Character.toLowerCase(permission.charAt(start + i));
+                if (a != b) {
+                    return a - b;
+                }
+            }
+            return segment.length() - regionLength;
+        }
+    }
+
+    /**
+     * Construtor da trie. As definições devem ser adicionadas em ordem de prioridade
+     * (rank 0 = grupo de maior prioridade); a primeira definição de cada nó prevalece.
+     */
+    public static final class Builder {
+
+        private final MutableNode root = new MutableNode();
+        private final Set<String> grantedNodes = new LinkedHashSet<String>();
+        private final Set<String> definedNodes = new LinkedHashSet<String>();
+        private int nodeCount = 1;
+
+        /**
+         * Adiciona uma definição de permissão.
+         *
+         * @param permission Nó ("a.b.c", "a.b.*", "*", com "-" opcional para negação)
+         * @param granted Valor definido no grupo
+         * @param rank Posição do grupo por prioridade (menor = mais prioritário)
+         * @return true se a definição foi aplicada (não sobrescrita por grupo mais prioritário)
+         */
+        public boolean add(String permission, boolean granted, int rank) {
+            if (permission == null) {
+                return false;
+            }
+            String node = permission.trim().toLowerCase(Locale.ROOT);
+            if (node.startsWith("-")) {
+                node = node.substring(1);
+                granted = !granted;
+            }
+            if (node.isEmpty() || !definedNodes.add(node)) {
+                return false;
+            }
+
+            byte state = granted ? GRANTED : DENIED;
+            if (node.equals("*")) {
+                root.setWildcard(state, rank);
+            } else {
+                boolean wildcard = node.endsWith(".*");
+                String path = wildcard ? node.substring(0, node.length() - 2) : node;
+                MutableNode current = root;
+                for (String segment : path.split("\\.")) {
+                    MutableNode child = current.children.get(segment);
+                    if (child == null) {
+                        child = new MutableNode();
+                        current.children.put(segment, child);
+                        nodeCount++;
+                    }
+                    current = child;
+                }
+                if (wildcard) {
+                    current.setWildcard(state, rank);
+                } else {
+                    current.setExact(state, rank);
+                }
+            }
+            if (granted) {
+                grantedNodes.add(node);
+            }
+            return true;
+        }
+
+        public PermissionTrie build() {
+            return new PermissionTrie(root.freeze(), Collections.unmodifiableSet(new LinkedHashSet<String>(grantedNodes)), nodeCount);
+        }
+    }
+
+    private static final class MutableNode {
+        final Map<String, MutableNode> children = new TreeMap<String, MutableNode>();
+        byte exactState = UNSET;
+        int exactRank = Integer.MAX_VALUE;
+        byte wildcardState = UNSET;
+        int wildcardRank = Integer.MAX_VALUE;
+
+        void setExact(byte state, int rank) {
+            if (exactState == UNSET || rank < exactRank) {
+                exactState = state;
+                exactRank = rank;
+            }
+        }
+
+        void setWildcard(byte state, int rank) {
+            if (wildcardState == UNSET || rank < wildcardRank) {
+                wildcardState = state;
+                wildcardRank = rank;
+            }
+        }
+
+        Node freeze() {
+            // TreeMap já ordena os segmentos na mesma ordem usada pela busca binária
+            List<String> keys = new ArrayList<String>(children.keySet());
+            String[] segments = keys.toArray(new String[keys.size()]);
+            Node[] frozen = new Node[segments.length];
+            for (int i = 0; i < segments.length; i++) {
+                frozen[i] = children.get(segments[i]).freeze();
+            }
+            return new Node(segments, frozen, exactState, exactRank, wildcardState, wildcardRank);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package br.com.primeleague.core.profile;
 
 import br.com.primeleague.core.api.PrimeLeagueAPI;
 import br.com.primeleague.core.managers.DataManager;
+import br.com.primeleague.core.managers.LoginAdmissionController;
+import br.com.primeleague.core.models.LoginContext;
 import br.com.primeleague.core.models.PlayerProfile;
 import br.com.primeleague.core.util.UUIDUtils;
 import br.com.primeleague.core.PrimeLeagueCore;
@@ -36,11 +38,30 @@ public final class ProfileListener implements Listener {
     @EventHandler(priority = EventPriority.LOWEST)
     public void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
         String playerName = event.getName();
-        
-        // PASSO 1: Descobrir o UUID CANÔNICO (a fonte da verdade).
-        PlayerProfile existingProfile = dataManager.getPlayerProfileByName(playerName);
+
+        // PASSO 0: Admissão no pipeline de pré-login (fila justa com limite adaptativo)
+        LoginAdmissionController.Admission admission = plugin.getLoginAdmissionController().acquire();
+        if (!admission.isAdmitted()) {
+            event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, admission.getKickMessage());
+            plugin.getLogger().warning("⚠️ [LOGIN-ADMISSION] Login de " + playerName + " recusado (posição na fila: " + admission.getPosition() + ")");
+            return;
+        }
+
+        // PASSO 1: Hidratar o contexto de login (perfil, vínculo, IPs, punições e grupos)
+        // uma única vez; os listeners dos demais módulos leem o mesmo snapshot.
+        LoginContext context = plugin.getLoginContextManager().hydrate(playerName);
+        if (context == null) {
+            plugin.getLoginAdmissionController().recordFailure();
+        }
+
+        // PASSO 1.1: Pré-aquecer as permissões (trie compilada aqui, fora da thread principal;
+        // o PlayerLoginEvent apenas a associa ao jogador antes do join)
+        plugin.getPermissionManager().prewarm(context);
+
+        // PASSO 1.2: Descobrir o UUID CANÔNICO (a fonte da verdade).
+        PlayerProfile existingProfile = context != null ? context.getProfile() : dataManager.getPlayerProfileByName(playerName);
         final UUID canonicalUuid;
-        
+
         if (existingProfile != null) {
             // Jogador já existe, usar o UUID do banco de dados.
             canonicalUuid = existingProfile.getUuid();
@@ -62,7 +83,14 @@ public final class ProfileListener implements Listener {
 
         // PASSO 3: Executar o padrão de "Loading State" com o UUID canônico.
         dataManager.startLoading(canonicalUuid);
-        
+
+        if (context != null) {
+            // Perfil já carregado (e colocado em cache) pela hidratação do contexto
+            plugin.getLogger().info("[PROFILE-LISTENER] Contexto de login hidratado para " + playerName + " (existe: " + context.exists() + ")");
+            dataManager.finishLoading(canonicalUuid);
+            return;
+        }
+
         // REFATORADO: Carregamento assíncrono para evitar bloqueio da thread principal
         dataManager.loadPlayerProfileAsync(canonicalUuid, (profile) -> {
             if (profile == null) {
@@ -84,78 +112,95 @@ public final class ProfileListener implements Listener {
         Player player = event.getPlayer();
         String name = player.getName();
 
+        // player_id já resolvido na hidratação do pré-login: sem nova consulta
+        LoginContext context = plugin.getLoginContextManager().getContext(name);
+        if (context != null && context.getPlayerId() != null) {
+            onPlayerIdResolved(player, name, context.getPlayerId());
+            return;
+        }
+
         // REFATORADO: CACHEAMENTO PREDITIVO - Carregar player_id de forma assíncrona
-        PrimeLeagueAPI.getIdentityManager().getPlayerIdAsync(player, (playerId) -> {
-            // HARDENING: Verificar se o player ainda está online
-            if (!player.isOnline()) {
-                return; // Player não está mais online, abortar callback
-            }
-            
-            if (playerId == null) {
-                // Jogador não encontrado no banco - erro crítico
-                player.kickPlayer("§cErro de identidade. Entre em contato com a administração.");
-                return;
-            }
-            
-            // REGISTRAR JOGADOR NO SISTEMA DE IDENTIDADE (popula o cache)
-            PrimeLeagueAPI.getIdentityManager().registerPlayer(player, playerId);
-            
-            // Verificar se perfil já está no cache
-            PlayerProfile existingProfile = dataManager.getPlayerProfileByName(name);
-            if (existingProfile == null) {
-                // Fallback - carregar se não estiver no cache de forma assíncrona
-                UUID canonicalUuid = UUIDUtils.offlineUUIDFromName(name);
-                dataManager.loadPlayerProfileWithCreationAsync(canonicalUuid, name, (profile) -> {
-                    if (profile != null) {
-                        plugin.getLogger().info("[PROFILE-LISTENER] Perfil carregado assincronamente para " + name);
-                    }
-                });
-            }
+        PrimeLeagueAPI.getIdentityManager().getPlayerIdAsync(player, (playerId) -> onPlayerIdResolved(player, name, playerId));
+    }
 
-            // 🔗 CRIAÇÃO DO MAPEAMENTO DE UUID PARA O CHAT LOG
-            // Obter UUID do Bukkit e UUID canônico do banco
-            UUID bukkitUuid = player.getUniqueId();
-            UUID canonicalUuid = existingProfile != null ? existingProfile.getUuid() : UUIDUtils.offlineUUIDFromName(name);
-            
-            // Criar mapeamento no DataManager para o tradutor de identidade
-            dataManager.addUuidMapping(bukkitUuid, canonicalUuid);
-            
-            // 🔥 DISPARAR EVENTO DE IDENTIDADE CARREGADA
-            // Este evento garante que outros módulos só tentem acessar a identidade após o carregamento completo
-            PlayerIdentityLoadedEvent identityEvent = new PlayerIdentityLoadedEvent(player, playerId, canonicalUuid.toString());
-            Bukkit.getPluginManager().callEvent(identityEvent);
-            plugin.getLogger().info("[PROFILE-LISTENER] Evento PlayerIdentityLoadedEvent disparado para " + name + " (player_id: " + playerId + ")");
-            
-            // 🔥 CACHE WARMING - ECONOMIA
-            // Carregar saldo do jogador no cache para operações instantâneas
-            try {
-                // REFATORADO: Usar método assíncrono para evitar bloqueio da thread principal
-                PrimeLeagueAPI.getEconomyManager().getBalanceAsync(playerId, (balance) -> {
-                    if (balance != null) {
-                        dataManager.getPlugin().getLogger().info("💰 [CACHE-WARMING] Saldo carregado no cache para " + name + ": $" + balance);
-                    }
-                });
-                // Log de debug (opcional)
-                // player.sendMessage("§a💰 Saldo carregado no cache: $" + PrimeLeagueAPI.getEconomyManager().getBalance(playerId));
-            } catch (Exception e) {
-                // Não bloquear o login por falha no cache warming
-                // Log com stack trace para debugging, mas sem bloquear o login
-                dataManager.getPlugin().getLogger().log(java.util.logging.Level.WARNING, 
-                    "⚠️ [CACHE-WARMING] Falha ao carregar saldo no cache para " + name + " (player_id: " + playerId + ")", e);
-            }
-            
-            dataManager.getPlugin().getLogger().info("🔗 [PROFILE-LISTENER] Mapeamento criado para " + name + ": " + bukkitUuid + " → " + canonicalUuid);
-        });
+    /**
+     * Conclui o registro de identidade do jogador após o player_id ser resolvido.
+     */
+    private void onPlayerIdResolved(Player player, String name, Integer playerId) {
+        // HARDENING: Verificar se o player ainda está online
+        if (!player.isOnline()) {
+            return; // Player não está mais online, abortar callback
+        }
+        
+        if (playerId == null) {
+            // Jogador não encontrado no banco - erro crítico
+            player.kickPlayer("§cErro de identidade. Entre em contato com a administração.");
+            return;
+        }
+        
+        // REGISTRAR JOGADOR NO SISTEMA DE IDENTIDADE (popula o cache)
+        PrimeLeagueAPI.getIdentityManager().registerPlayer(player, playerId);
+        
+        // Verificar se perfil já está no cache
+        PlayerProfile existingProfile = dataManager.getPlayerProfileByName(name);
+        if (existingProfile == null) {
+            // Fallback - carregar se não estiver no cache de forma assíncrona
+            UUID canonicalUuid = UUIDUtils.offlineUUIDFromName(name);
+            dataManager.loadPlayerProfileWithCreationAsync(canonicalUuid, name, (profile) -> {
+                if (profile != null) {
+                    plugin.getLogger().info("[PROFILE-LISTENER] Perfil carregado assincronamente para " + name);
+                }
+            });
+        }
+
+        // 🔗 CRIAÇÃO DO MAPEAMENTO DE UUID PARA O CHAT LOG
+        // Obter UUID do Bukkit e UUID canônico do banco
+        UUID bukkitUuid = player.getUniqueId();
+        UUID canonicalUuid = existingProfile != null ? existingProfile.getUuid() : UUIDUtils.offlineUUIDFromName(name);
+        
+        // Criar mapeamento no DataManager para o tradutor de identidade
+        dataManager.addUuidMapping(bukkitUuid, canonicalUuid);
+        
+        // 🔥 DISPARAR EVENTO DE IDENTIDADE CARREGADA
+        // Este evento garante que outros módulos só tentem acessar a identidade após o carregamento completo
+        PlayerIdentityLoadedEvent identityEvent = new PlayerIdentityLoadedEvent(player, playerId, canonicalUuid.toString());
+        Bukkit.getPluginManager().callEvent(identityEvent);
+        plugin.getLogger().info("[PROFILE-LISTENER] Evento PlayerIdentityLoadedEvent disparado para " + name + " (player_id: " + playerId + ")");
+        
+        // 🔥 CACHE WARMING - ECONOMIA
+        // Carregar saldo do jogador no cache para operações instantâneas
+        try {
+            // REFATORADO: Usar método assíncrono para evitar bloqueio da thread principal
+            PrimeLeagueAPI.getEconomyManager().getBalanceAsync(playerId, (balance) -> {
+                if (balance != null) {
+                    dataManager.getPlugin().getLogger().info("💰 [CACHE-WARMING] Saldo carregado no cache para " + name + ": $" + balance);
+                }
+            });
+            // Log de debug (opcional)
+            // player.sendMessage("§a💰 Saldo carregado no cache: $" + PrimeLeagueAPI.getEconomyManager().getBalance(playerId));
+        } catch (Exception e) {
+            // Não bloquear o login por falha no cache warming
+            // Log com stack trace para debugging, mas sem bloquear o login
+            dataManager.getPlugin().getLogger().log(java.util.logging.Level.WARNING, 
+                "⚠️ [CACHE-WARMING] Falha ao carregar saldo no cache para " + name + " (player_id: " + playerId + ")", e);
+        }
+        
+        dataManager.getPlugin().getLogger().info("🔗 [PROFILE-LISTENER] Mapeamento criado para " + name + ": " + bukkitUuid + " → " + canonicalUuid);
     }
 
         @EventHandler(priority = EventPriority.NORMAL)
     public void onQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
         String name = player.getName();
+        // Resolvido antes de desregistrar (null se a identidade não chegou a carregar)
+        Integer playerId = PrimeLeagueAPI.getIdentityManager().getPlayerIdByName(name);
 
         // DESREGISTRAR JOGADOR DO SISTEMA DE IDENTIDADE
         PrimeLeagueAPI.getIdentityManager().unregisterPlayer(player);
 
+        // Descartar o contexto de login hidratado no pré-login
+        plugin.getLoginContextManager().invalidate(name);
+
         // 🗑️ REMOÇÃO DO MAPEAMENTO DE UUID
         UUID bukkitUuid = player.getUniqueId();
         dataManager.removeUuidMapping(bukkitUuid);
@@ -166,6 +211,11 @@ public final class ProfileListener implements Listener {
         if (existingProfile != null) {
             dataManager.savePlayerProfileAsync(existingProfile);
         }
+
+        // Liberar a conta no ledger: sai da memória quando suas mutações chegarem ao banco
+        if (playerId != null) {
+            PrimeLeagueAPI.getEconomyManager().clearPlayerCache(playerId);
+        }
     }
 }
 
@@ -0,0 +1,282 @@
+package br.com.primeleague.core.profile;
+
+import br.com.primeleague.core.managers.DataManager;
+import br.com.primeleague.core.models.PlayerProfile;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Camada write-behind para persistência de perfis de jogadores.
+ *
+ * Em vez de um UPSERT por perfil em uma conexão própria, os perfis alterados
+ * são enfileirados e gravados periodicamente em lotes JDBC por uma thread dedicada:
+ * - Múltiplas alterações no mesmo jogador são coalescidas em uma única linha
+ * - Perfis sem campos sujos (PlayerProfile#isDirty) não geram escrita
+ * - Apenas as colunas alteradas são sobrescritas no banco
+ * - flush síncrono completo no desligamento do Core (drain)
+ *
+ * Um perfil só sai da fila depois do commit, para que os carregamentos nunca
+ * leiam do banco um estado anterior ao que está sendo gravado. Se o banco
+ * recusar o lote (erro de dados, não de conexão), as linhas são regravadas
+ * uma a uma; um perfil recusado MAX_WRITE_ATTEMPTS vezes vai para a quarentena
+ * e deixa de bloquear os demais.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class ProfileWriteBehindStore {
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final DataManager dataManager;
+    private final Logger logger;
+    private final long flushIntervalMs;
+    private final int batchSize;
+
+    // Perfis pendentes de flush (uuid -> perfil); coalesce alterações do mesmo jogador
+    private final Map<UUID, PlayerProfile> pending = new ConcurrentHashMap<UUID, PlayerProfile>();
+
+    // Recusas seguidas do banco por perfil (só erros de dados)
+    private final Map<UUID, Integer> failures = new ConcurrentHashMap<UUID, Integer>();
+
+    // Perfis recusados MAX_WRITE_ATTEMPTS vezes; voltam à fila se forem alterados de novo
+    private final Map<UUID, PlayerProfile> quarantined = new ConcurrentHashMap<UUID, PlayerProfile>();
+
+    // Serializa os flushes (thread dedicada x drain síncrono)
+    private final Object flushLock = new Object();
+
+    private ScheduledExecutorService flusher;
+
+    public ProfileWriteBehindStore(DataManager dataManager, Logger logger, long flushIntervalMs, int batchSize) {
+        this.dataManager = dataManager;
+        this.logger = logger;
+        this.flushIntervalMs = Math.max(100L, flushIntervalMs);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * Inicia a thread de flush periódico.
+     */
+    public void start() {
+        if (flusher != null) {
+            return;
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "PrimeLeague-ProfileFlusher");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        flusher.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    flush();
+                } catch (Throwable t) {
+                    logger.severe("🚨 [WRITE-BEHIND] Erro inesperado no flush de perfis: " + t.getMessage());
+                }
+            }
+        }, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("✅ [WRITE-BEHIND] Flusher de perfis iniciado (intervalo: " + flushIntervalMs + "ms, lote: " + batchSize + ")");
+    }
+
+    /**
+     * Enfileira um perfil para persistência. Perfis sem alterações são ignorados.
+     *
+     * @param profile Perfil do jogador
+     */
+    public void enqueue(PlayerProfile profile) {
+        if (profile == null || profile.getUuid() == null || !profile.isDirty()) {
+            return;
+        }
+        quarantined.remove(profile.getUuid());
+        pending.put(profile.getUuid(), profile);
+    }
+
+    /**
+     * Obtém um perfil ainda não persistido.
+     * Usado pelos carregamentos para não ler do banco um estado mais antigo
+     * que o pendente (ex.: relogin rápido antes do flush).
+     *
+     * @param uuid UUID do jogador
+     * @return Perfil pendente ou null
+     */
+    public PlayerProfile getPending(UUID uuid) {
+        return uuid != null ? pending.get(uuid) : null;
+    }
+
+    /**
+     * Remove um perfil da fila sem gravá-lo (o chamador assume a escrita).
+     *
+     * @param profile Perfil do jogador
+     */
+    public void discard(PlayerProfile profile) {
+        if (profile != null && profile.getUuid() != null) {
+            pending.remove(profile.getUuid(), profile);
+        }
+    }
+
+    /**
+     * Grava todos os perfis pendentes em lotes. Os perfis continuam visíveis
+     * em {@link #getPending} até o commit do lote.
+     *
+     * @return Número de perfis gravados
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            List<PlayerProfile> batch = new ArrayList<PlayerProfile>(batchSize);
+            List<Integer> masks = new ArrayList<Integer>(batchSize);
+            int written = 0;
+
+            for (PlayerProfile profile : pending.values()) {
+                int mask = profile.consumeDirtyFields();
+                if (mask == 0) {
+                    removeIfClean(profile);
+                    continue;
+                }
+                batch.add(profile);
+                masks.add(mask);
+                if (batch.size() >= batchSize) {
+                    written += writeBatch(batch, masks);
+                    batch.clear();
+                    masks.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                written += writeBatch(batch, masks);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Para o flusher e grava sincronamente tudo o que estiver pendente.
+     * Chamado no onDisable do Core, antes do fechamento do pool.
+     */
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        int written = flush();
+        if (!pending.isEmpty()) {
+            logger.severe("🚨 [WRITE-BEHIND] " + pending.size() + " perfis não puderam ser gravados no desligamento");
+        }
+        if (!quarantined.isEmpty()) {
+            logger.severe("🚨 [WRITE-BEHIND] " + quarantined.size() + " perfis em quarentena não gravados: " + quarantined.keySet());
+        }
+        logger.info("✅ [WRITE-BEHIND] Drain concluído: " + written + " perfis gravados");
+    }
+
+    /**
+     * Obtém o número de perfis aguardando flush.
+     *
+     * @return Tamanho da fila
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Obtém o número de perfis em quarentena (recusados pelo banco).
+     *
+     * @return Perfis em quarentena
+     */
+    public int getQuarantinedCount() {
+        return quarantined.size();
+    }
+
+    /**
+     * Grava um lote; em erro de dados, regrava perfil a perfil.
+     *
+     * @return Perfis gravados
+     */
+    private int writeBatch(List<PlayerProfile> batch, List<Integer> masks) {
+        int size = batch.size();
+        try {
+            dataManager.savePlayerProfilesBatch(batch, masks);
+        } catch (SQLException e) {
+            if (isConnectionError(e)) {
+                logger.severe("🚨 [WRITE-BEHIND] Falha ao gravar lote de " + size + " perfis: " + e.getMessage());
+                // Mantém as alterações na fila para a próxima tentativa
+                for (int i = 0; i < size; i++) {
+                    batch.get(i).markDirty(masks.get(i));
+                }
+                return 0;
+            }
+            if (size > 1) {
+                int written = 0;
+                for (int i = 0; i < size; i++) {
+                    written += writeBatch(Collections.singletonList(batch.get(i)), Collections.singletonList(masks.get(i)));
+                }
+                return written;
+            }
+            reject(batch.get(0), masks.get(0), e);
+            return 0;
+        }
+        for (PlayerProfile profile : batch) {
+            failures.remove(profile.getUuid());
+            removeIfClean(profile);
+        }
+        return size;
+    }
+
+    /**
+     * Perfil recusado pelo banco: tenta de novo no próximo flush ou, depois de
+     * MAX_WRITE_ATTEMPTS recusas, tira da fila e coloca em quarentena.
+     */
+    private void reject(PlayerProfile profile, int mask, SQLException e) {
+        profile.markDirty(mask);
+        UUID uuid = profile.getUuid();
+        Integer previous = failures.get(uuid);
+        int attempts = previous != null ? previous + 1 : 1;
+        if (attempts < MAX_WRITE_ATTEMPTS) {
+            failures.put(uuid, attempts);
+            logger.warning("⚠️ [WRITE-BEHIND] Perfil " + uuid + " recusado pelo banco (tentativa " + attempts + "): " + e.getMessage());
+            return;
+        }
+        failures.remove(uuid);
+        if (pending.remove(uuid, profile)) {
+            quarantined.put(uuid, profile);
+        }
+        logger.severe("🚨 [WRITE-BEHIND] Perfil " + uuid + " (" + profile.getPlayerName() + ") recusado " + attempts
+                + " vezes, em quarentena: " + e.getMessage());
+    }
+
+    /**
+     * Tira o perfil da fila se ele não foi alterado desde que as alterações
+     * foram consumidas. Um perfil alterado depois continua (ou volta, pelo
+     * enqueue que segue a alteração) na fila.
+     */
+    private void removeIfClean(final PlayerProfile profile) {
+        pending.computeIfPresent(profile.getUuid(), (uuid, current) -> current == profile && !profile.isDirty() ? null : current);
+    }
+
+    private static boolean isConnectionError(SQLException e) {
+        String state = e.getSQLState();
+        return e instanceof SQLTransientConnectionException || state == null || state.startsWith("08");
+    }
+}
@@ -0,0 +1,239 @@
+package br.com.primeleague.core.scheduler;
+
+import br.com.primeleague.core.metrics.Histogram;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Fila de callbacks para a thread principal com orçamento de tempo por tick.
+ *
+ * Os DAOs e managers entregam aqui os resultados das consultas em vez de um
+ * {@code runTask} por callback. Um único task repetido drena a fila a cada
+ * tick até esgotar o orçamento (main_thread.callback_budget_ms); o que sobra
+ * fica para os ticks seguintes, então uma rajada de logins ou uma operação em
+ * massa de clã se espalha por vários ticks em vez de derrubar o TPS.
+ *
+ * Pelo menos um callback roda por tick, garantindo progresso mesmo com um
+ * callback mais lento que o orçamento inteiro (contado como estouro do plugin).
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class MainThreadDispatcher implements Runnable {
+
+    /**
+     * Callback enfileirado.
+     */
+    private static final class Entry {
+        final Plugin owner;
+        final Runnable task;
+        final long enqueuedAt = System.nanoTime();
+
+        Entry(Plugin owner, Runnable task) {
+            this.owner = owner;
+            this.task = task;
+        }
+    }
+
+    /**
+     * Contadores de um plugin.
+     */
+    private static final class PluginStats {
+        final AtomicInteger backlog = new AtomicInteger();
+        final LongAdder executed;
+        final LongAdder overruns;
+
+        PluginStats(String pluginName, MetricsRegistry metrics) {
+            this.executed = metrics.counter("main_thread.executed." + pluginName);
+            this.overruns = metrics.counter("main_thread.overruns." + pluginName);
+        }
+    }
+
+    private final Plugin plugin;
+    private final Logger logger;
+    private final MetricsRegistry metrics;
+    private final long budgetNanos;
+    private final ConcurrentLinkedQueue<Entry> queue = new ConcurrentLinkedQueue<Entry>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Map<String, PluginStats> stats = new ConcurrentHashMap<String, PluginStats>();
+    private final Histogram waitHistogram;
+    private final Histogram tickHistogram;
+    private final LongAdder carriedOverTicks;
+    private final LongAdder dropped;
+
+    private volatile boolean running;
+    private int taskId = -1;
+
+    /**
+     * @param plugin Plugin dono do task repetido (Core)
+     * @param metrics Registro de métricas
+     * @param budgetMs Tempo máximo por tick gasto com callbacks
+     */
+    public MainThreadDispatcher(Plugin plugin, MetricsRegistry metrics, double budgetMs) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+        this.metrics = metrics;
+        this.budgetNanos = Math.max(100000L, (long) (budgetMs * 1000000.0));
+        this.waitHistogram = metrics.histogram("main_thread.wait_ms");
+        this.tickHistogram = metrics.histogram("main_thread.tick_ms");
+        this.carriedOverTicks = metrics.counter("main_thread.carried_over_ticks");
+        this.dropped = metrics.counter("main_thread.dropped");
+    }
+
+    /**
+     * Agenda a drenagem a cada tick.
+     */
+    public void start() {
+        taskId = plugin.getServer().getScheduler().scheduleSyncRepeatingTask(plugin, this, 1L, 1L);
+        running = taskId != -1;
+    }
+
+    /**
+     * Para a drenagem e executa o que restou (chamado no onDisable, thread principal).
+     */
+    public void stop() {
+        running = false;
+        if (taskId != -1) {
+            plugin.getServer().getScheduler().cancelTask(taskId);
+            taskId = -1;
+        }
+        Entry entry;
+        while ((entry = poll()) != null) {
+            runEntry(entry);
+        }
+    }
+
+    /**
+     * Enfileira um callback para a thread principal.
+     *
+     * @param owner Plugin dono do callback (métricas; descartado se desabilitado)
+     * @param task Callback
+     */
+    public void dispatch(Plugin owner, Runnable task) {
+        if (!running) {
+            // Antes do start ou depois do stop: agenda direto no Bukkit
+            try {
+                owner.getServer().getScheduler().runTask(owner, task);
+            } catch (IllegalPluginAccessException e) {
+                dropped.increment();
+            }
+            return;
+        }
+        statsFor(owner).backlog.incrementAndGet();
+        queued.incrementAndGet();
+        queue.offer(new Entry(owner, task));
+    }
+
+    /**
+     * Executor que enfileira no dispatcher, para o último estágio de um future.
+     *
+     * @param owner Plugin dono dos callbacks
+     */
+    public Executor executor(final Plugin owner) {
+        return task -> dispatch(owner, task);
+    }
+
+    /**
+     * @return Callbacks aguardando a thread principal
+     */
+    public int getBacklog() {
+        return queued.get();
+    }
+
+    @Override
+    public void run() {
+        if (queue.isEmpty()) {
+            return;
+        }
+        long tickStart = System.nanoTime();
+        long deadline = tickStart + budgetNanos;
+        Entry entry;
+        while ((entry = poll()) != null) {
+            long taskStart = System.nanoTime();
+            waitHistogram.record(taskStart - entry.enqueuedAt);
+            runEntry(entry);
+            long taskEnd = System.nanoTime();
+            if (taskEnd - taskStart > budgetNanos) {
+                statsFor(entry.owner).overruns.increment();
+            }
+            if (taskEnd >= deadline) {
+                break;
+            }
+        }
+        if (!queue.isEmpty()) {
+            carriedOverTicks.increment();
+        }
+        tickHistogram.record(System.nanoTime() - tickStart);
+    }
+
+    /**
+     * Estado do dispatcher para o /api/health.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"budget_ms\":").append(TimeUnit.NANOSECONDS.toMicros(budgetNanos) / 1000.0)
+            .append(",\"backlog\":").append(queued.get())
+            .append(",\"carried_over_ticks\":").append(carriedOverTicks.sum())
+            .append(",\"plugins\":{");
+        boolean first = true;
+        for (Map.Entry<String, PluginStats> entry : new TreeMap<String, PluginStats>(stats).entrySet()) {
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            PluginStats pluginStats = entry.getValue();
+            json.append('"').append(entry.getKey()).append("\":{\"backlog\":").append(pluginStats.backlog.get())
+                .append(",\"executed\":").append(pluginStats.executed.sum())
+                .append(",\"overruns\":").append(pluginStats.overruns.sum()).append('}');
+        }
+        return json.append("}}").toString();
+    }
+
+    private Entry poll() {
+        Entry entry = queue.poll();
+        if (entry != null) {
+            queued.decrementAndGet();
+            statsFor(entry.owner).backlog.decrementAndGet();
+        }
+        return entry;
+    }
+
+    private void runEntry(Entry entry) {
+        if (!entry.owner.isEnabled()) {
+            dropped.increment();
+            return;
+        }
+        PluginStats pluginStats = statsFor(entry.owner);
+        try {
+            entry.task.run();
+        } catch (RuntimeException e) {
+            logger.log(Level.SEVERE, "🚨 [MAIN-THREAD] Erro em callback de " + entry.owner.getName() + ": " + e.getMessage(), e);
+        }
+        pluginStats.executed.increment();
+    }
+
+    private PluginStats statsFor(Plugin owner) {
+        String name = owner.getName();
+        PluginStats pluginStats = stats.get(name);
+        if (pluginStats == null) {
+            PluginStats created = new PluginStats(name, metrics);
+            pluginStats = ((ConcurrentHashMap<String, PluginStats>) stats).putIfAbsent(name, created);
+            if (pluginStats == null) {
+                pluginStats = created;
+            }
+        }
+        return pluginStats;
+    }
+}
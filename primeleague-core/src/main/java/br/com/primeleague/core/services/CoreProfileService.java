@@ -1,10 +1,12 @@
 package br.com.primeleague.core.services;
 
 import br.com.primeleague.api.ProfileService;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.core.managers.DataManager;
 import br.com.primeleague.core.models.PlayerProfile;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementação do ProfileService no Core.
@@ -13,9 +15,11 @@ import java.util.UUID;
 public class CoreProfileService implements ProfileService {
     
     private final DataManager dataManager;
+    private final DbExecutor dbExecutor;
     
-    public CoreProfileService(DataManager dataManager) {
+    public CoreProfileService(DataManager dataManager, DbExecutor dbExecutor) {
         this.dataManager = dataManager;
+        this.dbExecutor = dbExecutor;
     }
     
     @Override
@@ -37,4 +41,9 @@ public class CoreProfileService implements ProfileService {
             return null;
         }
     }
+    
+    @Override
+    public CompletableFuture<String> getPlayerNameAsync(UUID uuid) {
+        return dbExecutor.supplyAsync(DbExecutor.Priority.INTERACTIVE, "profile.service.getPlayerName", () -> getPlayerName(uuid));
+    }
 }
@@ -1,46 +1,52 @@
 package br.com.primeleague.core.services;
 
 import br.com.primeleague.api.EconomyService;
+import br.com.primeleague.api.models.Money;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.core.managers.EconomyManager;
 import br.com.primeleague.core.managers.IdentityManager;
+import br.com.primeleague.core.models.EconomyResponse;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Implementação do EconomyService que usa o EconomyManager do Core.
  * 
  * @author PrimeLeague Team
- * @version 1.0.0
+ * @version 1.1.0
  */
 public class EconomyServiceImpl implements EconomyService {
     
     private final EconomyManager economyManager;
     private final IdentityManager identityManager;
+    private final DbExecutor dbExecutor;
     
-    public EconomyServiceImpl(EconomyManager economyManager, IdentityManager identityManager) {
+    public EconomyServiceImpl(EconomyManager economyManager, IdentityManager identityManager, DbExecutor dbExecutor) {
         this.economyManager = economyManager;
         this.identityManager = identityManager;
+        this.dbExecutor = dbExecutor;
     }
     
     @Override
-    public double getPlayerBalance(UUID playerUUID) {
+    public Money getBalance(UUID playerUUID) {
         Integer playerId = identityManager.getPlayerIdByUuid(playerUUID);
         if (playerId == null) {
-            return 0.0;
+            return Money.ZERO;
         }
         
-        return economyManager.getBalance(playerId).doubleValue();
+        return economyManager.getBalanceMoney(playerId);
     }
     
     @Override
-    public boolean withdrawPlayerMoney(UUID playerUUID, double amount, String reason) {
+    public boolean withdraw(UUID playerUUID, Money amount, String reason) {
         Integer playerId = identityManager.getPlayerIdByUuid(playerUUID);
         if (playerId == null) {
             return false;
         }
         
         try {
-            var response = economyManager.withdrawMoney(playerId, amount, reason);
+            EconomyResponse response = economyManager.debitBalance(playerId.intValue(), amount, reason);
             return response.isSuccess();
         } catch (Exception e) {
             return false;
@@ -48,17 +54,35 @@ public class EconomyServiceImpl implements EconomyService {
     }
     
     @Override
-    public boolean depositPlayerMoney(UUID playerUUID, double amount, String reason) {
+    public boolean deposit(UUID playerUUID, Money amount, String reason) {
         Integer playerId = identityManager.getPlayerIdByUuid(playerUUID);
         if (playerId == null) {
             return false;
         }
         
         try {
-            var response = economyManager.depositMoney(playerId, amount, reason);
+            EconomyResponse response = economyManager.creditBalance(playerId.intValue(), amount, reason);
             return response.isSuccess();
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+    
+    @Override
+    public CompletableFuture<Money> getBalanceAsync(UUID playerUUID) {
+        return dbExecutor.supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.service.getBalance", () -> getBalance(playerUUID))
+            .exceptionally(e -> Money.ZERO);
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> withdrawAsync(UUID playerUUID, Money amount, String reason) {
+        return dbExecutor.supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.service.withdraw", () -> withdraw(playerUUID, amount, reason))
+            .exceptionally(e -> false);
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> depositAsync(UUID playerUUID, Money amount, String reason) {
+        return dbExecutor.supplyAsync(DbExecutor.Priority.INTERACTIVE, "economy.service.deposit", () -> deposit(playerUUID, amount, reason))
+            .exceptionally(e -> false);
+    }
+}
@@ -5,6 +5,8 @@ import br.com.primeleague.core.PrimeLeagueCore;
 import br.com.primeleague.core.managers.IdentityManager;
 import org.bukkit.entity.Player;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Implementação do IdentityService para o módulo Core.
  * 
@@ -25,4 +27,9 @@ public class IdentityServiceImpl implements IdentityService {
     public int getPlayerId(Player player) {
         return identityManager.getPlayerId(player);
     }
+    
+    @Override
+    public CompletableFuture<Integer> getPlayerIdAsync(Player player) {
+        return identityManager.getPlayerIdAsync(player);
+    }
 }
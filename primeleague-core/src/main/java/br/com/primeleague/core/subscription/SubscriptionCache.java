@@ -0,0 +1,226 @@
+package br.com.primeleague.core.subscription;
+
+import br.com.primeleague.core.metrics.MetricsRegistry;
+
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache read-through de assinaturas (discord_users + discord_links).
+ *
+ * Duas chaves: discord_id → dados da assinatura compartilhada e
+ * player_id → discord_id vinculado (verificado). As entradas expiram por TTL
+ * e são invalidadas explicitamente pelas escritas do DataManager.
+ *
+ * Escritas concorrentes: o carregador captura {@link #generation()} antes da
+ * consulta e só grava o resultado se nenhuma invalidação ocorreu no meio,
+ * evitando repovoar o cache com dados anteriores à escrita.
+ *
+ * A expiração da assinatura é calculada em memória a partir do timestamp
+ * cacheado, sem NOW() no banco.
+ *
+ * @author PrimeLeague Team
+ * @version 1.0.0
+ */
+public final class SubscriptionCache {
+
+    private final Map<String, DiscordSubscription> byDiscordId = new ConcurrentHashMap<String, DiscordSubscription>();
+    private final Map<Integer, PlayerLink> byPlayerId = new ConcurrentHashMap<Integer, PlayerLink>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMs;
+    private final int maxEntries;
+    private final MetricsRegistry metrics;
+
+    /**
+     * Assinatura compartilhada de um Discord ID (linha de discord_users).
+     */
+    public static final class DiscordSubscription {
+        private final String discordId;
+        private final boolean exists;
+        private final int donorTier;
+        private final long donorTierExpiresAt;
+        private final long subscriptionExpiresAt;
+        private final int linkCount;
+        private final long loadedAt;
+
+        /**
+         * @param discordId Discord ID
+         * @param exists Se existe linha em discord_users
+         * @param donorTier Tier de doador
+         * @param donorTierExpiresAt Expiração do tier (0 = sem data)
+         * @param subscriptionExpiresAt Expiração da assinatura (0 = sem data)
+         * @param linkCount Contas verificadas vinculadas ao Discord ID
+         */
+        public DiscordSubscription(String discordId, boolean exists, int donorTier, long donorTierExpiresAt,
+                                   long subscriptionExpiresAt, int linkCount) {
+            this.discordId = discordId;
+            this.exists = exists;
+            this.donorTier = donorTier;
+            this.donorTierExpiresAt = donorTierExpiresAt;
+            this.subscriptionExpiresAt = subscriptionExpiresAt;
+            this.linkCount = linkCount;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        public String getDiscordId() { return discordId; }
+        public boolean exists() { return exists; }
+        public int getDonorTier() { return donorTier; }
+        public int getLinkCount() { return linkCount; }
+
+        public Timestamp getDonorTierExpiresAt() {
+            return donorTierExpiresAt > 0 ? new Timestamp(donorTierExpiresAt) : null;
+        }
+
+        public Timestamp getSubscriptionExpiresAt() {
+            return subscriptionExpiresAt > 0 ? new Timestamp(subscriptionExpiresAt) : null;
+        }
+
+        /**
+         * @param now Instante atual (ms)
+         * @return true se a assinatura está ativa nesse instante
+         */
+        public boolean isActive(long now) {
+            return exists && subscriptionExpiresAt > now;
+        }
+    }
+
+    /**
+     * Vínculo verificado de um player_id (discordId null = sem vínculo).
+     */
+    public static final class PlayerLink {
+        private final int playerId;
+        private final String discordId;
+        private final long loadedAt;
+
+        public PlayerLink(int playerId, String discordId) {
+            this.playerId = playerId;
+            this.discordId = discordId;
+            this.loadedAt = System.currentTimeMillis();
+        }
+
+        public int getPlayerId() { return playerId; }
+        public String getDiscordId() { return discordId; }
+    }
+
+    /**
+     * @param ttlSeconds Tempo de vida das entradas
+     * @param maxEntries Limite de entradas por índice
+     * @param metrics Registro de métricas (pode ser null)
+     */
+    public SubscriptionCache(int ttlSeconds, int maxEntries, MetricsRegistry metrics) {
+        this.ttlMs = Math.max(1, ttlSeconds) * 1000L;
+        this.maxEntries = Math.max(1, maxEntries);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Geração atual, capturada pelo carregador antes de consultar o banco.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public DiscordSubscription getDiscord(String discordId) {
+        DiscordSubscription entry = byDiscordId.get(discordId);
+        if (entry != null && System.currentTimeMillis() - entry.loadedAt >= ttlMs) {
+            byDiscordId.remove(discordId, entry);
+            entry = null;
+        }
+        count(entry != null ? "subscriptions.hits" : "subscriptions.misses");
+        return entry;
+    }
+
+    public PlayerLink getPlayerLink(int playerId) {
+        PlayerLink link = byPlayerId.get(playerId);
+        if (link != null && System.currentTimeMillis() - link.loadedAt >= ttlMs) {
+            byPlayerId.remove(playerId, link);
+            link = null;
+        }
+        count(link != null ? "subscriptions.hits" : "subscriptions.misses");
+        return link;
+    }
+
+    /**
+     * Grava uma assinatura carregada, se não houve invalidação desde a leitura.
+     */
+    public void putDiscord(DiscordSubscription entry, long loadedGeneration) {
+        if (generation.get() == loadedGeneration && ensureCapacity(byDiscordId)) {
+            byDiscordId.put(entry.discordId, entry);
+        }
+    }
+
+    /**
+     * Grava um vínculo carregado, se não houve invalidação desde a leitura.
+     */
+    public void putPlayerLink(PlayerLink link, long loadedGeneration) {
+        if (generation.get() == loadedGeneration && ensureCapacity(byPlayerId)) {
+            byPlayerId.put(link.playerId, link);
+        }
+    }
+
+    public void invalidateDiscord(String discordId) {
+        if (discordId == null) {
+            return;
+        }
+        generation.incrementAndGet();
+        byDiscordId.remove(discordId);
+        count("subscriptions.invalidations");
+    }
+
+    /**
+     * Invalida o vínculo do jogador e a assinatura do Discord ID vinculado.
+     * Sem vínculo em cache, não há como saber o Discord ID: todas as
+     * assinaturas são descartadas (escritas por jogador são raras).
+     */
+    public void invalidatePlayer(Integer playerId) {
+        generation.incrementAndGet();
+        PlayerLink link = playerId != null ? byPlayerId.remove(playerId) : null;
+        if (link != null && link.discordId != null) {
+            byDiscordId.remove(link.discordId);
+        } else {
+            byDiscordId.clear();
+        }
+        count("subscriptions.invalidations");
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        byDiscordId.clear();
+        byPlayerId.clear();
+        count("subscriptions.invalidations");
+    }
+
+    public int size() {
+        return byDiscordId.size() + byPlayerId.size();
+    }
+
+    /**
+     * Remove entradas expiradas quando o índice atinge o limite.
+     *
+     * @return true se há espaço para uma nova entrada
+     */
+    private boolean ensureCapacity(Map<?, ?> index) {
+        if (index.size() < maxEntries) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        for (Iterator<?> it = index.values().iterator(); it.hasNext(); ) {
+            Object value = it.next();
+            long loadedAt = value instanceof DiscordSubscription
+                ? ((DiscordSubscription) value).loadedAt : ((PlayerLink) value).loadedAt;
+            if (now - loadedAt >= ttlMs) {
+                it.remove();
+            }
+        }
+        return index.size() < maxEntries;
+    }
+
+    private void count(String name) {
+        if (metrics != null) {
+            metrics.counter(name).increment();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.primeleague.core.util;
 
+import br.com.primeleague.api.models.Money;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 
@@ -38,6 +40,26 @@ public final class EconomyUtils {
         return "$" + formatMoney(amount);
     }
     
+    /**
+     * Formata um valor monetário em ponto fixo para exibição.
+     * 
+     * @param amount Valor a ser formatado
+     * @return String formatada com 2 casas decimais
+     */
+    public static String formatMoney(Money amount) {
+        return amount == null ? "0.00" : amount.toString();
+    }
+    
+    /**
+     * Formata um valor monetário em ponto fixo com símbolo de moeda.
+     * 
+     * @param amount Valor a ser formatado
+     * @return String formatada com símbolo "$"
+     */
+    public static String formatMoneyWithSymbol(Money amount) {
+        return "$" + formatMoney(amount);
+    }
+    
     /**
      * Valida se um valor monetário é válido (não nulo e não negativo).
      * 
@@ -48,6 +70,16 @@ public final class EconomyUtils {
         return amount != null && amount.compareTo(BigDecimal.ZERO) >= 0;
     }
     
+    /**
+     * Valida se um valor monetário em ponto fixo é válido (não nulo e não negativo).
+     * 
+     * @param amount Valor a validar
+     * @return true se o valor é válido
+     */
+    public static boolean isValidAmount(Money amount) {
+        return amount != null && !amount.isNegative();
+    }
+    
     /**
      * Converte uma string para BigDecimal de forma segura.
      * 
@@ -61,4 +93,14 @@ public final class EconomyUtils {
             return null;
         }
     }
+    
+    /**
+     * Converte uma string para Money de forma segura (arredondada ao centavo).
+     * 
+     * @param amountStr String a converter
+     * @return Money ou null se inválido
+     */
+    public static Money parseMoney(String amountStr) {
+        return Money.parse(amountStr);
+    }
 }
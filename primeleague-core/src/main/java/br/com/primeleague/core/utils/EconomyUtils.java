@@ -1,5 +1,7 @@
 package br.com.primeleague.core.utils;
 
+import br.com.primeleague.api.models.Money;
+
 import java.text.DecimalFormat;
 import java.util.logging.Logger;
 
@@ -11,6 +13,7 @@ import java.util.logging.Logger;
  * - Formatação de moeda consistente
  * - Valores configuráveis via config.yml
  * - Logs de auditoria
+ * - Validações em centavos (Money); as versões com double são fachada de compatibilidade
  * 
  * @author Prime League Team
  * @version 2.0.0
@@ -31,6 +34,11 @@ public final class EconomyUtils {
     private static double suspiciousAmountThreshold = 5000.0;
     private static int maxDailyTransactions = 1000;
     
+    // Limites em centavos (derivados dos valores acima) usados no caminho quente
+    private static long maxTransactionCents = 1000000L;
+    private static long minShopPriceCents = 1L;
+    private static long suspiciousAmountCents = 500000L;
+    
     /**
      * Inicializa os valores de configuração.
      * Deve ser chamado pelo EconomyManager na inicialização.
@@ -46,6 +54,9 @@ public final class EconomyUtils {
         shopMaintenanceFee = maintenanceFee;
         suspiciousAmountThreshold = suspiciousThreshold;
         maxDailyTransactions = maxDaily;
+        maxTransactionCents = Money.toCents(maxTransaction);
+        minShopPriceCents = Money.toCents(minPrice);
+        suspiciousAmountCents = Money.toCents(suspiciousThreshold);
         
         logger.info("💰 [ECONOMY-UTILS] Configuração inicializada:");
         logger.info("   - Max Transaction: " + formatCurrency(maxTransactionAmount));
@@ -62,18 +73,42 @@ public final class EconomyUtils {
      * @return true se o valor for válido, false caso contrário
      */
     public static boolean isValidAmount(double amount) {
-        if (amount < 0) {
-            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor negativo rejeitado: " + amount);
+        if (Double.isNaN(amount) || Double.isInfinite(amount)) {
+            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor inválido rejeitado: " + amount);
+            return false;
+        }
+        return isValidAmountCents(Money.toCents(amount));
+    }
+    
+    /**
+     * Valida se um valor monetário é válido e dentro dos limites.
+     * 
+     * @param amount Valor a ser validado
+     * @return true se o valor for válido, false caso contrário
+     */
+    public static boolean isValidAmount(Money amount) {
+        return amount != null && isValidAmountCents(amount.getCents());
+    }
+    
+    /**
+     * Valida um valor em centavos (sem alocação).
+     * 
+     * @param cents Valor em centavos
+     * @return true se o valor for válido, false caso contrário
+     */
+    public static boolean isValidAmountCents(long cents) {
+        if (cents < 0) {
+            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor negativo rejeitado: " + Money.toPlainString(cents));
             return false;
         }
         
-        if (amount > maxTransactionAmount) {
-            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor excede limite máximo: " + amount + " > " + maxTransactionAmount);
+        if (cents > maxTransactionCents) {
+            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor excede limite máximo: " + Money.toPlainString(cents) + " > " + maxTransactionAmount);
             return false;
         }
         
-        if (amount < minShopPrice && amount > 0) {
-            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor abaixo do mínimo: " + amount + " < " + minShopPrice);
+        if (cents < minShopPriceCents && cents > 0) {
+            logger.warning("⚠️ [ECONOMY-VALIDATION] Valor abaixo do mínimo: " + Money.toPlainString(cents) + " < " + minShopPrice);
             return false;
         }
         
@@ -105,6 +140,16 @@ public final class EconomyUtils {
         return amount >= suspiciousAmountThreshold;
     }
     
+    /**
+     * Verifica se um valor em centavos é suspeito (sem alocação).
+     * 
+     * @param cents Valor em centavos
+     * @return true se o valor for suspeito, false caso contrário
+     */
+    public static boolean isSuspiciousAmountCents(long cents) {
+        return cents >= suspiciousAmountCents;
+    }
+    
     /**
      * Calcula a taxa de transação para um valor.
      * 
@@ -115,6 +160,16 @@ public final class EconomyUtils {
         return amount * transactionFeeRate;
     }
     
+    /**
+     * Calcula a taxa de transação para um valor, arredondada ao centavo.
+     * 
+     * @param amount Valor da transação
+     * @return Taxa calculada
+     */
+    public static Money calculateTransactionFee(Money amount) {
+        return Money.ofCents(Money.multiply(amount.getCents(), transactionFeeRate));
+    }
+    
     /**
      * Calcula a taxa de mercado para um valor.
      * 
@@ -125,6 +180,16 @@ public final class EconomyUtils {
         return amount * marketTaxRate;
     }
     
+    /**
+     * Calcula a taxa de mercado para um valor, arredondada ao centavo.
+     * 
+     * @param amount Valor da transação
+     * @return Taxa calculada
+     */
+    public static Money calculateMarketTax(Money amount) {
+        return Money.ofCents(Money.multiply(amount.getCents(), marketTaxRate));
+    }
+    
     /**
      * Obtém a taxa de manutenção de lojas.
      * 
@@ -171,6 +236,16 @@ public final class EconomyUtils {
         return "R$ " + CURRENCY_FORMAT.format(amount);
     }
     
+    /**
+     * Formata um valor monetário para exibição.
+     * 
+     * @param amount Valor a ser formatado
+     * @return String formatada
+     */
+    public static String formatCurrency(Money amount) {
+        return formatCurrency(amount.toDouble());
+    }
+    
     /**
      * Formata um valor monetário de forma compacta.
      * Implementação compatível com Java 7/8 (sem NumberFormat.Style).
@@ -204,6 +279,16 @@ public final class EconomyUtils {
         return String.format("%.2f", amount);
     }
     
+    /**
+     * Formata um valor em centavos para logs (sem arredondamento de ponto flutuante).
+     * 
+     * @param cents Valor em centavos
+     * @return String formatada para logs
+     */
+    public static String formatCentsForLogs(long cents) {
+        return Money.toPlainString(cents);
+    }
+    
     /**
      * Valida se uma quantidade de transações diárias é válida.
      * 
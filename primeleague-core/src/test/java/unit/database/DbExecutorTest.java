@@ -0,0 +1,156 @@
+package unit.database;
+
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import br.com.primeleague.core.scheduler.MainThreadDispatcher;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - DbExecutor")
+class DbExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger completed = new AtomicInteger();
+    private MetricsRegistry metrics;
+    private DbExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("DbExecutorTest"));
+        metrics = new MetricsRegistry();
+
+        // Uma thread e uma vaga de fila por faixa e no transbordo
+        YamlConfiguration config = new YamlConfiguration();
+        for (DbExecutor.Priority priority : DbExecutor.Priority.values()) {
+            config.set(priority.getKey() + ".threads", 1);
+            config.set(priority.getKey() + ".queue_capacity", 1);
+        }
+        config.set("overflow.threads", 1);
+        config.set("overflow.queue_capacity", 1);
+
+        // Construído na thread do teste, que faz o papel da thread principal
+        executor = new DbExecutor(plugin, metrics, config, new MainThreadDispatcher(plugin, metrics, 5.0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown(5000L);
+    }
+
+    /**
+     * Tarefa que segura a thread até o fim do teste.
+     */
+    private Runnable blocking() {
+        return () -> {
+            try {
+                release.await(10L, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.incrementAndGet();
+        };
+    }
+
+    /**
+     * Ocupa a thread e a fila da faixa.
+     */
+    private void fillLane(DbExecutor.Priority priority) {
+        executor.execute(priority, "test.block", blocking());
+        executor.execute(priority, "test.block", blocking());
+    }
+
+    @Test
+    @DisplayName("Faixa cheia fora da thread principal deve rodar na thread de quem chamou")
+    void testCallerRunsOffMainThread() throws Exception {
+        fillLane(DbExecutor.Priority.INTERACTIVE);
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        Thread caller = new Thread(() -> executor.execute(DbExecutor.Priority.INTERACTIVE, "test.write",
+            () -> ranOn.set(Thread.currentThread())), "caller");
+        caller.start();
+        caller.join(5000L);
+
+        assertSame(caller, ranOn.get());
+        assertEquals(1L, metrics.counter("db.caller_runs.interactive").sum());
+        assertEquals(0L, metrics.counter("db.rejected.interactive").sum());
+    }
+
+    @Test
+    @DisplayName("Faixa cheia na thread principal deve enviar a tarefa ao transbordo")
+    void testMainThreadUsesOverflow() throws Exception {
+        fillLane(DbExecutor.Priority.LOGIN);
+
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicReference<String> ranOn = new AtomicReference<>();
+        executor.execute(DbExecutor.Priority.LOGIN, "test.write", () -> {
+            ranOn.set(Thread.currentThread().getName());
+            ran.countDown();
+        });
+
+        assertTrue(ran.await(5L, TimeUnit.SECONDS));
+        assertTrue(ranOn.get().startsWith("PrimeLeague-DB-overflow"), ranOn.get());
+        assertEquals(1L, metrics.counter("db.overflowed.login").sum());
+    }
+
+    @Test
+    @DisplayName("Transbordo cheio deve rodar a tarefa na thread principal em vez de descartá-la")
+    void testOverflowFullRunsInline() {
+        fillLane(DbExecutor.Priority.BACKGROUND);
+        // Ocupa a thread e a fila do transbordo
+        executor.execute(DbExecutor.Priority.BACKGROUND, "test.block", blocking());
+        executor.execute(DbExecutor.Priority.BACKGROUND, "test.block", blocking());
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(DbExecutor.Priority.BACKGROUND, "test.write", () -> ranOn.set(Thread.currentThread()));
+
+        assertSame(Thread.currentThread(), ranOn.get());
+        assertEquals(2L, metrics.counter("db.overflowed.background").sum());
+        assertEquals(1L, metrics.counter("db.caller_runs.background").sum());
+    }
+
+    @Test
+    @DisplayName("Nenhuma tarefa aceita por execute deve ser perdida")
+    void testExecuteNeverDrops() {
+        fillLane(DbExecutor.Priority.INTERACTIVE);
+        executor.execute(DbExecutor.Priority.INTERACTIVE, "test.block", blocking());
+        executor.execute(DbExecutor.Priority.INTERACTIVE, "test.block", blocking());
+        // Roda na thread do teste; o release deixa as bloqueadas terminarem
+        executor.execute(DbExecutor.Priority.INTERACTIVE, "test.release", release::countDown);
+
+        executor.shutdown(5000L);
+        assertEquals(4, completed.get());
+    }
+
+    @Test
+    @DisplayName("tryExecute deve recusar a tarefa com a faixa cheia")
+    void testTryExecuteRejects() {
+        fillLane(DbExecutor.Priority.BACKGROUND);
+
+        AtomicInteger ran = new AtomicInteger();
+        assertFalse(executor.tryExecute(DbExecutor.Priority.BACKGROUND, "test.flush", ran::incrementAndGet));
+        assertEquals(0, ran.get());
+        assertEquals(1L, metrics.counter("db.rejected.background").sum());
+        assertTrue(executor.tryExecute(DbExecutor.Priority.LOGIN, "test.flush", ran::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("Deve contar as threads das faixas e do transbordo")
+    void testThreadCount() {
+        assertEquals(4, executor.getThreadCount());
+    }
+}
@@ -0,0 +1,143 @@
+package unit.economy;
+
+import br.com.primeleague.core.economy.EconomyAuditWriter;
+import br.com.primeleague.core.enums.TransactionReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - EconomyAuditWriter")
+class EconomyAuditWriterTest {
+
+    // Maior que o VARCHAR(100) de economy_logs.reason
+    private static final String POISONED_REASON = new String(new char[150]).replace('\0', 'x');
+
+    @TempDir
+    File directory;
+
+    private File spillFile;
+    private volatile boolean databaseDown;
+    private EconomyAuditWriter writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        spillFile = new File(directory, "economy-audit.spill");
+
+        // Cada INSERT recusa motivos longos demais (22001) ou falha por conexão (08S01)
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            List<String> strings = new ArrayList<String>();
+            PreparedStatement statement = mock(PreparedStatement.class);
+            doAnswer(call -> {
+                strings.add(call.getArgument(1));
+                return null;
+            }).when(statement).setString(anyInt(), any());
+            when(statement.executeUpdate()).thenAnswer(call -> {
+                if (databaseDown) {
+                    throw new SQLException("Communications link failure", "08S01");
+                }
+                for (String value : strings) {
+                    if (value != null && value.length() > 100) {
+                        throw new SQLException("Data too long for column 'reason'", "22001");
+                    }
+                }
+                return strings.size() / 3;
+            });
+            return statement;
+        });
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        writer = new EconomyAuditWriter(dataSource, Logger.getLogger("EconomyAuditWriterTest"), spillFile, 1024, 10, 10L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.shutdown();
+    }
+
+    @Test
+    @DisplayName("Lote com erro de dados deve ser regravado linha a linha, só a linha inválida vai ao dead-letter")
+    void testDataErrorFallsBackToRows() throws Exception {
+        writer.start();
+        submitMixedBatch();
+        writer.shutdown();
+
+        assertEquals(2L, writer.getWrittenCount());
+        assertEquals(1L, writer.getDeadLetteredCount());
+        assertFalse(writer.hasPendingSpill());
+        assertDeadLetterHasPoisonedRow();
+    }
+
+    @Test
+    @DisplayName("Replay deve passar do registro inválido em vez de travar no mesmo lote")
+    void testReplaySkipsPoisonedRow() throws Exception {
+        // Antes do start tudo vai para o spill
+        submitMixedBatch();
+        assertTrue(writer.hasPendingSpill());
+
+        writer.start();
+        awaitSpillReplayed();
+
+        assertEquals(2L, writer.getReplayedCount());
+        assertEquals(1L, writer.getDeadLetteredCount());
+        assertFalse(new File(spillFile.getPath() + ".replay.offset").exists());
+        assertDeadLetterHasPoisonedRow();
+    }
+
+    @Test
+    @DisplayName("Falha de conexão deve manter o spill sem enviar nada ao dead-letter")
+    void testConnectionFailureKeepsSpill() throws Exception {
+        databaseDown = true;
+        submitMixedBatch();
+        writer.start();
+        Thread.sleep(100L);
+
+        assertTrue(writer.hasPendingSpill());
+        assertEquals(0L, writer.getDeadLetteredCount());
+        assertEquals(0L, writer.getReplayedCount());
+
+        databaseDown = false;
+        awaitSpillReplayed();
+
+        assertEquals(2L, writer.getReplayedCount());
+        assertEquals(1L, writer.getDeadLetteredCount());
+    }
+
+    private void submitMixedBatch() {
+        writer.submit(1, TransactionReason.ADMIN_GIVE, 100L, 0L, 100L, "ok", null, null);
+        writer.submit(2, TransactionReason.ADMIN_GIVE, 100L, 0L, 100L, POISONED_REASON, null, null);
+        writer.submit(3, TransactionReason.ADMIN_GIVE, 100L, 0L, 100L, "ok", null, 1);
+    }
+
+    private void awaitSpillReplayed() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (writer.hasPendingSpill() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        assertFalse(writer.hasPendingSpill());
+    }
+
+    private void assertDeadLetterHasPoisonedRow() throws Exception {
+        List<String> lines = Files.readAllLines(new File(spillFile.getPath() + ".dead").toPath(), StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains(POISONED_REASON));
+    }
+}
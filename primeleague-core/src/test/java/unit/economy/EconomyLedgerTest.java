@@ -0,0 +1,125 @@
+package unit.economy;
+
+import br.com.primeleague.core.economy.EconomyLedger;
+import br.com.primeleague.core.enums.TransactionReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - EconomyLedger")
+class EconomyLedgerTest {
+
+    private static final int PLAYER_ID = 7;
+
+    @TempDir
+    File directory;
+
+    private EconomyLedger ledger;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Sem checkpoint gravado; todo jogador começa com 100.00 no banco
+        ResultSet noCheckpoint = mock(ResultSet.class);
+        PreparedStatement checkpointStatement = mock(PreparedStatement.class);
+        when(checkpointStatement.executeQuery()).thenReturn(noCheckpoint);
+
+        PreparedStatement balanceStatement = mock(PreparedStatement.class);
+        when(balanceStatement.executeQuery()).thenAnswer(invocation -> {
+            ResultSet row = mock(ResultSet.class);
+            when(row.next()).thenReturn(true, false);
+            when(row.getBigDecimal("money")).thenReturn(new BigDecimal("100.00"));
+            return row;
+        });
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.startsWith("SELECT last_sequence")) {
+                return checkpointStatement;
+            }
+            if (sql.startsWith("SELECT money")) {
+                return balanceStatement;
+            }
+            return mock(PreparedStatement.class);
+        });
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // Intervalo longo: os flushes do teste são chamados à mão
+        ledger = new EconomyLedger(dataSource, Logger.getLogger("EconomyLedgerTest"), directory, 1024, 60000L, 100, true);
+        ledger.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.shutdown();
+    }
+
+    @Test
+    @DisplayName("Conta sem mutações pendentes deve sair da memória no release")
+    void testReleaseEvictsCheckpointedAccount() throws Exception {
+        assertEquals(Long.valueOf(10000L), ledger.getBalance(PLAYER_ID));
+        assertEquals(1, ledger.getLoadedAccountCount());
+
+        ledger.release(PLAYER_ID);
+
+        assertEquals(0, ledger.getLoadedAccountCount());
+        assertNull(ledger.getLoadedBalance(PLAYER_ID));
+    }
+
+    @Test
+    @DisplayName("Release com mutação pendente deve esperar o flush para remover a conta")
+    void testReleaseWaitsForFlush() throws Exception {
+        assertTrue(ledger.apply(PLAYER_ID, 500L, TransactionReason.ADMIN_GIVE, "teste").isSuccess());
+        ledger.release(PLAYER_ID);
+
+        // O banco ainda não tem o crédito: recarregar agora perderia o saldo
+        assertEquals(Long.valueOf(10500L), ledger.getLoadedBalance(PLAYER_ID));
+        assertEquals(1L, ledger.getPendingEntries());
+
+        assertEquals(1, ledger.flush());
+
+        assertEquals(0, ledger.getLoadedAccountCount());
+        assertNull(ledger.getLoadedBalance(PLAYER_ID));
+    }
+
+    @Test
+    @DisplayName("Novo acesso depois do release deve cancelar a remoção")
+    void testAccessCancelsRelease() throws Exception {
+        assertTrue(ledger.apply(PLAYER_ID, -2500L, TransactionReason.ADMIN_TAKE, "teste").isSuccess());
+        ledger.release(PLAYER_ID);
+        assertEquals(Long.valueOf(7500L), ledger.getBalance(PLAYER_ID));
+
+        ledger.flush();
+
+        assertEquals(1, ledger.getLoadedAccountCount());
+        assertEquals(Long.valueOf(7500L), ledger.getLoadedBalance(PLAYER_ID));
+    }
+
+    @Test
+    @DisplayName("Só as contas liberadas devem sair da memória no flush")
+    void testFlushEvictsOnlyReleased() throws Exception {
+        ledger.transfer(PLAYER_ID, 8, 1000L, "teste");
+        ledger.release(8);
+
+        ledger.flush();
+
+        assertEquals(1, ledger.getLoadedAccountCount());
+        assertEquals(Long.valueOf(9000L), ledger.getLoadedBalance(PLAYER_ID));
+        assertNull(ledger.getLoadedBalance(8));
+    }
+}
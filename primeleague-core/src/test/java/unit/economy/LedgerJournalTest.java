@@ -0,0 +1,200 @@
+package unit.economy;
+
+import br.com.primeleague.core.economy.LedgerJournal;
+import br.com.primeleague.core.enums.TransactionReason;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - LedgerJournal")
+class LedgerJournalTest {
+
+    private static final int SEGMENT_RECORDS = 1024;
+
+    @TempDir
+    File directory;
+
+    private LedgerJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private LedgerJournal reopen(long checkpoint) throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+        journal = new LedgerJournal(directory, SEGMENT_RECORDS, Logger.getLogger("LedgerJournalTest"));
+        journal.open(checkpoint);
+        return journal;
+    }
+
+    private File segmentFile(long baseSequence) {
+        return new File(directory, String.format("segment-%020d.journal", baseSequence));
+    }
+
+    @Test
+    @DisplayName("Deve ler de volta todos os campos do registro, com o motivo pelo nome")
+    void testAppendAndRead() throws IOException {
+        reopen(-1);
+        long first = journal.append(LedgerJournal.TYPE_SINGLE, TransactionReason.ADMIN_GIVE, 7, 0, 1500, 2500, 0, "Bônus ação");
+        long second = journal.append(LedgerJournal.TYPE_TRANSFER, TransactionReason.PLAYER_TRANSFER, 7, 9, -300, 2200, 800, null);
+
+        assertEquals(0, first);
+        assertEquals(1, second);
+        LedgerJournal.ReadResult result = journal.read(0, 10);
+        assertEquals(2, result.entries.size());
+        assertEquals(2, result.nextSequence);
+
+        LedgerJournal.Entry single = result.entries.get(0);
+        assertEquals(LedgerJournal.TYPE_SINGLE, single.type);
+        assertEquals(TransactionReason.ADMIN_GIVE, single.reason);
+        assertEquals(7, single.playerId);
+        assertEquals(1500, single.deltaCents);
+        assertEquals(2500, single.balanceAfterCents);
+        assertEquals("Bônus ação", single.text);
+        assertTrue(single.timestamp > 0);
+
+        LedgerJournal.Entry transfer = result.entries.get(1);
+        assertEquals(TransactionReason.PLAYER_TRANSFER, transfer.reason);
+        assertEquals(9, transfer.relatedPlayerId);
+        assertEquals(-300, transfer.deltaCents);
+        assertEquals(800, transfer.relatedBalanceAfterCents);
+        assertEquals("", transfer.text);
+    }
+
+    @Test
+    @DisplayName("Deve truncar o texto para caber no registro junto com o motivo")
+    void testLongTextIsTruncated() throws IOException {
+        reopen(-1);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            text.append('x');
+        }
+        journal.append(LedgerJournal.TYPE_SINGLE, TransactionReason.CLAN_TAX_COLLECTION, 1, 0, 1, 1, 0, text.toString());
+
+        LedgerJournal.Entry entry = journal.read(0, 1).entries.get(0);
+        assertEquals(TransactionReason.CLAN_TAX_COLLECTION, entry.reason);
+        assertEquals(LedgerJournal.RECORD_SIZE - 56 - "CLAN_TAX_COLLECTION".length(), entry.text.length());
+    }
+
+    @Test
+    @DisplayName("Deve reaplicar após reabrir e continuar as sequências em um segmento novo")
+    void testReplayAfterRestart() throws IOException {
+        reopen(-1);
+        for (int i = 0; i < 5; i++) {
+            journal.append(LedgerJournal.TYPE_SINGLE, TransactionReason.SYSTEM_REWARD, i, 0, i, i, 0, "r" + i);
+        }
+        journal.force();
+
+        reopen(1);
+        LedgerJournal.ReadResult pending = journal.read(2, 100);
+        assertEquals(3, pending.entries.size());
+        assertEquals(2, pending.entries.get(0).sequence);
+        assertEquals("r4", pending.entries.get(2).text);
+        assertEquals(SEGMENT_RECORDS, pending.nextSequence, "Espaço livre do segmento selado é pulado");
+
+        long next = journal.append(LedgerJournal.TYPE_SINGLE, TransactionReason.SYSTEM_REWARD, 5, 0, 5, 5, 0, "r5");
+        assertEquals(SEGMENT_RECORDS, next);
+        assertEquals(1, journal.read(pending.nextSequence, 100).entries.size());
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar segmentos e remover só os já aplicados")
+    void testRotationAndTruncate() throws IOException {
+        reopen(-1);
+        int total = SEGMENT_RECORDS + 10;
+        for (int i = 0; i < total; i++) {
+            journal.append(LedgerJournal.TYPE_SINGLE, TransactionReason.CREDIT, i, 0, 1, i, 0, null);
+        }
+        assertEquals(2, journal.getSegmentCount());
+
+        LedgerJournal.ReadResult all = journal.read(0, total + 10);
+        assertEquals(total, all.entries.size());
+        for (int i = 0; i < total; i++) {
+            assertEquals(i, all.entries.get(i).sequence);
+            assertEquals(i, all.entries.get(i).playerId);
+        }
+
+        journal.truncate(SEGMENT_RECORDS - 2);
+        assertEquals(2, journal.getSegmentCount(), "Segmento com registros não aplicados fica");
+        journal.truncate(SEGMENT_RECORDS - 1);
+        assertEquals(1, journal.getSegmentCount());
+        assertFalse(segmentFile(0).exists());
+        assertEquals(10, journal.read(0, 100).entries.size());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar registro corrompido e seguir com os demais")
+    void testCorruptedRecordIsSkipped() throws IOException {
+        reopen(-1);
+        for (int i = 0; i < 3; i++) {
+            journal.append(LedgerJournal.TYPE_SINGLE, TransactionReason.DEBIT, i, 0, -1, i, 0, "d" + i);
+        }
+        journal.close();
+        journal = null;
+
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile(0), "rw")) {
+            file.seek(LedgerJournal.RECORD_SIZE + 40);
+            file.writeLong(999999L);
+        }
+
+        reopen(-1);
+        LedgerJournal.ReadResult result = journal.read(0, 100);
+        assertEquals(2, result.entries.size());
+        assertEquals(0, result.entries.get(0).sequence);
+        assertEquals(2, result.entries.get(1).sequence);
+    }
+
+    @Test
+    @DisplayName("Deve ler registros do formato anterior (motivo pelo ordinal)")
+    void testLegacyOrdinalRecord() throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(LedgerJournal.RECORD_SIZE);
+        byte[] text = "legado".getBytes(StandardCharsets.UTF_8);
+        record.putInt(0x4C454447);
+        record.putInt(0);
+        record.putLong(1234L);
+        record.put(LedgerJournal.TYPE_SINGLE);
+        record.put((byte) TransactionReason.ADMIN_SET.ordinal());
+        record.putShort((short) text.length);
+        record.putInt(42);
+        record.putInt(0);
+        record.putInt(0);
+        record.putLong(100L);
+        record.putLong(200L);
+        record.putLong(0L);
+        record.put(text);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 8, LedgerJournal.RECORD_SIZE - 8);
+        record.putInt(4, (int) crc.getValue());
+
+        try (RandomAccessFile file = new RandomAccessFile(segmentFile(0), "rw")) {
+            file.setLength((long) SEGMENT_RECORDS * LedgerJournal.RECORD_SIZE);
+            file.write(record.array());
+        }
+
+        reopen(-1);
+        LedgerJournal.ReadResult result = journal.read(0, 100);
+        assertEquals(1, result.entries.size());
+        LedgerJournal.Entry entry = result.entries.get(0);
+        assertEquals(TransactionReason.ADMIN_SET, entry.reason);
+        assertEquals(42, entry.playerId);
+        assertEquals(1234L, entry.timestamp);
+        assertEquals(200L, entry.balanceAfterCents);
+        assertEquals("legado", entry.text);
+    }
+}
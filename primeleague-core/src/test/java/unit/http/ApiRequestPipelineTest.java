@@ -0,0 +1,159 @@
+package unit.http;
+
+import br.com.primeleague.core.http.ApiRequestPipeline;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - ApiRequestPipeline")
+class ApiRequestPipelineTest {
+
+    private ApiRequestPipeline pipeline;
+
+    // Libera os handlers lentos
+    private final CountDownLatch release = new CountDownLatch(1);
+    // Contado a cada handler lento que terminou
+    private volatile CountDownLatch finished = new CountDownLatch(0);
+    private HttpHandler slowHandler;
+
+    @BeforeEach
+    void setUp() {
+        // Uma thread de banco: a segunda requisição admitida fica na fila do executor
+        pipeline = new ApiRequestPipeline(Logger.getLogger("ApiRequestPipelineTest"), new MetricsRegistry(), 1, 10);
+        // Responde como o HttpApiManager: só escreve se o pipeline ainda não respondeu
+        slowHandler = exchange -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (pipeline.claimResponse(exchange)) {
+                exchange.sendResponseHeaders(200, -1);
+            }
+            finished.countDown();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        pipeline.shutdown();
+    }
+
+    /**
+     * Exchange falsa que registra cada status enviado.
+     */
+    private static final class Exchange {
+        final HttpExchange exchange = mock(HttpExchange.class);
+        final Headers headers = new Headers();
+        final List<Integer> statuses = new CopyOnWriteArrayList<>();
+
+        Exchange() throws Exception {
+            when(exchange.getResponseHeaders()).thenReturn(headers);
+            when(exchange.getResponseBody()).thenReturn(new ByteArrayOutputStream());
+            doAnswer(invocation -> {
+                statuses.add(invocation.getArgument(0));
+                return null;
+            }).when(exchange).sendResponseHeaders(anyInt(), anyLong());
+        }
+
+        void awaitResponse() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (statuses.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1L);
+            }
+            assertFalse(statuses.isEmpty(), "Exchange sem resposta");
+        }
+    }
+
+    private void awaitInFlight(String endpoint, int inFlight) throws InterruptedException {
+        String expected = "\"" + endpoint + "\":{\"in_flight\":" + inFlight + ",";
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!pipeline.toJson().contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1L);
+        }
+        assertTrue(pipeline.toJson().contains(expected), pipeline.toJson());
+    }
+
+    @Test
+    @DisplayName("Sem vagas no endpoint deve responder 503 com Retry-After e liberar a vaga ao terminar")
+    void testShedsWith503WhenPermitsRunOut() throws Exception {
+        HttpHandler handler = pipeline.wrap("slow", slowHandler, 1, 10000L);
+        finished = new CountDownLatch(1);
+
+        Exchange admitted = new Exchange();
+        Exchange shed = new Exchange();
+        handler.handle(admitted.exchange);
+        handler.handle(shed.exchange);
+
+        assertEquals(1, shed.statuses.size());
+        assertEquals(Integer.valueOf(503), shed.statuses.get(0));
+        assertEquals("1", shed.headers.getFirst("Retry-After"));
+        assertTrue(admitted.statuses.isEmpty());
+
+        release.countDown();
+        admitted.awaitResponse();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        awaitInFlight("slow", 0);
+
+        // A vaga voltou: uma nova requisição é admitida
+        finished = new CountDownLatch(1);
+        Exchange next = new Exchange();
+        handler.handle(next.exchange);
+        next.awaitResponse();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+
+        assertEquals(1, admitted.statuses.size());
+        assertEquals(Integer.valueOf(200), admitted.statuses.get(0));
+        assertEquals(1, next.statuses.size());
+        assertEquals(Integer.valueOf(200), next.statuses.get(0));
+        assertEquals(1, shed.statuses.size());
+    }
+
+    @Test
+    @DisplayName("Timeout deve responder 504 sem Retry-After, uma vez só, e liberar as vagas")
+    void testTimesOutWith504() throws Exception {
+        HttpHandler handler = pipeline.wrap("slow", slowHandler, 2, 50L);
+        finished = new CountDownLatch(1);
+
+        // A primeira ocupa a única thread de banco; a segunda expira ainda na fila
+        Exchange running = new Exchange();
+        Exchange queued = new Exchange();
+        handler.handle(running.exchange);
+        handler.handle(queued.exchange);
+
+        running.awaitResponse();
+        queued.awaitResponse();
+        assertEquals(Integer.valueOf(504), running.statuses.get(0));
+        assertEquals(Integer.valueOf(504), queued.statuses.get(0));
+        assertNull(running.headers.getFirst("Retry-After"));
+        assertNull(queued.headers.getFirst("Retry-After"));
+
+        // A da fila nunca rodou: a vaga dela já voltou; a em execução segura a sua até terminar
+        awaitInFlight("slow", 1);
+
+        release.countDown();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        awaitInFlight("slow", 0);
+
+        // O handler terminou depois do timeout e não escreveu uma segunda resposta
+        assertEquals(1, running.statuses.size());
+        assertEquals(1, queued.statuses.size());
+    }
+}
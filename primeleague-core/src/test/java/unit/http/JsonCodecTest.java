@@ -0,0 +1,182 @@
+package unit.http;
+
+import br.com.primeleague.core.http.JsonReader;
+import br.com.primeleague.core.http.JsonWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - JsonReader/JsonWriter")
+class JsonCodecTest {
+
+    private static JsonReader reader(String json) {
+        return new JsonReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Entrega um byte por read(), para forçar sequências UTF-8 e escapes a cruzar o buffer.
+     */
+    private static JsonReader trickleReader(byte[] json) {
+        return new JsonReader(new InputStream() {
+            private int position;
+
+            @Override
+            public int read() {
+                return position < json.length ? json[position++] & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (position >= json.length) {
+                    return -1;
+                }
+                b[off] = json[position++];
+                return 1;
+            }
+        });
+    }
+
+    private static String readSingleString(JsonReader reader) throws IOException {
+        reader.beginObject();
+        assertEquals("v", reader.nextName());
+        String value = reader.nextString();
+        reader.endObject();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+        return value;
+    }
+
+    @Test
+    @DisplayName("Deve escapar aspas, barras e caracteres de controle")
+    void testWriterEscapes() {
+        JsonWriter writer = JsonWriter.acquire();
+        writer.beginObject().name("v").value("a\"b\\c\nd\re\tf\bg\fh\u0001i\u001f").endObject();
+
+        assertEquals("{\"v\":\"a\\\"b\\\\c\\nd\\re\\tf\\bg\\fh\\u0001i\\u001f\"}", writer.toString());
+    }
+
+    @Test
+    @DisplayName("Deve codificar pares surrogate como um único caractere UTF-8 de 4 bytes")
+    void testWriterSurrogatePair() {
+        String emoji = "\uD83D\uDE80"; // U+1F680
+        JsonWriter writer = JsonWriter.acquire();
+        writer.value("x" + emoji + "y");
+
+        byte[] expected = ("\"x" + emoji + "y\"").getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, writer.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], writer.buffer()[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve trocar surrogate sem par por '?'")
+    void testWriterLoneSurrogate() {
+        JsonWriter writer = JsonWriter.acquire();
+        writer.beginArray().value("a\uD83Db").value("\uDE80").endArray();
+
+        assertEquals("[\"a?b\",\"?\"]", writer.toString());
+    }
+
+    @Test
+    @DisplayName("Deve separar campos e elementos com vírgula em objetos aninhados")
+    void testWriterStructure() {
+        JsonWriter writer = JsonWriter.acquire();
+        writer.beginObject()
+            .name("id").value(42L)
+            .name("ok").value(true)
+            .name("nome").nullValue()
+            .name("lista").beginArray().value(1L).beginObject().name("a").value("b").endObject().endArray()
+            .name("raw").rawValue("{\"x\":1}")
+            .endObject();
+
+        assertEquals("{\"id\":42,\"ok\":true,\"nome\":null,\"lista\":[1,{\"a\":\"b\"}],\"raw\":{\"x\":1}}", writer.toString());
+    }
+
+    @Test
+    @DisplayName("Deve reiniciar o writer da thread a cada acquire")
+    void testAcquireResets() {
+        JsonWriter.acquire().beginObject().name("a").value(1L);
+        JsonWriter writer = JsonWriter.acquire();
+        writer.beginArray().endArray();
+
+        assertEquals("[]", writer.toString());
+    }
+
+    @Test
+    @DisplayName("Deve ler todos os escapes simples")
+    void testReaderEscapes() throws IOException {
+        String value = readSingleString(reader("{\"v\":\"a\\\"b\\\\c\\/d\\be\\ff\\ng\\rh\\ti\\u0041\\u00e9\"}"));
+
+        assertEquals("a\"b\\c/d\be\ff\ng\rh\tiAé", value);
+    }
+
+    @Test
+    @DisplayName("Deve juntar par surrogate escrito como dois escapes \\u")
+    void testReaderEscapedSurrogatePair() throws IOException {
+        String value = readSingleString(reader("{\"v\":\"\\ud83d\\ude80\"}"));
+
+        assertEquals("\uD83D\uDE80", value);
+        assertEquals(0x1F680, value.codePointAt(0));
+    }
+
+    @Test
+    @DisplayName("Deve decodificar UTF-8 de 2, 3 e 4 bytes mesmo cruzando o buffer")
+    void testReaderMultiByteAcrossReads() throws IOException {
+        String text = "çã€\uD83D\uDE80";
+        byte[] json = ("{\"v\":\"" + text + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(text, readSingleString(trickleReader(json)));
+    }
+
+    @Test
+    @DisplayName("Deve ler de volta o que o writer escreve")
+    void testRoundTrip() throws IOException {
+        String text = "aspas \" barra \\ quebra \n controle \u0002 acento ç emoji \uD83D\uDE80";
+        JsonWriter writer = JsonWriter.acquire();
+        writer.beginObject().name("v").value(text).endObject();
+        byte[] json = new byte[writer.size()];
+        System.arraycopy(writer.buffer(), 0, json, 0, json.length);
+
+        assertEquals(text, readSingleString(trickleReader(json)));
+    }
+
+    @Test
+    @DisplayName("Deve ler tipos, pular valores aninhados e aceitar números e booleanos entre aspas")
+    void testReaderValues() throws IOException {
+        JsonReader reader = reader(" { \"skip\" : {\"a\":[1,{\"b\":null}],\"c\":\"}\"}, \"n\":-7, \"s\":\"12\", \"b\":\"true\", \"f\":false, \"z\":null } ");
+
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+        assertEquals("n", reader.nextName());
+        assertEquals(-7L, reader.nextLong());
+        assertEquals("s", reader.nextName());
+        assertEquals(12L, reader.nextLong());
+        assertEquals("b", reader.nextName());
+        assertTrue(reader.nextBoolean());
+        assertEquals("f", reader.nextName());
+        assertFalse(reader.nextBoolean());
+        assertEquals("z", reader.nextName());
+        assertNull(reader.nextString());
+        assertFalse(reader.hasNext());
+        reader.endObject();
+        assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar JSON inválido")
+    void testReaderRejectsInvalid() {
+        assertThrows(IOException.class, () -> readSingleString(reader("{\"v\":\"sem fim}")));
+        assertThrows(IOException.class, () -> readSingleString(reader("{\"v\":\"a\nb\"}")));
+        assertThrows(IOException.class, () -> readSingleString(reader("{\"v\":\"\\x\"}")));
+        assertThrows(IOException.class, () -> readSingleString(reader("{\"v\":\"\\u00zz\"}")));
+        assertThrows(IOException.class, () -> readSingleString(reader("{\"v\":\"a\"} x")));
+        assertThrows(IOException.class, () -> readSingleString(reader("{\"v\" \"a\"}")));
+    }
+}
@@ -0,0 +1,128 @@
+package unit.identity;
+
+import br.com.primeleague.core.identity.NameDirectory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - NameDirectory")
+class NameDirectoryTest {
+
+    private NameDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new NameDirectory(Logger.getLogger("NameDirectoryTest"), 10000);
+    }
+
+    private static DataSource dataSource(String... names) throws Exception {
+        int[] cursor = {-1};
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < names.length);
+        when(resultSet.getString(1)).thenAnswer(invocation -> names[cursor[0]]);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    @Test
+    @DisplayName("Deve carregar os nomes do banco sem duplicatas (ignorando caixa)")
+    void testLoad() throws Exception {
+        directory.load(dataSource("Notch", "jeb_", "notch", "Dinnerbone", "", null, "  espaço"));
+
+        assertTrue(directory.isLoaded());
+        assertEquals(3, directory.size());
+        assertTrue(directory.contains("NOTCH"));
+        assertTrue(directory.contains("Jeb_"));
+        assertFalse(directory.contains("espaço"));
+        assertFalse(directory.contains(""));
+        assertFalse(directory.contains(null));
+    }
+
+    @Test
+    @DisplayName("Nomes adicionados antes da carga devem ser mantidos")
+    void testAddBeforeLoad() throws Exception {
+        directory.add("NovoJogador");
+        directory.load(dataSource("Notch"));
+
+        assertTrue(directory.contains("novojogador"));
+        assertTrue(directory.contains("notch"));
+        assertEquals(2, directory.size());
+    }
+
+    @Test
+    @DisplayName("Deve completar por prefixo em ordem alfabética, juntando arena e delta")
+    void testComplete() throws Exception {
+        directory.load(dataSource("Steve", "Stan", "Alex", "stella"));
+        directory.add("Stacy");
+        directory.add("STEVE");
+
+        assertEquals(Arrays.asList("Stacy", "Stan", "stella", "Steve"), directory.complete("st", 10));
+        assertEquals(Arrays.asList("Stacy", "Stan"), directory.complete("ST", 2));
+        assertEquals(Arrays.asList("Alex"), directory.complete("a", 10));
+        assertTrue(directory.complete("z", 10).isEmpty());
+        assertTrue(directory.complete("st", 0).isEmpty());
+        assertEquals(5, directory.size());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir nomes próximos, do mais parecido ao menos parecido")
+    void testSuggest() throws Exception {
+        directory.load(dataSource("Notch", "Nitch", "Natchos", "Dinnerbone"));
+
+        List<String> suggestions = directory.suggest("notc", 5);
+        assertEquals("Notch", suggestions.get(0));
+        assertTrue(suggestions.contains("Nitch"));
+        assertFalse(suggestions.contains("Natchos"));
+        assertFalse(suggestions.contains("Dinnerbone"));
+        assertEquals(1, directory.suggest("notc", 1).size());
+        assertTrue(directory.suggest("xyz", 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve incorporar o delta à arena sem perder nomes")
+    void testDeltaMerge() {
+        for (int i = 0; i < 1500; i++) {
+            directory.add("jogador" + i);
+        }
+
+        assertEquals(1500, directory.size());
+        for (int i = 0; i < 1500; i++) {
+            assertTrue(directory.contains("JOGADOR" + i), "jogador" + i);
+        }
+        List<String> completions = directory.complete("jogador149", 20);
+        assertEquals(11, completions.size());
+        assertEquals("jogador149", completions.get(0));
+        assertEquals("jogador1499", completions.get(10));
+        assertTrue(directory.getMemoryBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite de nomes")
+    void testMaxNames() throws Exception {
+        NameDirectory small = new NameDirectory(Logger.getLogger("NameDirectoryTest"), 2);
+        small.load(dataSource("a1", "a2", "a3"));
+        small.add("b1");
+
+        assertEquals(2, small.size());
+        assertFalse(small.contains("a3"));
+        assertFalse(small.contains("b1"));
+    }
+}
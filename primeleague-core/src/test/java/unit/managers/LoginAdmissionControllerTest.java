@@ -0,0 +1,207 @@
+package unit.managers;
+
+import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.managers.LoginAdmissionController;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - LoginAdmissionController")
+class LoginAdmissionControllerTest {
+
+    private YamlConfiguration config;
+    private PrimeLeagueCore plugin;
+    private AsyncPlayerPreLoginEvent event;
+
+    @BeforeEach
+    void setUp() {
+        config = new YamlConfiguration();
+        config.set("login_admission.enabled", true);
+        config.set("login_admission.max_queue", 1000);
+        config.set("login_admission.max_wait_ms", 30000L);
+        plugin = mock(PrimeLeagueCore.class);
+        when(plugin.getConfig()).thenReturn(config);
+        event = mock(AsyncPlayerPreLoginEvent.class);
+    }
+
+    private LoginAdmissionController controller(int minLimit, int initialLimit, int maxLimit, long targetLatencyMs) {
+        config.set("login_admission.min_limit", minLimit);
+        config.set("login_admission.initial_limit", initialLimit);
+        config.set("login_admission.max_limit", maxLimit);
+        config.set("login_admission.target_latency_ms", targetLatencyMs);
+        return new LoginAdmissionController(plugin);
+    }
+
+    private static void awaitQueueDepth(LoginAdmissionController controller, int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (controller.getQueueDepth() != depth && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1L);
+        }
+        assertEquals(depth, controller.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("Rajada de 500 pré-logins nunca deve passar do limite em execução")
+    void testBurstNeverExceedsLimit() throws Exception {
+        // Limite fixo em 8 (mínimo = máximo) e alvo alto: o AIMD não interfere
+        LoginAdmissionController controller = controller(8, 8, 8, 60000L);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger admitted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 500; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (!controller.acquire().isAdmitted()) {
+                    return;
+                }
+                admitted.incrementAndGet();
+                int now = running.incrementAndGet();
+                peak.accumulateAndGet(now, Math::max);
+                try {
+                    Thread.sleep(1L);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                controller.onPlayerPreLoginComplete(event);
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        assertEquals(500, admitted.get());
+        assertTrue(peak.get() <= 8, "Pico em execução: " + peak.get());
+        assertEquals(0, controller.getInFlight());
+        assertEquals(0, controller.getQueueDepth());
+        assertEquals(500L, controller.getAdmittedCount());
+        assertEquals(0L, controller.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Pré-logins na fila devem ser admitidos na ordem de chegada")
+    void testFifoAdmissionOrder() throws Exception {
+        LoginAdmissionController controller = controller(1, 1, 1, 60000L);
+        assertTrue(controller.acquire().isAdmitted());
+
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            final int index = i;
+            Thread thread = new Thread(() -> {
+                if (controller.acquire().isAdmitted()) {
+                    order.add(index);
+                    controller.onPlayerPreLoginComplete(event);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+            // Só dispara o próximo depois que este entrou na fila
+            awaitQueueDepth(controller, i);
+        }
+
+        controller.onPlayerPreLoginComplete(event);
+        for (Thread thread : threads) {
+            thread.join(5000L);
+        }
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5), order);
+        assertEquals(0, controller.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Fila cheia deve recusar na hora com a posição na mensagem")
+    void testRejectsWhenQueueFull() throws Exception {
+        config.set("login_admission.max_queue", 2);
+        LoginAdmissionController controller = controller(1, 1, 1, 60000L);
+        assertTrue(controller.acquire().isAdmitted());
+
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(() -> {
+                if (controller.acquire().isAdmitted()) {
+                    controller.onPlayerPreLoginComplete(event);
+                }
+            });
+            thread.start();
+            waiters.add(thread);
+        }
+        awaitQueueDepth(controller, 2);
+
+        LoginAdmissionController.Admission admission = controller.acquire();
+
+        assertFalse(admission.isAdmitted());
+        assertEquals(3, admission.getPosition());
+        assertTrue(admission.getKickMessage().contains("3"));
+        assertEquals(1L, controller.getRejectedCount());
+        assertEquals(2, controller.getQueueDepth(), "A recusa não deve entrar na fila");
+
+        controller.onPlayerPreLoginComplete(event);
+        for (Thread thread : waiters) {
+            thread.join(5000L);
+        }
+        assertEquals(3L, controller.getAdmittedCount());
+        assertEquals(0, controller.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Limite deve subir aditivamente dentro do alvo e cair multiplicativamente acima dele")
+    void testAimdAdjustsLimit() throws Exception {
+        LoginAdmissionController controller = controller(1, 4, 10, 50L);
+        assertEquals(4, controller.getCurrentLimit());
+
+        // +1/limite por login rápido: 4 logins ainda não completam a janela, o quinto sim
+        for (int i = 0; i < 4; i++) {
+            assertTrue(controller.acquire().isAdmitted());
+            controller.onPlayerPreLoginComplete(event);
+        }
+        assertEquals(4, controller.getCurrentLimit());
+        assertTrue(controller.acquire().isAdmitted());
+        controller.onPlayerPreLoginComplete(event);
+        assertEquals(5, controller.getCurrentLimit());
+
+        // Login acima do alvo: limite x0.7
+        assertTrue(controller.acquire().isAdmitted());
+        Thread.sleep(80L);
+        controller.onPlayerPreLoginComplete(event);
+        assertEquals(3, controller.getCurrentLimit());
+
+        // Falhas na mesma janela contam uma redução só
+        controller.recordFailure();
+        assertEquals(3, controller.getCurrentLimit());
+
+        Thread.sleep(80L);
+        controller.recordFailure();
+        assertEquals(2, controller.getCurrentLimit());
+
+        // Nunca abaixo do mínimo
+        for (int i = 0; i < 3; i++) {
+            Thread.sleep(80L);
+            controller.recordFailure();
+        }
+        assertEquals(1, controller.getCurrentLimit());
+    }
+}
@@ -0,0 +1,359 @@
+package unit.managers;
+
+import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.cluster.InvalidationBus;
+import br.com.primeleague.core.cluster.InvalidationEvent;
+import br.com.primeleague.core.database.DbExecutor;
+import br.com.primeleague.core.events.GroupPermissionsChangedEvent;
+import br.com.primeleague.core.managers.DataManager;
+import br.com.primeleague.core.managers.PermissionManager;
+import br.com.primeleague.core.metrics.MetricsRegistry;
+import br.com.primeleague.core.models.GroupPermission;
+import br.com.primeleague.core.models.LoginContext;
+import br.com.primeleague.core.models.PlayerGroup;
+import com.sun.management.ThreadMXBean;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.PluginManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Testes Unitários - PermissionManager")
+class PermissionManagerTest {
+
+    private static final int DEFAULT_GROUP = 1;
+    private static final int VIP_GROUP = 2;
+    private static final int PLAYER_ID = 10;
+
+    private final UUID playerUuid = UUID.randomUUID();
+
+    // Linhas devolvidas pelo "banco" para cada tabela
+    private final List<Map<String, Object>> groupRows = new ArrayList<>();
+    private final List<Map<String, Object>> permissionRows = new ArrayList<>();
+    private final List<Map<String, Object>> playerGroupRows = new ArrayList<>();
+    private Runnable onPlayerGroupsQuery;
+
+    private final List<Runnable> dbTasks = new ArrayList<>();
+    private DataManager dataManager;
+    private InvalidationBus invalidationBus;
+    private PermissionManager permissionManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (Bukkit.getServer() == null) {
+            Server server = mock(Server.class);
+            when(server.getLogger()).thenReturn(Logger.getLogger("PermissionManagerTest"));
+            when(server.getPluginManager()).thenReturn(mock(PluginManager.class));
+            when(server.getOnlinePlayers()).thenReturn(new Player[0]);
+            Bukkit.setServer(server);
+        }
+
+        groupRows.add(row("group_id", DEFAULT_GROUP, "group_name", "default", "priority", 0, "is_default", true, "is_active", true));
+        groupRows.add(row("group_id", VIP_GROUP, "group_name", "vip", "priority", 10, "is_default", false, "is_active", true));
+        permissionRows.add(row("id", 1, "group_id", DEFAULT_GROUP, "permission_node", "primeleague.chat", "is_granted", true));
+        permissionRows.add(row("id", 2, "group_id", VIP_GROUP, "permission_node", "primeleague.fly", "is_granted", true));
+        permissionRows.add(row("id", 3, "group_id", VIP_GROUP, "permission_node", "primeleague.kit.*", "is_granted", true));
+        playerGroupRows.add(row("id", 1, "player_id", PLAYER_ID, "group_id", DEFAULT_GROUP, "is_primary", false));
+        playerGroupRows.add(row("id", 2, "player_id", PLAYER_ID, "group_id", VIP_GROUP, "is_primary", true));
+
+        dataManager = mock(DataManager.class);
+        when(dataManager.getConnection()).thenAnswer(invocation -> connection());
+
+        DbExecutor dbExecutor = mock(DbExecutor.class);
+        doAnswer(invocation -> {
+            dbTasks.add(invocation.getArgument(2));
+            return null;
+        }).when(dbExecutor).execute(any(), anyString(), any());
+
+        invalidationBus = mock(InvalidationBus.class);
+        PrimeLeagueCore core = mock(PrimeLeagueCore.class);
+        when(core.getLogger()).thenReturn(Logger.getLogger("PermissionManagerTest"));
+        when(core.getDataManager()).thenReturn(dataManager);
+        when(core.getMetricsRegistry()).thenReturn(new MetricsRegistry());
+        when(core.getInvalidationBus()).thenReturn(invalidationBus);
+        when(core.getDbExecutor()).thenReturn(dbExecutor);
+
+        permissionManager = new PermissionManager(core);
+    }
+
+    private static Map<String, Object> row(Object... columns) {
+        Map<String, Object> row = new HashMap<>();
+        for (int i = 0; i < columns.length; i += 2) {
+            row.put((String) columns[i], columns[i + 1]);
+        }
+        return row;
+    }
+
+    private Connection connection() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> statement(invocation.getArgument(0)));
+        return connection;
+    }
+
+    private PreparedStatement statement(String sql) throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenAnswer(invocation -> {
+            if (sql.contains("FROM permission_groups")) {
+                return resultSet(groupRows);
+            }
+            if (sql.contains("FROM group_permissions")) {
+                return resultSet(permissionRows);
+            }
+            if (sql.contains("FROM player_data")) {
+                return resultSet(java.util.Collections.singletonList(row("player_id", PLAYER_ID)));
+            }
+            ResultSet groups = resultSet(playerGroupRows);
+            if (onPlayerGroupsQuery != null) {
+                onPlayerGroupsQuery.run();
+            }
+            return groups;
+        });
+        return statement;
+    }
+
+    private static ResultSet resultSet(List<Map<String, Object>> rows) throws Exception {
+        List<Map<String, Object>> snapshot = new ArrayList<>(rows);
+        int[] cursor = {-1};
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenAnswer(invocation -> ++cursor[0] < snapshot.size());
+        when(resultSet.getInt(anyString())).thenAnswer(invocation -> {
+            Object value = snapshot.get(cursor[0]).get(invocation.<String>getArgument(0));
+            return value != null ? value : 0;
+        });
+        when(resultSet.getString(anyString())).thenAnswer(invocation -> snapshot.get(cursor[0]).get(invocation.<String>getArgument(0)));
+        when(resultSet.getBoolean(anyString())).thenAnswer(invocation -> Boolean.TRUE.equals(snapshot.get(cursor[0]).get(invocation.<String>getArgument(0))));
+        return resultSet;
+    }
+
+    private void runDbTasks() {
+        List<Runnable> tasks = new ArrayList<>(dbTasks);
+        dbTasks.clear();
+        for (Runnable task : tasks) {
+            task.run();
+        }
+    }
+
+    @Test
+    @DisplayName("Cache miss deve responder com o grupo padrão sem acessar o banco")
+    void testCacheMissServesDefaultGroup() throws Exception {
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.chat"));
+        assertFalse(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+
+        // Só as duas consultas da carga inicial (grupos e permissões)
+        verify(dataManager, times(2)).getConnection();
+        assertEquals(1, dbTasks.size(), "Cache misses seguidos devem gerar uma única carga");
+    }
+
+    @Test
+    @DisplayName("Carga assíncrona deve substituir as permissões padrão")
+    void testAsyncLoadReplacesDefaults() throws Exception {
+        assertFalse(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+        runDbTasks();
+
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.kit.vip"));
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.chat"));
+        assertTrue(dbTasks.isEmpty(), "Com o cache preenchido não deve haver nova carga");
+        verify(dataManager, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Pedido de carga durante outra carga deve repetir a carga ao terminar")
+    void testLoadRequestedDuringLoadRepeats() throws Exception {
+        onPlayerGroupsQuery = () -> {
+            onPlayerGroupsQuery = null;
+            permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        };
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        assertEquals(1, dbTasks.size());
+
+        runDbTasks();
+
+        assertTrue(dbTasks.isEmpty(), "A repetição roda na mesma tarefa");
+        verify(dataManager, times(4)).getConnection();
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+    }
+
+    @Test
+    @DisplayName("Nó adicionado ao grupo deve chegar aos jogadores em memória")
+    void testPermissionAddedPropagates() throws Exception {
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        runDbTasks();
+        assertFalse(permissionManager.hasPermission(playerUuid, "primeleague.home"));
+
+        permissionManager.onGroupPermissionsChanged(
+            new GroupPermissionsChangedEvent(VIP_GROUP, "vip", "PERMISSION_ADDED", "primeleague.home", true));
+
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.home"));
+        assertTrue(dbTasks.isEmpty());
+        verify(dataManager, times(3)).getConnection();
+        verify(invalidationBus).publish(InvalidationEvent.Type.GROUP_CHANGED, String.valueOf(VIP_GROUP), 0L);
+    }
+
+    @Test
+    @DisplayName("Nó removido do grupo deve deixar de ser concedido")
+    void testPermissionRemovedPropagates() throws Exception {
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        runDbTasks();
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+
+        permissionManager.onGroupPermissionsChanged(
+            new GroupPermissionsChangedEvent(VIP_GROUP, "vip", "PERMISSION_REMOVED", "PrimeLeague.Fly"));
+
+        assertFalse(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.kit.vip"));
+        verify(dataManager, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Mudança no grupo padrão deve valer também para cache misses")
+    void testDefaultGroupChangeRecompilesDefaults() {
+        UUID otherPlayer = UUID.randomUUID();
+        assertFalse(permissionManager.hasPermission(otherPlayer, "primeleague.spawn"));
+
+        permissionManager.onGroupPermissionsChanged(
+            new GroupPermissionsChangedEvent(DEFAULT_GROUP, "default", "PERMISSION_ADDED", "primeleague.spawn", true));
+
+        assertTrue(permissionManager.hasPermission(otherPlayer, "primeleague.spawn"));
+    }
+
+    @Test
+    @DisplayName("Mudança de membros deve recarregar só os jogadores do grupo")
+    void testMembershipChangeReloadsGroupPlayers() {
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        runDbTasks();
+
+        permissionManager.onGroupPermissionsChanged(new GroupPermissionsChangedEvent(VIP_GROUP, "vip", "PLAYER_REMOVED_FROM_GROUP"));
+
+        assertEquals(1, dbTasks.size());
+        verify(invalidationBus).publish(InvalidationEvent.Type.GROUP_CHANGED, String.valueOf(VIP_GROUP), 1L);
+
+        playerGroupRows.remove(1);
+        runDbTasks();
+        assertFalse(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.chat"));
+    }
+
+    @Test
+    @DisplayName("Trace filtrado por jogador deve registrar verificações feitas pelo UUID")
+    void testTraceMatchesUuidChecks() {
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        runDbTasks();
+        permissionManager.getTrace().enable("steve", playerUuid, null);
+
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+        permissionManager.hasPermission(UUID.randomUUID(), "primeleague.fly");
+
+        String status = permissionManager.getTrace().getStatus();
+        assertTrue(status.contains("registradas: 1 |"), status);
+    }
+
+    @Test
+    @DisplayName("Verificação pelo UUID com o trace desligado não deve alocar")
+    void testUntracedCheckDoesNotAllocate() {
+        permissionManager.loadPlayerPermissionsAsync(playerUuid);
+        runDbTasks();
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assertTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        int iterations = 100000;
+
+        // Aquecimento: o JIT compila o caminho antes da medição
+        boolean result = false;
+        for (int i = 0; i < iterations; i++) {
+            result ^= permissionManager.hasPermission(playerUuid, "primeleague.kit.vip");
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            result ^= permissionManager.hasPermission(playerUuid, "primeleague.kit.vip");
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Menos de 1 byte por verificação: só a própria medição aloca
+        assertTrue(allocated < iterations, allocated + " bytes em " + iterations + " verificações");
+        assertFalse(result, "Número par de verificações concedidas");
+    }
+
+    @Test
+    @DisplayName("Trie compilada durante uma mudança de grupo não deve ficar no cache com a definição antiga")
+    void testCompileRacingGroupChangeIsDiscarded() throws Exception {
+        // Na primeira leitura do grupo VIP pela compilação, outra thread altera o grupo;
+        // a compilação segue com a lista antiga que já tinha lido
+        RacingPermissionsCache racing = new RacingPermissionsCache(() -> permissionManager.onGroupPermissionsChanged(
+            new GroupPermissionsChangedEvent(VIP_GROUP, "vip", "PERMISSION_ADDED", "primeleague.home", true)));
+        Field field = PermissionManager.class.getDeclaredField("groupPermissionsCache");
+        field.setAccessible(true);
+        @SuppressWarnings("unchecked")
+        Map<Integer, List<GroupPermission>> current = (Map<Integer, List<GroupPermission>>) field.get(permissionManager);
+        racing.putAll(current);
+        field.set(permissionManager, racing);
+
+        // Pré-login de um jogador ainda sem cache: nenhum jogador indexado no grupo para a propagação recalcular
+        List<PlayerGroup> groups = new ArrayList<>();
+        groups.add(new PlayerGroup(PLAYER_ID, DEFAULT_GROUP, false, null, null, null));
+        groups.add(new PlayerGroup(PLAYER_ID, VIP_GROUP, true, null, null, null));
+        LoginContext context = new LoginContext("novato", true, PLAYER_ID, playerUuid, null, null, false, null, 0,
+            null, null, null, groups);
+        racing.armed = true;
+        permissionManager.prewarm(context);
+        assertTrue(racing.fired, "A mudança de grupo deve ter ocorrido no meio da compilação");
+
+        permissionManager.loadPlayerPermissions(playerUuid, context);
+
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.home"));
+        assertTrue(permissionManager.hasPermission(playerUuid, "primeleague.fly"));
+    }
+
+    /**
+     * Cache de permissões que, armado, roda uma mudança de grupo em outra thread
+     * entre a leitura da lista do grupo VIP e o retorno dela.
+     */
+    private static final class RacingPermissionsCache extends ConcurrentHashMap<Integer, List<GroupPermission>> {
+        private final Runnable change;
+        volatile boolean armed;
+        volatile boolean fired;
+
+        RacingPermissionsCache(Runnable change) {
+            this.change = change;
+        }
+
+        @Override
+        public List<GroupPermission> get(Object key) {
+            List<GroupPermission> value = super.get(key);
+            if (armed && Integer.valueOf(VIP_GROUP).equals(key)) {
+                armed = false;
+                Thread thread = new Thread(change, "PermissionManagerTest-change");
+                thread.start();
+                try {
+                    thread.join(5000L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                fired = true;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package unit.permissions;
+
+import br.com.primeleague.core.permissions.PermissionTrace;
+import br.com.primeleague.core.permissions.PermissionTrie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - PermissionTrace")
+class PermissionTraceTest {
+
+    private final List<String> lines = new ArrayList<>();
+    private PermissionTrace trace;
+    private PermissionTrie permissions;
+
+    @BeforeEach
+    void setUp() {
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                lines.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+        trace = new PermissionTrace(logger);
+
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("primeleague.admin.*", true, 0);
+        permissions = builder.build();
+    }
+
+    /**
+     * Espera o início de um segundo, para a janela de amostragem não virar no meio do teste.
+     */
+    private static void awaitFreshWindow() throws InterruptedException {
+        while (System.currentTimeMillis() % 1000L > 500L) {
+            Thread.sleep(10L);
+        }
+    }
+
+    @Test
+    @DisplayName("Desligado não deve registrar nada")
+    void testDisabledByDefault() {
+        assertFalse(trace.isEnabled());
+        trace.record("Steve", "primeleague.admin.ban", true, permissions, false);
+
+        assertTrue(lines.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por jogador (sem caixa) e por prefixo de nó")
+    void testFilters() {
+        trace.enable("STEVE", "PrimeLeague.Admin");
+
+        trace.record("steve", "primeleague.admin.ban", true, permissions, false);
+        trace.record("alex", "primeleague.admin.ban", true, permissions, false);
+        trace.record("steve", "primeleague.clans.create", false, permissions, false);
+        trace.record(null, "primeleague.admin.kick", true, permissions, false);
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("steve -> primeleague.admin.ban: CONCEDIDA"));
+    }
+
+    @Test
+    @DisplayName("Deve casar o filtro de jogador pelo UUID em verificações sem nome")
+    void testFilterByUuid() {
+        UUID steve = UUID.randomUUID();
+        trace.enable("Steve", steve, null);
+
+        trace.record(null, steve, "primeleague.admin.ban", true, permissions, false);
+        trace.record(null, UUID.randomUUID(), "primeleague.admin.ban", true, permissions, false);
+        trace.record("steve", null, "primeleague.admin.kick", true, permissions, false);
+
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains(steve + " -> primeleague.admin.ban: CONCEDIDA"));
+        assertTrue(lines.get(1).contains("steve -> primeleague.admin.kick"));
+
+        // UUID informado como texto no filtro
+        lines.clear();
+        trace.enable(steve.toString(), null);
+        trace.record(null, steve, "primeleague.admin.ban", true, permissions, false);
+        assertEquals(1, lines.size());
+    }
+
+    @Test
+    @DisplayName("Deve informar cache miss e ausência de permissões carregadas")
+    void testCacheMissLine() {
+        trace.enable(null, null);
+
+        trace.record("steve", "primeleague.fly", false, null, true);
+
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("NEGADA (cache miss) [sem permissões carregadas]"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar as linhas por segundo e contar as descartadas")
+    void testSampling() throws InterruptedException {
+        trace.enable(null, null);
+        trace.setLinesPerSecond(5);
+        awaitFreshWindow();
+
+        for (int i = 0; i < 50; i++) {
+            trace.record("steve", "primeleague.admin.ban", true, permissions, false);
+        }
+
+        assertEquals(5, lines.size());
+        assertTrue(trace.getStatus().contains("registradas: 5 | descartadas: 45"), trace.getStatus());
+    }
+
+    @Test
+    @DisplayName("Desligar deve parar o registro e religar deve zerar os contadores")
+    void testDisableAndReenable() {
+        trace.enable(null, null);
+        trace.record("steve", "primeleague.admin.ban", true, permissions, false);
+        trace.disable();
+        trace.record("steve", "primeleague.admin.ban", true, permissions, false);
+
+        assertEquals(1, lines.size());
+        assertTrue(trace.getStatus().startsWith("Trace DESLIGADO"));
+
+        trace.enable("alex", null);
+        assertTrue(trace.getStatus().contains("jogador: alex | prefixo: todos"));
+        assertTrue(trace.getStatus().contains("registradas: 0 | descartadas: 0"));
+    }
+}
@@ -0,0 +1,122 @@
+package unit.permissions;
+
+import br.com.primeleague.core.permissions.PermissionTrie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Testes Unitários - PermissionTrie")
+class PermissionTrieTest {
+
+    @Test
+    @DisplayName("Deve conceder só nós definidos, ignorando caixa")
+    void testExactNodes() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("primeleague.admin.ban", true, 0);
+        builder.add("primeleague.admin.kick", false, 0);
+        PermissionTrie trie = builder.build();
+
+        assertTrue(trie.has("primeleague.admin.ban"));
+        assertTrue(trie.has("PrimeLeague.Admin.BAN"));
+        assertFalse(trie.has("primeleague.admin.kick"));
+        assertFalse(trie.has("primeleague.admin"));
+        assertFalse(trie.has("primeleague.admin.ban.extra"));
+        assertFalse(trie.has("primeleague.admin.bank"));
+        assertFalse(trie.has(""));
+        assertFalse(trie.has(null));
+    }
+
+    @Test
+    @DisplayName("Curinga deve cobrir os nós abaixo do prefixo, mas não o prefixo")
+    void testWildcard() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("primeleague.admin.*", true, 0);
+        PermissionTrie trie = builder.build();
+
+        assertTrue(trie.has("primeleague.admin.ban"));
+        assertTrue(trie.has("primeleague.admin.ban.ip"));
+        assertFalse(trie.has("primeleague.admin"));
+        assertFalse(trie.has("primeleague.adminx.ban"));
+        assertFalse(trie.has("primeleague.clans.create"));
+    }
+
+    @Test
+    @DisplayName("Curinga global deve cobrir qualquer nó")
+    void testGlobalWildcard() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("*", true, 0);
+        builder.add("primeleague.admin.ban", false, 0);
+        PermissionTrie trie = builder.build();
+
+        assertTrue(trie.has("qualquer"));
+        assertTrue(trie.has("primeleague.admin.kick"));
+        assertFalse(trie.has("primeleague.admin.ban"), "Nó exato negado é mais específico que o curinga");
+    }
+
+    @Test
+    @DisplayName("Prefixo '-' deve negar o nó")
+    void testNegationPrefix() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("primeleague.admin.*", true, 0);
+        builder.add("-primeleague.admin.ban", true, 0);
+        builder.add("-primeleague.clans.*", false, 0);
+        PermissionTrie trie = builder.build();
+
+        assertTrue(trie.has("primeleague.admin.kick"));
+        assertFalse(trie.has("primeleague.admin.ban"));
+        assertTrue(trie.has("primeleague.clans.create"), "Negar uma negação concede");
+        assertTrue(trie.getGrantedNodes().contains("primeleague.admin.*"));
+        assertFalse(trie.getGrantedNodes().contains("primeleague.admin.ban"));
+    }
+
+    @Test
+    @DisplayName("No empate de prioridade vence a definição mais específica")
+    void testSpecificWinsOnTie() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("primeleague.*", false, 1);
+        builder.add("primeleague.admin.*", true, 1);
+        builder.add("primeleague.admin.ban", false, 1);
+        PermissionTrie trie = builder.build();
+
+        assertFalse(trie.has("primeleague.clans.create"));
+        assertTrue(trie.has("primeleague.admin.kick"));
+        assertFalse(trie.has("primeleague.admin.ban"));
+    }
+
+    @Test
+    @DisplayName("Grupo de maior prioridade deve vencer mesmo com definição menos específica")
+    void testHigherPriorityWins() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        builder.add("primeleague.admin.*", false, 0);
+        builder.add("primeleague.admin.ban", true, 1);
+        builder.add("*", true, 2);
+        PermissionTrie trie = builder.build();
+
+        assertFalse(trie.has("primeleague.admin.ban"));
+        assertFalse(trie.has("primeleague.admin.kick"));
+        assertTrue(trie.has("primeleague.clans.create"));
+    }
+
+    @Test
+    @DisplayName("Primeira definição de cada nó deve prevalecer")
+    void testFirstDefinitionWins() {
+        PermissionTrie.Builder builder = new PermissionTrie.Builder();
+        assertTrue(builder.add("primeleague.fly", true, 0));
+        assertFalse(builder.add("primeleague.fly", false, 1));
+        assertFalse(builder.add("-PrimeLeague.Fly", true, 0), "Negação do mesmo nó também é ignorada");
+        assertFalse(builder.add("  ", true, 0));
+        assertFalse(builder.add(null, true, 0));
+        PermissionTrie trie = builder.build();
+
+        assertTrue(trie.has("primeleague.fly"));
+        assertEquals(3, trie.getNodeCount()); // raiz, "primeleague" e "fly"
+    }
+
+    @Test
+    @DisplayName("Trie vazia não deve conceder nada")
+    void testEmpty() {
+        assertFalse(PermissionTrie.EMPTY.has("primeleague.admin.ban"));
+        assertTrue(PermissionTrie.EMPTY.getGrantedNodes().isEmpty());
+    }
+}
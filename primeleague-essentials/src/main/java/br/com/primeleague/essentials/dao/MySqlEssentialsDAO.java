@@ -3,6 +3,7 @@ package br.com.primeleague.essentials.dao;
 import br.com.primeleague.essentials.EssentialsPlugin;
 import br.com.primeleague.api.models.Home;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.api.dao.EssentialsDAO;
 
 import java.sql.Connection;
@@ -39,7 +40,7 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
     
     @Override
     public void loadPlayerHomesAsync(UUID playerUuid, Consumer<List<Home>> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "home.loadPlayerHomes", () -> {
             final List<Home> homes = new ArrayList<>();
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -71,21 +72,21 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(homes));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(homes));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao carregar homes do banco: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com lista vazia em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<>()));
             }
         });
     }
     
     @Override
     public void createHomeAsync(Home home, Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "home.createHome", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -108,21 +109,21 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao criar home no banco: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com false em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void deleteHomeAsync(int homeId, Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "home.deleteHome", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -136,21 +137,21 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao remover home do banco: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com false em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void updateHomeLastUsedAsync(int homeId, Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "home.updateHomeLastUsed", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -164,20 +165,20 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.warning("⚠️ Erro ao atualizar último uso da home: " + e.getMessage());
                 
                 // Executar callback com false em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void homeExistsAsync(UUID playerUuid, String homeName, Consumer<Boolean> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "home.homeExists", () -> {
             final boolean[] exists = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -197,21 +198,21 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(exists[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(exists[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao verificar existência da home: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com false em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void getPlayerHomeCountAsync(UUID playerUuid, Consumer<Integer> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "home.getPlayerHomeCount", () -> {
             final int[] count = {0};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -230,21 +231,21 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(count[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(count[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao contar homes do jogador: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com 0 em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(0));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(0));
             }
         });
     }
     
     @Override
     public void getHomeAsync(UUID playerUuid, String homeName, Consumer<Home> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "home.getHome", () -> {
             final Home[] home = {null};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -275,21 +276,21 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(home[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(home[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar home específica: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com null em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
     
     @Override
     public void getPlayerIdAsync(UUID playerUuid, Consumer<Integer> callback) {
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "home.getPlayerId", () -> {
             final int[] playerId = {-1};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -306,14 +307,14 @@ public class MySqlEssentialsDAO implements EssentialsDAO {
                 }
                 
                 // Executar callback na thread principal
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(playerId[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(playerId[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao obter ID do jogador: " + e.getMessage());
                 e.printStackTrace();
                 
                 // Executar callback com -1 em caso de erro
-                plugin.getServer().getScheduler().runTask(plugin, () -> callback.accept(-1));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(-1));
             }
         });
     }
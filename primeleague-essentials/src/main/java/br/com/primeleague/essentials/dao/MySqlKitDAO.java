@@ -3,8 +3,8 @@ package br.com.primeleague.essentials.dao;
 import br.com.primeleague.essentials.EssentialsPlugin;
 import br.com.primeleague.api.models.KitCooldown;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.api.dao.KitDAO;
-import org.bukkit.Bukkit;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -36,7 +36,7 @@ public class MySqlKitDAO implements KitDAO {
     
     @Override
     public void loadPlayerKitCooldownsAsync(int playerId, Consumer<List<KitCooldown>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "kit.loadPlayerKitCooldowns", () -> {
             final List<KitCooldown> cooldowns = new ArrayList<KitCooldown>();
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -62,18 +62,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(cooldowns));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(cooldowns));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao carregar cooldowns de kits do jogador " + playerId + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(cooldowns));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(cooldowns));
             }
         });
     }
     
     @Override
     public void saveKitCooldownAsync(KitCooldown cooldown, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "kit.saveKitCooldown", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -96,18 +96,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao salvar cooldown de kit: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void getKitCooldownAsync(int playerId, String kitName, Consumer<KitCooldown> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "kit.getKitCooldown", () -> {
             final KitCooldown[] cooldown = {null};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -133,18 +133,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(cooldown[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(cooldown[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao obter cooldown de kit: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
     
     @Override
     public void removeKitCooldownAsync(int playerId, String kitName, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "kit.removeKitCooldown", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -159,18 +159,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao remover cooldown de kit: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void cleanExpiredCooldownsAsync(Consumer<Integer> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "kit.cleanExpiredCooldowns", () -> {
             final int[] cleanedCount = {0};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -181,18 +181,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(cleanedCount[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(cleanedCount[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao limpar cooldowns expirados: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(0));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(0));
             }
         });
     }
     
     @Override
     public void getPlayerIdAsync(String playerUuid, Consumer<Integer> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.LOGIN, "kit.getPlayerId", () -> {
             final Integer[] playerId = {null};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -209,18 +209,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(playerId[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(playerId[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao obter ID do jogador: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
     
     @Override
     public void cooldownExistsAsync(int playerId, String kitName, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "kit.cooldownExists", () -> {
             final boolean[] exists = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -236,18 +236,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(exists[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(exists[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao verificar existência de cooldown: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void updateKitLastUsedAsync(int playerId, String kitName, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "kit.updateKitLastUsed", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -262,18 +262,18 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao atualizar último uso do kit: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void incrementKitUsesAsync(int playerId, String kitName, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "kit.incrementKitUses", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -289,11 +289,11 @@ public class MySqlKitDAO implements KitDAO {
                 }
                 
                 // Executar callback na thread principal
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao incrementar usos do kit: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
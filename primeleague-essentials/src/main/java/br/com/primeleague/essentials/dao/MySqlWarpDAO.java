@@ -3,6 +3,7 @@ package br.com.primeleague.essentials.dao;
 import br.com.primeleague.essentials.EssentialsPlugin;
 import br.com.primeleague.api.models.Warp;
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.api.dao.WarpDAO;
 import org.bukkit.Bukkit;
 
@@ -37,7 +38,7 @@ public class MySqlWarpDAO implements WarpDAO {
     
     @Override
     public void createWarpAsync(Warp warp, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.createWarp", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -67,18 +68,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao criar warp " + warp.getWarpName() + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void getWarpAsync(String warpName, Consumer<Warp> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.getWarp", () -> {
             final Warp[] warp = {null};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -94,18 +95,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(warp[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(warp[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar warp " + warpName + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
     
     @Override
     public void getAllWarpsAsync(Consumer<List<Warp>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.getAllWarps", () -> {
             final List<Warp>[] warps = new List[]{new ArrayList<Warp>()};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -120,18 +121,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(warps[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(warps[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar todos os warps: " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<Warp>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<Warp>()));
             }
         });
     }
     
     @Override
     public void getAvailableWarpsAsync(String playerName, Consumer<List<Warp>> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.getAvailableWarps", () -> {
             final List<Warp>[] availableWarps = new List[]{new ArrayList<Warp>()};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -156,18 +157,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(availableWarps[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(availableWarps[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar warps disponíveis para " + playerName + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(new ArrayList<Warp>()));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(new ArrayList<Warp>()));
             }
         });
     }
     
     @Override
     public void updateWarpAsync(Warp warp, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.updateWarp", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -192,18 +193,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao atualizar warp " + warp.getWarpName() + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void deleteWarpAsync(String warpName, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.deleteWarp", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -220,18 +221,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao remover warp " + warpName + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void warpExistsAsync(String warpName, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.warpExists", () -> {
             final boolean[] exists = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -245,18 +246,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(exists[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(exists[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao verificar existência do warp " + warpName + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void updateWarpUsageAsync(int warpId, Consumer<Boolean> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.BACKGROUND, "warp.updateWarpUsage", () -> {
             final boolean[] success = {false};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -269,18 +270,18 @@ public class MySqlWarpDAO implements WarpDAO {
                     success[0] = rowsAffected > 0;
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(success[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(success[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao atualizar uso do warp ID " + warpId + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(false));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(false));
             }
         });
     }
     
     @Override
     public void getWarpStatsAsync(String warpName, Consumer<Warp> callback) {
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+        PrimeLeagueAPI.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "warp.getWarpStats", () -> {
             final Warp[] warp = {null};
             
             try (Connection connection = PrimeLeagueAPI.getDataManager().getConnection()) {
@@ -300,11 +301,11 @@ public class MySqlWarpDAO implements WarpDAO {
                     }
                 }
                 
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(warp[0]));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(warp[0]));
                 
             } catch (SQLException e) {
                 logger.severe("❌ Erro ao buscar estatísticas do warp " + warpName + ": " + e.getMessage());
-                Bukkit.getScheduler().runTask(plugin, () -> callback.accept(null));
+                PrimeLeagueAPI.getMainThreadDispatcher().dispatch(plugin, () -> callback.accept(null));
             }
         });
     }
@@ -208,6 +208,9 @@ public class VerifyCommand implements CommandExecutor {
                     int affectedRows = stmt.executeUpdate();
                     
                     if (affectedRows > 0) {
+                        // Vínculo verificado muda a assinatura efetiva do jogador
+                        PrimeLeagueAPI.getDataManager().invalidateSubscriptionCache(discordId, playerId);
+                        
                         // Log da verificação bem-sucedida
                         PrimeLeagueP2P.getInstance().getLogger().info(
                             "✅ Verificação bem-sucedida: " + playerName + " -> Discord ID: " + discordId + " (player_id: " + playerId + ")"
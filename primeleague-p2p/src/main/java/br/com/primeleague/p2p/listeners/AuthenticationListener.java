@@ -1,6 +1,7 @@
 package br.com.primeleague.p2p.listeners;
 
 import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.models.LoginContext;
 import br.com.primeleague.core.models.PlayerProfile;
 import br.com.primeleague.core.util.UUIDUtils;
 import br.com.primeleague.p2p.PrimeLeagueP2P;
@@ -50,6 +51,12 @@ public final class AuthenticationListener implements Listener {
         final String playerName = event.getName();
         final String playerIp = event.getAddress().getHostAddress();
         
+        // Login já recusado pelo controle de admissão do Core (fila cheia/tempo esgotado):
+        // não sobrescrever a decisão com event.allow()
+        if (event.getLoginResult() != Result.ALLOWED) {
+            return;
+        }
+        
         plugin.getLogger().info("=== 🔐 INÍCIO DA VERIFICAÇÃO DE AUTENTICAÇÃO ===");
         plugin.getLogger().info("[AUTH] 🎯 Jogador: " + playerName + " | IP: " + playerIp);
         
@@ -66,14 +73,17 @@ public final class AuthenticationListener implements Listener {
             final UUID playerUuid = UUIDUtils.offlineUUIDFromName(playerName);
             plugin.getLogger().info("[AUTH] 🔄 UUID gerado: " + playerUuid.toString());
             
+            // Contexto hidratado pelo Core no pré-login (LOWEST): fases 2-5 sem novas consultas
+            final LoginContext context = PrimeLeagueAPI.getLoginContext(playerName);
+            
             // FASE 2: Verificar se o player existe no banco
             plugin.getLogger().info("[AUTH] 📋 FASE 2: Verificando existência no banco...");
-            boolean playerExistsInDB = checkPlayerExistsInDatabase(playerUuid, playerName);
+            boolean playerExistsInDB = context != null ? context.exists() : checkPlayerExistsInDatabase(playerUuid, playerName);
             plugin.getLogger().info("[AUTH] 📊 FASE 2: Player existe no banco: " + playerExistsInDB);
             
             if (!playerExistsInDB) {
                 plugin.getLogger().info("[AUTH] 📋 FASE 2.1: Tentando carregar perfil offline...");
-                PlayerProfile profile = PrimeLeagueAPI.getDataManager().loadOfflinePlayerProfile(playerName);
+                PlayerProfile profile = context != null ? context.getProfile() : PrimeLeagueAPI.getDataManager().loadOfflinePlayerProfile(playerName);
                 
                 if (profile == null) {
                     plugin.getLogger().info("[AUTH] ❌ FASE 2: Player não encontrado - REGISTRO NECESSÁRIO");
@@ -91,7 +101,7 @@ public final class AuthenticationListener implements Listener {
             
             // FASE 3: Verificar PENDING_RELINK
             plugin.getLogger().info("[AUTH] 📋 FASE 3: Verificando PENDING_RELINK...");
-            if (isPlayerPendingRelink(playerName)) {
+            if (isPlayerPendingRelink(playerName, context)) {
                 plugin.getLogger().info("[AUTH] ✅ FASE 3: Jogador em PENDING_RELINK - BYPASS DE IP");
                 event.allow();
                 return;
@@ -100,7 +110,7 @@ public final class AuthenticationListener implements Listener {
             
             // FASE 4: Verificar status de verificação
             plugin.getLogger().info("[AUTH] 📋 FASE 4: Verificando status de verificação...");
-            boolean isVerified = isPlayerVerified(playerUuid);
+            boolean isVerified = context != null ? context.isVerified() : isPlayerVerified(playerUuid);
             plugin.getLogger().info("[AUTH] 📊 FASE 4: Status de verificação: " + (isVerified ? "VERIFICADO" : "NÃO VERIFICADO"));
             
             if (!isVerified) {
@@ -111,9 +121,9 @@ public final class AuthenticationListener implements Listener {
             
             // FASE 5: Verificar autorização de IP
             plugin.getLogger().info("[AUTH] 📋 FASE 5: Verificando autorização de IP...");
-            if (!isIpAuthorized(playerName, playerIp)) {
+            if (!isIpAuthorized(playerName, playerIp, context)) {
                 // VERIFICAÇÃO ESPECIAL: Se o jogador acabou de ser verificado E o IP é o mesmo da verificação
-                if (isPlayerRecentlyVerifiedWithSameIp(playerName, playerIp)) {
+                if (isPlayerRecentlyVerifiedWithSameIp(playerName, playerIp, context)) {
                     plugin.getLogger().info("[AUTH] 🔄 FASE 5: Jogador recentemente verificado com mesmo IP - autorizando automaticamente");
                     authorizeIpForPlayer(playerName, playerIp);
                     plugin.getLogger().info("[AUTH] ✅ FASE 5: IP autorizado automaticamente após verificação");
@@ -182,9 +192,12 @@ public final class AuthenticationListener implements Listener {
             plugin.getLogger().info("[JOIN-DEBUG] 🔄 UUID canônico: " + canonicalUuid);
             
                          // CORREÇÃO ARQUITETURAL: Verificar assinatura ativa usando nova arquitetura SSOT
-             boolean hasActiveSubscription = br.com.primeleague.core.PrimeLeagueCore.getInstance()
-                 .getDataManager()
-                 .hasActiveSubscription(canonicalUuid);
+             final LoginContext context = PrimeLeagueAPI.getLoginContext(playerName);
+             boolean hasActiveSubscription = context != null
+                 ? context.hasActiveSubscription()
+                 : br.com.primeleague.core.PrimeLeagueCore.getInstance()
+                     .getDataManager()
+                     .hasActiveSubscription(canonicalUuid);
              
                                         if (hasActiveSubscription) {
                  plugin.getLogger().info("[JOIN-DEBUG] ✅ Jogador com assinatura ativa: " + playerName + " - bypass de limbo");
@@ -194,7 +207,7 @@ public final class AuthenticationListener implements Listener {
                  sendWelcomeMessage(player);
                  
                  // Verificar se está em PENDING_RELINK e enviar mensagens persistentes
-                 if (isPlayerPendingRelink(playerName)) {
+                 if (isPlayerPendingRelink(playerName, context)) {
                      plugin.getLogger().info("[PENDING-RELINK] Iniciando mensagens persistentes para: " + playerName);
                      startPendingRelinkReminders(player);
                  }
@@ -202,7 +215,9 @@ public final class AuthenticationListener implements Listener {
              }
             
             // Se não tem assinatura ativa, verificar se o jogador tem registro pendente (não verificado)
-            boolean hasPendingVerification = hasPendingVerification(canonicalUuid);
+            boolean hasPendingVerification = context != null
+                ? context.isLinked() && !context.isVerified()
+                : hasPendingVerification(canonicalUuid);
             
             plugin.getLogger().info("[JOIN-DEBUG] 📊 Resultado da verificação: " + (hasPendingVerification ? "PENDENTE" : "VERIFICADO/ATIVO"));
             
@@ -232,7 +247,7 @@ public final class AuthenticationListener implements Listener {
              }
             
             // Verificar se está em PENDING_RELINK e enviar mensagens persistentes
-            if (isPlayerPendingRelink(playerName)) {
+            if (isPlayerPendingRelink(playerName, context)) {
                 plugin.getLogger().info("[PENDING-RELINK] Iniciando mensagens persistentes para: " + playerName);
                 startPendingRelinkReminders(player);
             }
@@ -1167,7 +1182,7 @@ public final class AuthenticationListener implements Listener {
      * Verifica se um IP está autorizado para um player
      * CORREÇÃO: Verifica primeiro o cache em memória, depois o banco
      */
-    private boolean isIpAuthorized(String playerName, String ipAddress) {
+    private boolean isIpAuthorized(String playerName, String ipAddress, LoginContext context) {
         try {
             // Primeiro verificar cache em memória (mais rápido)
             if (plugin.getIpAuthCache() != null && plugin.getIpAuthCache().isIpAuthorized(playerName, ipAddress)) {
@@ -1175,10 +1190,12 @@ public final class AuthenticationListener implements Listener {
                 return true;
             }
             
-            // Se não está no cache, verificar banco de dados
-            boolean authorized = br.com.primeleague.core.PrimeLeagueCore.getInstance()
-                .getDataManager()
-                .isIpAuthorized(playerName, ipAddress);
+            // Se não está no cache, usar os IPs do contexto de login ou, sem contexto, o banco de dados
+            boolean authorized = context != null
+                ? context.isIpAuthorized(ipAddress)
+                : br.com.primeleague.core.PrimeLeagueCore.getInstance()
+                    .getDataManager()
+                    .isIpAuthorized(playerName, ipAddress);
             
             // Se autorizado no banco, adicionar ao cache
             if (authorized && plugin.getIpAuthCache() != null) {
@@ -1375,6 +1392,17 @@ public final class AuthenticationListener implements Listener {
         return false;
     }
 
+    /**
+     * Verifica PENDING_RELINK usando o contexto de login quando disponível.
+     */
+    private boolean isPlayerPendingRelink(String playerName, LoginContext context) {
+        if (context != null) {
+            // Sem coluna de status em discord_links: um vínculo verificado nunca está em PENDING_RELINK
+            return false;
+        }
+        return isPlayerPendingRelink(playerName);
+    }
+
     /**
      * Inicia o sistema de lembretes persistentes para jogadores em PENDING_RELINK.
      */
@@ -1506,6 +1534,16 @@ public final class AuthenticationListener implements Listener {
         }
     }
 
+    /**
+     * Verifica autorização recente (última hora) usando o contexto de login quando disponível.
+     */
+    private boolean isPlayerRecentlyVerifiedWithSameIp(String playerName, String playerIp, LoginContext context) {
+        if (context != null) {
+            return context.isIpRecentlyAuthorized(playerIp, 60 * 60 * 1000L);
+        }
+        return isPlayerRecentlyVerifiedWithSameIp(playerName, playerIp);
+    }
+
          /**
       * Envia uma mensagem de boas-vindas elaborada mas sem caracteres especiais para jogadores autorizados.
       */
@@ -1,6 +1,7 @@
 package br.com.primeleague.territories.dao;
 
 import br.com.primeleague.core.PrimeLeagueCore;
+import br.com.primeleague.core.database.DbExecutor;
 import br.com.primeleague.territories.model.ActiveSiege;
 import br.com.primeleague.territories.model.ActiveWar;
 import br.com.primeleague.territories.model.ClanBank;
@@ -37,7 +38,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void createTerritoryAsync(TerritoryChunk territory, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.createTerritory", () -> {
             String sql = "INSERT INTO prime_territories (clan_id, world_name, chunk_x, chunk_z, claimed_at) VALUES (?, ?, ?, ?, ?)";
             
             try (Connection conn = dataSource.getConnection();
@@ -85,7 +86,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void removeTerritoryAsync(int territoryId, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.removeTerritory", () -> {
             String sql = "DELETE FROM prime_territories WHERE id = ?";
             
             try (Connection conn = dataSource.getConnection();
@@ -117,7 +118,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com o território
      */
     public void getTerritoryByLocationAsync(String worldName, int chunkX, int chunkZ, Consumer<TerritoryChunk> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.getTerritoryByLocation", () -> {
             String sql = "SELECT * FROM prime_territories WHERE world_name = ? AND chunk_x = ? AND chunk_z = ?";
             
             try (Connection conn = dataSource.getConnection();
@@ -162,7 +163,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com lista de territórios
      */
     public void getTerritoriesByClanAsync(int clanId, Consumer<List<TerritoryChunk>> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.getTerritoriesByClan", () -> {
             String sql = "SELECT * FROM prime_territories WHERE clan_id = ?";
             List<TerritoryChunk> territories = new ArrayList<>();
             
@@ -206,7 +207,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void createActiveWarAsync(ActiveWar war, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.createActiveWar", () -> {
             String sql = "INSERT INTO prime_active_wars (aggressor_clan_id, defender_clan_id, start_time, end_time_exclusivity) VALUES (?, ?, ?, ?)";
             
             try (Connection conn = dataSource.getConnection();
@@ -252,7 +253,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void createActiveSiegeAsync(ActiveSiege siege, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.createActiveSiege", () -> {
             String sql = "INSERT INTO prime_active_sieges (war_id, territory_id, aggressor_clan_id, defender_clan_id, start_time, end_time, altar_location, current_timer) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
             
             try (Connection conn = dataSource.getConnection();
@@ -303,7 +304,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void updateActiveSiegeAsync(ActiveSiege siege, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.updateActiveSiege", () -> {
             String sql = "UPDATE prime_active_sieges SET end_time = ?, current_timer = ?, status = ? WHERE id = ?";
             
             try (Connection conn = dataSource.getConnection();
@@ -340,7 +341,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com o banco
      */
     public void getClanBankAsync(int clanId, Consumer<ClanBank> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.getClanBank", () -> {
             String sql = "SELECT * FROM prime_clan_bank WHERE clan_id = ?";
             
             try (Connection conn = dataSource.getConnection();
@@ -384,7 +385,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void depositToClanBankAsync(int clanId, BigDecimal amount, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.depositToClanBank", () -> {
             String sql = "INSERT INTO prime_clan_bank (clan_id, balance) VALUES (?, ?) ON DUPLICATE KEY UPDATE balance = balance + ?";
             
             try (Connection conn = dataSource.getConnection();
@@ -418,7 +419,7 @@ public class MySqlTerritoryDAO {
      * @param callback Callback com resultado
      */
     public void withdrawFromClanBankAsync(int clanId, BigDecimal amount, Consumer<Boolean> callback) {
-        core.getServer().getScheduler().runTaskAsynchronously(core, () -> {
+        core.getDbExecutor().execute(DbExecutor.Priority.INTERACTIVE, "territory.withdrawFromClanBank", () -> {
             String sql = "UPDATE prime_clan_bank SET balance = balance - ? WHERE clan_id = ? AND balance >= ?";
             
             try (Connection conn = dataSource.getConnection();
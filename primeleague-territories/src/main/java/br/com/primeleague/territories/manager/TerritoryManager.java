@@ -1,6 +1,8 @@
 package br.com.primeleague.territories.manager;
 
 import br.com.primeleague.api.dto.ClanDTO;
+import br.com.primeleague.core.api.PrimeLeagueAPI;
+import br.com.primeleague.core.cluster.InvalidationEvent;
 import br.com.primeleague.territories.dao.MySqlTerritoryDAO;
 import br.com.primeleague.territories.model.ClanBank;
 import br.com.primeleague.territories.model.TerritoryChunk;
@@ -62,6 +64,9 @@ public class TerritoryManager {
         // Carregar territórios existentes
         loadAllTerritories();
         
+        // Aplicar claims/unclaims feitos em outros servidores no banco compartilhado
+        PrimeLeagueAPI.getInvalidationBus().subscribe(InvalidationEvent.Type.TERRITORY_CHANGED, this::onRemoteTerritoryChanged);
+        
         // Iniciar tarefa de manutenção
         startMaintenanceTask();
     }
@@ -121,6 +126,7 @@ public class TerritoryManager {
             if (success) {
                 // Adicionar ao cache
                 territoryCache.put(territory.getChunkKey(), territory);
+                publishTerritoryChange(territory.getChunkKey(), territory.getClanId());
                 callback.onResult(TerritoryClaimResult.SUCCESS, 
                     "Território reivindicado com sucesso! Coordenadas: " + territory.getChunkX() + ", " + territory.getChunkZ());
             } else {
@@ -157,6 +163,7 @@ public class TerritoryManager {
             if (success) {
                 // Remover do cache
                 territoryCache.remove(territory.getChunkKey());
+                publishTerritoryChange(territory.getChunkKey(), 0);
                 callback.onResult(TerritoryUnclaimResult.SUCCESS, "Território removido com sucesso!");
             } else {
                 callback.onResult(TerritoryUnclaimResult.DATABASE_ERROR, "Erro interno do servidor!");
@@ -312,6 +319,32 @@ public class TerritoryManager {
     
     // ==================== PRIVATE METHODS ====================
     
+    private void publishTerritoryChange(String chunkKey, int clanId) {
+        PrimeLeagueAPI.getInvalidationBus().publish(InvalidationEvent.Type.TERRITORY_CHANGED, chunkKey, clanId);
+    }
+    
+    /**
+     * Mudança de território vinda de outro servidor: relê só o chunk afetado.
+     */
+    private void onRemoteTerritoryChanged(InvalidationEvent event) {
+        final String chunkKey = event.getKey();
+        String[] parts = chunkKey.split(":");
+        if (parts.length != 3) {
+            return;
+        }
+        try {
+            territoryDAO.getTerritoryByLocationAsync(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]), territory -> {
+                if (territory != null) {
+                    territoryCache.put(chunkKey, territory);
+                } else {
+                    territoryCache.remove(chunkKey);
+                }
+            });
+        } catch (NumberFormatException e) {
+            plugin.getLogger().warning("Chave de território inválida recebida do cluster: " + chunkKey);
+        }
+    }
+    
     private void loadAllTerritories() {
         plugin.getLogger().info("Carregando todos os territórios do banco de dados...");
         